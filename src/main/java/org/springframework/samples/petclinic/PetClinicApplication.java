@@ -1,5 +1,6 @@
 package org.springframework.samples.petclinic;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -8,6 +9,11 @@ import org.springframework.boot.web.servlet.support.SpringBootServletInitializer
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+import org.springframework.samples.petclinic.rest.converter.PooledProtobufHttpMessageConverter;
+import org.springframework.samples.petclinic.rest.converter.ProtobufJsonHttpMessageConverter;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStreamHttpMessageConverter;
+import org.springframework.samples.petclinic.rest.converter.ResponseCompression;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -27,8 +33,25 @@ public class PetClinicApplication extends SpringBootServletInitializer {
     }
 
     @Bean
-    ProtobufHttpMessageConverter protobufHttpMessageConverter() {
-        return new ProtobufHttpMessageConverter();
+    ProtobufHttpMessageConverter protobufHttpMessageConverter(ObjectProvider<ResponseCompression> responseCompression) {
+        PooledProtobufHttpMessageConverter converter = new PooledProtobufHttpMessageConverter();
+        responseCompression.ifAvailable(converter::setResponseCompression);
+        // JSON is written by protobufJsonHttpMessageConverter, declared after it so that binary stays the default
+        converter.setSupportedMediaTypes(List.of(ProtobufMediaTypes.PROTOBUF));
+        return converter;
+    }
+
+    @Bean
+    ProtobufJsonHttpMessageConverter protobufJsonHttpMessageConverter() {
+        return new ProtobufJsonHttpMessageConverter();
+    }
+
+    @Bean
+    ProtobufStreamHttpMessageConverter protobufStreamHttpMessageConverter(
+        ObjectProvider<ResponseCompression> responseCompression) {
+        ProtobufStreamHttpMessageConverter converter = new ProtobufStreamHttpMessageConverter();
+        responseCompression.ifAvailable(converter::setResponseCompression);
+        return converter;
     }
 
 }
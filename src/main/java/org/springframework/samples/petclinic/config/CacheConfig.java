@@ -0,0 +1,84 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.config;
+
+import java.util.Collection;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.Vet;
+
+/**
+ * Service-level cache of {@link org.springframework.samples.petclinic.service.ClinicServiceImpl}, the same for
+ * every repository profile. Each cache is a Caffeine cache bounded by weight, where an entry weighs one per entity
+ * it holds, so an owner with many pets and visits costs accordingly. Evictions are repeated once the current
+ * transaction completes, see {@link TransactionCompletionEvictingCache}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    CacheManager cacheManager(@Value("${petclinic.cache.maximum-weight:10000}") long maximumWeight) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new TransactionCompletionEvictingCache(super.adaptCaffeineCache(name, cache));
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher(CacheConfig::weigh)
+            .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    static int weigh(Object key, Object value) {
+        if (value instanceof Owner owner) {
+            int weight = 1;
+            for (Pet pet : owner.getPets()) {
+                weight += weigh(key, pet);
+            }
+            return weight;
+        }
+        if (value instanceof Pet pet) {
+            return 1 + pet.getVisits().size();
+        }
+        if (value instanceof Vet vet) {
+            return 1 + vet.getNrOfSpecialties();
+        }
+        if (value instanceof Collection<?> values) {
+            int weight = 1;
+            for (Object element : values) {
+                weight += weigh(key, element);
+            }
+            return weight;
+        }
+        return 1;
+    }
+
+}
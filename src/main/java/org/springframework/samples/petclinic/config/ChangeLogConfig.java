@@ -0,0 +1,52 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.config;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Compaction of the change log of {@link org.springframework.samples.petclinic.repository.ChangeLogRepository}: every
+ * <code>petclinic.changes.compaction-interval</code>, changes older than <code>petclinic.changes.retention</code> are
+ * removed. Clients that have not synchronized for longer start over with a complete load.
+ */
+@Configuration
+@EnableScheduling
+public class ChangeLogConfig {
+
+    private final ClinicService clinicService;
+
+    private final Duration retention;
+
+    public ChangeLogConfig(ClinicService clinicService,
+                           @Value("${petclinic.changes.retention:P30D}") Duration retention) {
+        this.clinicService = clinicService;
+        this.retention = retention;
+    }
+
+    @Scheduled(initialDelayString = "${petclinic.changes.compaction-interval:PT1H}",
+        fixedDelayString = "${petclinic.changes.compaction-interval:PT1H}")
+    void compactChangeLog() {
+        this.clinicService.compactChangeLog(Instant.now().minus(this.retention));
+    }
+
+}
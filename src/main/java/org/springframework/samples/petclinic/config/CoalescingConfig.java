@@ -0,0 +1,46 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.config;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.samples.petclinic.rest.controller.RequestCoalescer;
+
+/**
+ * Coalescing of identical concurrent <code>GET /owners</code> and <code>GET /vets</code> requests into one read,
+ * off unless <code>petclinic.coalescing.enabled=true</code>. Requests wait for the read in flight for at most
+ * <code>petclinic.coalescing.timeout</code>.
+ * <p>
+ * Only the responses that are built as one message anyway are coalesced; the streamed bodies, delimited or
+ * written by the JDBC encoder, are not. Turn it on when bursts of identical list requests are measured.
+ */
+@Configuration
+@ConditionalOnProperty(name = "petclinic.coalescing.enabled")
+public class CoalescingConfig {
+
+    @Bean
+    RequestCoalescer requestCoalescer(MeterRegistry registry,
+                                      @Value("${petclinic.coalescing.timeout:PT5S}") Duration timeout) {
+        return new RequestCoalescer(registry, timeout);
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.config;
+
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.samples.petclinic.rest.converter.ResponseCompression;
+
+/**
+ * Compression of large protobuf responses by the protobuf converters, on unless
+ * <code>petclinic.compression.enabled=false</code>. The threshold defaults to
+ * <code>petclinic.compression.threshold</code> and can be set per URI pattern with
+ * <code>petclinic.compression.endpoint-thresholds[/owners]=65536</code>.
+ */
+@Configuration
+@ConditionalOnProperty(name = "petclinic.compression.enabled", matchIfMissing = true)
+public class CompressionConfig {
+
+    @Bean
+    ResponseCompression responseCompression(MeterRegistry registry, Environment environment,
+                                            @Value("${petclinic.compression.threshold:"
+                                                + ResponseCompression.DEFAULT_THRESHOLD + "}") int threshold) {
+        Map<String, Integer> endpointThresholds = Binder.get(environment)
+            .bind("petclinic.compression.endpoint-thresholds", Bindable.mapOf(String.class, Integer.class))
+            .orElse(Map.of());
+        return new ResponseCompression(registry, threshold, endpointThresholds);
+    }
+
+}
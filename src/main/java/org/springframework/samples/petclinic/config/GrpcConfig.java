@@ -0,0 +1,78 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.config;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.samples.petclinic.grpc.PetClinicGrpcService;
+import org.springframework.samples.petclinic.service.ClinicService;
+
+/**
+ * gRPC server of {@link PetClinicGrpcService}, started when <code>petclinic.grpc.enabled=true</code>. It listens
+ * with Netty on <code>petclinic.grpc.address</code> and <code>petclinic.grpc.port</code>; with
+ * <code>petclinic.grpc.in-process-name</code> set, the service is also served in-process under that name, for
+ * clients in the same JVM such as tests and benchmarks.
+ * <p>
+ * Calls run on gRPC's default thread pool, or on virtual threads when <code>spring.threads.virtual.enabled=true</code>
+ * and the JVM supports them, like the requests of the web tier.
+ * <p>
+ * The gRPC server does not authenticate its clients, which is why it binds to the loopback address by default.
+ */
+@Configuration
+@ConditionalOnProperty(name = "petclinic.grpc.enabled")
+public class GrpcConfig {
+
+    @Bean
+    PetClinicGrpcService petClinicGrpcService(ClinicService clinicService) {
+        return new PetClinicGrpcService(clinicService);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    Server grpcServer(PetClinicGrpcService service, Environment environment,
+                      @Value("${petclinic.grpc.address:127.0.0.1}") String address,
+                      @Value("${petclinic.grpc.port:9967}") int port) throws IOException {
+        return start(NettyServerBuilder.forAddress(new InetSocketAddress(address, port)), service, environment);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "petclinic.grpc.in-process-name")
+    Server inProcessGrpcServer(PetClinicGrpcService service, Environment environment,
+                               @Value("${petclinic.grpc.in-process-name}") String name) throws IOException {
+        return start(InProcessServerBuilder.forName(name), service, environment);
+    }
+
+    private static Server start(ServerBuilder<?> builder, PetClinicGrpcService service, Environment environment)
+        throws IOException {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(new VirtualThreadTaskExecutor("grpc-"));
+        }
+        return builder.addService(service).build().start();
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.config;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache decorator that evicts right away and, inside a transaction, once more when the transaction completes.
+ * <p>
+ * The first eviction keeps reads later in the same transaction from seeing the old entry; the second drops entries
+ * that were loaded before the write was committed, either by another thread or by this transaction itself before a
+ * rollback. Unlike {@link org.springframework.cache.transaction.TransactionAwareCacheDecorator}, puts are not
+ * deferred.
+ */
+class TransactionCompletionEvictingCache implements Cache {
+
+    private final Cache target;
+
+    TransactionCompletionEvictingCache(Cache target) {
+        this.target = target;
+    }
+
+    @Override
+    public String getName() {
+        return this.target.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.target.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return this.target.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return this.target.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return this.target.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        this.target.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return this.target.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        this.target.evict(key);
+        afterCompletion(() -> this.target.evict(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        afterCompletion(() -> this.target.evict(key));
+        return this.target.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        this.target.clear();
+        afterCompletion(this.target::clear);
+    }
+
+    @Override
+    public boolean invalidate() {
+        afterCompletion(this.target::clear);
+        return this.target.invalidate();
+    }
+
+    private static void afterCompletion(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Guard of the virtual-thread mode, which Spring Boot turns on with <code>spring.threads.virtual.enabled=true</code>
+ * on Java 21 or later: Tomcat then handles every request on a new virtual thread, and the scheduled change-log
+ * compaction and the gRPC calls run on virtual threads as well. On Java 17, which the build targets, the property
+ * has no effect and this configuration is not applied.
+ * <p>
+ * A virtual thread that blocks inside a <code>synchronized</code> block pins its carrier thread, and JDBC drivers
+ * that guard their socket with a monitor would pin one carrier per running query, so that a few slow queries stall
+ * every request. The MySQL and PostgreSQL drivers use {@link java.util.concurrent.locks.ReentrantLock} instead since
+ * Connector/J 8.1 and pgjdbc 42.6; the application refuses to start in this mode with an older driver. HSQLDB runs
+ * in memory and does not block on I/O.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    ApplicationRunner jdbcDriverPinningCheck(DataSource dataSource) {
+        return args -> {
+            try (Connection connection = dataSource.getConnection()) {
+                DatabaseMetaData metaData = connection.getMetaData();
+                String driver = metaData.getDriverName();
+                if (pinsCarrierOnIo(driver, metaData.getDriverMajorVersion(), metaData.getDriverMinorVersion())) {
+                    throw new IllegalStateException(driver + " " + metaData.getDriverVersion()
+                        + " blocks on I/O while holding a monitor and would pin virtual threads;"
+                        + " upgrade the driver or set spring.threads.virtual.enabled=false");
+                }
+            }
+        };
+    }
+
+    /**
+     * Check whether the driver does its socket I/O inside <code>synchronized</code> blocks.
+     */
+    static boolean pinsCarrierOnIo(String driverName, int majorVersion, int minorVersion) {
+        if (driverName.startsWith("MySQL Connector")) {
+            return majorVersion < 8 || (majorVersion == 8 && minorVersion < 1);
+        }
+        if (driverName.startsWith("PostgreSQL")) {
+            return majorVersion < 42 || (majorVersion == 42 && minorVersion < 6);
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.grpc;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import org.springframework.samples.petclinic.model.BaseEntity;
+
+/**
+ * Response of a server-streaming call that sends every entity as one message, loading the entities page by page in
+ * id order. Messages are only sent while the transport is ready for more, so a slow client holds at most one page
+ * on the server instead of the whole list in gRPC's send buffer. The next page is loaded when the client has read
+ * the previous one; every page is read in its own transaction.
+ */
+final class PagedResponse<T extends BaseEntity, M> implements Runnable {
+
+    @FunctionalInterface
+    interface Loader<T> {
+
+        List<T> load(int afterId, int limit);
+
+    }
+
+    private final ServerCallStreamObserver<M> observer;
+
+    private final Loader<T> loader;
+
+    private final Function<? super T, ? extends M> mapper;
+
+    private final int pageSize;
+
+    private Iterator<T> page = Collections.emptyIterator();
+
+    private int afterId;
+
+    private boolean lastPage;
+
+    private volatile boolean done;
+
+    private PagedResponse(ServerCallStreamObserver<M> observer, Loader<T> loader,
+                          Function<? super T, ? extends M> mapper, int pageSize) {
+        this.observer = observer;
+        this.loader = loader;
+        this.mapper = mapper;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Start streaming to the observer of the call. Sending begins when gRPC reports the call ready.
+     */
+    static <T extends BaseEntity, M> void start(StreamObserver<M> responseObserver, Loader<T> loader,
+                                                Function<? super T, ? extends M> mapper, int pageSize) {
+        ServerCallStreamObserver<M> observer = (ServerCallStreamObserver<M>) responseObserver;
+        PagedResponse<T, M> response = new PagedResponse<>(observer, loader, mapper, pageSize);
+        observer.setOnCancelHandler(() -> response.done = true);
+        observer.setOnReadyHandler(response);
+    }
+
+    /**
+     * Send messages until the transport is not ready any more or the list is complete. Called by gRPC, one call at
+     * a time, whenever the call becomes ready.
+     */
+    @Override
+    public void run() {
+        if (this.done) {
+            return;
+        }
+        try {
+            while (this.observer.isReady() && !this.done) {
+                if (!this.page.hasNext()) {
+                    if (this.lastPage) {
+                        this.done = true;
+                        this.observer.onCompleted();
+                        return;
+                    }
+                    loadPage();
+                    continue;
+                }
+                this.observer.onNext(this.mapper.apply(this.page.next()));
+            }
+        } catch (RuntimeException ex) {
+            this.done = true;
+            this.observer.onError(Status.INTERNAL.withDescription(ex.getMessage()).withCause(ex).asRuntimeException());
+        }
+    }
+
+    private void loadPage() {
+        List<T> rows = this.loader.load(this.afterId, this.pageSize);
+        this.lastPage = rows.size() < this.pageSize;
+        if (!rows.isEmpty()) {
+            this.afterId = rows.get(rows.size() - 1).getId();
+        }
+        this.page = rows.iterator();
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.model.Specialty;
+import org.springframework.samples.petclinic.model.Vet;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.protobuf.PetClinicGrpc;
+import org.springframework.samples.petclinic.protobuf.ProtoId;
+import org.springframework.samples.petclinic.protobuf.ProtoListRequest;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.ProtoPetTypes;
+import org.springframework.samples.petclinic.protobuf.ProtoPets;
+import org.springframework.samples.petclinic.protobuf.ProtoSpecialties;
+import org.springframework.samples.petclinic.protobuf.ProtoVet;
+import org.springframework.samples.petclinic.protobuf.ProtoVets;
+import org.springframework.samples.petclinic.protobuf.ProtoVisit;
+import org.springframework.samples.petclinic.protobuf.ProtoVisits;
+import org.springframework.samples.petclinic.service.ClinicService;
+
+/**
+ * gRPC service of the read endpoints, see <code>petclinic_service.proto</code>. Every call delegates to
+ * {@link ClinicService} and maps the entities with {@link ProtoMapper}, so replies are the messages of the REST
+ * endpoints and share the service-level cache with them. Unlike the REST endpoints, an empty list is an empty
+ * message rather than NOT_FOUND.
+ */
+public class PetClinicGrpcService extends PetClinicGrpc.PetClinicImplBase {
+
+    /**
+     * Page size of the Stream calls, the same as of the delimited REST responses.
+     */
+    static final int STREAM_PAGE_SIZE = 500;
+
+    private final ClinicService clinicService;
+
+    public PetClinicGrpcService(ClinicService clinicService) {
+        this.clinicService = clinicService;
+    }
+
+    @Override
+    public void getOwner(ProtoId request, StreamObserver<ProtoOwner> responseObserver) {
+        Owner owner = this.clinicService.findOwnerById(request.getId());
+        if (owner == null) {
+            responseObserver.onError(notFound("owner", request.getId()));
+            return;
+        }
+        responseObserver.onNext(ProtoMapper.toProtoOwner(owner));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void listOwners(ProtoListRequest request, StreamObserver<ProtoOwners> responseObserver) {
+        ProtoOwners.Builder owners = ProtoOwners.newBuilder();
+        for (Owner owner : this.clinicService.findAllOwners()) {
+            owners.addOwners(ProtoMapper.toProtoOwner(owner));
+        }
+        responseObserver.onNext(owners.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void streamOwners(ProtoListRequest request, StreamObserver<ProtoOwner> responseObserver) {
+        PagedResponse.start(responseObserver, this.clinicService::findOwnerPage, ProtoMapper::toProtoOwner,
+            STREAM_PAGE_SIZE);
+    }
+
+    @Override
+    public void getPet(ProtoId request, StreamObserver<ProtoPet> responseObserver) {
+        Pet pet = this.clinicService.findPetById(request.getId());
+        if (pet == null) {
+            responseObserver.onError(notFound("pet", request.getId()));
+            return;
+        }
+        responseObserver.onNext(ProtoMapper.toProtoPet(pet));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void listPets(ProtoListRequest request, StreamObserver<ProtoPets> responseObserver) {
+        ProtoPets.Builder pets = ProtoPets.newBuilder();
+        for (Pet pet : this.clinicService.findAllPets()) {
+            pets.addPets(ProtoMapper.toProtoPet(pet));
+        }
+        responseObserver.onNext(pets.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void streamPets(ProtoListRequest request, StreamObserver<ProtoPet> responseObserver) {
+        PagedResponse.start(responseObserver, this.clinicService::findPetPage, ProtoMapper::toProtoPet,
+            STREAM_PAGE_SIZE);
+    }
+
+    @Override
+    public void listVisits(ProtoListRequest request, StreamObserver<ProtoVisits> responseObserver) {
+        ProtoVisits.Builder visits = ProtoVisits.newBuilder();
+        for (Visit visit : this.clinicService.findAllVisits()) {
+            visits.addVisits(ProtoMapper.toProtoVisit(visit));
+        }
+        responseObserver.onNext(visits.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void streamVisits(ProtoListRequest request, StreamObserver<ProtoVisit> responseObserver) {
+        PagedResponse.start(responseObserver, this.clinicService::findVisitPage, ProtoMapper::toProtoVisit,
+            STREAM_PAGE_SIZE);
+    }
+
+    @Override
+    public void listVets(ProtoListRequest request, StreamObserver<ProtoVets> responseObserver) {
+        ProtoVets.Builder vets = ProtoVets.newBuilder();
+        for (Vet vet : this.clinicService.findAllVets()) {
+            vets.addVets(ProtoMapper.toProtoVet(vet));
+        }
+        responseObserver.onNext(vets.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void streamVets(ProtoListRequest request, StreamObserver<ProtoVet> responseObserver) {
+        PagedResponse.start(responseObserver, this.clinicService::findVetPage, ProtoMapper::toProtoVet,
+            STREAM_PAGE_SIZE);
+    }
+
+    @Override
+    public void listPetTypes(ProtoListRequest request, StreamObserver<ProtoPetTypes> responseObserver) {
+        ProtoPetTypes.Builder petTypes = ProtoPetTypes.newBuilder();
+        for (PetType petType : this.clinicService.findAllPetTypes()) {
+            petTypes.addPetTypes(ProtoMapper.toProtoPetType(petType));
+        }
+        responseObserver.onNext(petTypes.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void listSpecialties(ProtoListRequest request, StreamObserver<ProtoSpecialties> responseObserver) {
+        ProtoSpecialties.Builder specialties = ProtoSpecialties.newBuilder();
+        for (Specialty specialty : this.clinicService.findAllSpecialties()) {
+            specialties.addSpecialties(ProtoMapper.toProtoSpecialty(specialty));
+        }
+        responseObserver.onNext(specialties.build());
+        responseObserver.onCompleted();
+    }
+
+    private static RuntimeException notFound(String entity, int id) {
+        return Status.NOT_FOUND.withDescription("no " + entity + " with id " + id).asRuntimeException();
+    }
+
+}
@@ -0,0 +1,151 @@
+package org.springframework.samples.petclinic.mapper;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
+
+/**
+ * The fields of a protobuf message selected by a {@link FieldMask}, resolved against the message descriptor into a
+ * tree of field numbers. A path naming a message field selects all of its fields, a dotted path selects fields of
+ * the nested message, and for repeated fields it applies to every element. Field names may be given in
+ * <code>snake_case</code> or in their JSON <code>lowerCamelCase</code> form.
+ * <p>
+ * An empty mask selects all fields.
+ */
+public final class ProtoFieldMask {
+
+    private static final ProtoFieldMask ALL = new ProtoFieldMask(null);
+
+    /**
+     * Selected field numbers with the mask of their fields, or <code>null</code> if all fields are selected.
+     */
+    private final Map<Integer, ProtoFieldMask> fields;
+
+    private ProtoFieldMask(Map<Integer, ProtoFieldMask> fields) {
+        this.fields = fields;
+    }
+
+    public static ProtoFieldMask all() {
+        return ALL;
+    }
+
+    /**
+     * Resolve a comma separated list of field paths, as in <code>fields=id,last_name,pets.name</code>.
+     *
+     * @param paths      the paths, or <code>null</code> to select all fields
+     * @param descriptor the descriptor of the masked message
+     * @throws IllegalArgumentException if a path does not name a field of the message
+     */
+    public static ProtoFieldMask parse(String paths, Descriptor descriptor) {
+        if (paths == null || paths.isBlank()) {
+            return ALL;
+        }
+        FieldMask.Builder mask = FieldMask.newBuilder();
+        Arrays.stream(paths.split(",")).map(String::trim).filter(path -> !path.isEmpty()).forEach(mask::addPaths);
+        return of(mask.build(), descriptor);
+    }
+
+    /**
+     * Resolve the paths of the field mask against the descriptor of the masked message.
+     *
+     * @throws IllegalArgumentException if a path does not name a field of the message
+     */
+    public static ProtoFieldMask of(FieldMask mask, Descriptor descriptor) {
+        if (mask.getPathsCount() == 0) {
+            return ALL;
+        }
+        ProtoFieldMask root = new ProtoFieldMask(new HashMap<>());
+        for (String path : mask.getPathsList()) {
+            root.add(path, path.split("\\.", -1), 0, descriptor);
+        }
+        return root;
+    }
+
+    public boolean isAll() {
+        return this.fields == null;
+    }
+
+    public boolean includes(int fieldNumber) {
+        return this.fields == null || this.fields.containsKey(fieldNumber);
+    }
+
+    /**
+     * Return the mask of the fields selected in the given message field, or <code>null</code> if the field is not
+     * selected at all.
+     */
+    public ProtoFieldMask get(int fieldNumber) {
+        return this.fields == null ? ALL : this.fields.get(fieldNumber);
+    }
+
+    /**
+     * Return the same string for every mask selecting the same fields, whatever the order, naming or overlap of the
+     * paths it was parsed from: the selected field numbers in ascending order, separated by dots, each followed by the
+     * fields selected in it in parentheses unless all are. Only digits, dots and parentheses are used, as in
+     * <code>1.4(2.3)</code>, or <code>*</code> if all fields are selected.
+     */
+    public String toCanonicalString() {
+        if (this.fields == null) {
+            return "*";
+        }
+        StringBuilder builder = new StringBuilder();
+        new TreeMap<>(this.fields).forEach((number, child) -> {
+            if (builder.length() > 0) {
+                builder.append('.');
+            }
+            builder.append(number);
+            if (child != ALL) {
+                builder.append('(').append(child.toCanonicalString()).append(')');
+            }
+        });
+        return builder.toString();
+    }
+
+    private void add(String path, String[] segments, int index, Descriptor descriptor) {
+        FieldDescriptor field = findField(descriptor, segments[index]);
+        if (field == null) {
+            throw new IllegalArgumentException(
+                "Unknown field '" + segments[index] + "' of " + descriptor.getName() + " in path '" + path + "'");
+        }
+        if (index == segments.length - 1) {
+            this.fields.put(field.getNumber(), ALL);
+            return;
+        }
+        if (field.getJavaType() != FieldDescriptor.JavaType.MESSAGE) {
+            throw new IllegalArgumentException(
+                "Field '" + segments[index] + "' of " + descriptor.getName() + " has no fields, in path '" + path + "'");
+        }
+        ProtoFieldMask child = this.fields.get(field.getNumber());
+        if (child == ALL) {
+            return;
+        }
+        if (child == null) {
+            child = new ProtoFieldMask(new HashMap<>());
+            this.fields.put(field.getNumber(), child);
+        }
+        child.add(path, segments, index + 1, field.getMessageType());
+    }
+
+    private static FieldDescriptor findField(Descriptor descriptor, String name) {
+        FieldDescriptor field = descriptor.findFieldByName(name);
+        if (field != null) {
+            return field;
+        }
+        for (FieldDescriptor candidate : descriptor.getFields()) {
+            if (candidate.getJsonName().equals(name)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return this.fields == null ? "*" : this.fields.toString();
+    }
+
+}
@@ -0,0 +1,168 @@
+package org.springframework.samples.petclinic.mapper;
+
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.model.Specialty;
+import org.springframework.samples.petclinic.model.Vet;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.ProtoPetType;
+import org.springframework.samples.petclinic.protobuf.ProtoPetVisit;
+import org.springframework.samples.petclinic.protobuf.ProtoSpecialty;
+import org.springframework.samples.petclinic.protobuf.ProtoVet;
+import org.springframework.samples.petclinic.protobuf.ProtoVisit;
+import org.springframework.samples.petclinic.repository.OwnerRepository;
+
+/**
+ * Maps the domain model to the protobuf messages declared in <code>petclinic.proto</code>.
+ */
+public final class ProtoMapper {
+
+    private ProtoMapper() {
+    }
+
+    public static ProtoPetType toProtoPetType(PetType petType) {
+        return ProtoPetType.newBuilder().setId(petType.getId()).setName(petType.getName()).build();
+    }
+
+    public static ProtoPetVisit toProtoPetVisit(Visit visit) {
+        return ProtoPetVisit.newBuilder().setId(visit.getId()).setDate(visit.getDate().toString())
+            .setDescription(visit.getDescription()).build();
+    }
+
+    public static ProtoPet toProtoPet(Pet pet) {
+        ProtoPet.Builder builder = ProtoPet.newBuilder().setId(pet.getId()).setName(pet.getName())
+            .setBirthDate(pet.getBirthDate().toString()).setType(toProtoPetType(pet.getType()))
+            .setOwnerId(pet.getOwner().getId());
+        for (Visit visit : pet.getVisits()) {
+            builder.addVisits(toProtoPetVisit(visit));
+        }
+        return builder.build();
+    }
+
+    public static ProtoOwner toProtoOwner(Owner owner) {
+        ProtoOwner.Builder builder = ProtoOwner.newBuilder().setId(owner.getId()).setFirstName(owner.getFirstName())
+            .setLastName(owner.getLastName()).setAddress(owner.getAddress()).setCity(owner.getCity())
+            .setTelephone(owner.getTelephone());
+        for (Pet pet : owner.getPets()) {
+            builder.addPets(toProtoPet(pet));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Map only the fields selected by the mask. Associations outside the mask are not touched, so the owner may
+     * have been loaded with {@link #ownerFetch(ProtoFieldMask)}.
+     */
+    public static ProtoOwner toProtoOwner(Owner owner, ProtoFieldMask mask) {
+        if (mask.isAll()) {
+            return toProtoOwner(owner);
+        }
+        ProtoOwner.Builder builder = ProtoOwner.newBuilder();
+        if (mask.includes(ProtoOwner.ID_FIELD_NUMBER)) {
+            builder.setId(owner.getId());
+        }
+        if (mask.includes(ProtoOwner.FIRST_NAME_FIELD_NUMBER)) {
+            builder.setFirstName(owner.getFirstName());
+        }
+        if (mask.includes(ProtoOwner.LAST_NAME_FIELD_NUMBER)) {
+            builder.setLastName(owner.getLastName());
+        }
+        if (mask.includes(ProtoOwner.ADDRESS_FIELD_NUMBER)) {
+            builder.setAddress(owner.getAddress());
+        }
+        if (mask.includes(ProtoOwner.CITY_FIELD_NUMBER)) {
+            builder.setCity(owner.getCity());
+        }
+        if (mask.includes(ProtoOwner.TELEPHONE_FIELD_NUMBER)) {
+            builder.setTelephone(owner.getTelephone());
+        }
+        ProtoFieldMask petMask = mask.get(ProtoOwner.PETS_FIELD_NUMBER);
+        if (petMask != null) {
+            for (Pet pet : owner.getPets()) {
+                builder.addPets(toProtoPet(pet, petMask));
+            }
+        }
+        return builder.build();
+    }
+
+    public static ProtoPet toProtoPet(Pet pet, ProtoFieldMask mask) {
+        if (mask.isAll()) {
+            return toProtoPet(pet);
+        }
+        ProtoPet.Builder builder = ProtoPet.newBuilder();
+        if (mask.includes(ProtoPet.ID_FIELD_NUMBER)) {
+            builder.setId(pet.getId());
+        }
+        if (mask.includes(ProtoPet.NAME_FIELD_NUMBER)) {
+            builder.setName(pet.getName());
+        }
+        if (mask.includes(ProtoPet.BIRTH_DATE_FIELD_NUMBER)) {
+            builder.setBirthDate(pet.getBirthDate().toString());
+        }
+        ProtoFieldMask typeMask = mask.get(ProtoPet.TYPE_FIELD_NUMBER);
+        if (typeMask != null) {
+            ProtoPetType.Builder type = ProtoPetType.newBuilder();
+            if (typeMask.includes(ProtoPetType.ID_FIELD_NUMBER)) {
+                type.setId(pet.getType().getId());
+            }
+            if (typeMask.includes(ProtoPetType.NAME_FIELD_NUMBER)) {
+                type.setName(pet.getType().getName());
+            }
+            builder.setType(type);
+        }
+        if (mask.includes(ProtoPet.OWNER_ID_FIELD_NUMBER)) {
+            builder.setOwnerId(pet.getOwner().getId());
+        }
+        ProtoFieldMask visitMask = mask.get(ProtoPet.VISITS_FIELD_NUMBER);
+        if (visitMask != null) {
+            for (Visit visit : pet.getVisits()) {
+                ProtoPetVisit.Builder protoVisit = ProtoPetVisit.newBuilder();
+                if (visitMask.includes(ProtoPetVisit.ID_FIELD_NUMBER)) {
+                    protoVisit.setId(visit.getId());
+                }
+                if (visitMask.includes(ProtoPetVisit.DATE_FIELD_NUMBER)) {
+                    protoVisit.setDate(visit.getDate().toString());
+                }
+                if (visitMask.includes(ProtoPetVisit.DESCRIPTION_FIELD_NUMBER)) {
+                    protoVisit.setDescription(visit.getDescription());
+                }
+                builder.addVisits(protoVisit);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Return how much of an owner must be loaded to map the fields of {@link ProtoOwner} selected by the mask.
+     */
+    public static OwnerRepository.Fetch ownerFetch(ProtoFieldMask mask) {
+        ProtoFieldMask petMask = mask.get(ProtoOwner.PETS_FIELD_NUMBER);
+        if (petMask == null) {
+            return OwnerRepository.Fetch.OWNER;
+        }
+        return petMask.includes(ProtoPet.VISITS_FIELD_NUMBER) ? OwnerRepository.Fetch.PETS_AND_VISITS
+            : OwnerRepository.Fetch.PETS;
+    }
+
+    public static ProtoVisit toProtoVisit(Visit visit) {
+        return ProtoVisit.newBuilder().setId(visit.getId()).setDate(visit.getDate().toString())
+            .setDescription(visit.getDescription()).setPetId(visit.getPet().getId()).build();
+    }
+
+    public static ProtoSpecialty toProtoSpecialty(Specialty specialty) {
+        return ProtoSpecialty.newBuilder().setId(specialty.getId()).setName(specialty.getName()).build();
+    }
+
+    public static ProtoVet toProtoVet(Vet vet) {
+        ProtoVet.Builder builder = ProtoVet.newBuilder().setId(vet.getId()).setFirstName(vet.getFirstName())
+            .setLastName(vet.getLastName());
+        for (Specialty specialty : vet.getSpecialties()) {
+            builder.addSpecialties(toProtoSpecialty(specialty));
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,137 @@
+package org.springframework.samples.petclinic.mapper;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoOwners;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoPetType;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoPetVisit;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoPets;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoVisit;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoVisits;
+
+/**
+ * Maps the domain model to the list messages declared in <code>petclinic_v2.proto</code>. Dates become days since
+ * the epoch, and every pet type referenced by a list is written once, in the dictionary of the list.
+ * <p>
+ * The v2 messages keep the field numbers of <code>petclinic.proto</code>, so a {@link ProtoFieldMask} resolved
+ * against the v1 descriptors selects the same fields here.
+ */
+public final class ProtoV2Mapper {
+
+    private ProtoV2Mapper() {
+    }
+
+    public static ProtoOwners.Builder toProtoOwners(Collection<Owner> owners, ProtoFieldMask mask) {
+        ProtoOwners.Builder builder = ProtoOwners.newBuilder();
+        Map<Integer, PetType> petTypes = new LinkedHashMap<>();
+        for (Owner owner : owners) {
+            builder.addOwners(toProtoOwner(owner, mask, petTypes));
+        }
+        for (PetType petType : petTypes.values()) {
+            builder.addPetTypes(toProtoPetType(petType));
+        }
+        return builder;
+    }
+
+    public static ProtoPets.Builder toProtoPets(Collection<Pet> pets) {
+        ProtoPets.Builder builder = ProtoPets.newBuilder();
+        Map<Integer, PetType> petTypes = new LinkedHashMap<>();
+        for (Pet pet : pets) {
+            builder.addPets(toProtoPet(pet, ProtoFieldMask.all(), petTypes));
+        }
+        for (PetType petType : petTypes.values()) {
+            builder.addPetTypes(toProtoPetType(petType));
+        }
+        return builder;
+    }
+
+    public static ProtoVisits.Builder toProtoVisits(Collection<Visit> visits) {
+        ProtoVisits.Builder builder = ProtoVisits.newBuilder();
+        for (Visit visit : visits) {
+            builder.addVisits(ProtoVisit.newBuilder().setId(visit.getId())
+                .setDate((int) visit.getDate().toEpochDay()).setDescription(visit.getDescription())
+                .setPetId(visit.getPet().getId()));
+        }
+        return builder;
+    }
+
+    private static ProtoOwner toProtoOwner(Owner owner, ProtoFieldMask mask, Map<Integer, PetType> petTypes) {
+        ProtoOwner.Builder builder = ProtoOwner.newBuilder();
+        if (mask.includes(ProtoOwner.ID_FIELD_NUMBER)) {
+            builder.setId(owner.getId());
+        }
+        if (mask.includes(ProtoOwner.FIRST_NAME_FIELD_NUMBER)) {
+            builder.setFirstName(owner.getFirstName());
+        }
+        if (mask.includes(ProtoOwner.LAST_NAME_FIELD_NUMBER)) {
+            builder.setLastName(owner.getLastName());
+        }
+        if (mask.includes(ProtoOwner.ADDRESS_FIELD_NUMBER)) {
+            builder.setAddress(owner.getAddress());
+        }
+        if (mask.includes(ProtoOwner.CITY_FIELD_NUMBER)) {
+            builder.setCity(owner.getCity());
+        }
+        if (mask.includes(ProtoOwner.TELEPHONE_FIELD_NUMBER)) {
+            builder.setTelephone(owner.getTelephone());
+        }
+        ProtoFieldMask petMask = mask.get(ProtoOwner.PETS_FIELD_NUMBER);
+        if (petMask != null) {
+            for (Pet pet : owner.getPets()) {
+                builder.addPets(toProtoPet(pet, petMask, petTypes));
+            }
+        }
+        return builder.build();
+    }
+
+    private static ProtoPet toProtoPet(Pet pet, ProtoFieldMask mask, Map<Integer, PetType> petTypes) {
+        ProtoPet.Builder builder = ProtoPet.newBuilder();
+        if (mask.includes(ProtoPet.ID_FIELD_NUMBER)) {
+            builder.setId(pet.getId());
+        }
+        if (mask.includes(ProtoPet.NAME_FIELD_NUMBER)) {
+            builder.setName(pet.getName());
+        }
+        if (mask.includes(ProtoPet.BIRTH_DATE_FIELD_NUMBER)) {
+            builder.setBirthDate((int) pet.getBirthDate().toEpochDay());
+        }
+        if (mask.includes(ProtoPet.TYPE_ID_FIELD_NUMBER)) {
+            PetType type = pet.getType();
+            builder.setTypeId(type.getId());
+            petTypes.putIfAbsent(type.getId(), type);
+        }
+        if (mask.includes(ProtoPet.OWNER_ID_FIELD_NUMBER)) {
+            builder.setOwnerId(pet.getOwner().getId());
+        }
+        ProtoFieldMask visitMask = mask.get(ProtoPet.VISITS_FIELD_NUMBER);
+        if (visitMask != null) {
+            for (Visit visit : pet.getVisits()) {
+                ProtoPetVisit.Builder protoVisit = ProtoPetVisit.newBuilder();
+                if (visitMask.includes(ProtoPetVisit.ID_FIELD_NUMBER)) {
+                    protoVisit.setId(visit.getId());
+                }
+                if (visitMask.includes(ProtoPetVisit.DATE_FIELD_NUMBER)) {
+                    protoVisit.setDate((int) visit.getDate().toEpochDay());
+                }
+                if (visitMask.includes(ProtoPetVisit.DESCRIPTION_FIELD_NUMBER)) {
+                    protoVisit.setDescription(visit.getDescription());
+                }
+                builder.addVisits(protoVisit);
+            }
+        }
+        return builder.build();
+    }
+
+    private static ProtoPetType toProtoPetType(PetType petType) {
+        return ProtoPetType.newBuilder().setId(petType.getId()).setName(petType.getName()).build();
+    }
+
+}
@@ -35,7 +35,25 @@ import java.util.*;
  */
 @Entity
 @Table(name = "owners")
+@NamedEntityGraph(name = Owner.OWNER_GRAPH)
+@NamedEntityGraph(name = Owner.PETS_GRAPH,
+    attributeNodes = @NamedAttributeNode(value = "pets", subgraph = "pet"),
+    subgraphs = @NamedSubgraph(name = "pet", attributeNodes = @NamedAttributeNode("type")))
+@NamedEntityGraph(name = Owner.PETS_AND_VISITS_GRAPH,
+    attributeNodes = @NamedAttributeNode(value = "pets", subgraph = "pet"),
+    subgraphs = @NamedSubgraph(name = "pet", attributeNodes = {@NamedAttributeNode("type"), @NamedAttributeNode("visits")}))
 public class Owner extends Person {
+
+    /**
+     * Fetch graphs loading an owner alone, with pets, or with pets and their visits. Used as
+     * <code>jakarta.persistence.fetchgraph</code>, they override the eager mappings of the associations they leave out.
+     */
+    public static final String OWNER_GRAPH = "Owner.owner";
+
+    public static final String PETS_GRAPH = "Owner.pets";
+
+    public static final String PETS_AND_VISITS_GRAPH = "Owner.petsAndVisits";
+
     @Column(name = "address")
     @NotEmpty
     private String address;
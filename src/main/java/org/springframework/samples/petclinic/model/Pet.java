@@ -33,8 +33,15 @@ import java.util.*;
  */
 @Entity
 @Table(name = "pets")
+@NamedEntityGraph(name = Pet.DETAILS_GRAPH,
+    attributeNodes = {@NamedAttributeNode("type"), @NamedAttributeNode("owner"), @NamedAttributeNode("visits")})
 public class Pet extends NamedEntity {
 
+    /**
+     * Fetch graph loading a pet with its type, owner and visits, but not the owner's other pets.
+     */
+    public static final String DETAILS_GRAPH = "Pet.details";
+
     @Column(name = "birth_date", columnDefinition = "DATE")
     private LocalDate birthDate;
 
@@ -0,0 +1,1139 @@
+package org.springframework.samples.petclinic.protobuf;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * gRPC counterpart of the read endpoints, served when petclinic.grpc.enabled=true. Replies are the
+ * messages of the REST endpoints. The List calls reply with the complete list in one message, like
+ * GET /owners; the Stream calls send one message per entity, like the delimited responses, loading
+ * the entities page by page as the client reads them.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.62.2)",
+    comments = "Source: resources/petclinic_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class PetClinicGrpc {
+
+  private PetClinicGrpc() {}
+
+  public static final java.lang.String SERVICE_NAME = "org.springframework.samples.petclinic.protobuf.PetClinic";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoId,
+      org.springframework.samples.petclinic.protobuf.ProtoOwner> getGetOwnerMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetOwner",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoId.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoOwner.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoId,
+      org.springframework.samples.petclinic.protobuf.ProtoOwner> getGetOwnerMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoId, org.springframework.samples.petclinic.protobuf.ProtoOwner> getGetOwnerMethod;
+    if ((getGetOwnerMethod = PetClinicGrpc.getGetOwnerMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getGetOwnerMethod = PetClinicGrpc.getGetOwnerMethod) == null) {
+          PetClinicGrpc.getGetOwnerMethod = getGetOwnerMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoId, org.springframework.samples.petclinic.protobuf.ProtoOwner>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetOwner"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoId.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoOwner.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("GetOwner"))
+              .build();
+        }
+      }
+    }
+    return getGetOwnerMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoOwners> getListOwnersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListOwners",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoOwners.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoOwners> getListOwnersMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoOwners> getListOwnersMethod;
+    if ((getListOwnersMethod = PetClinicGrpc.getListOwnersMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getListOwnersMethod = PetClinicGrpc.getListOwnersMethod) == null) {
+          PetClinicGrpc.getListOwnersMethod = getListOwnersMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoOwners>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListOwners"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoOwners.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("ListOwners"))
+              .build();
+        }
+      }
+    }
+    return getListOwnersMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoOwner> getStreamOwnersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamOwners",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoOwner.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoOwner> getStreamOwnersMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoOwner> getStreamOwnersMethod;
+    if ((getStreamOwnersMethod = PetClinicGrpc.getStreamOwnersMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getStreamOwnersMethod = PetClinicGrpc.getStreamOwnersMethod) == null) {
+          PetClinicGrpc.getStreamOwnersMethod = getStreamOwnersMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoOwner>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamOwners"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoOwner.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("StreamOwners"))
+              .build();
+        }
+      }
+    }
+    return getStreamOwnersMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoId,
+      org.springframework.samples.petclinic.protobuf.ProtoPet> getGetPetMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetPet",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoId.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoPet.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoId,
+      org.springframework.samples.petclinic.protobuf.ProtoPet> getGetPetMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoId, org.springframework.samples.petclinic.protobuf.ProtoPet> getGetPetMethod;
+    if ((getGetPetMethod = PetClinicGrpc.getGetPetMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getGetPetMethod = PetClinicGrpc.getGetPetMethod) == null) {
+          PetClinicGrpc.getGetPetMethod = getGetPetMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoId, org.springframework.samples.petclinic.protobuf.ProtoPet>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetPet"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoId.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoPet.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("GetPet"))
+              .build();
+        }
+      }
+    }
+    return getGetPetMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoPets> getListPetsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListPets",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoPets.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoPets> getListPetsMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoPets> getListPetsMethod;
+    if ((getListPetsMethod = PetClinicGrpc.getListPetsMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getListPetsMethod = PetClinicGrpc.getListPetsMethod) == null) {
+          PetClinicGrpc.getListPetsMethod = getListPetsMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoPets>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListPets"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoPets.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("ListPets"))
+              .build();
+        }
+      }
+    }
+    return getListPetsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoPet> getStreamPetsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamPets",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoPet.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoPet> getStreamPetsMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoPet> getStreamPetsMethod;
+    if ((getStreamPetsMethod = PetClinicGrpc.getStreamPetsMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getStreamPetsMethod = PetClinicGrpc.getStreamPetsMethod) == null) {
+          PetClinicGrpc.getStreamPetsMethod = getStreamPetsMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoPet>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamPets"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoPet.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("StreamPets"))
+              .build();
+        }
+      }
+    }
+    return getStreamPetsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoVisits> getListVisitsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListVisits",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoVisits.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoVisits> getListVisitsMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoVisits> getListVisitsMethod;
+    if ((getListVisitsMethod = PetClinicGrpc.getListVisitsMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getListVisitsMethod = PetClinicGrpc.getListVisitsMethod) == null) {
+          PetClinicGrpc.getListVisitsMethod = getListVisitsMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoVisits>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListVisits"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoVisits.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("ListVisits"))
+              .build();
+        }
+      }
+    }
+    return getListVisitsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoVisit> getStreamVisitsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamVisits",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoVisit.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoVisit> getStreamVisitsMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoVisit> getStreamVisitsMethod;
+    if ((getStreamVisitsMethod = PetClinicGrpc.getStreamVisitsMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getStreamVisitsMethod = PetClinicGrpc.getStreamVisitsMethod) == null) {
+          PetClinicGrpc.getStreamVisitsMethod = getStreamVisitsMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoVisit>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamVisits"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoVisit.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("StreamVisits"))
+              .build();
+        }
+      }
+    }
+    return getStreamVisitsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoVets> getListVetsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListVets",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoVets.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoVets> getListVetsMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoVets> getListVetsMethod;
+    if ((getListVetsMethod = PetClinicGrpc.getListVetsMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getListVetsMethod = PetClinicGrpc.getListVetsMethod) == null) {
+          PetClinicGrpc.getListVetsMethod = getListVetsMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoVets>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListVets"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoVets.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("ListVets"))
+              .build();
+        }
+      }
+    }
+    return getListVetsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoVet> getStreamVetsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamVets",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoVet.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoVet> getStreamVetsMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoVet> getStreamVetsMethod;
+    if ((getStreamVetsMethod = PetClinicGrpc.getStreamVetsMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getStreamVetsMethod = PetClinicGrpc.getStreamVetsMethod) == null) {
+          PetClinicGrpc.getStreamVetsMethod = getStreamVetsMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoVet>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamVets"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoVet.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("StreamVets"))
+              .build();
+        }
+      }
+    }
+    return getStreamVetsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoPetTypes> getListPetTypesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListPetTypes",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoPetTypes.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoPetTypes> getListPetTypesMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoPetTypes> getListPetTypesMethod;
+    if ((getListPetTypesMethod = PetClinicGrpc.getListPetTypesMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getListPetTypesMethod = PetClinicGrpc.getListPetTypesMethod) == null) {
+          PetClinicGrpc.getListPetTypesMethod = getListPetTypesMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoPetTypes>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListPetTypes"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoPetTypes.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("ListPetTypes"))
+              .build();
+        }
+      }
+    }
+    return getListPetTypesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoSpecialties> getListSpecialtiesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListSpecialties",
+      requestType = org.springframework.samples.petclinic.protobuf.ProtoListRequest.class,
+      responseType = org.springframework.samples.petclinic.protobuf.ProtoSpecialties.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+      org.springframework.samples.petclinic.protobuf.ProtoSpecialties> getListSpecialtiesMethod() {
+    io.grpc.MethodDescriptor<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoSpecialties> getListSpecialtiesMethod;
+    if ((getListSpecialtiesMethod = PetClinicGrpc.getListSpecialtiesMethod) == null) {
+      synchronized (PetClinicGrpc.class) {
+        if ((getListSpecialtiesMethod = PetClinicGrpc.getListSpecialtiesMethod) == null) {
+          PetClinicGrpc.getListSpecialtiesMethod = getListSpecialtiesMethod =
+              io.grpc.MethodDescriptor.<org.springframework.samples.petclinic.protobuf.ProtoListRequest, org.springframework.samples.petclinic.protobuf.ProtoSpecialties>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListSpecialties"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.springframework.samples.petclinic.protobuf.ProtoSpecialties.getDefaultInstance()))
+              .setSchemaDescriptor(new PetClinicMethodDescriptorSupplier("ListSpecialties"))
+              .build();
+        }
+      }
+    }
+    return getListSpecialtiesMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static PetClinicStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<PetClinicStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<PetClinicStub>() {
+        @java.lang.Override
+        public PetClinicStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new PetClinicStub(channel, callOptions);
+        }
+      };
+    return PetClinicStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static PetClinicBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<PetClinicBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<PetClinicBlockingStub>() {
+        @java.lang.Override
+        public PetClinicBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new PetClinicBlockingStub(channel, callOptions);
+        }
+      };
+    return PetClinicBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static PetClinicFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<PetClinicFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<PetClinicFutureStub>() {
+        @java.lang.Override
+        public PetClinicFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new PetClinicFutureStub(channel, callOptions);
+        }
+      };
+    return PetClinicFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * gRPC counterpart of the read endpoints, served when petclinic.grpc.enabled=true. Replies are the
+   * messages of the REST endpoints. The List calls reply with the complete list in one message, like
+   * GET /owners; the Stream calls send one message per entity, like the delimited responses, loading
+   * the entities page by page as the client reads them.
+   * </pre>
+   */
+  public interface AsyncService {
+
+    /**
+     * <pre>
+     * NOT_FOUND if there is no such owner
+     * </pre>
+     */
+    default void getOwner(org.springframework.samples.petclinic.protobuf.ProtoId request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoOwner> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetOwnerMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void listOwners(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoOwners> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListOwnersMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void streamOwners(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoOwner> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamOwnersMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * NOT_FOUND if there is no such pet
+     * </pre>
+     */
+    default void getPet(org.springframework.samples.petclinic.protobuf.ProtoId request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPet> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPetMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void listPets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPets> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListPetsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void streamPets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPet> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamPetsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void listVisits(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVisits> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListVisitsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void streamVisits(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVisit> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamVisitsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void listVets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVets> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListVetsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void streamVets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVet> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamVetsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void listPetTypes(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPetTypes> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListPetTypesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void listSpecialties(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoSpecialties> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListSpecialtiesMethod(), responseObserver);
+    }
+  }
+
+  /**
+   * Base class for the server implementation of the service PetClinic.
+   * <pre>
+   * gRPC counterpart of the read endpoints, served when petclinic.grpc.enabled=true. Replies are the
+   * messages of the REST endpoints. The List calls reply with the complete list in one message, like
+   * GET /owners; the Stream calls send one message per entity, like the delimited responses, loading
+   * the entities page by page as the client reads them.
+   * </pre>
+   */
+  public static abstract class PetClinicImplBase
+      implements io.grpc.BindableService, AsyncService {
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return PetClinicGrpc.bindService(this);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do asynchronous rpc calls to service PetClinic.
+   * <pre>
+   * gRPC counterpart of the read endpoints, served when petclinic.grpc.enabled=true. Replies are the
+   * messages of the REST endpoints. The List calls reply with the complete list in one message, like
+   * GET /owners; the Stream calls send one message per entity, like the delimited responses, loading
+   * the entities page by page as the client reads them.
+   * </pre>
+   */
+  public static final class PetClinicStub
+      extends io.grpc.stub.AbstractAsyncStub<PetClinicStub> {
+    private PetClinicStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected PetClinicStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new PetClinicStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * NOT_FOUND if there is no such owner
+     * </pre>
+     */
+    public void getOwner(org.springframework.samples.petclinic.protobuf.ProtoId request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoOwner> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetOwnerMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listOwners(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoOwners> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListOwnersMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void streamOwners(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoOwner> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamOwnersMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * NOT_FOUND if there is no such pet
+     * </pre>
+     */
+    public void getPet(org.springframework.samples.petclinic.protobuf.ProtoId request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPet> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetPetMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listPets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPets> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListPetsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void streamPets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPet> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamPetsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listVisits(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVisits> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListVisitsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void streamVisits(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVisit> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamVisitsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listVets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVets> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListVetsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void streamVets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVet> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamVetsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listPetTypes(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPetTypes> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListPetTypesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listSpecialties(org.springframework.samples.petclinic.protobuf.ProtoListRequest request,
+        io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoSpecialties> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListSpecialtiesMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do synchronous rpc calls to service PetClinic.
+   * <pre>
+   * gRPC counterpart of the read endpoints, served when petclinic.grpc.enabled=true. Replies are the
+   * messages of the REST endpoints. The List calls reply with the complete list in one message, like
+   * GET /owners; the Stream calls send one message per entity, like the delimited responses, loading
+   * the entities page by page as the client reads them.
+   * </pre>
+   */
+  public static final class PetClinicBlockingStub
+      extends io.grpc.stub.AbstractBlockingStub<PetClinicBlockingStub> {
+    private PetClinicBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected PetClinicBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new PetClinicBlockingStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * NOT_FOUND if there is no such owner
+     * </pre>
+     */
+    public org.springframework.samples.petclinic.protobuf.ProtoOwner getOwner(org.springframework.samples.petclinic.protobuf.ProtoId request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetOwnerMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.springframework.samples.petclinic.protobuf.ProtoOwners listOwners(org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListOwnersMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<org.springframework.samples.petclinic.protobuf.ProtoOwner> streamOwners(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamOwnersMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * NOT_FOUND if there is no such pet
+     * </pre>
+     */
+    public org.springframework.samples.petclinic.protobuf.ProtoPet getPet(org.springframework.samples.petclinic.protobuf.ProtoId request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetPetMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.springframework.samples.petclinic.protobuf.ProtoPets listPets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListPetsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<org.springframework.samples.petclinic.protobuf.ProtoPet> streamPets(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamPetsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.springframework.samples.petclinic.protobuf.ProtoVisits listVisits(org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListVisitsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<org.springframework.samples.petclinic.protobuf.ProtoVisit> streamVisits(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamVisitsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.springframework.samples.petclinic.protobuf.ProtoVets listVets(org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListVetsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<org.springframework.samples.petclinic.protobuf.ProtoVet> streamVets(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamVetsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.springframework.samples.petclinic.protobuf.ProtoPetTypes listPetTypes(org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListPetTypesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.springframework.samples.petclinic.protobuf.ProtoSpecialties listSpecialties(org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListSpecialtiesMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do ListenableFuture-style rpc calls to service PetClinic.
+   * <pre>
+   * gRPC counterpart of the read endpoints, served when petclinic.grpc.enabled=true. Replies are the
+   * messages of the REST endpoints. The List calls reply with the complete list in one message, like
+   * GET /owners; the Stream calls send one message per entity, like the delimited responses, loading
+   * the entities page by page as the client reads them.
+   * </pre>
+   */
+  public static final class PetClinicFutureStub
+      extends io.grpc.stub.AbstractFutureStub<PetClinicFutureStub> {
+    private PetClinicFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected PetClinicFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new PetClinicFutureStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * NOT_FOUND if there is no such owner
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.springframework.samples.petclinic.protobuf.ProtoOwner> getOwner(
+        org.springframework.samples.petclinic.protobuf.ProtoId request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetOwnerMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.springframework.samples.petclinic.protobuf.ProtoOwners> listOwners(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListOwnersMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * NOT_FOUND if there is no such pet
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.springframework.samples.petclinic.protobuf.ProtoPet> getPet(
+        org.springframework.samples.petclinic.protobuf.ProtoId request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetPetMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.springframework.samples.petclinic.protobuf.ProtoPets> listPets(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListPetsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.springframework.samples.petclinic.protobuf.ProtoVisits> listVisits(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListVisitsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.springframework.samples.petclinic.protobuf.ProtoVets> listVets(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListVetsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.springframework.samples.petclinic.protobuf.ProtoPetTypes> listPetTypes(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListPetTypesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.springframework.samples.petclinic.protobuf.ProtoSpecialties> listSpecialties(
+        org.springframework.samples.petclinic.protobuf.ProtoListRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListSpecialtiesMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_OWNER = 0;
+  private static final int METHODID_LIST_OWNERS = 1;
+  private static final int METHODID_STREAM_OWNERS = 2;
+  private static final int METHODID_GET_PET = 3;
+  private static final int METHODID_LIST_PETS = 4;
+  private static final int METHODID_STREAM_PETS = 5;
+  private static final int METHODID_LIST_VISITS = 6;
+  private static final int METHODID_STREAM_VISITS = 7;
+  private static final int METHODID_LIST_VETS = 8;
+  private static final int METHODID_STREAM_VETS = 9;
+  private static final int METHODID_LIST_PET_TYPES = 10;
+  private static final int METHODID_LIST_SPECIALTIES = 11;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AsyncService serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AsyncService serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_OWNER:
+          serviceImpl.getOwner((org.springframework.samples.petclinic.protobuf.ProtoId) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoOwner>) responseObserver);
+          break;
+        case METHODID_LIST_OWNERS:
+          serviceImpl.listOwners((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoOwners>) responseObserver);
+          break;
+        case METHODID_STREAM_OWNERS:
+          serviceImpl.streamOwners((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoOwner>) responseObserver);
+          break;
+        case METHODID_GET_PET:
+          serviceImpl.getPet((org.springframework.samples.petclinic.protobuf.ProtoId) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPet>) responseObserver);
+          break;
+        case METHODID_LIST_PETS:
+          serviceImpl.listPets((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPets>) responseObserver);
+          break;
+        case METHODID_STREAM_PETS:
+          serviceImpl.streamPets((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPet>) responseObserver);
+          break;
+        case METHODID_LIST_VISITS:
+          serviceImpl.listVisits((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVisits>) responseObserver);
+          break;
+        case METHODID_STREAM_VISITS:
+          serviceImpl.streamVisits((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVisit>) responseObserver);
+          break;
+        case METHODID_LIST_VETS:
+          serviceImpl.listVets((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVets>) responseObserver);
+          break;
+        case METHODID_STREAM_VETS:
+          serviceImpl.streamVets((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoVet>) responseObserver);
+          break;
+        case METHODID_LIST_PET_TYPES:
+          serviceImpl.listPetTypes((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoPetTypes>) responseObserver);
+          break;
+        case METHODID_LIST_SPECIALTIES:
+          serviceImpl.listSpecialties((org.springframework.samples.petclinic.protobuf.ProtoListRequest) request,
+              (io.grpc.stub.StreamObserver<org.springframework.samples.petclinic.protobuf.ProtoSpecialties>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static final io.grpc.ServerServiceDefinition bindService(AsyncService service) {
+    return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+        .addMethod(
+          getGetOwnerMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoId,
+              org.springframework.samples.petclinic.protobuf.ProtoOwner>(
+                service, METHODID_GET_OWNER)))
+        .addMethod(
+          getListOwnersMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoOwners>(
+                service, METHODID_LIST_OWNERS)))
+        .addMethod(
+          getStreamOwnersMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoOwner>(
+                service, METHODID_STREAM_OWNERS)))
+        .addMethod(
+          getGetPetMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoId,
+              org.springframework.samples.petclinic.protobuf.ProtoPet>(
+                service, METHODID_GET_PET)))
+        .addMethod(
+          getListPetsMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoPets>(
+                service, METHODID_LIST_PETS)))
+        .addMethod(
+          getStreamPetsMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoPet>(
+                service, METHODID_STREAM_PETS)))
+        .addMethod(
+          getListVisitsMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoVisits>(
+                service, METHODID_LIST_VISITS)))
+        .addMethod(
+          getStreamVisitsMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoVisit>(
+                service, METHODID_STREAM_VISITS)))
+        .addMethod(
+          getListVetsMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoVets>(
+                service, METHODID_LIST_VETS)))
+        .addMethod(
+          getStreamVetsMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoVet>(
+                service, METHODID_STREAM_VETS)))
+        .addMethod(
+          getListPetTypesMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoPetTypes>(
+                service, METHODID_LIST_PET_TYPES)))
+        .addMethod(
+          getListSpecialtiesMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              org.springframework.samples.petclinic.protobuf.ProtoListRequest,
+              org.springframework.samples.petclinic.protobuf.ProtoSpecialties>(
+                service, METHODID_LIST_SPECIALTIES)))
+        .build();
+  }
+
+  private static abstract class PetClinicBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    PetClinicBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return org.springframework.samples.petclinic.protobuf.PetclinicService.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("PetClinic");
+    }
+  }
+
+  private static final class PetClinicFileDescriptorSupplier
+      extends PetClinicBaseDescriptorSupplier {
+    PetClinicFileDescriptorSupplier() {}
+  }
+
+  private static final class PetClinicMethodDescriptorSupplier
+      extends PetClinicBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final java.lang.String methodName;
+
+    PetClinicMethodDescriptorSupplier(java.lang.String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (PetClinicGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new PetClinicFileDescriptorSupplier())
+              .addMethod(getGetOwnerMethod())
+              .addMethod(getListOwnersMethod())
+              .addMethod(getStreamOwnersMethod())
+              .addMethod(getGetPetMethod())
+              .addMethod(getListPetsMethod())
+              .addMethod(getStreamPetsMethod())
+              .addMethod(getListVisitsMethod())
+              .addMethod(getStreamVisitsMethod())
+              .addMethod(getListVetsMethod())
+              .addMethod(getStreamVetsMethod())
+              .addMethod(getListPetTypesMethod())
+              .addMethod(getListSpecialtiesMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -40,6 +40,11 @@ public final class Petclinic {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_springframework_samples_petclinic_protobuf_ProtoPets_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetPage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetPage_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetAdd_descriptor;
   static final 
@@ -65,6 +70,11 @@ public final class Petclinic {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwners_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerPage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerPage_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerPet_descriptor;
   static final 
@@ -115,6 +125,11 @@ public final class Petclinic {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_springframework_samples_petclinic_protobuf_ProtoVets_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoVetPage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoVetPage_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVetAdd_descriptor;
   static final 
@@ -130,11 +145,51 @@ public final class Petclinic {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisits_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitPage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitPage_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitAdd_descriptor;
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitAdd_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoIds_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoIds_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerBatch_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetBatch_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportRecord_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportRecord_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportError_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportError_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoChange_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_springframework_samples_petclinic_protobuf_ProtoChange_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -158,52 +213,98 @@ public final class Petclinic {
       "amples.petclinic.protobuf.ProtoPetVisit\"" +
       "S\n\tProtoPets\022F\n\004pets\030\001 \003(\01328.org.springf" +
       "ramework.samples.petclinic.protobuf.Prot" +
-      "oPet\"V\n\013ProtoPetAdd\022\014\n\004name\030\001 \001(\t\022\022\n\nbir" +
-      "th_date\030\002 \001(\t\022\023\n\013pet_type_id\030\003 \001(\005\022\020\n\010ow" +
-      "ner_id\030\004 \001(\005\"h\n\rProtoPetOwner\022\022\n\nfirst_n" +
-      "ame\030\001 \001(\t\022\021\n\tlast_name\030\002 \001(\t\022\017\n\007address\030" +
-      "\003 \001(\t\022\014\n\004city\030\004 \001(\t\022\021\n\ttelephone\030\005 \001(\t\"N" +
-      "\n\rProtoPetVisit\022\n\n\002id\030\001 \001(\005\022\014\n\004date\030\002 \001(" +
-      "\t\022\023\n\013description\030\003 \001(\t\022\016\n\006pet_id\030\004 \001(\005\"\271" +
-      "\001\n\nProtoOwner\022\n\n\002id\030\001 \001(\005\022\022\n\nfirst_name\030" +
-      "\002 \001(\t\022\021\n\tlast_name\030\003 \001(\t\022\017\n\007address\030\004 \001(" +
-      "\t\022\014\n\004city\030\005 \001(\t\022\021\n\ttelephone\030\006 \001(\t\022F\n\004pe" +
-      "ts\030\007 \003(\01328.org.springframework.samples.p" +
-      "etclinic.protobuf.ProtoPet\"Y\n\013ProtoOwner" +
-      "s\022J\n\006owners\030\001 \003(\0132:.org.springframework." +
-      "samples.petclinic.protobuf.ProtoOwner\"O\n" +
-      "\rProtoOwnerPet\022\n\n\002id\030\001 \001(\005\022\014\n\004name\030\002 \001(\t" +
-      "\022\022\n\nbirth_date\030\003 \001(\t\022\020\n\010pet_type\030\004 \001(\t\")" +
-      "\n\024ProtoOwnerFindByName\022\021\n\tlast_name\030\001 \001(" +
-      "\t\"h\n\rProtoOwnerAdd\022\022\n\nfirst_name\030\002 \001(\t\022\021" +
-      "\n\tlast_name\030\003 \001(\t\022\017\n\007address\030\004 \001(\t\022\014\n\004ci" +
-      "ty\030\005 \001(\t\022\021\n\ttelephone\030\006 \001(\t\"\200\001\n\020ProtoOwn" +
-      "erAddPet\022\014\n\004name\030\001 \001(\t\022\022\n\nbirth_date\030\002 \001" +
-      "(\t\022J\n\004type\030\003 \001(\0132<.org.springframework.s" +
-      "amples.petclinic.protobuf.ProtoPetType\"C" +
-      "\n\022ProtoOwnerAddVisit\022\022\n\nvisit_date\030\003 \001(\t" +
-      "\022\031\n\021visit_description\030\004 \001(\t\"*\n\016ProtoSpec" +
-      "ialty\022\n\n\002id\030\001 \001(\005\022\014\n\004name\030\002 \001(\t\"g\n\020Proto" +
-      "Specialties\022S\n\013specialties\030\001 \003(\0132>.org.s" +
-      "pringframework.samples.petclinic.protobu" +
-      "f.ProtoSpecialty\"!\n\021ProtoSpecialtyAdd\022\014\n" +
-      "\004name\030\001 \001(\t\"\222\001\n\010ProtoVet\022\n\n\002id\030\001 \001(\005\022\022\n\n" +
-      "first_name\030\002 \001(\t\022\021\n\tlast_name\030\003 \001(\t\022S\n\013s" +
-      "pecialties\030\004 \003(\0132>.org.springframework.s" +
+      "oPet\"k\n\014ProtoPetPage\022F\n\004pets\030\001 \003(\01328.org" +
+      ".springframework.samples.petclinic.proto" +
+      "buf.ProtoPet\022\023\n\013next_cursor\030\002 \001(\005\"V\n\013Pro" +
+      "toPetAdd\022\014\n\004name\030\001 \001(\t\022\022\n\nbirth_date\030\002 \001" +
+      "(\t\022\023\n\013pet_type_id\030\003 \001(\005\022\020\n\010owner_id\030\004 \001(" +
+      "\005\"h\n\rProtoPetOwner\022\022\n\nfirst_name\030\001 \001(\t\022\021" +
+      "\n\tlast_name\030\002 \001(\t\022\017\n\007address\030\003 \001(\t\022\014\n\004ci" +
+      "ty\030\004 \001(\t\022\021\n\ttelephone\030\005 \001(\t\"N\n\rProtoPetV" +
+      "isit\022\n\n\002id\030\001 \001(\005\022\014\n\004date\030\002 \001(\t\022\023\n\013descri" +
+      "ption\030\003 \001(\t\022\016\n\006pet_id\030\004 \001(\005\"\271\001\n\nProtoOwn" +
+      "er\022\n\n\002id\030\001 \001(\005\022\022\n\nfirst_name\030\002 \001(\t\022\021\n\tla" +
+      "st_name\030\003 \001(\t\022\017\n\007address\030\004 \001(\t\022\014\n\004city\030\005" +
+      " \001(\t\022\021\n\ttelephone\030\006 \001(\t\022F\n\004pets\030\007 \003(\01328." +
+      "org.springframework.samples.petclinic.pr" +
+      "otobuf.ProtoPet\"Y\n\013ProtoOwners\022J\n\006owners" +
+      "\030\001 \003(\0132:.org.springframework.samples.pet" +
+      "clinic.protobuf.ProtoOwner\"q\n\016ProtoOwner" +
+      "Page\022J\n\006owners\030\001 \003(\0132:.org.springframewo" +
+      "rk.samples.petclinic.protobuf.ProtoOwner" +
+      "\022\023\n\013next_cursor\030\002 \001(\005\"O\n\rProtoOwnerPet\022\n" +
+      "\n\002id\030\001 \001(\005\022\014\n\004name\030\002 \001(\t\022\022\n\nbirth_date\030\003" +
+      " \001(\t\022\020\n\010pet_type\030\004 \001(\t\")\n\024ProtoOwnerFind" +
+      "ByName\022\021\n\tlast_name\030\001 \001(\t\"h\n\rProtoOwnerA" +
+      "dd\022\022\n\nfirst_name\030\002 \001(\t\022\021\n\tlast_name\030\003 \001(" +
+      "\t\022\017\n\007address\030\004 \001(\t\022\014\n\004city\030\005 \001(\t\022\021\n\ttele" +
+      "phone\030\006 \001(\t\"\200\001\n\020ProtoOwnerAddPet\022\014\n\004name" +
+      "\030\001 \001(\t\022\022\n\nbirth_date\030\002 \001(\t\022J\n\004type\030\003 \001(\013" +
+      "2<.org.springframework.samples.petclinic" +
+      ".protobuf.ProtoPetType\"C\n\022ProtoOwnerAddV" +
+      "isit\022\022\n\nvisit_date\030\003 \001(\t\022\031\n\021visit_descri" +
+      "ption\030\004 \001(\t\"*\n\016ProtoSpecialty\022\n\n\002id\030\001 \001(" +
+      "\005\022\014\n\004name\030\002 \001(\t\"g\n\020ProtoSpecialties\022S\n\013s" +
+      "pecialties\030\001 \003(\0132>.org.springframework.s" +
       "amples.petclinic.protobuf.ProtoSpecialty" +
-      "\"S\n\tProtoVets\022F\n\004vets\030\001 \003(\01328.org.spring" +
+      "\"!\n\021ProtoSpecialtyAdd\022\014\n\004name\030\001 \001(\t\"\222\001\n\010" +
+      "ProtoVet\022\n\n\002id\030\001 \001(\005\022\022\n\nfirst_name\030\002 \001(\t" +
+      "\022\021\n\tlast_name\030\003 \001(\t\022S\n\013specialties\030\004 \003(\013" +
+      "2>.org.springframework.samples.petclinic" +
+      ".protobuf.ProtoSpecialty\"S\n\tProtoVets\022F\n" +
+      "\004vets\030\001 \003(\01328.org.springframework.sample" +
+      "s.petclinic.protobuf.ProtoVet\"k\n\014ProtoVe" +
+      "tPage\022F\n\004vets\030\001 \003(\01328.org.springframewor" +
+      "k.samples.petclinic.protobuf.ProtoVet\022\023\n" +
+      "\013next_cursor\030\002 \001(\005\"\211\001\n\013ProtoVetAdd\022\022\n\nfi" +
+      "rst_name\030\001 \001(\t\022\021\n\tlast_name\030\002 \001(\t\022S\n\013spe" +
+      "cialties\030\003 \003(\0132>.org.springframework.sam" +
+      "ples.petclinic.protobuf.ProtoSpecialty\"K" +
+      "\n\nProtoVisit\022\n\n\002id\030\001 \001(\005\022\014\n\004date\030\002 \001(\t\022\023" +
+      "\n\013description\030\003 \001(\t\022\016\n\006pet_id\030\004 \001(\005\"Y\n\013P" +
+      "rotoVisits\022J\n\006visits\030\001 \003(\0132:.org.springf" +
+      "ramework.samples.petclinic.protobuf.Prot" +
+      "oVisit\"q\n\016ProtoVisitPage\022J\n\006visits\030\001 \003(\013" +
+      "2:.org.springframework.samples.petclinic" +
+      ".protobuf.ProtoVisit\022\023\n\013next_cursor\030\002 \001(" +
+      "\005\"2\n\rProtoVisitAdd\022\014\n\004date\030\001 \001(\t\022\023\n\013desc" +
+      "ription\030\002 \001(\t\"\027\n\010ProtoIds\022\013\n\003ids\030\001 \003(\005\"r" +
+      "\n\017ProtoOwnerBatch\022J\n\006owners\030\001 \003(\0132:.org." +
+      "springframework.samples.petclinic.protob" +
+      "uf.ProtoOwner\022\023\n\013missing_ids\030\002 \003(\005\"l\n\rPr" +
+      "otoPetBatch\022F\n\004pets\030\001 \003(\01328.org.springfr" +
+      "amework.samples.petclinic.protobuf.Proto" +
+      "Pet\022\023\n\013missing_ids\030\002 \003(\005\"\200\002\n\021ProtoImport" +
+      "Record\022K\n\005owner\030\001 \001(\0132:.org.springframew" +
+      "ork.samples.petclinic.protobuf.ProtoOwne" +
+      "rH\000\022G\n\003pet\030\002 \001(\01328.org.springframework.s" +
+      "amples.petclinic.protobuf.ProtoPetH\000\022K\n\005" +
+      "visit\030\003 \001(\0132:.org.springframework.sample" +
+      "s.petclinic.protobuf.ProtoVisitH\000B\010\n\006rec" +
+      "ord\"2\n\020ProtoImportError\022\r\n\005index\030\001 \001(\005\022\017" +
+      "\n\007message\030\002 \001(\t\"\230\001\n\021ProtoImportResult\022\017\n" +
+      "\007records\030\001 \001(\005\022\020\n\010imported\030\002 \001(\005\022\016\n\006fail" +
+      "ed\030\003 \001(\005\022P\n\006errors\030\004 \003(\0132@.org.springfra" +
+      "mework.samples.petclinic.protobuf.ProtoI" +
+      "mportError\"\225\005\n\013ProtoChange\022K\n\005owner\030\001 \001(" +
+      "\0132:.org.springframework.samples.petclini" +
+      "c.protobuf.ProtoOwnerH\000\022G\n\003pet\030\002 \001(\01328.o" +
+      "rg.springframework.samples.petclinic.pro" +
+      "tobuf.ProtoPetH\000\022K\n\005visit\030\003 \001(\0132:.org.sp" +
+      "ringframework.samples.petclinic.protobuf" +
+      ".ProtoVisitH\000\022G\n\003vet\030\004 \001(\01328.org.springf" +
+      "ramework.samples.petclinic.protobuf.Prot" +
+      "oVetH\000\022P\n\010pet_type\030\005 \001(\0132<.org.springfra" +
+      "mework.samples.petclinic.protobuf.ProtoP" +
+      "etTypeH\000\022S\n\tspecialty\030\006 \001(\0132>.org.spring" +
       "framework.samples.petclinic.protobuf.Pro" +
-      "toVet\"\211\001\n\013ProtoVetAdd\022\022\n\nfirst_name\030\001 \001(" +
-      "\t\022\021\n\tlast_name\030\002 \001(\t\022S\n\013specialties\030\003 \003(" +
-      "\0132>.org.springframework.samples.petclini" +
-      "c.protobuf.ProtoSpecialty\"K\n\nProtoVisit\022" +
-      "\n\n\002id\030\001 \001(\005\022\014\n\004date\030\002 \001(\t\022\023\n\013description" +
-      "\030\003 \001(\t\022\016\n\006pet_id\030\004 \001(\005\"Y\n\013ProtoVisits\022J\n" +
-      "\006visits\030\001 \003(\0132:.org.springframework.samp" +
-      "les.petclinic.protobuf.ProtoVisit\"2\n\rPro" +
-      "toVisitAdd\022\014\n\004date\030\001 \001(\t\022\023\n\013description\030" +
-      "\002 \001(\tB2\n.org.springframework.samples.pet" +
-      "clinic.protobufP\001b\006proto3"
+      "toSpecialtyH\000\022\032\n\020deleted_owner_id\030\007 \001(\005H" +
+      "\000\022\030\n\016deleted_pet_id\030\010 \001(\005H\000\022\032\n\020deleted_v" +
+      "isit_id\030\t \001(\005H\000\022\030\n\016deleted_vet_id\030\n \001(\005H" +
+      "\000\022\035\n\023deleted_pet_type_id\030\013 \001(\005H\000\022\036\n\024dele" +
+      "ted_specialty_id\030\014 \001(\005H\000B\010\n\006changeB2\n.or" +
+      "g.springframework.samples.petclinic.prot" +
+      "obufP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -239,120 +340,186 @@ public final class Petclinic {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoPets_descriptor,
         new java.lang.String[] { "Pets", });
-    internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetAdd_descriptor =
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetPage_descriptor =
       getDescriptor().getMessageTypes().get(5);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetPage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetPage_descriptor,
+        new java.lang.String[] { "Pets", "NextCursor", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetAdd_descriptor =
+      getDescriptor().getMessageTypes().get(6);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetAdd_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetAdd_descriptor,
         new java.lang.String[] { "Name", "BirthDate", "PetTypeId", "OwnerId", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetOwner_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetOwner_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetOwner_descriptor,
         new java.lang.String[] { "FirstName", "LastName", "Address", "City", "Telephone", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetVisit_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetVisit_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetVisit_descriptor,
         new java.lang.String[] { "Id", "Date", "Description", "PetId", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwner_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwner_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwner_descriptor,
         new java.lang.String[] { "Id", "FirstName", "LastName", "Address", "City", "Telephone", "Pets", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwners_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwners_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwners_descriptor,
         new java.lang.String[] { "Owners", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerPage_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerPage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerPage_descriptor,
+        new java.lang.String[] { "Owners", "NextCursor", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerPet_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerPet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerPet_descriptor,
         new java.lang.String[] { "Id", "Name", "BirthDate", "PetType", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerFindByName_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerFindByName_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerFindByName_descriptor,
         new java.lang.String[] { "LastName", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerAdd_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerAdd_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerAdd_descriptor,
         new java.lang.String[] { "FirstName", "LastName", "Address", "City", "Telephone", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerAddPet_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerAddPet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerAddPet_descriptor,
         new java.lang.String[] { "Name", "BirthDate", "Type", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerAddVisit_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerAddVisit_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerAddVisit_descriptor,
         new java.lang.String[] { "VisitDate", "VisitDescription", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoSpecialty_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoSpecialty_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoSpecialty_descriptor,
         new java.lang.String[] { "Id", "Name", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoSpecialties_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoSpecialties_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoSpecialties_descriptor,
         new java.lang.String[] { "Specialties", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoSpecialtyAdd_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoSpecialtyAdd_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoSpecialtyAdd_descriptor,
         new java.lang.String[] { "Name", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVet_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoVet_descriptor,
         new java.lang.String[] { "Id", "FirstName", "LastName", "Specialties", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVets_descriptor =
-      getDescriptor().getMessageTypes().get(19);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVets_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoVets_descriptor,
         new java.lang.String[] { "Vets", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoVetPage_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoVetPage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoVetPage_descriptor,
+        new java.lang.String[] { "Vets", "NextCursor", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVetAdd_descriptor =
-      getDescriptor().getMessageTypes().get(20);
+      getDescriptor().getMessageTypes().get(23);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVetAdd_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoVetAdd_descriptor,
         new java.lang.String[] { "FirstName", "LastName", "Specialties", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisit_descriptor =
-      getDescriptor().getMessageTypes().get(21);
+      getDescriptor().getMessageTypes().get(24);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisit_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisit_descriptor,
         new java.lang.String[] { "Id", "Date", "Description", "PetId", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisits_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(25);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisits_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisits_descriptor,
         new java.lang.String[] { "Visits", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitPage_descriptor =
+      getDescriptor().getMessageTypes().get(26);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitPage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitPage_descriptor,
+        new java.lang.String[] { "Visits", "NextCursor", });
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitAdd_descriptor =
-      getDescriptor().getMessageTypes().get(23);
+      getDescriptor().getMessageTypes().get(27);
     internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitAdd_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_springframework_samples_petclinic_protobuf_ProtoVisitAdd_descriptor,
         new java.lang.String[] { "Date", "Description", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoIds_descriptor =
+      getDescriptor().getMessageTypes().get(28);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoIds_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoIds_descriptor,
+        new java.lang.String[] { "Ids", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerBatch_descriptor =
+      getDescriptor().getMessageTypes().get(29);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoOwnerBatch_descriptor,
+        new java.lang.String[] { "Owners", "MissingIds", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetBatch_descriptor =
+      getDescriptor().getMessageTypes().get(30);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoPetBatch_descriptor,
+        new java.lang.String[] { "Pets", "MissingIds", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportRecord_descriptor =
+      getDescriptor().getMessageTypes().get(31);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportRecord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportRecord_descriptor,
+        new java.lang.String[] { "Owner", "Pet", "Visit", "Record", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportError_descriptor =
+      getDescriptor().getMessageTypes().get(32);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportError_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportError_descriptor,
+        new java.lang.String[] { "Index", "Message", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportResult_descriptor =
+      getDescriptor().getMessageTypes().get(33);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoImportResult_descriptor,
+        new java.lang.String[] { "Records", "Imported", "Failed", "Errors", });
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoChange_descriptor =
+      getDescriptor().getMessageTypes().get(34);
+    internal_static_org_springframework_samples_petclinic_protobuf_ProtoChange_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_springframework_samples_petclinic_protobuf_ProtoChange_descriptor,
+        new java.lang.String[] { "Owner", "Pet", "Visit", "Vet", "PetType", "Specialty", "DeletedOwnerId", "DeletedPetId", "DeletedVisitId", "DeletedVetId", "DeletedPetTypeId", "DeletedSpecialtyId", "Change", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
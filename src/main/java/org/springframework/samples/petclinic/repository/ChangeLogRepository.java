@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Log of the entities created, updated and deleted, from which clients catch up with the changes since they last
+ * synchronized. Each change is numbered by a token; a client keeps the token of the last change it has seen.
+ * <p>
+ * The log holds at most one change per entity, its latest, so catching up costs one change per entity that changed
+ * however often it did. Changes are appended in the transaction of the write they record, and may commit out of
+ * token order; the head token is a watermark below which every appending transaction has completed, so a reader
+ * that stops there never passes a change that commits later. Changes up to the horizon have been removed; a client
+ * whose token is older has to reload everything.
+ * <p>
+ * The single JDBC implementation serves every persistence profile, like {@link ImportRepository}.
+ */
+public interface ChangeLogRepository {
+
+    enum Entity {
+        OWNER, PET, VISIT, VET, PET_TYPE, SPECIALTY
+    }
+
+    /**
+     * A change of an entity, numbered by its token once appended.
+     */
+    record Change(long token, Entity entity, int entityId, boolean deleted) {
+
+        public static Change upserted(Entity entity, int entityId) {
+            return new Change(0, entity, entityId, false);
+        }
+
+        public static Change deleted(Entity entity, int entityId) {
+            return new Change(0, entity, entityId, true);
+        }
+
+    }
+
+    /**
+     * @param token   the watermark, the latest token up to which changes can be read
+     * @param horizon the token up to which changes have been removed
+     */
+    record Head(long token, long horizon) {
+    }
+
+    /**
+     * Append changes, numbered in order, each replacing the previous change of its entity. The tokens of the given
+     * changes are ignored.
+     * <p>
+     * Runs in the caller's transaction, so the changes commit or roll back with the write they record. Appending
+     * transactions do not wait on each other, except for changes of the same entity.
+     */
+    void append(List<Change> changes) throws DataAccessException;
+
+    Head findHead() throws DataAccessException;
+
+    /**
+     * Retrieve the changes with a token greater than <code>afterToken</code> and up to <code>upToToken</code>, in
+     * token order, but never past the watermark of the {@link #findHead() head}.
+     *
+     * @param limit the maximum number of changes to return
+     */
+    List<Change> findChanges(long afterToken, long upToToken, int limit) throws DataAccessException;
+
+    /**
+     * Remove the changes made before the given time and move the horizon past them.
+     *
+     * @return the new horizon
+     */
+    long compact(Instant before) throws DataAccessException;
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository;
+
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.Visit;
+
+/**
+ * Write path of bulk imports, which inserts many new owners, pets and visits with one batched statement per table
+ * instead of one statement per entity.
+ * <p>
+ * The single JDBC implementation serves every persistence profile: the profiles share the data source, and none of
+ * them caches owners, pets or visits in a second-level cache that inserts would have to go through.
+ */
+public interface ImportRepository {
+
+    /**
+     * Insert new entities, owners first, then pets, then visits, and assign their generated ids. The owner of each
+     * pet is either one of <code>owners</code> or an existing owner, the pet of each visit either one of
+     * <code>pets</code> or an existing pet. Nested pets and visits are not inserted unless they are listed too.
+     *
+     * @throws DataAccessException if an entity cannot be inserted, e.g. if it references an unknown owner or pet
+     */
+    void insertAll(List<Owner> owners, List<Pet> pets, List<Visit> visits) throws DataAccessException;
+
+}
@@ -16,6 +16,7 @@
 package org.springframework.samples.petclinic.repository;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.samples.petclinic.model.BaseEntity;
@@ -33,6 +34,29 @@ import org.springframework.samples.petclinic.model.Owner;
  */
 public interface OwnerRepository {
 
+    /**
+     * How much of the object graph of an <code>Owner</code> to load.
+     */
+    enum Fetch {
+
+        /**
+         * The owner's own columns only, without pets.
+         */
+        OWNER,
+
+        /**
+         * The owner with their pets and the pets' types, without visits.
+         */
+        PETS,
+
+        /**
+         * The owner with their pets, the pets' types and visits, as returned by the methods without a
+         * <code>Fetch</code> argument.
+         */
+        PETS_AND_VISITS
+
+    }
+
     /**
      * Retrieve <code>Owner</code>s from the data store by last name, returning all owners whose last name <i>starts</i>
      * with the given name.
@@ -52,6 +76,16 @@ public interface OwnerRepository {
      */
     Owner findById(int id) throws DataAccessException;
 
+    /**
+     * Retrieve an <code>Owner</code> from the data store by id, loading the associations selected by <code>fetch</code>.
+     *
+     * @param id    the id to search for
+     * @param fetch how much of the owner's pets and visits to load
+     * @return the <code>Owner</code> if found
+     * @throws org.springframework.dao.DataRetrievalFailureException if not found
+     */
+    Owner findById(int id, Fetch fetch) throws DataAccessException;
+
 
     /**
      * Save an <code>Owner</code> to the data store, either inserting or updating it.
@@ -68,6 +102,41 @@ public interface OwnerRepository {
      * found)
      */
 	Collection<Owner> findAll() throws DataAccessException;
+
+    /**
+     * Retrieve all <code>Owner</code>s from the data store, loading the associations selected by <code>fetch</code>.
+     *
+     * @param fetch how much of the owners' pets and visits to load
+     * @return a <code>Collection</code> of <code>Owner</code>s (or an empty <code>Collection</code> if none
+     * found)
+     */
+    Collection<Owner> findAll(Fetch fetch) throws DataAccessException;
+
+    /**
+     * Retrieve one page of <code>Owner</code>s with their pets and visits, in id order, starting after the given id. Keyset
+     * pagination: the cost of a page does not depend on how many pages precede it.
+     *
+     * @param afterId the id of the last <code>Owner</code> of the previous page, or 0 for the first page
+     * @param limit   the maximum number of <code>Owner</code>s to return
+     * @return up to <code>limit</code> <code>Owner</code>s with an id greater than <code>afterId</code>
+     */
+    List<Owner> findPage(int afterId, int limit) throws DataAccessException;
+
+    /**
+     * Retrieve one page of <code>Owner</code>s like {@link #findPage(int, int)}, loading the associations selected by
+     * <code>fetch</code>.
+     */
+    List<Owner> findPage(int afterId, int limit, Fetch fetch) throws DataAccessException;
+
+    /**
+     * Retrieve the <code>Owner</code>s with the given ids, with their pets and visits. The ids are queried in chunks of
+     * at most {@link org.springframework.samples.petclinic.util.EntityUtils#IN_LIST_CHUNK_SIZE} per <code>IN</code>
+     * list, each chunk with a fixed number of queries.
+     *
+     * @param ids the ids to search for
+     * @return the <code>Owner</code>s found, in no particular order; ids that do not exist are left out
+     */
+    List<Owner> findByIds(Collection<Integer> ids) throws DataAccessException;
 	
     /**
      * Delete an <code>Owner</code> to the data store by <code>Owner</code>.
@@ -67,6 +67,26 @@ public interface PetRepository {
      */
 	Collection<Pet> findAll() throws DataAccessException;
 
+    /**
+     * Retrieve one page of <code>Pet</code>s with their type, owner and visits, in id order, starting after the given id. Keyset
+     * pagination: the cost of a page does not depend on how many pages precede it.
+     *
+     * @param afterId the id of the last <code>Pet</code> of the previous page, or 0 for the first page
+     * @param limit   the maximum number of <code>Pet</code>s to return
+     * @return up to <code>limit</code> <code>Pet</code>s with an id greater than <code>afterId</code>
+     */
+    List<Pet> findPage(int afterId, int limit) throws DataAccessException;
+
+    /**
+     * Retrieve the <code>Pet</code>s with the given ids, with their type, owner and visits. The ids are queried in
+     * chunks of at most {@link org.springframework.samples.petclinic.util.EntityUtils#IN_LIST_CHUNK_SIZE} per
+     * <code>IN</code> list, each chunk with a fixed number of queries.
+     *
+     * @param ids the ids to search for
+     * @return the <code>Pet</code>s found, in no particular order; ids that do not exist are left out
+     */
+    List<Pet> findByIds(Collection<Integer> ids) throws DataAccessException;
+
     /**
      * Delete an <code>Pet</code> to the data store by <code>Pet</code>.
      *
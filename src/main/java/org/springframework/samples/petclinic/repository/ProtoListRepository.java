@@ -0,0 +1,61 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Read path that encodes list responses from the data store straight into protobuf wire format,
+ * without materializing entities or <code>Proto*</code> messages.
+ * <p>
+ * Each method writes either the content of the list message (a sequence of repeated field 1 entries,
+ * i.e. a valid <code>ProtoOwners</code>, <code>ProtoPets</code> or <code>ProtoVisits</code>) or, when
+ * <code>delimited</code> is set, a sequence of length-delimited element messages.
+ * <p>
+ * This repository is optional: only persistence profiles with direct row access provide an implementation.
+ */
+public interface ProtoListRepository {
+
+    /**
+     * Write all owners with their pets, pet types and visits as <code>ProtoOwner</code> messages.
+     */
+    void writeOwners(OutputStream out, boolean delimited) throws DataAccessException, IOException;
+
+    /**
+     * Write all pets with their pet type and visits as <code>ProtoPet</code> messages.
+     */
+    void writePets(OutputStream out, boolean delimited) throws DataAccessException, IOException;
+
+    /**
+     * Write all visits as <code>ProtoVisit</code> messages.
+     */
+    void writeVisits(OutputStream out, boolean delimited) throws DataAccessException, IOException;
+
+    /**
+     * Check whether there is at least one pet. The response status is sent before the list is written, so an
+     * empty list has to be detected up front to be answered like on the entity path.
+     */
+    boolean hasPets() throws DataAccessException;
+
+    /**
+     * Check whether there is at least one visit, see {@link #hasPets()}.
+     */
+    boolean hasVisits() throws DataAccessException;
+
+}
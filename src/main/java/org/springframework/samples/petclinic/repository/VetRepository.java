@@ -16,6 +16,7 @@
 package org.springframework.samples.petclinic.repository;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.samples.petclinic.model.Vet;
@@ -38,6 +39,16 @@ public interface VetRepository {
      * @return a <code>Collection</code> of <code>Vet</code>s
      */
     Collection<Vet> findAll() throws DataAccessException;
+
+    /**
+     * Retrieve one page of <code>Vet</code>s with their specialties, in id order, starting after the given id. Keyset
+     * pagination: the cost of a page does not depend on how many pages precede it.
+     *
+     * @param afterId the id of the last <code>Vet</code> of the previous page, or 0 for the first page
+     * @param limit   the maximum number of <code>Vet</code>s to return
+     * @return up to <code>limit</code> <code>Vet</code>s with an id greater than <code>afterId</code>
+     */
+    List<Vet> findPage(int afterId, int limit) throws DataAccessException;
     
 	Vet findById(int id) throws DataAccessException;
 
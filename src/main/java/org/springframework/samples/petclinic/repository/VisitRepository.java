@@ -48,6 +48,25 @@ public interface VisitRepository {
 	
 	Collection<Visit> findAll() throws DataAccessException;
 
+    /**
+     * Retrieve one page of <code>Visit</code>s, in id order, starting after the given id. Keyset
+     * pagination: the cost of a page does not depend on how many pages precede it.
+     *
+     * @param afterId the id of the last <code>Visit</code> of the previous page, or 0 for the first page
+     * @param limit   the maximum number of <code>Visit</code>s to return
+     * @return up to <code>limit</code> <code>Visit</code>s with an id greater than <code>afterId</code>
+     */
+    List<Visit> findPage(int afterId, int limit) throws DataAccessException;
+
+    /**
+     * Retrieve the <code>Visit</code>s with the given ids, with their pet. The ids are queried in chunks of at most
+     * {@link org.springframework.samples.petclinic.util.EntityUtils#IN_LIST_CHUNK_SIZE} per <code>IN</code> list.
+     *
+     * @param ids the ids to search for
+     * @return the <code>Visit</code>s found, in no particular order; ids that do not exist are left out
+     */
+    List<Visit> findByIds(Collection<Integer> ids) throws DataAccessException;
+
 	void delete(Visit visit) throws DataAccessException;
 
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.jdbc;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JDBC implementation of the {@link ChangeLogRepository} interface, registered for every persistence profile.
+ * <p>
+ * Tokens are the identity column of <code>change_log</code>, so appending transactions take them without waiting on
+ * each other, and may commit out of token order. Readers stop at a watermark instead: the latest token appended more
+ * than <code>petclinic.changes.commit-lag</code> ago. Every token below it belongs to a transaction that has
+ * completed, because an appending transaction that reaches its commit more than half the lag after its first append
+ * is rolled back, which leaves the other half for the commit itself. Changes thus reach readers one lag late.
+ * <p>
+ * A lag of zero turns the bound off and lets readers see every committed change right away. That is only safe with
+ * one writing transaction at a time, as in tests.
+ */
+@Repository
+public class JdbcChangeLogRepositoryImpl implements ChangeLogRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final Duration commitLag;
+
+    public JdbcChangeLogRepositoryImpl(DataSource dataSource,
+                                       @Value("${petclinic.changes.commit-lag:PT5S}") Duration commitLag) {
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.commitLag = commitLag;
+    }
+
+    @Override
+    public void append(List<Change> changes) throws DataAccessException {
+        // a change replaces the earlier changes of its entity, also within one append
+        Map<String, Change> latest = new LinkedHashMap<>();
+        for (Change change : changes) {
+            String key = change.entity() + ":" + change.entityId();
+            latest.remove(key);
+            latest.put(key, change);
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        boundCommit(now);
+        Timestamp changedAt = Timestamp.from(now);
+        List<SqlParameterSource> batch = new ArrayList<>(latest.size());
+        for (Change change : latest.values()) {
+            batch.add(new MapSqlParameterSource()
+                .addValue("entity", change.entity().name())
+                .addValue("entity_id", change.entityId())
+                .addValue("deleted", change.deleted())
+                .addValue("changed_at", changedAt));
+        }
+        SqlParameterSource[] parameters = batch.toArray(new SqlParameterSource[0]);
+        this.namedParameterJdbcTemplate.batchUpdate(
+            "DELETE FROM change_log WHERE entity = :entity AND entity_id = :entity_id", parameters);
+        this.namedParameterJdbcTemplate.batchUpdate(
+            "INSERT INTO change_log (entity, entity_id, deleted, changed_at) " +
+                "VALUES (:entity, :entity_id, :deleted, :changed_at)", parameters);
+    }
+
+    @Override
+    public Head findHead() throws DataAccessException {
+        long horizon = this.namedParameterJdbcTemplate.queryForObject(
+            "SELECT horizon FROM change_log_head WHERE id = 1", Map.of(), Long.class);
+        return new Head(Math.max(watermark(), horizon), horizon);
+    }
+
+    /**
+     * The changes are capped at the watermark as well, whatever <code>upToToken</code> a client passes.
+     */
+    @Override
+    public List<Change> findChanges(long afterToken, long upToToken, int limit) throws DataAccessException {
+        return this.namedParameterJdbcTemplate.query(
+            "SELECT id, entity, entity_id, deleted FROM change_log " +
+                "WHERE id > :afterToken AND id <= :upToToken ORDER BY id LIMIT :limit",
+            new MapSqlParameterSource()
+                .addValue("afterToken", afterToken)
+                .addValue("upToToken", Math.min(upToToken, watermark()))
+                .addValue("limit", limit),
+            (rs, row) -> new Change(rs.getLong("id"), Entity.valueOf(rs.getString("entity")),
+                rs.getInt("entity_id"), rs.getBoolean("deleted")));
+    }
+
+    @Override
+    public long compact(Instant before) throws DataAccessException {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("before", Timestamp.from(before));
+        this.namedParameterJdbcTemplate.update(
+            "UPDATE change_log_head SET horizon = " +
+                "COALESCE((SELECT MAX(id) FROM change_log WHERE changed_at < :before), horizon) WHERE id = 1",
+            parameters);
+        long horizon = findHead().horizon();
+        this.namedParameterJdbcTemplate.update("DELETE FROM change_log WHERE id <= :horizon",
+            new MapSqlParameterSource("horizon", horizon));
+        return horizon;
+    }
+
+    /**
+     * The latest token of a change appended more than the commit lag ago, or of any committed change without a lag.
+     * Changes that replaced it may hide an older token; the watermark is then lower, which only delays readers.
+     */
+    private long watermark() {
+        Long token = this.namedParameterJdbcTemplate.query(
+            "SELECT id FROM change_log WHERE changed_at < :safeBefore ORDER BY id DESC LIMIT 1",
+            new MapSqlParameterSource("safeBefore", Timestamp.from(Instant.now().minus(this.commitLag).plusNanos(1))),
+            rs -> rs.next() ? rs.getLong("id") : null);
+        return token != null ? token : 0;
+    }
+
+    /**
+     * Roll back the current transaction if it reaches its commit more than half the commit lag after this append.
+     */
+    private void boundCommit(Instant appendedAt) {
+        if (this.commitLag.isZero() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Instant deadline = appendedAt.plus(this.commitLag.dividedBy(2));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (Instant.now().isAfter(deadline)) {
+                    throw new TransientDataAccessResourceException("Change log append is older than half the " +
+                        "commit lag of " + JdbcChangeLogRepositoryImpl.this.commitLag + ", readers may have passed it");
+                }
+            }
+        });
+    }
+
+}
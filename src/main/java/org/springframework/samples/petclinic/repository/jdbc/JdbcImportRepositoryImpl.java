@@ -0,0 +1,99 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.jdbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.samples.petclinic.model.BaseEntity;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.repository.ImportRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC implementation of the {@link ImportRepository} interface, registered for every persistence profile.
+ * <p>
+ * Each table is written with one JDBC batch, whose generated keys are read back in row order, so an import of
+ * owners with pets and visits takes three round trips however many entities it holds.
+ */
+@Repository
+public class JdbcImportRepositoryImpl implements ImportRepository {
+
+    private static final String[] ID_COLUMN = {"id"};
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public JdbcImportRepositoryImpl(DataSource dataSource) {
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void insertAll(List<Owner> owners, List<Pet> pets, List<Visit> visits) throws DataAccessException {
+        insert("INSERT INTO owners (first_name, last_name, address, city, telephone) " +
+                "VALUES (:first_name, :last_name, :address, :city, :telephone)",
+            owners, owner -> new MapSqlParameterSource()
+                .addValue("first_name", owner.getFirstName())
+                .addValue("last_name", owner.getLastName())
+                .addValue("address", owner.getAddress())
+                .addValue("city", owner.getCity())
+                .addValue("telephone", owner.getTelephone()));
+        insert("INSERT INTO pets (name, birth_date, type_id, owner_id) " +
+                "VALUES (:name, :birth_date, :type_id, :owner_id)",
+            pets, pet -> new MapSqlParameterSource()
+                .addValue("name", pet.getName())
+                .addValue("birth_date", pet.getBirthDate())
+                .addValue("type_id", pet.getType().getId())
+                .addValue("owner_id", pet.getOwner().getId()));
+        insert("INSERT INTO visits (pet_id, visit_date, description) VALUES (:pet_id, :visit_date, :description)",
+            visits, visit -> new MapSqlParameterSource()
+                .addValue("pet_id", visit.getPet().getId())
+                .addValue("visit_date", visit.getDate())
+                .addValue("description", visit.getDescription()));
+    }
+
+    private <T extends BaseEntity> void insert(String sql, List<T> entities,
+                                               Function<T, SqlParameterSource> parameters) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[entities.size()];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = parameters.apply(entities.get(i));
+        }
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        this.namedParameterJdbcTemplate.batchUpdate(sql, batch, keyHolder, ID_COLUMN);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != batch.length) {
+            throw new DataRetrievalFailureException(
+                "Expected " + batch.length + " generated keys but got " + keys.size() + " for: " + sql);
+        }
+        for (int i = 0; i < batch.length; i++) {
+            entities.get(i).setId(((Number) keys.get(i).values().iterator().next()).intValue());
+        }
+    }
+
+}
@@ -30,10 +30,12 @@ import org.springframework.samples.petclinic.model.PetType;
 import org.springframework.samples.petclinic.model.Visit;
 import org.springframework.samples.petclinic.repository.OwnerRepository;
 import org.springframework.samples.petclinic.util.EntityUtils;
+import org.springframework.samples.petclinic.util.IntIndex;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
 import jakarta.transaction.Transactional;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -85,7 +87,8 @@ public class JdbcOwnerRepositoryImpl implements OwnerRepository {
             params,
             BeanPropertyRowMapper.newInstance(Owner.class)
         );
-        loadOwnersPetsAndVisits(owners);
+        loadOwnersPets(owners, "owner_id IN (SELECT id FROM owners WHERE last_name like :lastName)", params,
+            Fetch.PETS_AND_VISITS);
         return owners;
     }
 
@@ -95,6 +98,11 @@ public class JdbcOwnerRepositoryImpl implements OwnerRepository {
      */
     @Override
     public Owner findById(int id) throws DataAccessException {
+        return findById(id, Fetch.PETS_AND_VISITS);
+    }
+
+    @Override
+    public Owner findById(int id, Fetch fetch) throws DataAccessException {
         Owner owner;
         try {
             Map<String, Object> params = new HashMap<>();
@@ -107,23 +115,18 @@ public class JdbcOwnerRepositoryImpl implements OwnerRepository {
         } catch (EmptyResultDataAccessException ex) {
             throw new ObjectRetrievalFailureException(Owner.class, id);
         }
-        loadPetsAndVisits(owner);
+        if (fetch != Fetch.OWNER) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("id", id);
+            loadOwnersPets(List.of(owner), "owner_id=:id", params, fetch);
+        }
         return owner;
     }
 
     public void loadPetsAndVisits(final Owner owner) {
         Map<String, Object> params = new HashMap<>();
         params.put("id", owner.getId());
-        final List<JdbcPet> pets = this.namedParameterJdbcTemplate.query(
-            "SELECT pets.id as pets_id, name, birth_date, type_id, owner_id, visits.id as visit_id, visit_date, description, visits.pet_id as visits_pet_id FROM pets LEFT OUTER JOIN visits ON pets.id = visits.pet_id WHERE owner_id=:id ORDER BY pets.id",
-            params,
-            new JdbcPetVisitExtractor()
-        );
-        Collection<PetType> petTypes = getPetTypes();
-        for (JdbcPet pet : pets) {
-            pet.setType(EntityUtils.getById(petTypes, PetType.class, pet.getTypeId()));
-            owner.addPet(pet);
-        }
+        loadOwnersPets(List.of(owner), "owner_id=:id", params, Fetch.PETS_AND_VISITS);
     }
 
     @Override
@@ -147,50 +150,127 @@ public class JdbcOwnerRepositoryImpl implements OwnerRepository {
     }
 
     /**
-     * Loads the {@link Pet} and {@link Visit} data for the supplied {@link List} of {@link Owner Owners}.
+     * Loads the {@link Pet} and, if requested, {@link Visit} data for the supplied {@link List} of {@link Owner Owners}
+     * with one pets query, joined to visits when they are fetched, and one types query, however many owners there
+     * are. Pets are attached to their owner and type through {@link IntIndex} lookups by id.
      *
-     * @param owners the list of owners for whom the pet and visit data should be loaded
-     * @see #loadPetsAndVisits(Owner)
+     * @param owners         the list of owners for whom the pet and visit data should be loaded
+     * @param ownerCondition SQL condition on <code>owner_id</code> selecting the pets of these owners,
+     *                       or <code>null</code> for all pets
+     * @param params         the parameters of the condition
+     * @param fetch          {@link Fetch#PETS} or {@link Fetch#PETS_AND_VISITS}
      */
-    private void loadOwnersPetsAndVisits(List<Owner> owners) {
-        for (Owner owner : owners) {
-            loadPetsAndVisits(owner);
+    private void loadOwnersPets(List<Owner> owners, String ownerCondition, Map<String, ?> params, Fetch fetch) {
+        if (owners.isEmpty()) {
+            return;
+        }
+        IntIndex<Owner> ownersById = IntIndex.byId(owners);
+        String where = ownerCondition == null ? "" : " WHERE " + ownerCondition;
+        final List<JdbcPet> pets;
+        if (fetch == Fetch.PETS_AND_VISITS) {
+            pets = this.namedParameterJdbcTemplate.query(
+                "SELECT pets.id as pets_id, name, birth_date, type_id, owner_id, visits.id as visit_id, visit_date, description, visits.pet_id as visits_pet_id FROM pets LEFT OUTER JOIN visits ON pets.id = visits.pet_id" + where + " ORDER BY pets.id",
+                params,
+                new JdbcPetVisitExtractor()
+            );
+        } else {
+            pets = this.namedParameterJdbcTemplate.query(
+                "SELECT id as pets_id, name, birth_date, type_id, owner_id FROM pets" + where + " ORDER BY id",
+                params,
+                new JdbcPetRowMapper()
+            );
+        }
+        if (pets.isEmpty()) {
+            return;
+        }
+        IntIndex<PetType> petTypesById = IntIndex.byId(getPetTypes());
+        for (JdbcPet pet : pets) {
+            Owner owner = ownersById.get(pet.getOwnerId());
+            if (owner == null) {
+                // inserted after the owners were read
+                continue;
+            }
+            pet.setType(petTypesById.getRequired(pet.getTypeId(), PetType.class));
+            owner.addPet(pet);
         }
     }
 
 	@Override
 	public Collection<Owner> findAll() throws DataAccessException {
+		return findAll(Fetch.PETS_AND_VISITS);
+	}
+
+	@Override
+	public Collection<Owner> findAll(Fetch fetch) throws DataAccessException {
 		List<Owner> owners = this.namedParameterJdbcTemplate.query(
 	            "SELECT id, first_name, last_name, address, city, telephone FROM owners",
 	            new HashMap<String, Object>(),
 	            BeanPropertyRowMapper.newInstance(Owner.class));
-		for (Owner owner : owners) {
-            loadPetsAndVisits(owner);
-        }
+		if (fetch != Fetch.OWNER) {
+			loadOwnersPets(owners, null, new HashMap<String, Object>(), fetch);
+		}
 	    return owners;
 	}
 
+	/**
+	 * Loads a page of owners by id, then their pets and visits for the same id range, so a page costs the same
+	 * three statements wherever it starts.
+	 */
+	@Override
+	public List<Owner> findPage(int afterId, int limit) throws DataAccessException {
+		return findPage(afterId, limit, Fetch.PETS_AND_VISITS);
+	}
+
+	@Override
+	public List<Owner> findPage(int afterId, int limit, Fetch fetch) throws DataAccessException {
+		Map<String, Object> params = new HashMap<>();
+		params.put("afterId", afterId);
+		params.put("limit", limit);
+		List<Owner> owners = this.namedParameterJdbcTemplate.query(
+			"SELECT id, first_name, last_name, address, city, telephone FROM owners WHERE id > :afterId ORDER BY id LIMIT :limit",
+			params,
+			BeanPropertyRowMapper.newInstance(Owner.class));
+		if (!owners.isEmpty() && fetch != Fetch.OWNER) {
+			params.put("lastId", owners.get(owners.size() - 1).getId());
+			loadOwnersPets(owners, "owner_id > :afterId AND owner_id <= :lastId", params, fetch);
+		}
+		return owners;
+	}
+
+	/**
+	 * Loads the owners of each chunk of ids, then their pets with visits and the pet types: three statements per
+	 * chunk.
+	 */
+	@Override
+	public List<Owner> findByIds(Collection<Integer> ids) throws DataAccessException {
+		List<Owner> owners = new ArrayList<>();
+		for (List<Integer> chunk : EntityUtils.chunkIds(ids)) {
+			Map<String, Object> params = new HashMap<>();
+			params.put("ids", chunk);
+			List<Owner> chunkOwners = this.namedParameterJdbcTemplate.query(
+				"SELECT id, first_name, last_name, address, city, telephone FROM owners WHERE id IN (:ids)",
+				params,
+				BeanPropertyRowMapper.newInstance(Owner.class));
+			loadOwnersPets(chunkOwners, "owner_id IN (:ids)", params, Fetch.PETS_AND_VISITS);
+			owners.addAll(chunkOwners);
+		}
+		return owners;
+	}
+
+	/**
+	 * Deletes the owner with all of their pets and visits in three set-based statements, however long the visit
+	 * history is.
+	 */
 	@Override
 	@Transactional
 	public void delete(Owner owner) throws DataAccessException {
 		Map<String, Object> owner_params = new HashMap<>();
 		owner_params.put("id", owner.getId());
-        List<Pet> pets = owner.getPets();
-        // cascade delete pets
-        for (Pet pet : pets){
-        	Map<String, Object> pet_params = new HashMap<>();
-        	pet_params.put("id", pet.getId());
-        	// cascade delete visits
-        	List<Visit> visits = pet.getVisits();
-            for (Visit visit : visits){
-            	Map<String, Object> visit_params = new HashMap<>();
-            	visit_params.put("id", visit.getId());
-            	this.namedParameterJdbcTemplate.update("DELETE FROM visits WHERE id=:id", visit_params);
-            }
-            this.namedParameterJdbcTemplate.update("DELETE FROM pets WHERE id=:id", pet_params);
-        }
-        this.namedParameterJdbcTemplate.update("DELETE FROM owners WHERE id=:id", owner_params);
+		// cascade delete visits and pets
+		this.namedParameterJdbcTemplate.update(
+			"DELETE FROM visits WHERE pet_id IN (SELECT id FROM pets WHERE owner_id=:id)", owner_params);
+		this.namedParameterJdbcTemplate.update("DELETE FROM pets WHERE owner_id=:id", owner_params);
+		this.namedParameterJdbcTemplate.update("DELETE FROM owners WHERE id=:id", owner_params);
 	}
 
-
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.samples.petclinic.repository.jdbc;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -26,8 +28,9 @@ import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
@@ -35,11 +38,10 @@ import org.springframework.orm.ObjectRetrievalFailureException;
 import org.springframework.samples.petclinic.model.Owner;
 import org.springframework.samples.petclinic.model.Pet;
 import org.springframework.samples.petclinic.model.PetType;
-import org.springframework.samples.petclinic.model.Visit;
-import org.springframework.samples.petclinic.repository.OwnerRepository;
 import org.springframework.samples.petclinic.repository.PetRepository;
 import org.springframework.samples.petclinic.repository.VisitRepository;
 import org.springframework.samples.petclinic.util.EntityUtils;
+import org.springframework.samples.petclinic.util.IntIndex;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -59,14 +61,11 @@ public class JdbcPetRepositoryImpl implements PetRepository {
 
     private SimpleJdbcInsert insertPet;
 
-    private OwnerRepository ownerRepository;
-
     private VisitRepository visitRepository;
 
 
     @Autowired
     public JdbcPetRepositoryImpl(DataSource dataSource,
-    		OwnerRepository ownerRepository,
     		VisitRepository visitRepository) {
         this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
 
@@ -74,7 +73,6 @@ public class JdbcPetRepositoryImpl implements PetRepository {
             .withTableName("pets")
             .usingGeneratedKeyColumns("id");
 
-        this.ownerRepository = ownerRepository;
         this.visitRepository = visitRepository;
     }
 
@@ -87,18 +85,26 @@ public class JdbcPetRepositoryImpl implements PetRepository {
             BeanPropertyRowMapper.newInstance(PetType.class));
     }
 
+    /**
+     * Loads the {@link Pet} with its type, its visits and a reference to its owner in one query. The owner carries
+     * its own columns only; its other pets are not loaded.
+     */
     @Override
     public Pet findById(int id) throws DataAccessException {
-        Integer ownerId;
-        try {
-            Map<String, Object> params = new HashMap<>();
-            params.put("id", id);
-            ownerId = this.namedParameterJdbcTemplate.queryForObject("SELECT owner_id FROM pets WHERE id=:id", params, Integer.class);
-        } catch (EmptyResultDataAccessException ex) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", id);
+        Pet pet = this.namedParameterJdbcTemplate.query(
+            "SELECT pets.id as pets_id, pets.name, birth_date, type_id, owner_id, types.name as type_name, " +
+                "owners.first_name, owners.last_name, owners.address, owners.city, owners.telephone, " +
+                "visits.id as visit_id, visit_date, description " +
+                "FROM pets JOIN types ON pets.type_id = types.id JOIN owners ON pets.owner_id = owners.id " +
+                "LEFT OUTER JOIN visits ON pets.id = visits.pet_id WHERE pets.id=:id",
+            params,
+            new PetDetailsExtractor());
+        if (pet == null) {
             throw new ObjectRetrievalFailureException(Pet.class, id);
         }
-        Owner owner = this.ownerRepository.findById(ownerId);
-        return EntityUtils.getById(owner.getPets(), Pet.class, id);
+        return pet;
     }
 
     @Override
@@ -127,43 +133,151 @@ public class JdbcPetRepositoryImpl implements PetRepository {
             .addValue("owner_id", pet.getOwner().getId());
     }
     
+	/**
+	 * Loads all pets with their type, owner and visits in four queries, joined in memory through
+	 * {@link IntIndex} lookups by id. Owners carry their own columns only.
+	 */
 	@Override
 	public Collection<Pet> findAll() throws DataAccessException {
 		Map<String, Object> params = new HashMap<>();
-		Collection<Pet> pets = new ArrayList<Pet>();
-		Collection<JdbcPet> jdbcPets = new ArrayList<JdbcPet>();
-		jdbcPets = this.namedParameterJdbcTemplate
+		List<JdbcPet> jdbcPets = this.namedParameterJdbcTemplate
 				.query("SELECT pets.id as pets_id, name, birth_date, type_id, owner_id FROM pets",
 				params,
 				new JdbcPetRowMapper());
-		Collection<PetType> petTypes = this.namedParameterJdbcTemplate.query("SELECT id, name FROM types ORDER BY name",
-				new HashMap<String,
-				Object>(), BeanPropertyRowMapper.newInstance(PetType.class));
-		Collection<Owner> owners = this.namedParameterJdbcTemplate.query(
-				"SELECT id, first_name, last_name, address, city, telephone FROM owners ORDER BY last_name",
-				new HashMap<String, Object>(),
-				BeanPropertyRowMapper.newInstance(Owner.class));
-		for (JdbcPet jdbcPet : jdbcPets) {
-			jdbcPet.setType(EntityUtils.getById(petTypes, PetType.class, jdbcPet.getTypeId()));
-			jdbcPet.setOwner(EntityUtils.getById(owners, Owner.class, jdbcPet.getOwnerId()));
-			// TODO add visits
-			pets.add(jdbcPet);
+		loadTypesOwnersAndVisits(jdbcPets, "", "", params);
+		return new ArrayList<>(jdbcPets);
+	}
+
+	/**
+	 * Loads a page of pets by id like {@link #findAll()}, restricting the owners and visits to the id range of
+	 * the page, so a page costs the same four queries wherever it starts.
+	 */
+	@Override
+	public List<Pet> findPage(int afterId, int limit) throws DataAccessException {
+		Map<String, Object> params = new HashMap<>();
+		params.put("afterId", afterId);
+		params.put("limit", limit);
+		List<JdbcPet> jdbcPets = this.namedParameterJdbcTemplate.query(
+				"SELECT pets.id as pets_id, name, birth_date, type_id, owner_id FROM pets WHERE id > :afterId ORDER BY id LIMIT :limit",
+				params,
+				new JdbcPetRowMapper());
+		if (jdbcPets.isEmpty()) {
+			return new ArrayList<>();
+		}
+		params.put("lastId", jdbcPets.get(jdbcPets.size() - 1).getId());
+		loadTypesOwnersAndVisits(jdbcPets,
+				" WHERE id IN (SELECT owner_id FROM pets WHERE id > :afterId AND id <= :lastId)",
+				" WHERE pet_id > :afterId AND pet_id <= :lastId",
+				params);
+		return new ArrayList<>(jdbcPets);
+	}
+
+	/**
+	 * Loads the pets of each chunk of ids like {@link #findAll()}, restricting the owners and visits to those of the
+	 * chunk: four statements per chunk.
+	 */
+	@Override
+	public List<Pet> findByIds(Collection<Integer> ids) throws DataAccessException {
+		List<Pet> pets = new ArrayList<>();
+		for (List<Integer> chunk : EntityUtils.chunkIds(ids)) {
+			Map<String, Object> params = new HashMap<>();
+			params.put("ids", chunk);
+			List<JdbcPet> jdbcPets = this.namedParameterJdbcTemplate.query(
+					"SELECT pets.id as pets_id, name, birth_date, type_id, owner_id FROM pets WHERE id IN (:ids)",
+					params,
+					new JdbcPetRowMapper());
+			if (!jdbcPets.isEmpty()) {
+				loadTypesOwnersAndVisits(jdbcPets,
+						" WHERE id IN (SELECT owner_id FROM pets WHERE id IN (:ids))",
+						" WHERE pet_id IN (:ids)",
+						params);
+				pets.addAll(jdbcPets);
+			}
 		}
 		return pets;
 	}
 
+	/**
+	 * Attaches types, owners and visits to the pets with one query each.
+	 *
+	 * @param ownersWhere SQL clause selecting at least the owners of the pets, or an empty string for all owners
+	 * @param visitsWhere SQL clause selecting at least the visits of the pets, or an empty string for all visits
+	 */
+	private void loadTypesOwnersAndVisits(List<JdbcPet> jdbcPets, String ownersWhere, String visitsWhere,
+			Map<String, Object> params) {
+		IntIndex<PetType> petTypes = IntIndex.byId(this.namedParameterJdbcTemplate.query(
+				"SELECT id, name FROM types",
+				params,
+				BeanPropertyRowMapper.newInstance(PetType.class)));
+		IntIndex<Owner> owners = IntIndex.byId(this.namedParameterJdbcTemplate.query(
+				"SELECT id, first_name, last_name, address, city, telephone FROM owners" + ownersWhere,
+				params,
+				BeanPropertyRowMapper.newInstance(Owner.class)));
+		IntIndex<JdbcPet> petsById = new IntIndex<>(jdbcPets.size());
+		for (JdbcPet jdbcPet : jdbcPets) {
+			jdbcPet.setType(petTypes.getRequired(jdbcPet.getTypeId(), PetType.class));
+			jdbcPet.setOwner(owners.getRequired(jdbcPet.getOwnerId(), Owner.class));
+			petsById.put(jdbcPet.getId(), jdbcPet);
+		}
+		JdbcVisitRowMapper visitRowMapper = new JdbcVisitRowMapper();
+		this.namedParameterJdbcTemplate.query(
+				"SELECT id as visit_id, visit_date, description, pet_id FROM visits" + visitsWhere,
+				params,
+				(RowCallbackHandler) rs -> {
+					JdbcPet pet = petsById.get(rs.getInt("pet_id"));
+					// skip visits of pets inserted after the pets were read
+					if (pet != null) {
+						pet.addVisit(visitRowMapper.mapRow(rs, 0));
+					}
+				});
+	}
+
 	@Override
 	public void delete(Pet pet) throws DataAccessException {
 		Map<String, Object> pet_params = new HashMap<>();
 		pet_params.put("id", pet.getId());
-		List<Visit> visits = pet.getVisits();
 		// cascade delete visits
-		for (Visit visit : visits) {
-			Map<String, Object> visit_params = new HashMap<>();
-			visit_params.put("id", visit.getId());
-			this.namedParameterJdbcTemplate.update("DELETE FROM visits WHERE id=:id", visit_params);
-		}
+		this.namedParameterJdbcTemplate.update("DELETE FROM visits WHERE pet_id=:id", pet_params);
 		this.namedParameterJdbcTemplate.update("DELETE FROM pets WHERE id=:id", pet_params);
 	}
 
+	/**
+	 * Maps the rows of a single pet joined with its type, owner and visits; one row per visit.
+	 */
+	private static class PetDetailsExtractor implements ResultSetExtractor<JdbcPet> {
+
+		private final JdbcPetRowMapper petRowMapper = new JdbcPetRowMapper();
+
+		private final JdbcVisitRowMapper visitRowMapper = new JdbcVisitRowMapper();
+
+		@Override
+		public JdbcPet extractData(ResultSet rs) throws SQLException {
+			JdbcPet pet = null;
+			int row = 0;
+			while (rs.next()) {
+				if (pet == null) {
+					pet = this.petRowMapper.mapRow(rs, row);
+					PetType type = new PetType();
+					type.setId(pet.getTypeId());
+					type.setName(rs.getString("type_name"));
+					pet.setType(type);
+					Owner owner = new Owner();
+					owner.setId(pet.getOwnerId());
+					owner.setFirstName(rs.getString("first_name"));
+					owner.setLastName(rs.getString("last_name"));
+					owner.setAddress(rs.getString("address"));
+					owner.setCity(rs.getString("city"));
+					owner.setTelephone(rs.getString("telephone"));
+					pet.setOwner(owner);
+				}
+				if (rs.getObject("visit_id") != null) {
+					pet.addVisit(this.visitRowMapper.mapRow(rs, row));
+				}
+				row++;
+			}
+			return pet;
+		}
+
+	}
+
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.jdbc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import com.google.protobuf.CodedOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.ProtoPetType;
+import org.springframework.samples.petclinic.protobuf.ProtoPetVisit;
+import org.springframework.samples.petclinic.protobuf.ProtoPets;
+import org.springframework.samples.petclinic.protobuf.ProtoVisit;
+import org.springframework.samples.petclinic.protobuf.ProtoVisits;
+import org.springframework.samples.petclinic.repository.ProtoListRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * JDBC implementation of the {@link ProtoListRepository} interface.
+ * <p>
+ * Every list is read with a single ordered join over a forward-only <code>ResultSet</code>; rows are grouped
+ * on the fly and their columns are written straight into a {@link CodedOutputStream}. The statement uses the
+ * configured fetch size (<code>petclinic.jdbc.fetch-size</code>) and runs in a read-only transaction so that
+ * drivers which only stream with auto-commit disabled (PostgreSQL) do not buffer the whole result.
+ */
+@Repository
+@Profile("jdbc")
+public class JdbcProtoListRepositoryImpl implements ProtoListRepository {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final String OWNERS_SQL =
+        "SELECT owners.id as owner_id, first_name, last_name, address, city, telephone, " +
+            "pets.id as pet_id, pets.name as pet_name, birth_date, types.id as type_id, types.name as type_name, " +
+            "visits.id as visit_id, visit_date, description " +
+            "FROM owners LEFT OUTER JOIN pets ON pets.owner_id = owners.id " +
+            "LEFT OUTER JOIN types ON types.id = pets.type_id " +
+            "LEFT OUTER JOIN visits ON visits.pet_id = pets.id " +
+            "ORDER BY owners.id, LOWER(pets.name), pets.id, visit_date DESC, visits.id";
+
+    private static final String PETS_SQL =
+        "SELECT pets.id as pet_id, pets.name as pet_name, birth_date, owner_id, types.id as type_id, types.name as type_name, " +
+            "visits.id as visit_id, visit_date, description " +
+            "FROM pets LEFT OUTER JOIN types ON types.id = pets.type_id " +
+            "LEFT OUTER JOIN visits ON visits.pet_id = pets.id " +
+            "ORDER BY pets.id, visit_date DESC, visits.id";
+
+    private static final String VISITS_SQL =
+        "SELECT id as visit_id, visit_date, description, pet_id FROM visits ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reads at most one row, for the existence checks.
+     */
+    private final JdbcTemplate existsTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public JdbcProtoListRepositoryImpl(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                       @Value("${petclinic.jdbc.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.existsTemplate = new JdbcTemplate(dataSource);
+        this.existsTemplate.setMaxRows(1);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void writeOwners(OutputStream out, boolean delimited) throws DataAccessException, IOException {
+        encode(OWNERS_SQL, out, (rs, output) -> {
+            ProtoMessageBuffer owner = new ProtoMessageBuffer();
+            ProtoMessageBuffer pet = new ProtoMessageBuffer();
+            ProtoMessageBuffer nested = new ProtoMessageBuffer();
+            int ownerId = 0;
+            int petId = 0;
+            while (rs.next()) {
+                int rowOwnerId = rs.getInt("owner_id");
+                if (rowOwnerId != ownerId) {
+                    if (petId != 0) {
+                        pet.writeTo(owner, ProtoOwner.PETS_FIELD_NUMBER);
+                    }
+                    if (ownerId != 0) {
+                        owner.writeTo(output, ProtoOwners.OWNERS_FIELD_NUMBER, delimited);
+                    }
+                    ownerId = rowOwnerId;
+                    petId = 0;
+                    owner.begin();
+                    owner.writeInt32(ProtoOwner.ID_FIELD_NUMBER, ownerId);
+                    owner.writeString(ProtoOwner.FIRST_NAME_FIELD_NUMBER, rs.getString("first_name"));
+                    owner.writeString(ProtoOwner.LAST_NAME_FIELD_NUMBER, rs.getString("last_name"));
+                    owner.writeString(ProtoOwner.ADDRESS_FIELD_NUMBER, rs.getString("address"));
+                    owner.writeString(ProtoOwner.CITY_FIELD_NUMBER, rs.getString("city"));
+                    owner.writeString(ProtoOwner.TELEPHONE_FIELD_NUMBER, rs.getString("telephone"));
+                }
+                int rowPetId = rs.getInt("pet_id");
+                if (rowPetId != 0 && rowPetId != petId) {
+                    if (petId != 0) {
+                        pet.writeTo(owner, ProtoOwner.PETS_FIELD_NUMBER);
+                    }
+                    petId = rowPetId;
+                    beginPet(rs, pet, nested, petId, ownerId);
+                }
+                if (rs.getInt("visit_id") != 0) {
+                    writePetVisit(rs, pet, nested);
+                }
+            }
+            if (petId != 0) {
+                pet.writeTo(owner, ProtoOwner.PETS_FIELD_NUMBER);
+            }
+            if (ownerId != 0) {
+                owner.writeTo(output, ProtoOwners.OWNERS_FIELD_NUMBER, delimited);
+            }
+        });
+    }
+
+    @Override
+    public void writePets(OutputStream out, boolean delimited) throws DataAccessException, IOException {
+        encode(PETS_SQL, out, (rs, output) -> {
+            ProtoMessageBuffer pet = new ProtoMessageBuffer();
+            ProtoMessageBuffer nested = new ProtoMessageBuffer();
+            int petId = 0;
+            while (rs.next()) {
+                int rowPetId = rs.getInt("pet_id");
+                if (rowPetId != petId) {
+                    if (petId != 0) {
+                        pet.writeTo(output, ProtoPets.PETS_FIELD_NUMBER, delimited);
+                    }
+                    petId = rowPetId;
+                    beginPet(rs, pet, nested, petId, rs.getInt("owner_id"));
+                }
+                if (rs.getInt("visit_id") != 0) {
+                    writePetVisit(rs, pet, nested);
+                }
+            }
+            if (petId != 0) {
+                pet.writeTo(output, ProtoPets.PETS_FIELD_NUMBER, delimited);
+            }
+        });
+    }
+
+    @Override
+    public void writeVisits(OutputStream out, boolean delimited) throws DataAccessException, IOException {
+        encode(VISITS_SQL, out, (rs, output) -> {
+            ProtoMessageBuffer visit = new ProtoMessageBuffer();
+            while (rs.next()) {
+                visit.begin();
+                visit.writeInt32(ProtoVisit.ID_FIELD_NUMBER, rs.getInt("visit_id"));
+                visit.writeDate(ProtoVisit.DATE_FIELD_NUMBER, rs.getObject("visit_date", LocalDate.class));
+                visit.writeString(ProtoVisit.DESCRIPTION_FIELD_NUMBER, rs.getString("description"));
+                visit.writeInt32(ProtoVisit.PET_ID_FIELD_NUMBER, rs.getInt("pet_id"));
+                visit.writeTo(output, ProtoVisits.VISITS_FIELD_NUMBER, delimited);
+            }
+        });
+    }
+
+    @Override
+    public boolean hasPets() throws DataAccessException {
+        return exists("SELECT id FROM pets");
+    }
+
+    @Override
+    public boolean hasVisits() throws DataAccessException {
+        return exists("SELECT id FROM visits");
+    }
+
+    private boolean exists(String sql) {
+        return Boolean.TRUE.equals(this.existsTemplate.query(sql, (ResultSetExtractor<Boolean>) ResultSet::next));
+    }
+
+    /**
+     * Start a new <code>ProtoPet</code> in the given buffer from the pet and type columns of the current row.
+     */
+    private static void beginPet(ResultSet rs, ProtoMessageBuffer pet, ProtoMessageBuffer nested, int petId, int ownerId)
+        throws SQLException, IOException {
+        pet.begin();
+        pet.writeInt32(ProtoPet.ID_FIELD_NUMBER, petId);
+        pet.writeString(ProtoPet.NAME_FIELD_NUMBER, rs.getString("pet_name"));
+        pet.writeDate(ProtoPet.BIRTH_DATE_FIELD_NUMBER, rs.getObject("birth_date", LocalDate.class));
+        if (rs.getInt("type_id") != 0) {
+            nested.begin();
+            nested.writeInt32(ProtoPetType.ID_FIELD_NUMBER, rs.getInt("type_id"));
+            nested.writeString(ProtoPetType.NAME_FIELD_NUMBER, rs.getString("type_name"));
+            nested.writeTo(pet, ProtoPet.TYPE_FIELD_NUMBER);
+        }
+        pet.writeInt32(ProtoPet.OWNER_ID_FIELD_NUMBER, ownerId);
+    }
+
+    /**
+     * Append the visit columns of the current row to the given pet as a <code>ProtoPetVisit</code>.
+     */
+    private static void writePetVisit(ResultSet rs, ProtoMessageBuffer pet, ProtoMessageBuffer nested)
+        throws SQLException, IOException {
+        nested.begin();
+        nested.writeInt32(ProtoPetVisit.ID_FIELD_NUMBER, rs.getInt("visit_id"));
+        nested.writeDate(ProtoPetVisit.DATE_FIELD_NUMBER, rs.getObject("visit_date", LocalDate.class));
+        nested.writeString(ProtoPetVisit.DESCRIPTION_FIELD_NUMBER, rs.getString("description"));
+        nested.writeTo(pet, ProtoPet.VISITS_FIELD_NUMBER);
+    }
+
+    private void encode(String sql, OutputStream out, RowEncoder encoder) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(out, BUFFER_SIZE);
+        try {
+            this.transactionTemplate.executeWithoutResult(status ->
+                this.jdbcTemplate.query(sql, rs -> {
+                    try {
+                        encoder.encode(rs, output);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    return null;
+                }));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        output.flush();
+    }
+
+    @FunctionalInterface
+    private interface RowEncoder {
+
+        void encode(ResultSet rs, CodedOutputStream output) throws SQLException, IOException;
+
+    }
+
+}
@@ -28,17 +28,17 @@ import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.orm.ObjectRetrievalFailureException;
 import org.springframework.samples.petclinic.model.Specialty;
 import org.springframework.samples.petclinic.model.Vet;
 import org.springframework.samples.petclinic.repository.VetRepository;
-import org.springframework.samples.petclinic.util.EntityUtils;
+import org.springframework.samples.petclinic.util.IntIndex;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -61,6 +61,24 @@ public class JdbcVetRepositoryImpl implements VetRepository {
 	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 	private SimpleJdbcInsert insertVet;
 
+	private static final String VET_SPECIALTIES_COLUMNS =
+		"SELECT vets.id, first_name, last_name, specialties.id AS specialty_id, specialties.name AS specialty_name ";
+
+	private static final String SPECIALTIES_JOIN =
+		" LEFT OUTER JOIN vet_specialties ON vets.id = vet_specialties.vet_id " +
+			"LEFT OUTER JOIN specialties ON vet_specialties.specialty_id = specialties.id";
+
+	private static final String VETS_WITH_SPECIALTIES = VET_SPECIALTIES_COLUMNS + "FROM vets" + SPECIALTIES_JOIN;
+
+	/**
+	 * One page of vets, limited in a derived table so the limit counts vets rather than joined rows.
+	 */
+	private static final String VET_PAGE_WITH_SPECIALTIES = VET_SPECIALTIES_COLUMNS +
+		"FROM (SELECT id, first_name, last_name FROM vets WHERE id > :afterId ORDER BY id LIMIT :limit) vets" +
+		SPECIALTIES_JOIN + " ORDER BY vets.id";
+
+	private static final String VETS_ORDER = " ORDER BY vets.last_name, vets.first_name, vets.id";
+
     @Autowired
     public JdbcVetRepositoryImpl(DataSource dataSource, JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
@@ -69,72 +87,36 @@ public class JdbcVetRepositoryImpl implements VetRepository {
     }
 
     /**
-     * Refresh the cache of Vets that the ClinicService is holding.
+     * Refresh the cache of Vets that the ClinicService is holding. Vets and their specialties are read with a
+     * single join query.
      */
     @Override
     public Collection<Vet> findAll() throws DataAccessException {
-        List<Vet> vets = new ArrayList<>();
-        // Retrieve the list of all vets.
-        vets.addAll(this.jdbcTemplate.query(
-            "SELECT id, first_name, last_name FROM vets ORDER BY last_name,first_name",
-            BeanPropertyRowMapper.newInstance(Vet.class)));
-
-        // Retrieve the list of all possible specialties.
-        final List<Specialty> specialties = this.jdbcTemplate.query(
-            "SELECT id, name FROM specialties",
-            BeanPropertyRowMapper.newInstance(Specialty.class));
-
-        // Build each vet's list of specialties.
-        for (Vet vet : vets) {
-            final List<Integer> vetSpecialtiesIds = this.jdbcTemplate.query(
-                "SELECT specialty_id FROM vet_specialties WHERE vet_id=?",
-                new BeanPropertyRowMapper<Integer>() {
-                    @Override
-                    public Integer mapRow(ResultSet rs, int row) throws SQLException {
-                        return rs.getInt(1);
-                    }
-                },
-                vet.getId());
-            for (int specialtyId : vetSpecialtiesIds) {
-                Specialty specialty = EntityUtils.getById(specialties, Specialty.class, specialtyId);
-                vet.addSpecialty(specialty);
-            }
-        }
-        return vets;
+        VetSpecialtiesRowCallbackHandler handler = new VetSpecialtiesRowCallbackHandler();
+        this.jdbcTemplate.query(VETS_WITH_SPECIALTIES + VETS_ORDER, handler);
+        return handler.vets;
     }
-    
+
 	@Override
-	public Vet findById(int id) throws DataAccessException {
-		Vet vet;
-		try {
-			Map<String, Object> vet_params = new HashMap<>();
-			vet_params.put("id", id);
-			vet = this.namedParameterJdbcTemplate.queryForObject(
-					"SELECT id, first_name, last_name FROM vets WHERE id= :id",
-					vet_params,
-					BeanPropertyRowMapper.newInstance(Vet.class));
-
-			final List<Specialty> specialties = this.namedParameterJdbcTemplate.query(
-					"SELECT id, name FROM specialties", vet_params, BeanPropertyRowMapper.newInstance(Specialty.class));
-
-			final List<Integer> vetSpecialtiesIds = this.namedParameterJdbcTemplate.query(
-					"SELECT specialty_id FROM vet_specialties WHERE vet_id=:id",
-					vet_params,
-					new BeanPropertyRowMapper<Integer>() {
-						@Override
-						public Integer mapRow(ResultSet rs, int row) throws SQLException {
-							return rs.getInt(1);
-						}
-					});
-			for (int specialtyId : vetSpecialtiesIds) {
-				Specialty specialty = EntityUtils.getById(specialties, Specialty.class, specialtyId);
-				vet.addSpecialty(specialty);
-			}
+	public List<Vet> findPage(int afterId, int limit) throws DataAccessException {
+		Map<String, Object> params = new HashMap<>();
+		params.put("afterId", afterId);
+		params.put("limit", limit);
+		VetSpecialtiesRowCallbackHandler handler = new VetSpecialtiesRowCallbackHandler();
+		this.namedParameterJdbcTemplate.query(VET_PAGE_WITH_SPECIALTIES, params, handler);
+		return handler.vets;
+	}
 
-		} catch (EmptyResultDataAccessException ex) {
+	@Override
+	public Vet findById(int id) throws DataAccessException {
+		Map<String, Object> vet_params = new HashMap<>();
+		vet_params.put("id", id);
+		VetSpecialtiesRowCallbackHandler handler = new VetSpecialtiesRowCallbackHandler();
+		this.namedParameterJdbcTemplate.query(VETS_WITH_SPECIALTIES + " WHERE vets.id = :id", vet_params, handler);
+		if (handler.vets.isEmpty()) {
 			throw new ObjectRetrievalFailureException(Vet.class, id);
 		}
-		return vet;
+		return handler.vets.get(0);
 	}
 
 	@Override
@@ -163,12 +145,54 @@ public class JdbcVetRepositoryImpl implements VetRepository {
 		Map<String, Object> params = new HashMap<>();
 		params.put("id", vet.getId());
 		this.namedParameterJdbcTemplate.update("DELETE FROM vet_specialties WHERE vet_id=:id", params);
+		List<MapSqlParameterSource> batch = new ArrayList<>();
 		for (Specialty spec : vet.getSpecialties()) {
-			params.put("spec_id", spec.getId());
-			if(!(spec.getId() == null)) {
-				this.namedParameterJdbcTemplate.update("INSERT INTO vet_specialties VALUES (:id, :spec_id)", params);
+			if (!(spec.getId() == null)) {
+				batch.add(new MapSqlParameterSource().addValue("id", vet.getId()).addValue("spec_id", spec.getId()));
 			}
 		}
+		if (!batch.isEmpty()) {
+			this.namedParameterJdbcTemplate.batchUpdate("INSERT INTO vet_specialties VALUES (:id, :spec_id)",
+				batch.toArray(new MapSqlParameterSource[0]));
+		}
+	}
+
+	/**
+	 * Builds vets from rows of {@link #VETS_WITH_SPECIALTIES}, where the rows of one vet are adjacent.
+	 * Specialties are looked up by id, so each one is created once and shared between vets.
+	 */
+	private static class VetSpecialtiesRowCallbackHandler implements RowCallbackHandler {
+
+		private final List<Vet> vets = new ArrayList<>();
+
+		private final IntIndex<Specialty> specialtiesById = new IntIndex<>(16);
+
+		private Vet current;
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			int vetId = rs.getInt("id");
+			if (this.current == null || this.current.getId() != vetId) {
+				this.current = new Vet();
+				this.current.setId(vetId);
+				this.current.setFirstName(rs.getString("first_name"));
+				this.current.setLastName(rs.getString("last_name"));
+				this.vets.add(this.current);
+			}
+			int specialtyId = rs.getInt("specialty_id");
+			if (rs.wasNull()) {
+				return;
+			}
+			Specialty specialty = this.specialtiesById.get(specialtyId);
+			if (specialty == null) {
+				specialty = new Specialty();
+				specialty.setId(specialtyId);
+				specialty.setName(rs.getString("specialty_name"));
+				this.specialtiesById.put(specialtyId, specialty);
+			}
+			this.current.addSpecialty(specialty);
+		}
+
 	}
 
 }
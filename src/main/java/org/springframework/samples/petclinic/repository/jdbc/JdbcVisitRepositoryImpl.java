@@ -29,6 +29,8 @@ import org.springframework.samples.petclinic.model.Owner;
 import org.springframework.samples.petclinic.model.PetType;
 import org.springframework.samples.petclinic.model.Visit;
 import org.springframework.samples.petclinic.repository.VisitRepository;
+import org.springframework.samples.petclinic.util.EntityUtils;
+import org.springframework.samples.petclinic.util.IntIndex;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
@@ -52,6 +54,13 @@ import java.util.*;
 @Profile("jdbc")
 public class JdbcVisitRepositoryImpl implements VisitRepository {
 
+    private static final String VISITS_WITH_PETS =
+        "SELECT visits.id as visit_id, visit_date, description, pets.id as pets_id, pets.name, birth_date, " +
+            "type_id, owner_id, types.name as type_name, " +
+            "owners.first_name, owners.last_name, owners.address, owners.city, owners.telephone " +
+            "FROM visits JOIN pets ON visits.pet_id = pets.id JOIN types ON pets.type_id = types.id " +
+            "JOIN owners ON pets.owner_id = owners.id ";
+
     protected SimpleJdbcInsert insertVisit;
     private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
@@ -120,6 +129,38 @@ public class JdbcVisitRepositoryImpl implements VisitRepository {
             params, new JdbcVisitRowMapperExt());
     }
 
+    /**
+     * Loads a page of visits joined with their pet, the pet's type and the pet's owner in a single query. Pets
+     * shared by several visits of the page are mapped once.
+     */
+    @Override
+    public List<Visit> findPage(int afterId, int limit) throws DataAccessException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterId", afterId);
+        params.put("limit", limit);
+        return this.namedParameterJdbcTemplate.query(
+            VISITS_WITH_PETS + "WHERE visits.id > :afterId ORDER BY visits.id LIMIT :limit",
+            params,
+            new VisitWithPetRowMapper(limit));
+    }
+
+    /**
+     * Loads the visits like {@link #findPage}, one query per chunk of ids.
+     */
+    @Override
+    public List<Visit> findByIds(Collection<Integer> ids) throws DataAccessException {
+        List<Visit> visits = new ArrayList<>();
+        for (List<Integer> chunk : EntityUtils.chunkIds(ids)) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("ids", chunk);
+            visits.addAll(this.namedParameterJdbcTemplate.query(
+                VISITS_WITH_PETS + "WHERE visits.id IN (:ids)",
+                params,
+                new VisitWithPetRowMapper(chunk.size())));
+        }
+        return visits;
+    }
+
     @Override
     public void save(Visit visit) throws DataAccessException {
         if (visit.isNew()) {
@@ -139,6 +180,48 @@ public class JdbcVisitRepositoryImpl implements VisitRepository {
         this.namedParameterJdbcTemplate.update("DELETE FROM visits WHERE id=:id", params);
     }
 
+    /**
+     * Maps rows of {@link #VISITS_WITH_PETS}, creating each pet, with its type and owner, once.
+     */
+    private static class VisitWithPetRowMapper implements RowMapper<Visit> {
+
+        private final JdbcPetRowMapper petRowMapper = new JdbcPetRowMapper();
+
+        private final JdbcVisitRowMapper visitRowMapper = new JdbcVisitRowMapper();
+
+        private final IntIndex<JdbcPet> pets;
+
+        VisitWithPetRowMapper(int expectedSize) {
+            this.pets = new IntIndex<>(expectedSize);
+        }
+
+        @Override
+        public Visit mapRow(ResultSet rs, int rowNum) throws SQLException {
+            int petId = rs.getInt("pets_id");
+            JdbcPet pet = this.pets.get(petId);
+            if (pet == null) {
+                pet = this.petRowMapper.mapRow(rs, rowNum);
+                PetType type = new PetType();
+                type.setId(pet.getTypeId());
+                type.setName(rs.getString("type_name"));
+                pet.setType(type);
+                Owner owner = new Owner();
+                owner.setId(pet.getOwnerId());
+                owner.setFirstName(rs.getString("first_name"));
+                owner.setLastName(rs.getString("last_name"));
+                owner.setAddress(rs.getString("address"));
+                owner.setCity(rs.getString("city"));
+                owner.setTelephone(rs.getString("telephone"));
+                pet.setOwner(owner);
+                this.pets.put(petId, pet);
+            }
+            Visit visit = this.visitRowMapper.mapRow(rs, rowNum);
+            visit.setPet(pet);
+            return visit;
+        }
+
+    }
+
     protected class JdbcVisitRowMapperExt implements RowMapper<Visit> {
 
         @Override
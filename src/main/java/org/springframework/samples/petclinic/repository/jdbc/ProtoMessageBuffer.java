@@ -0,0 +1,111 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.jdbc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Reusable staging area for one embedded protobuf message. A nested message has to be prefixed with its
+ * length, which is only known once the message is complete, so its fields are encoded here first and then
+ * copied into the enclosing message.
+ * <p>
+ * Fields holding the proto3 default value (0, empty or <code>null</code>) are skipped, exactly as the
+ * generated message classes do.
+ */
+class ProtoMessageBuffer extends OutputStream {
+
+    private final CodedOutputStream output;
+
+    private byte[] buf = new byte[512];
+
+    private int count;
+
+    ProtoMessageBuffer() {
+        this.output = CodedOutputStream.newInstance(this, 512);
+    }
+
+    /**
+     * Discard the current content and start a new message.
+     */
+    void begin() throws IOException {
+        this.output.flush();
+        this.count = 0;
+    }
+
+    void writeInt32(int fieldNumber, int value) throws IOException {
+        if (value != 0) {
+            this.output.writeInt32(fieldNumber, value);
+        }
+    }
+
+    void writeString(int fieldNumber, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            this.output.writeString(fieldNumber, value);
+        }
+    }
+
+    void writeDate(int fieldNumber, LocalDate value) throws IOException {
+        if (value != null) {
+            this.output.writeString(fieldNumber, value.toString());
+        }
+    }
+
+    /**
+     * Append the current content to another buffer as an embedded message field.
+     */
+    void writeTo(ProtoMessageBuffer parent, int fieldNumber) throws IOException {
+        writeTo(parent.output, fieldNumber, false);
+    }
+
+    /**
+     * Append the current content to the given stream, either as an embedded message field
+     * or, when <code>delimited</code> is set, as a length-delimited message without tag.
+     */
+    void writeTo(CodedOutputStream target, int fieldNumber, boolean delimited) throws IOException {
+        this.output.flush();
+        if (!delimited) {
+            target.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        }
+        target.writeUInt32NoTag(this.count);
+        target.writeRawBytes(this.buf, 0, this.count);
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(this.count + 1);
+        this.buf[this.count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(this.count + len);
+        System.arraycopy(b, off, this.buf, this.count, len);
+        this.count += len;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.buf.length) {
+            this.buf = Arrays.copyOf(this.buf, Math.max(capacity, this.buf.length * 2));
+        }
+    }
+
+}
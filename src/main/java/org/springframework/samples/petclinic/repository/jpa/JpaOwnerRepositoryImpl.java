@@ -15,17 +15,22 @@
  */
 package org.springframework.samples.petclinic.repository.jpa;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
+import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.orm.hibernate5.support.OpenSessionInViewFilter;
 import org.springframework.samples.petclinic.model.Owner;
 import org.springframework.samples.petclinic.repository.OwnerRepository;
+import org.springframework.samples.petclinic.util.EntityUtils;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -70,6 +75,14 @@ public class JpaOwnerRepositoryImpl implements OwnerRepository {
         return (Owner) query.getSingleResult();
     }
 
+    @Override
+    public Owner findById(int id, Fetch fetch) {
+        return this.em.createQuery("SELECT owner FROM Owner owner WHERE owner.id =:id", Owner.class)
+            .setParameter("id", id)
+            .setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetch))
+            .getSingleResult();
+    }
+
 
     @Override
     public void save(Owner owner) {
@@ -88,9 +101,76 @@ public class JpaOwnerRepositoryImpl implements OwnerRepository {
         return query.getResultList();
 	}
 
+	@Override
+	public Collection<Owner> findAll(Fetch fetch) throws DataAccessException {
+		return this.em.createQuery("SELECT owner FROM Owner owner", Owner.class)
+			.setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetch))
+			.getResultList();
+	}
+
+	@Override
+	public List<Owner> findPage(int afterId, int limit) throws DataAccessException {
+		return this.em.createQuery("SELECT owner FROM Owner owner WHERE owner.id > :afterId ORDER BY owner.id", Owner.class)
+			.setParameter("afterId", afterId)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+
+	/**
+	 * Hibernate cannot limit rows of a query that fetches collections in SQL and would page in memory after loading
+	 * every owner (HHH90003004), so the page of ids is selected first and the graph is then loaded for those ids only.
+	 */
+	@Override
+	public List<Owner> findPage(int afterId, int limit, Fetch fetch) throws DataAccessException {
+		if (fetch == Fetch.OWNER) {
+			return this.em.createQuery("SELECT owner FROM Owner owner WHERE owner.id > :afterId ORDER BY owner.id", Owner.class)
+				.setParameter("afterId", afterId)
+				.setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetch))
+				.setMaxResults(limit)
+				.getResultList();
+		}
+		List<Integer> ids = this.em.createQuery("SELECT owner.id FROM Owner owner WHERE owner.id > :afterId ORDER BY owner.id", Integer.class)
+			.setParameter("afterId", afterId)
+			.setMaxResults(limit)
+			.getResultList();
+		if (ids.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return this.em.createQuery("SELECT owner FROM Owner owner WHERE owner.id IN :ids ORDER BY owner.id", Owner.class)
+			.setParameter("ids", ids)
+			.setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetch))
+			.getResultList();
+	}
+
+	/**
+	 * One query per chunk of ids, fetching pets and visits through the {@link Owner#PETS_AND_VISITS_GRAPH} graph.
+	 */
+	@Override
+	public List<Owner> findByIds(Collection<Integer> ids) throws DataAccessException {
+		List<Owner> owners = new ArrayList<>();
+		for (List<Integer> chunk : EntityUtils.chunkIds(ids)) {
+			owners.addAll(this.em.createQuery("SELECT owner FROM Owner owner WHERE owner.id IN :ids", Owner.class)
+				.setParameter("ids", chunk)
+				.setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(Fetch.PETS_AND_VISITS))
+				.getResultList());
+		}
+		return owners;
+	}
+
 	@Override
 	public void delete(Owner owner) throws DataAccessException {
 		this.em.remove(this.em.contains(owner) ? owner : this.em.merge(owner));
 	}
 
+	/**
+	 * As a fetch graph, the returned graph also keeps the eagerly mapped associations it leaves out from being loaded.
+	 */
+	private EntityGraph<?> fetchGraph(Fetch fetch) {
+		return this.em.getEntityGraph(switch (fetch) {
+			case OWNER -> Owner.OWNER_GRAPH;
+			case PETS -> Owner.PETS_GRAPH;
+			case PETS_AND_VISITS -> Owner.PETS_AND_VISITS_GRAPH;
+		});
+	}
+
 }
@@ -15,17 +15,20 @@
  */
 package org.springframework.samples.petclinic.repository.jpa;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.samples.petclinic.model.Pet;
 import org.springframework.samples.petclinic.model.PetType;
 import org.springframework.samples.petclinic.repository.PetRepository;
+import org.springframework.samples.petclinic.util.EntityUtils;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -70,6 +73,29 @@ public class JpaPetRepositoryImpl implements PetRepository {
 		return this.em.createQuery("SELECT pet FROM Pet pet").getResultList();
 	}
 
+	@Override
+	public List<Pet> findPage(int afterId, int limit) throws DataAccessException {
+		return this.em.createQuery("SELECT pet FROM Pet pet WHERE pet.id > :afterId ORDER BY pet.id", Pet.class)
+			.setParameter("afterId", afterId)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+
+	/**
+	 * One query per chunk of ids, fetching type, owner and visits through the {@link Pet#DETAILS_GRAPH} graph.
+	 */
+	@Override
+	public List<Pet> findByIds(Collection<Integer> ids) throws DataAccessException {
+		List<Pet> pets = new ArrayList<>();
+		for (List<Integer> chunk : EntityUtils.chunkIds(ids)) {
+			pets.addAll(this.em.createQuery("SELECT pet FROM Pet pet WHERE pet.id IN :ids", Pet.class)
+				.setParameter("ids", chunk)
+				.setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, this.em.getEntityGraph(Pet.DETAILS_GRAPH))
+				.getResultList());
+		}
+		return pets;
+	}
+
 	@Override
 	public void delete(Pet pet) throws DataAccessException {
 		//this.em.remove(this.em.contains(pet) ? pet : this.em.merge(pet));
@@ -23,6 +23,8 @@ import java.util.List;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
+import org.hibernate.jpa.AvailableHints;
+
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.samples.petclinic.model.Pet;
@@ -52,6 +54,7 @@ public class JpaPetTypeRepositoryImpl implements PetTypeRepository {
     public PetType findByName(String name) throws DataAccessException {
         return this.em.createQuery("SELECT p FROM PetType p WHERE p.name = :name", PetType.class)
             .setParameter("name", name)
+            .setHint(AvailableHints.HINT_CACHEABLE, true)
             .getSingleResult();
     }
 
@@ -59,7 +62,9 @@ public class JpaPetTypeRepositoryImpl implements PetTypeRepository {
     @SuppressWarnings("unchecked")
 	@Override
 	public Collection<PetType> findAll() throws DataAccessException {
-		return this.em.createQuery("SELECT ptype FROM PetType ptype").getResultList();
+		return this.em.createQuery("SELECT ptype FROM PetType ptype")
+			.setHint(AvailableHints.HINT_CACHEABLE, true)
+			.getResultList();
 	}
 
 	@Override
@@ -23,6 +23,8 @@ import java.util.Set;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
+import org.hibernate.jpa.AvailableHints;
+
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.samples.petclinic.model.Specialty;
@@ -51,13 +53,16 @@ public class JpaSpecialtyRepositoryImpl implements SpecialtyRepository {
         final String jpql = "SELECT s FROM Specialty s WHERE s.name IN :names";
         return em.createQuery(jpql, Specialty.class)
             .setParameter("names", names)
+            .setHint(AvailableHints.HINT_CACHEABLE, true)
             .getResultList();
     }
 
     @SuppressWarnings("unchecked")
 	@Override
 	public Collection<Specialty> findAll() throws DataAccessException {
-		return this.em.createQuery("SELECT s FROM Specialty s").getResultList();
+		return this.em.createQuery("SELECT s FROM Specialty s")
+			.setHint(AvailableHints.HINT_CACHEABLE, true)
+			.getResultList();
 	}
 
 	@Override
@@ -15,6 +15,7 @@
  */
 package org.springframework.samples.petclinic.repository.jpa;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.samples.petclinic.model.Vet;
@@ -24,6 +25,7 @@ import org.springframework.stereotype.Repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * JPA implementation of the {@link VetRepository} interface.
@@ -50,7 +52,17 @@ public class JpaVetRepositoryImpl implements VetRepository {
 	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Vet> findAll() throws DataAccessException {
-		return this.em.createQuery("SELECT vet FROM Vet vet").getResultList();
+		return this.em.createQuery("SELECT vet FROM Vet vet")
+			.setHint(AvailableHints.HINT_CACHEABLE, true)
+			.getResultList();
+	}
+
+	@Override
+	public List<Vet> findPage(int afterId, int limit) throws DataAccessException {
+		return this.em.createQuery("SELECT vet FROM Vet vet WHERE vet.id > :afterId ORDER BY vet.id", Vet.class)
+			.setParameter("afterId", afterId)
+			.setMaxResults(limit)
+			.getResultList();
 	}
 
 	@Override
@@ -15,6 +15,7 @@
  */
 package org.springframework.samples.petclinic.repository.jpa;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -26,6 +27,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.samples.petclinic.model.Visit;
 import org.springframework.samples.petclinic.repository.VisitRepository;
+import org.springframework.samples.petclinic.util.EntityUtils;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -76,6 +78,25 @@ public class JpaVisitRepositoryImpl implements VisitRepository {
         return this.em.createQuery("SELECT v FROM Visit v").getResultList();
 	}
 
+	@Override
+	public List<Visit> findPage(int afterId, int limit) throws DataAccessException {
+		return this.em.createQuery("SELECT v FROM Visit v WHERE v.id > :afterId ORDER BY v.id", Visit.class)
+			.setParameter("afterId", afterId)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+
+	@Override
+	public List<Visit> findByIds(Collection<Integer> ids) throws DataAccessException {
+		List<Visit> visits = new ArrayList<>();
+		for (List<Integer> chunk : EntityUtils.chunkIds(ids)) {
+			visits.addAll(this.em.createQuery("SELECT v FROM Visit v WHERE v.id IN :ids", Visit.class)
+				.setParameter("ids", chunk)
+				.getResultList());
+		}
+		return visits;
+	}
+
 	@Override
 	public void delete(Visit visit) throws DataAccessException {
         this.em.remove(this.em.contains(visit) ? visit : this.em.merge(visit));
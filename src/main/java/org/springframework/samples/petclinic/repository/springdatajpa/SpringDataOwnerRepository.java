@@ -15,14 +15,19 @@
  */
 package org.springframework.samples.petclinic.repository.springdatajpa;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.samples.petclinic.model.Owner;
 import org.springframework.samples.petclinic.repository.OwnerRepository;
+import org.springframework.samples.petclinic.util.EntityUtils;
 
 /**
  * Spring Data JPA specialization of the {@link OwnerRepository} interface
@@ -32,7 +37,7 @@ import org.springframework.samples.petclinic.repository.OwnerRepository;
  */
 
 @Profile("spring-data-jpa")
-public interface SpringDataOwnerRepository extends OwnerRepository, Repository<Owner, Integer> {
+public interface SpringDataOwnerRepository extends OwnerRepository, Repository<Owner, Integer>, OwnerRepositoryOverride {
 
     @Override
     @Query("SELECT DISTINCT owner FROM Owner owner left join fetch owner.pets WHERE owner.lastName LIKE :lastName%")
@@ -41,4 +46,23 @@ public interface SpringDataOwnerRepository extends OwnerRepository, Repository<O
     @Override
     @Query("SELECT owner FROM Owner owner left join fetch owner.pets WHERE owner.id =:id")
     Owner findById(@Param("id") int id);
+
+    @Override
+    default List<Owner> findPage(int afterId, int limit) {
+        return findByIdGreaterThanOrderById(afterId, Limit.of(limit));
+    }
+
+    List<Owner> findByIdGreaterThanOrderById(int afterId, Limit limit);
+
+    @Override
+    default List<Owner> findByIds(Collection<Integer> ids) {
+        List<Owner> owners = new ArrayList<>();
+        for (List<Integer> chunk : EntityUtils.chunkIds(ids)) {
+            owners.addAll(findByIdIn(chunk));
+        }
+        return owners;
+    }
+
+    @EntityGraph(Owner.PETS_AND_VISITS_GRAPH)
+    List<Owner> findByIdIn(Collection<Integer> ids);
 }
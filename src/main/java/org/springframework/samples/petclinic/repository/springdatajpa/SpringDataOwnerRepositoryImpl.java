@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.springdatajpa;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.context.annotation.Profile;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.repository.OwnerRepository.Fetch;
+
+/**
+ * Applies the {@link Owner} fetch graph selected by {@link Fetch}, which also keeps the eagerly mapped associations it
+ * leaves out from being loaded.
+ */
+@Profile("spring-data-jpa")
+public class SpringDataOwnerRepositoryImpl implements OwnerRepositoryOverride {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Owner findById(int id, Fetch fetch) {
+        return this.em.createQuery("SELECT owner FROM Owner owner WHERE owner.id =:id", Owner.class)
+            .setParameter("id", id)
+            .setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetch))
+            .getSingleResult();
+    }
+
+    @Override
+    public Collection<Owner> findAll(Fetch fetch) {
+        return this.em.createQuery("SELECT owner FROM Owner owner", Owner.class)
+            .setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetch))
+            .getResultList();
+    }
+
+    /**
+     * Selects the page of ids before loading the graph, as Hibernate would otherwise page a graph with collections in
+     * memory, see {@link org.springframework.samples.petclinic.repository.jpa.JpaOwnerRepositoryImpl#findPage}.
+     */
+    @Override
+    public List<Owner> findPage(int afterId, int limit, Fetch fetch) {
+        if (fetch == Fetch.OWNER) {
+            return this.em.createQuery("SELECT owner FROM Owner owner WHERE owner.id > :afterId ORDER BY owner.id", Owner.class)
+                .setParameter("afterId", afterId)
+                .setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetch))
+                .setMaxResults(limit)
+                .getResultList();
+        }
+        List<Integer> ids = this.em.createQuery("SELECT owner.id FROM Owner owner WHERE owner.id > :afterId ORDER BY owner.id", Integer.class)
+            .setParameter("afterId", afterId)
+            .setMaxResults(limit)
+            .getResultList();
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return this.em.createQuery("SELECT owner FROM Owner owner WHERE owner.id IN :ids ORDER BY owner.id", Owner.class)
+            .setParameter("ids", ids)
+            .setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetch))
+            .getResultList();
+    }
+
+    private EntityGraph<?> fetchGraph(Fetch fetch) {
+        return this.em.getEntityGraph(switch (fetch) {
+            case OWNER -> Owner.OWNER_GRAPH;
+            case PETS -> Owner.PETS_GRAPH;
+            case PETS_AND_VISITS -> Owner.PETS_AND_VISITS_GRAPH;
+        });
+    }
+
+}
@@ -15,15 +15,20 @@
  */
 package org.springframework.samples.petclinic.repository.springdatajpa;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.samples.petclinic.model.Pet;
 import org.springframework.samples.petclinic.model.PetType;
 import org.springframework.samples.petclinic.repository.PetRepository;
+import org.springframework.samples.petclinic.util.EntityUtils;
 
 /**
  * Spring Data JPA specialization of the {@link PetRepository} interface
@@ -38,4 +43,23 @@ public interface SpringDataPetRepository extends PetRepository, Repository<Pet,
     @Override
     @Query("SELECT ptype FROM PetType ptype ORDER BY ptype.name")
     List<PetType> findPetTypes() throws DataAccessException;
+
+    @Override
+    default List<Pet> findPage(int afterId, int limit) {
+        return findByIdGreaterThanOrderById(afterId, Limit.of(limit));
+    }
+
+    List<Pet> findByIdGreaterThanOrderById(int afterId, Limit limit);
+
+    @Override
+    default List<Pet> findByIds(Collection<Integer> ids) {
+        List<Pet> pets = new ArrayList<>();
+        for (List<Integer> chunk : EntityUtils.chunkIds(ids)) {
+            pets.addAll(findByIdIn(chunk));
+        }
+        return pets;
+    }
+
+    @EntityGraph(Pet.DETAILS_GRAPH)
+    List<Pet> findByIdIn(Collection<Integer> ids);
 }
@@ -15,10 +15,16 @@
  */
 package org.springframework.samples.petclinic.repository.springdatajpa;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.repository.Repository;
 import org.springframework.samples.petclinic.model.Visit;
 import org.springframework.samples.petclinic.repository.VisitRepository;
+import org.springframework.samples.petclinic.util.EntityUtils;
 
 /**
  * Spring Data JPA specialization of the {@link VisitRepository} interface
@@ -29,4 +35,23 @@ import org.springframework.samples.petclinic.repository.VisitRepository;
 
 @Profile("spring-data-jpa")
 public interface SpringDataVisitRepository extends VisitRepository, Repository<Visit, Integer>, VisitRepositoryOverride {
+
+    @Override
+    default List<Visit> findPage(int afterId, int limit) {
+        return findByIdGreaterThanOrderById(afterId, Limit.of(limit));
+    }
+
+    List<Visit> findByIdGreaterThanOrderById(int afterId, Limit limit);
+
+    @Override
+    default List<Visit> findByIds(Collection<Integer> ids) {
+        List<Visit> visits = new ArrayList<>();
+        for (List<Integer> chunk : EntityUtils.chunkIds(ids)) {
+            visits.addAll(findByIdIn(chunk));
+        }
+        return visits;
+    }
+
+    List<Visit> findByIdIn(Collection<Integer> ids);
+
 }
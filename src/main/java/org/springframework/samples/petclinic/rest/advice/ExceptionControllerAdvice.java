@@ -22,6 +22,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.samples.petclinic.rest.controller.BindingErrorsResponse;
+import org.springframework.samples.petclinic.rest.controller.RequestCoalescer;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -52,6 +53,17 @@ public class ExceptionControllerAdvice {
         return ResponseEntity.badRequest().body(respJSONstring);
     }
 
+    /**
+     * Handles a request that waited too long for the identical read in flight, see {@link RequestCoalescer}
+     *
+     * @param ex The thrown exception
+     * @return an empty response entity asking the client to retry
+     */
+    @ExceptionHandler(RequestCoalescer.WaitTimeoutException.class)
+    public ResponseEntity<Void> handleWaitTimeoutException(RequestCoalescer.WaitTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
     /**
      * Handles exception thrown by Bean Validation on controller methods parameters
      *
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.controller;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.springframework.samples.petclinic.model.BaseEntity;
+import org.springframework.samples.petclinic.util.IntIndex;
+
+/**
+ * Support for the <code>:batchGet</code> endpoints, which read many entities by id in one call. The entities are
+ * loaded with a fixed number of queries, then answered in the order of the requested ids; ids without an entity are
+ * reported as missing rather than failing the call.
+ */
+final class BatchGet {
+
+    static final int MAX_IDS = 1000;
+
+    private BatchGet() {
+    }
+
+    static boolean isValid(List<Integer> ids) {
+        return !ids.isEmpty() && ids.size() <= MAX_IDS;
+    }
+
+    /**
+     * Walk the requested ids in order, passing the entity of each id to <code>found</code>, or the id itself to
+     * <code>missing</code>. An id requested twice is answered twice.
+     */
+    static <T extends BaseEntity> void answer(List<Integer> ids, Collection<T> entities, Consumer<? super T> found,
+                                              IntConsumer missing) {
+        IntIndex<T> entitiesById = IntIndex.byId(entities);
+        for (int id : ids) {
+            T entity = entitiesById.get(id);
+            if (entity != null) {
+                found.accept(entity);
+            } else {
+                missing.accept(id);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.controller;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.protobuf.ProtoImportError;
+import org.springframework.samples.petclinic.protobuf.ProtoImportRecord;
+import org.springframework.samples.petclinic.protobuf.ProtoImportResult;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.ProtoPetVisit;
+import org.springframework.samples.petclinic.protobuf.ProtoVisit;
+import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.util.IntIndex;
+
+/**
+ * Support for the <code>:import</code> endpoint, which reads a stream of length-delimited
+ * <code>ProtoImportRecord</code> messages one record at a time and inserts them in batches of up to
+ * {@value #BATCH_SIZE} records or {@value #BATCH_BYTES} bytes. Every batch is committed on its own, so memory holds
+ * one batch however long the stream is, and a failure late in the stream keeps the batches before it.
+ * <p>
+ * Records that are malformed or invalid are reported and skipped. When the insert of a batch fails, the batch is
+ * rolled back and retried record by record, which imports the valid records and reports the failing ones.
+ */
+final class BulkImport {
+
+    static final int BATCH_SIZE = 500;
+
+    static final int BATCH_BYTES = 1 << 20;
+
+    static final int MAX_RECORD_SIZE = 1 << 20;
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ClinicService clinicService;
+
+    private final IntIndex<PetType> petTypes;
+
+    private final List<Entry> batch = new ArrayList<>();
+
+    private int batchBytes;
+
+    private final ProtoImportResult.Builder result = ProtoImportResult.newBuilder();
+
+    private BulkImport(ClinicService clinicService) {
+        this.clinicService = clinicService;
+        this.petTypes = IntIndex.byId(clinicService.findPetTypes());
+    }
+
+    static ProtoImportResult run(InputStream in, ClinicService clinicService) throws IOException {
+        BulkImport bulkImport = new BulkImport(clinicService);
+        bulkImport.read(in);
+        bulkImport.flush();
+        return bulkImport.result.build();
+    }
+
+    /**
+     * Read records until the end of the stream. A record whose length cannot be read ends the import, since the
+     * records after it cannot be found.
+     */
+    private void read(InputStream in) throws IOException {
+        for (int index = 0; ; index++) {
+            int firstByte = in.read();
+            if (firstByte == -1) {
+                return;
+            }
+            this.result.setRecords(index + 1);
+            byte[] bytes;
+            try {
+                int size = CodedInputStream.readRawVarint32(firstByte, in);
+                if (size < 0 || size > MAX_RECORD_SIZE) {
+                    fail(index, "Record of " + Integer.toUnsignedString(size) + " bytes exceeds the limit of "
+                        + MAX_RECORD_SIZE + " bytes");
+                    in.skipNBytes(Integer.toUnsignedLong(size));
+                    continue;
+                }
+                bytes = in.readNBytes(size);
+                if (bytes.length < size) {
+                    throw new EOFException();
+                }
+            } catch (InvalidProtocolBufferException | EOFException ex) {
+                fail(index, "Truncated or malformed record, the stream is not read further");
+                return;
+            }
+            Entry entry;
+            try {
+                entry = toEntry(index, ProtoImportRecord.parseFrom(bytes));
+            } catch (InvalidProtocolBufferException ex) {
+                fail(index, "Malformed record: " + ex.getMessage());
+                continue;
+            } catch (IllegalArgumentException ex) {
+                fail(index, ex.getMessage());
+                continue;
+            }
+            this.batch.add(entry);
+            this.batchBytes += bytes.length;
+            if (this.batch.size() >= BATCH_SIZE || this.batchBytes >= BATCH_BYTES) {
+                flush();
+            }
+        }
+    }
+
+    private void flush() {
+        if (this.batch.isEmpty()) {
+            return;
+        }
+        try {
+            insert(this.batch);
+            this.result.setImported(this.result.getImported() + this.batch.size());
+        } catch (DataAccessException ex) {
+            for (Entry entry : this.batch) {
+                entry.clearIds();
+                try {
+                    insert(List.of(entry));
+                    this.result.setImported(this.result.getImported() + 1);
+                } catch (DataAccessException recordEx) {
+                    fail(entry.index, recordEx.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        this.batch.clear();
+        this.batchBytes = 0;
+    }
+
+    private void insert(List<Entry> entries) {
+        List<Owner> owners = new ArrayList<>();
+        List<Pet> pets = new ArrayList<>();
+        List<Visit> visits = new ArrayList<>();
+        for (Entry entry : entries) {
+            owners.addAll(entry.owners);
+            pets.addAll(entry.pets);
+            visits.addAll(entry.visits);
+        }
+        this.clinicService.importAll(owners, pets, visits);
+    }
+
+    private void fail(int index, String message) {
+        this.result.setFailed(this.result.getFailed() + 1);
+        if (this.result.getErrorsCount() < MAX_REPORTED_ERRORS) {
+            this.result.addErrors(ProtoImportError.newBuilder().setIndex(index).setMessage(message));
+        }
+    }
+
+    /**
+     * Map a record to new entities.
+     *
+     * @throws IllegalArgumentException if the record is empty or a field is missing or invalid
+     */
+    private Entry toEntry(int index, ProtoImportRecord record) {
+        Entry entry = new Entry(index);
+        switch (record.getRecordCase()) {
+            case OWNER -> {
+                ProtoOwner protoOwner = record.getOwner();
+                Owner owner = new Owner();
+                owner.setFirstName(required(protoOwner.getFirstName(), "first_name"));
+                owner.setLastName(required(protoOwner.getLastName(), "last_name"));
+                owner.setAddress(required(protoOwner.getAddress(), "address"));
+                owner.setCity(required(protoOwner.getCity(), "city"));
+                String telephone = required(protoOwner.getTelephone(), "telephone");
+                if (!telephone.matches("\\d{1,10}")) {
+                    throw new IllegalArgumentException("telephone must be a number of up to 10 digits");
+                }
+                owner.setTelephone(telephone);
+                entry.owners.add(owner);
+                for (ProtoPet protoPet : protoOwner.getPetsList()) {
+                    addPet(entry, protoPet, owner);
+                }
+            }
+            case PET -> {
+                ProtoPet protoPet = record.getPet();
+                Owner owner = new Owner();
+                owner.setId(requiredId(protoPet.getOwnerId(), "owner_id"));
+                addPet(entry, protoPet, owner);
+            }
+            case VISIT -> {
+                ProtoVisit protoVisit = record.getVisit();
+                Pet pet = new Pet();
+                pet.setId(requiredId(protoVisit.getPetId(), "pet_id"));
+                addVisit(entry, protoVisit.getDate(), protoVisit.getDescription(), pet);
+            }
+            default -> throw new IllegalArgumentException("Record holds no owner, pet or visit");
+        }
+        return entry;
+    }
+
+    private void addPet(Entry entry, ProtoPet protoPet, Owner owner) {
+        Pet pet = new Pet();
+        pet.setName(required(protoPet.getName(), "name"));
+        pet.setBirthDate(date(required(protoPet.getBirthDate(), "birth_date"), "birth_date"));
+        PetType type = this.petTypes.get(protoPet.getType().getId());
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown pet type " + protoPet.getType().getId());
+        }
+        pet.setType(type);
+        pet.setOwner(owner);
+        entry.pets.add(pet);
+        for (ProtoPetVisit protoVisit : protoPet.getVisitsList()) {
+            addVisit(entry, protoVisit.getDate(), protoVisit.getDescription(), pet);
+        }
+    }
+
+    private static void addVisit(Entry entry, String date, String description, Pet pet) {
+        Visit visit = new Visit();
+        if (!date.isEmpty()) {
+            visit.setDate(date(date, "date"));
+        }
+        visit.setDescription(required(description, "description"));
+        visit.setPet(pet);
+        entry.visits.add(visit);
+    }
+
+    private static String required(String value, String field) {
+        if (value.isBlank()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private static int requiredId(int id, String field) {
+        if (id <= 0) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return id;
+    }
+
+    private static LocalDate date(String value, String field) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(field + " is not a date: " + value);
+        }
+    }
+
+    /**
+     * The new entities of one record, in insert order.
+     */
+    private static final class Entry {
+
+        final int index;
+
+        final List<Owner> owners = new ArrayList<>(1);
+
+        final List<Pet> pets = new ArrayList<>();
+
+        final List<Visit> visits = new ArrayList<>();
+
+        Entry(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Forget the ids assigned by an insert that was rolled back.
+         */
+        void clearIds() {
+            this.owners.forEach(owner -> owner.setId(null));
+            this.pets.forEach(pet -> pet.setId(null));
+            this.visits.forEach(visit -> visit.setId(null));
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.controller;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.springframework.samples.petclinic.mapper.ProtoFieldMask;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.model.BaseEntity;
+import org.springframework.samples.petclinic.protobuf.ProtoChange;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository.Change;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository.Entity;
+import org.springframework.samples.petclinic.service.ClinicService;
+
+/**
+ * The changes after a client's token up to a fixed token, as {@link ProtoChange} entries in token order.
+ * <p>
+ * The change log is read page by page while iterating, so at most one page of changes and their entities is held
+ * in memory. The entities changed in a page are loaded in their current state with one batch read per kind;
+ * entities deleted since have a deletion of their own further on and are left out. Every read runs in its own
+ * transaction.
+ */
+final class ChangeFeed implements Iterable<ProtoChange> {
+
+    static final String CHANGE_TOKEN_HEADER = "change-token";
+
+    static final int PAGE_SIZE = 500;
+
+    private static final ProtoFieldMask OWNER_FIELDS =
+        ProtoFieldMask.parse("id,first_name,last_name,address,city,telephone", ProtoOwner.getDescriptor());
+
+    private static final ProtoFieldMask PET_FIELDS =
+        ProtoFieldMask.parse("id,name,birth_date,type,owner_id", ProtoPet.getDescriptor());
+
+    private final ClinicService clinicService;
+
+    private final long afterToken;
+
+    private final long upToToken;
+
+    ChangeFeed(ClinicService clinicService, long afterToken, long upToToken) {
+        this.clinicService = clinicService;
+        this.afterToken = afterToken;
+        this.upToToken = upToToken;
+    }
+
+    @Override
+    public Iterator<ProtoChange> iterator() {
+        return new Iterator<>() {
+
+            private Iterator<ProtoChange> page = Collections.emptyIterator();
+
+            private long afterToken = ChangeFeed.this.afterToken;
+
+            private boolean lastPage;
+
+            @Override
+            public boolean hasNext() {
+                while (!this.page.hasNext() && !this.lastPage) {
+                    List<Change> changes = clinicService.findChanges(this.afterToken, upToToken, PAGE_SIZE);
+                    this.lastPage = changes.size() < PAGE_SIZE;
+                    if (!changes.isEmpty()) {
+                        this.afterToken = changes.get(changes.size() - 1).token();
+                    }
+                    this.page = load(changes).iterator();
+                }
+                return this.page.hasNext();
+            }
+
+            @Override
+            public ProtoChange next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return this.page.next();
+            }
+        };
+    }
+
+    private List<ProtoChange> load(List<Change> changes) {
+        Map<Entity, List<Integer>> upserted = new EnumMap<>(Entity.class);
+        for (Change change : changes) {
+            if (!change.deleted()) {
+                upserted.computeIfAbsent(change.entity(), entity -> new ArrayList<>()).add(change.entityId());
+            }
+        }
+        Map<Entity, Map<Integer, ProtoChange>> loaded = new EnumMap<>(Entity.class);
+        upserted.forEach((entity, ids) -> loaded.put(entity, switch (entity) {
+            case OWNER -> index(this.clinicService.findOwnersByIds(ids),
+                owner -> ProtoChange.newBuilder().setOwner(ProtoMapper.toProtoOwner(owner, OWNER_FIELDS)));
+            case PET -> index(this.clinicService.findPetsByIds(ids),
+                pet -> ProtoChange.newBuilder().setPet(ProtoMapper.toProtoPet(pet, PET_FIELDS)));
+            case VISIT -> index(this.clinicService.findVisitsByIds(ids),
+                visit -> ProtoChange.newBuilder().setVisit(ProtoMapper.toProtoVisit(visit)));
+            // reference data and vets are few and cached as a whole
+            case VET -> index(this.clinicService.findVets(),
+                vet -> ProtoChange.newBuilder().setVet(ProtoMapper.toProtoVet(vet)));
+            case PET_TYPE -> index(this.clinicService.findPetTypes(),
+                type -> ProtoChange.newBuilder().setPetType(ProtoMapper.toProtoPetType(type)));
+            case SPECIALTY -> index(this.clinicService.findAllSpecialties(),
+                specialty -> ProtoChange.newBuilder().setSpecialty(ProtoMapper.toProtoSpecialty(specialty)));
+        }));
+
+        List<ProtoChange> entries = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            if (change.deleted()) {
+                entries.add(deletion(change));
+            } else {
+                ProtoChange entry = loaded.get(change.entity()).get(change.entityId());
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static <T extends BaseEntity> Map<Integer, ProtoChange> index(
+        Collection<T> entities, Function<T, ProtoChange.Builder> mapper) {
+        Map<Integer, ProtoChange> index = new HashMap<>();
+        for (T entity : entities) {
+            index.put(entity.getId(), mapper.apply(entity).build());
+        }
+        return index;
+    }
+
+    private static ProtoChange deletion(Change change) {
+        ProtoChange.Builder entry = ProtoChange.newBuilder();
+        int id = change.entityId();
+        return switch (change.entity()) {
+            case OWNER -> entry.setDeletedOwnerId(id).build();
+            case PET -> entry.setDeletedPetId(id).build();
+            case VISIT -> entry.setDeletedVisitId(id).build();
+            case VET -> entry.setDeletedVetId(id).build();
+            case PET_TYPE -> entry.setDeletedPetTypeId(id).build();
+            case SPECIALTY -> entry.setDeletedSpecialtyId(id).build();
+        };
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.controller;
+
+import java.util.function.Function;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository;
+import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Delta synchronization: <code>GET /changes?since=&lt;token&gt;</code> streams the changes after the token as
+ * length-delimited <code>ProtoChange</code> entries, and the token to pass next time in the
+ * {@value ChangeFeed#CHANGE_TOKEN_HEADER} header.
+ * <p>
+ * A client starts by requesting the current token without <code>since</code>, then loads the complete lists, and
+ * from then on only asks for changes. A token older than the compacted part of the change log is answered with 410,
+ * and the client starts over.
+ */
+@RestController
+@CrossOrigin(exposedHeaders = "errors, content-type, " + ChangeFeed.CHANGE_TOKEN_HEADER)
+public class ChangeRestController {
+
+    private final ClinicService clinicService;
+
+    public ChangeRestController(ClinicService clinicService) {
+        this.clinicService = clinicService;
+    }
+
+    @GetMapping("changes")
+    public ResponseEntity<ProtobufStream> listChanges(@RequestParam(value = "since", required = false) Long since) {
+
+        ChangeLogRepository.Head head = this.clinicService.findChangeLogHead();
+        String token = String.valueOf(head.token());
+        if (since == null) {
+            return ResponseEntity.ok().header(ChangeFeed.CHANGE_TOKEN_HEADER, token).build();
+        }
+        if (since < 0 || since > head.token()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (since < head.horizon()) {
+            return ResponseEntity.status(HttpStatus.GONE).header(ChangeFeed.CHANGE_TOKEN_HEADER, token).build();
+        }
+        return ResponseEntity.ok()
+            .contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED)
+            .header(ChangeFeed.CHANGE_TOKEN_HEADER, token)
+            .body(ProtobufStream.delimited(new ChangeFeed(this.clinicService, since, head.token()), Function.identity()));
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.service.EntityVersions;
+
+/**
+ * Conditional <code>GET</code> of a resource versioned by {@link EntityVersions}: the entity tag is known before
+ * anything is read, so a request whose <code>If-None-Match</code> holds it is answered with 304 right away.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Strong entity tag of a resource at the given version, distinct per format the <code>Accept</code> header
+     * selects, as each is a representation of its own.
+     */
+    static String eTag(String version, String accept) {
+        String format = ProtobufMediaTypes.isJsonRequested(accept) ? "-json"
+            : ProtobufMediaTypes.isDelimitedRequested(accept) ? "-delimited"
+            : ProtobufMediaTypes.isV2Requested(accept) ? "-v2" : "";
+        return "\"" + version + format + "\"";
+    }
+
+    /**
+     * Check whether the <code>If-None-Match</code> header holds the entity tag, by the weak comparison the header
+     * calls for, so tags weakened by response compression still match. The header is read as a list of quoted
+     * entity tags rather than split on commas, which an entity tag may contain.
+     */
+    static boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        int start = ifNoneMatch.indexOf('"');
+        while (start >= 0) {
+            int end = ifNoneMatch.indexOf('"', start + 1);
+            if (end < 0) {
+                return false;
+            }
+            // a W/ weakness prefix lies before the opening quote and is left out of the comparison
+            if (end + 1 - start == eTag.length() && ifNoneMatch.startsWith(eTag, start)) {
+                return true;
+            }
+            start = ifNoneMatch.indexOf('"', end + 1);
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+}
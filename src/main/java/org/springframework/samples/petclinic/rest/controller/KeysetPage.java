@@ -0,0 +1,171 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.controller;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import com.google.protobuf.MessageLite;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.model.BaseEntity;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
+
+/**
+ * One page of a list endpoint paginated by keyset: up to <code>limit</code> entities with an id greater than the
+ * <code>after</code> cursor, in id order, and the cursor of the next page (0 on the last page).
+ * <p>
+ * Pages are loaded with one row more than the limit, which only tells whether a next page exists. Delimited
+ * responses have no wrapper message, so they carry the cursor in the {@value #NEXT_CURSOR_HEADER} header.
+ * <p>
+ * Complete lists streamed with {@link #all} are in id order as well, which is the order of every page and every
+ * delimited list, whatever order the single list message of the same endpoint uses.
+ */
+final class KeysetPage<T extends BaseEntity> {
+
+    static final int DEFAULT_LIMIT = 100;
+
+    static final int MAX_LIMIT = 1000;
+
+    /**
+     * Page size used when a complete list is streamed page by page, see {@link #all}.
+     */
+    static final int STREAM_PAGE_SIZE = 500;
+
+    static final String NEXT_CURSOR_HEADER = "next-cursor";
+
+    @FunctionalInterface
+    interface Loader<T> {
+
+        List<T> load(int afterId, int limit);
+
+    }
+
+    private final List<T> items;
+
+    private final int nextCursor;
+
+    private KeysetPage(List<T> items, int nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Check whether the request asks for a page rather than the complete list.
+     */
+    static boolean isRequested(Integer limit, Integer after) {
+        return limit != null || after != null;
+    }
+
+    static boolean isValid(Integer limit, Integer after) {
+        return (limit == null || (limit >= 1 && limit <= MAX_LIMIT)) && (after == null || after >= 0);
+    }
+
+    static <T extends BaseEntity> KeysetPage<T> load(Loader<T> loader, Integer limit, Integer after) {
+        int pageLimit = limit == null ? DEFAULT_LIMIT : limit;
+        List<T> rows = loader.load(after == null ? 0 : after, pageLimit + 1);
+        if (rows.size() <= pageLimit) {
+            return new KeysetPage<>(rows, 0);
+        }
+        List<T> items = rows.subList(0, pageLimit);
+        return new KeysetPage<>(items, items.get(pageLimit - 1).getId());
+    }
+
+    /**
+     * Iterate over all entities, loading them page by page while iterating, so that at most one page is held in
+     * memory. Every page is read in its own transaction.
+     */
+    static <T extends BaseEntity> Iterable<T> all(Loader<T> loader, int pageSize) {
+        return () -> new PageIterator<>(loader, pageSize, Collections.emptyList(), false);
+    }
+
+    /**
+     * Like {@link #all}, but load the first page right away, so that an empty list is known before the response
+     * is written.
+     *
+     * @return the entities, or <code>null</code> if there are none
+     */
+    static <T extends BaseEntity> Iterable<T> allOrNull(Loader<T> loader, int pageSize) {
+        List<T> first = loader.load(0, pageSize);
+        if (first.isEmpty()) {
+            return null;
+        }
+        return () -> new PageIterator<>(loader, pageSize, first, first.size() < pageSize);
+    }
+
+    List<T> items() {
+        return this.items;
+    }
+
+    int nextCursor() {
+        return this.nextCursor;
+    }
+
+    ResponseEntity<ProtobufStream> delimited(Function<? super T, ? extends MessageLite> mapper) {
+        return ResponseEntity.ok()
+            .contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED)
+            .header(NEXT_CURSOR_HEADER, String.valueOf(this.nextCursor))
+            .body(ProtobufStream.delimited(this.items, mapper));
+    }
+
+    private static final class PageIterator<T extends BaseEntity> implements Iterator<T> {
+
+        private final Loader<T> loader;
+
+        private final int pageSize;
+
+        private Iterator<T> page;
+
+        private int afterId;
+
+        private boolean lastPage;
+
+        PageIterator(Loader<T> loader, int pageSize, List<T> first, boolean lastPage) {
+            this.loader = loader;
+            this.pageSize = pageSize;
+            this.page = first.iterator();
+            this.afterId = first.isEmpty() ? 0 : first.get(first.size() - 1).getId();
+            this.lastPage = lastPage;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!this.page.hasNext() && !this.lastPage) {
+                List<T> rows = this.loader.load(this.afterId, this.pageSize);
+                this.lastPage = rows.size() < this.pageSize;
+                if (!rows.isEmpty()) {
+                    this.afterId = rows.get(rows.size() - 1).getId();
+                }
+                this.page = rows.iterator();
+            }
+            return this.page.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return this.page.next();
+        }
+
+    }
+
+}
@@ -16,20 +16,33 @@
 
 package org.springframework.samples.petclinic.rest.controller;
 
+import com.google.protobuf.Message;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.mapper.ProtoFieldMask;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.mapper.ProtoV2Mapper;
 import org.springframework.samples.petclinic.model.Owner;
 import org.springframework.samples.petclinic.model.Pet;
 import org.springframework.samples.petclinic.model.Visit;
 import org.springframework.samples.petclinic.protobuf.*;
+import org.springframework.samples.petclinic.repository.OwnerRepository;
+import org.springframework.samples.petclinic.repository.ProtoListRepository;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
 import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.EncodedEntityCache;
+import org.springframework.samples.petclinic.service.EntityVersions;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.transaction.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -38,97 +51,180 @@ import java.util.List;
  */
 
 @RestController
-@CrossOrigin(exposedHeaders = "errors, content-type")
+@CrossOrigin(exposedHeaders = "errors, content-type, " + KeysetPage.NEXT_CURSOR_HEADER)
 public class OwnerRestController {
 
     private final ClinicService clinicService;
 
-    public OwnerRestController(ClinicService clinicService) {
-        this.clinicService = clinicService;
-    }
-
-    @GetMapping("owners")
-    public ResponseEntity<ProtoOwners> listOwners() {
-
-        Collection<Owner> owners;
+    private final ObjectProvider<ProtoListRepository> protoListRepository;
 
-        owners = this.clinicService.findAllOwners();
+    private final EntityVersions entityVersions;
 
-        List<ProtoOwner> collection = new ArrayList<>();
+    private final ObjectProvider<RequestCoalescer> requestCoalescer;
 
-        for (Owner owner : owners) {
+    private final EncodedEntityCache encodedEntityCache;
 
-            List<ProtoPet> collection2 = new ArrayList<>();
+    public OwnerRestController(ClinicService clinicService, ObjectProvider<ProtoListRepository> protoListRepository,
+                               EntityVersions entityVersions, ObjectProvider<RequestCoalescer> requestCoalescer,
+                               EncodedEntityCache encodedEntityCache) {
+        this.clinicService = clinicService;
+        this.protoListRepository = protoListRepository;
+        this.entityVersions = entityVersions;
+        this.requestCoalescer = requestCoalescer;
+        this.encodedEntityCache = encodedEntityCache;
+    }
 
-            for (Pet p : owner.getPets()) {
+    @GetMapping("owners")
+    public ResponseEntity<?> listOwners(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                        @RequestParam(value = "limit", required = false) Integer limit,
+                                        @RequestParam(value = "after", required = false) Integer after,
+                                        @RequestParam(value = "fields", required = false) String fields) {
+
+        boolean delimited = ProtobufMediaTypes.isDelimitedRequested(accept);
+        boolean v2 = !delimited && ProtobufMediaTypes.isV2Requested(accept);
+        ProtoFieldMask mask;
+        try {
+            mask = ProtoFieldMask.parse(fields, ProtoOwner.getDescriptor());
+        } catch (IllegalArgumentException ex) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        OwnerRepository.Fetch fetch = ProtoMapper.ownerFetch(mask);
+        KeysetPage.Loader<Owner> loader = mask.isAll() ? this.clinicService::findOwnerPage
+            : (afterId, pageLimit) -> this.clinicService.findOwnerPage(afterId, pageLimit, fetch);
 
-                ProtoPetType protoPetType = ProtoPetType.newBuilder().setId(p.getType().getId()).setName(p.getType().getName()).build();
+        if (KeysetPage.isRequested(limit, after)) {
+            if (!KeysetPage.isValid(limit, after)) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            KeysetPage<Owner> page = KeysetPage.load(loader, limit, after);
+            if (delimited) {
+                return page.delimited(owner -> ProtoMapper.toProtoOwner(owner, mask));
+            }
+            if (v2) {
+                return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_V2)
+                    .body(ProtoV2Mapper.toProtoOwners(page.items(), mask).setNextCursor(page.nextCursor()).build());
+            }
+            ProtoOwnerPage.Builder protoPage = ProtoOwnerPage.newBuilder().setNextCursor(page.nextCursor());
+            for (Owner owner : page.items()) {
+                protoPage.addOwners(ProtoMapper.toProtoOwner(owner, mask));
+            }
+            return new ResponseEntity<>(protoPage.build(), HttpStatus.OK);
+        }
 
-                List<ProtoPetVisit> collection3 = new ArrayList<>();
+        ProtoListRepository encoder = this.protoListRepository.getIfAvailable();
+        boolean json = ProtobufMediaTypes.isJsonRequested(accept);
+        if (encoder != null && mask.isAll() && !v2 && !json) {
+            ProtobufStream stream = out -> encoder.writeOwners(out, delimited);
+            return ResponseEntity.ok()
+                .contentType(delimited ? ProtobufMediaTypes.PROTOBUF_DELIMITED : ProtobufMediaTypes.PROTOBUF)
+                .body(stream);
+        }
 
-                for (Visit v: p.getVisits()) {
-                    ProtoPetVisit protoVisit = ProtoPetVisit.newBuilder().setId(v.getId()).setDate(v.getDate().toString()).
-                        setDescription(v.getDescription()).build();
+        RequestCoalescer coalescer = this.requestCoalescer.getIfAvailable();
+        if (coalescer != null && !delimited && !json) {
+            // only the list messages, which are built in memory anyway; streamed bodies are never buffered
+            String key = (v2 ? "v2" : "v1") + ';' + (mask.isAll() ? "" : fields) + ';'
+                + this.entityVersions.ownersVersion();
+            ProtobufStream body = coalescer.execute("/owners", key, () -> ownerList(v2, mask, fetch));
+            return ResponseEntity.ok()
+                .contentType(v2 ? ProtobufMediaTypes.PROTOBUF_V2 : ProtobufMediaTypes.PROTOBUF)
+                .body(body);
+        }
 
-                    collection3.add(protoVisit);
-                }
+        if (delimited) {
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED)
+                .body(ProtobufStream.delimited(KeysetPage.all(loader, KeysetPage.STREAM_PAGE_SIZE),
+                    owner -> ProtoMapper.toProtoOwner(owner, mask)));
+        }
 
-                ProtoPet protoPet = ProtoPet.newBuilder().setId(p.getId()).setName(p.getName()).setType(protoPetType).
-                    setBirthDate((p.getBirthDate().toString())).setOwnerId(p.getOwner().getId()).addAllVisits(collection3).build();
+        if (v2) {
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_V2).body(ownerList(true, mask, fetch));
+        }
 
-                collection2.add(protoPet);
+        return new ResponseEntity<>(ownerList(false, mask, fetch), HttpStatus.OK);
 
-            }
+    }
 
-            ProtoOwner pOwner = ProtoOwner.newBuilder().setId(owner.getId()).setFirstName(owner.getFirstName()).
-                setLastName(owner.getLastName()).setAddress(owner.getAddress()).setCity(owner.getCity()).setTelephone(owner.getTelephone()).
-                addAllPets(collection2).build();
+    private Message ownerList(boolean v2, ProtoFieldMask mask, OwnerRepository.Fetch fetch) {
+        Collection<Owner> owners = mask.isAll() ? this.clinicService.findAllOwners()
+            : this.clinicService.findAllOwners(fetch);
 
-            collection.add(pOwner);
+        if (v2) {
+            return ProtoV2Mapper.toProtoOwners(owners, mask).build();
         }
 
-        ProtoOwners protoOwners = ProtoOwners.newBuilder().addAllOwners(collection).build();
+        ProtoOwners.Builder protoOwners = ProtoOwners.newBuilder();
 
-        return new ResponseEntity<>(protoOwners, HttpStatus.OK);
+        for (Owner owner : owners) {
+            protoOwners.addOwners(ProtoMapper.toProtoOwner(owner, mask));
+        }
 
+        return protoOwners.build();
     }
 
     @GetMapping("owners/{ownerId}")
-    public ResponseEntity<ProtoOwner> getOwner(@PathVariable("ownerId") Integer ownerId) {
+    public ResponseEntity<?> getOwner(@PathVariable("ownerId") Integer ownerId,
+                                      @RequestParam(value = "fields", required = false) String fields,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        ProtoFieldMask mask;
+        try {
+            mask = ProtoFieldMask.parse(fields, ProtoOwner.getDescriptor());
+        } catch (IllegalArgumentException ex) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        // the canonical mask, so that the same fields requested in another order or naming share the tag
+        String version = this.entityVersions.ownerVersion(ownerId);
+        String eTag = ConditionalGet.eTag(mask.isAll() ? version : version + ';' + mask.toCanonicalString(), accept);
+        if (ConditionalGet.isNotModified(ifNoneMatch, eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
+        if (!mask.isAll()) {
+            Owner owner = this.clinicService.findOwnerById(ownerId, ProtoMapper.ownerFetch(mask));
+            if (owner == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok().eTag(eTag).body(ProtoMapper.toProtoOwner(owner, mask));
+        }
+        // the encoded cache holds the plain protobuf message only
+        if (!ProtobufMediaTypes.isJsonRequested(accept) && !ProtobufMediaTypes.isDelimitedRequested(accept)
+            && !ProtobufMediaTypes.isV2Requested(accept)) {
+            byte[] bytes = this.encodedEntityCache.getOwner(ownerId, this.clinicService::findOwnerById,
+                owner -> ProtoMapper.toProtoOwner(owner).toByteArray());
+            if (bytes == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF).eTag(eTag)
+                .body(ProtobufStream.of(bytes));
+        }
 
         Owner owner = this.clinicService.findOwnerById(ownerId);
         if (owner == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
+        return ResponseEntity.ok().eTag(eTag).body(ProtoMapper.toProtoOwner(owner));
+    }
 
-        List<ProtoPet> collection = new ArrayList<>();
-
-        for (Pet p : owner.getPets()) {
-
-            ProtoPetType protoPetType = ProtoPetType.newBuilder().setId(p.getType().getId()).setName(p.getType().getName()).build();
-
-            List<ProtoPetVisit> collection2 = new ArrayList<>();
-
-            for (Visit v: p.getVisits()) {
-                ProtoPetVisit protoVisit = ProtoPetVisit.newBuilder().setId(v.getId()).setDate(v.getDate().toString()).
-                    setDescription(v.getDescription()).build();
-
-                collection2.add(protoVisit);
-            }
-
-            ProtoPet protoPet = ProtoPet.newBuilder().setId(p.getId()).setName(p.getName()).setType(protoPetType).
-                setBirthDate((p.getBirthDate().toString())).setOwnerId(p.getOwner().getId()).addAllVisits(collection2).build();
-
-            collection.add(protoPet);
-
+    @PostMapping("owners:batchGet")
+    public ResponseEntity<ProtoOwnerBatch> batchGetOwners(@RequestBody ProtoIds protoIds) {
+        List<Integer> ids = protoIds.getIdsList();
+        if (!BatchGet.isValid(ids)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
+        ProtoOwnerBatch.Builder batch = ProtoOwnerBatch.newBuilder();
+        BatchGet.answer(ids, this.clinicService.findOwnersByIds(ids),
+            owner -> batch.addOwners(ProtoMapper.toProtoOwner(owner)), batch::addMissingIds);
+        return new ResponseEntity<>(batch.build(), HttpStatus.OK);
+    }
 
-        ProtoOwner pOwner = ProtoOwner.newBuilder().setId(owner.getId()).setFirstName(owner.getFirstName()).
-            setLastName(owner.getLastName()).setAddress(owner.getAddress()).setCity(owner.getCity()).setTelephone(owner.getTelephone()).
-            addAllPets(collection).build();
-
-        return new ResponseEntity<>(pOwner, HttpStatus.OK);
-
+    /**
+     * Import new owners, pets and visits from a stream of length-delimited <code>ProtoImportRecord</code> messages,
+     * see {@link BulkImport}. Invalid records do not fail the import but are listed in the result.
+     */
+    @PostMapping("owners:import")
+    public ResponseEntity<ProtoImportResult> importOwners(InputStream body) throws IOException {
+        return new ResponseEntity<>(BulkImport.run(body, this.clinicService), HttpStatus.OK);
     }
 
     @PostMapping ("owners")
@@ -158,12 +254,16 @@ public class OwnerRestController {
         if (currentOwner == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        currentOwner.setAddress(protoAddOwner.getAddress());
-        currentOwner.setCity(protoAddOwner.getCity());
-        currentOwner.setFirstName(protoAddOwner.getFirstName());
-        currentOwner.setLastName(protoAddOwner.getLastName());
-        currentOwner.setTelephone(protoAddOwner.getTelephone());
-        this.clinicService.saveOwner(currentOwner);
+        // the found owner may be the cached instance, shared with other requests: save a new one instead
+        Owner owner = new Owner();
+        owner.setId(currentOwner.getId());
+        owner.setPets(currentOwner.getPets());
+        owner.setAddress(protoAddOwner.getAddress());
+        owner.setCity(protoAddOwner.getCity());
+        owner.setFirstName(protoAddOwner.getFirstName());
+        owner.setLastName(protoAddOwner.getLastName());
+        owner.setTelephone(protoAddOwner.getTelephone());
+        this.clinicService.saveOwner(owner);
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
 
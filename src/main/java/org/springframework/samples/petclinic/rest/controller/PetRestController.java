@@ -16,12 +16,20 @@
 
 package org.springframework.samples.petclinic.rest.controller;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.mapper.ProtoV2Mapper;
 import org.springframework.samples.petclinic.model.Pet;
 import org.springframework.samples.petclinic.model.Visit;
 import org.springframework.samples.petclinic.protobuf.*;
+import org.springframework.samples.petclinic.repository.ProtoListRepository;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
 import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.EncodedEntityCache;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -33,71 +41,122 @@ import java.util.List;
  */
 
 @RestController
-@CrossOrigin(exposedHeaders = "errors, content-type")
+@CrossOrigin(exposedHeaders = "errors, content-type, " + KeysetPage.NEXT_CURSOR_HEADER)
 public class PetRestController {
 
     private final ClinicService clinicService;
 
-    public PetRestController(ClinicService clinicService) {
+    private final ObjectProvider<ProtoListRepository> protoListRepository;
+
+    private final EncodedEntityCache encodedEntityCache;
+
+    public PetRestController(ClinicService clinicService, ObjectProvider<ProtoListRepository> protoListRepository,
+                             EncodedEntityCache encodedEntityCache) {
         this.clinicService = clinicService;
+        this.protoListRepository = protoListRepository;
+        this.encodedEntityCache = encodedEntityCache;
     }
 
     @GetMapping("pets")
-    public ResponseEntity<ProtoPets> listPets() {
-
-        List<Pet> pets = new ArrayList<>(this.clinicService.findAllPets());
-        if (pets.isEmpty()) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
+    public ResponseEntity<?> listPets(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                        @RequestParam(value = "limit", required = false) Integer limit,
+                                        @RequestParam(value = "after", required = false) Integer after) {
 
-        List<ProtoPet> collection = new ArrayList<>();
+        boolean delimited = ProtobufMediaTypes.isDelimitedRequested(accept);
+        boolean v2 = !delimited && ProtobufMediaTypes.isV2Requested(accept);
 
-        for (Pet pet : pets) {
+        if (KeysetPage.isRequested(limit, after)) {
+            if (!KeysetPage.isValid(limit, after)) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            KeysetPage<Pet> page = KeysetPage.load(this.clinicService::findPetPage, limit, after);
+            if (delimited) {
+                return page.delimited(ProtoMapper::toProtoPet);
+            }
+            if (v2) {
+                return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_V2)
+                    .body(ProtoV2Mapper.toProtoPets(page.items()).setNextCursor(page.nextCursor()).build());
+            }
+            ProtoPetPage.Builder protoPage = ProtoPetPage.newBuilder().setNextCursor(page.nextCursor());
+            for (Pet pet : page.items()) {
+                protoPage.addPets(ProtoMapper.toProtoPet(pet));
+            }
+            return new ResponseEntity<>(protoPage.build(), HttpStatus.OK);
+        }
 
-            List<ProtoPetVisit> collection2 = new ArrayList<>();
+        ProtoListRepository encoder = this.protoListRepository.getIfAvailable();
+        if (encoder != null && !v2 && !ProtobufMediaTypes.isJsonRequested(accept)) {
+            // like the entity path below, an empty list is answered with 404
+            if (!encoder.hasPets()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            ProtobufStream stream = out -> encoder.writePets(out, delimited);
+            return ResponseEntity.ok()
+                .contentType(delimited ? ProtobufMediaTypes.PROTOBUF_DELIMITED : ProtobufMediaTypes.PROTOBUF)
+                .body(stream);
+        }
 
-            for (Visit v : pet.getVisits()) {
-                ProtoPetVisit vProto = ProtoPetVisit.newBuilder().setId(v.getId()).setDate(v.getDate().toString()).setDescription(v.getDescription()).build();
-                collection2.add(vProto);
+        if (delimited) {
+            Iterable<Pet> pets = KeysetPage.allOrNull(this.clinicService::findPetPage, KeysetPage.STREAM_PAGE_SIZE);
+            if (pets == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
             }
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED)
+                .body(ProtobufStream.delimited(pets, ProtoMapper::toProtoPet));
+        }
 
-            ProtoPetType petTypeProto = ProtoPetType.newBuilder().setId(pet.getType().getId()).setName(pet.getType().getName()).build();
+        List<Pet> pets = new ArrayList<>(this.clinicService.findAllPets());
+        if (pets.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
 
-            ProtoPet petProto = ProtoPet.newBuilder().setId(pet.getId()).setName(pet.getName()).setBirthDate(pet.getBirthDate().toString()).
-                setType(petTypeProto).setOwnerId(pet.getOwner().getId()).addAllVisits(collection2).build();
+        if (v2) {
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_V2)
+                .body(ProtoV2Mapper.toProtoPets(pets).build());
+        }
 
-            collection.add(petProto);
+        ProtoPets.Builder protoPets = ProtoPets.newBuilder();
 
+        for (Pet pet : pets) {
+            protoPets.addPets(ProtoMapper.toProtoPet(pet));
         }
 
-        ProtoPets protoPets = ProtoPets.newBuilder().addAllPets(collection).build();
+        return new ResponseEntity<>(protoPets.build(), HttpStatus.OK);
 
-        return new ResponseEntity<>(protoPets, HttpStatus.OK);
+    }
 
+    @PostMapping("pets:batchGet")
+    public ResponseEntity<ProtoPetBatch> batchGetPets(@RequestBody ProtoIds protoIds) {
+        List<Integer> ids = protoIds.getIdsList();
+        if (!BatchGet.isValid(ids)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        ProtoPetBatch.Builder batch = ProtoPetBatch.newBuilder();
+        BatchGet.answer(ids, this.clinicService.findPetsByIds(ids),
+            pet -> batch.addPets(ProtoMapper.toProtoPet(pet)), batch::addMissingIds);
+        return new ResponseEntity<>(batch.build(), HttpStatus.OK);
     }
 
     @GetMapping("pets/{petId}")
-    public ResponseEntity<ProtoPet> getPet(@PathVariable("petId")Integer petId) {
+    public ResponseEntity<?> getPet(@PathVariable("petId")Integer petId,
+                                    @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+        // the encoded cache holds the plain protobuf message only
+        if (!ProtobufMediaTypes.isJsonRequested(accept) && !ProtobufMediaTypes.isDelimitedRequested(accept)
+            && !ProtobufMediaTypes.isV2Requested(accept)) {
+            byte[] bytes = this.encodedEntityCache.getPet(petId, this.clinicService::findPetById,
+                pet -> ProtoMapper.toProtoPet(pet).toByteArray());
+            if (bytes == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF).body(ProtobufStream.of(bytes));
+        }
 
         Pet pet = this.clinicService.findPetById(petId);
         if (pet == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-
-        List<ProtoPetVisit> collection = new ArrayList<>();
-
-        for (Visit v : pet.getVisits()) {
-            ProtoPetVisit vProto = ProtoPetVisit.newBuilder().setId(v.getId()).setDate(v.getDate().toString()).setDescription(v.getDescription()).build();
-            collection.add(vProto);
-        }
-
-        ProtoPetType petTypeProto = ProtoPetType.newBuilder().setId(pet.getType().getId()).setName(pet.getType().getName()).build();
-
-        ProtoPet petProto = ProtoPet.newBuilder().setId(pet.getId()).setName(pet.getName()).setBirthDate(pet.getBirthDate().toString()).
-            setType(petTypeProto).setOwnerId(pet.getOwner().getId()).addAllVisits(collection).build();
-
-        return new ResponseEntity<>(petProto, HttpStatus.OK);
-
+        return new ResponseEntity<>(ProtoMapper.toProtoPet(pet), HttpStatus.OK);
     }
 
 //    @PostMapping (value = "pets")
@@ -129,15 +188,19 @@ public class PetRestController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        currentPet.setBirthDate(LocalDate.parse(petProto.getBirthDate()));
-        currentPet.setName(petProto.getName());
-        currentPet.setType(this.clinicService.findPetTypeById(petProto.getPetTypeId()));
-        currentPet.setOwner(this.clinicService.findOwnerById(petProto.getOwnerId()));
-        this.clinicService.savePet(currentPet);
+        // the found pet may be the cached instance, shared with other requests: save a new one instead
+        Pet pet = new Pet();
+        pet.setId(currentPet.getId());
+        pet.setVisits(currentPet.getVisits());
+        pet.setBirthDate(LocalDate.parse(petProto.getBirthDate()));
+        pet.setName(petProto.getName());
+        pet.setType(this.clinicService.findPetTypeById(petProto.getPetTypeId()));
+        pet.setOwner(this.clinicService.findOwnerById(petProto.getOwnerId()));
+        this.clinicService.savePet(pet);
 
         List<ProtoPetVisit> collection = new ArrayList<>();
 
-        for (Visit v : currentPet.getVisits()) {
+        for (Visit v : pet.getVisits()) {
             ProtoPetVisit vProto = ProtoPetVisit.newBuilder().setId(v.getId()).setDate(v.getDate().toString()).setDescription(v.getDescription()).build();
             collection.add(vProto);
         }
@@ -16,16 +16,23 @@
 
 package org.springframework.samples.petclinic.rest.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
 import org.springframework.samples.petclinic.model.PetType;
 import org.springframework.samples.petclinic.protobuf.*;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
 import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.EntityVersions;
+import org.springframework.samples.petclinic.service.ReferenceDataCache;
+import org.springframework.samples.petclinic.service.ReferenceDataCache.Region;
 import org.springframework.web.bind.annotation.*;
 
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.function.Supplier;
 
 @RestController
 @CrossOrigin(exposedHeaders = "errors, content-type")
@@ -33,29 +40,59 @@ public class PetTypeRestController {
 
     private final ClinicService clinicService;
 
-    public PetTypeRestController(ClinicService clinicService) {
+    private final ReferenceDataCache referenceDataCache;
+
+    private final EntityVersions entityVersions;
+
+    private final Supplier<ProtobufStream> petTypesEncoder = this::encodePetTypes;
+
+    public PetTypeRestController(ClinicService clinicService, ReferenceDataCache referenceDataCache,
+                                 EntityVersions entityVersions) {
         this.clinicService = clinicService;
+        this.referenceDataCache = referenceDataCache;
+        this.entityVersions = entityVersions;
     }
 
     @GetMapping("pettypes")
-    public ResponseEntity<ProtoPetTypes> listPetTypes() {
+    public ResponseEntity<?> listPetTypes(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        List<PetType> petTypes = new ArrayList<>(this.clinicService.findAllPetTypes());
-        if (petTypes.isEmpty()) {
+        String eTag = ConditionalGet.eTag(this.entityVersions.petTypesVersion(), accept);
+        if (ConditionalGet.isNotModified(ifNoneMatch, eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
+        if (ProtobufMediaTypes.isJsonRequested(accept)) {
+            // only the encoded protobuf list is cached, JSON is written from the message
+            ProtoPetTypes petTypes = petTypeList();
+            if (petTypes == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok().eTag(eTag).body(petTypes);
+        }
+        ProtobufStream petTypes = this.referenceDataCache.get(Region.PET_TYPES, this.petTypesEncoder);
+        if (petTypes == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        List<ProtoPetType> collection = new ArrayList<>();
-
-        for (PetType petType : petTypes) {
-            ProtoPetType petTypeProto = ProtoPetType.newBuilder().setId(petType.getId()).setName(petType.getName()).build();
-            collection.add(petTypeProto);
-        }
+        return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF).eTag(eTag).body(petTypes);
 
-        ProtoPetTypes lp = ProtoPetTypes.newBuilder().addAllPetTypes(collection).build();
+    }
 
-        return new ResponseEntity<>(lp, HttpStatus.OK);
+    private ProtobufStream encodePetTypes() {
+        ProtoPetTypes petTypes = petTypeList();
+        return petTypes != null ? ProtobufStream.of(petTypes) : null;
+    }
 
+    private ProtoPetTypes petTypeList() {
+        Collection<PetType> petTypes = this.clinicService.findAllPetTypes();
+        if (petTypes.isEmpty()) {
+            return null;
+        }
+        ProtoPetTypes.Builder builder = ProtoPetTypes.newBuilder();
+        for (PetType petType : petTypes) {
+            builder.addPetTypes(ProtoMapper.toProtoPetType(petType));
+        }
+        return builder.build();
     }
 
     @GetMapping("pettypes/{petTypeId}")
@@ -94,8 +131,11 @@ public class PetTypeRestController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        currentPetType.setName(petTypeProto.getName());
-        this.clinicService.savePetType(currentPetType);
+        // the found pet type may be the cached instance, shared with other requests: save a new one instead
+        PetType petType = new PetType();
+        petType.setId(currentPetType.getId());
+        petType.setName(petTypeProto.getName());
+        this.clinicService.savePetType(petType);
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.controller;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.google.protobuf.MessageLite;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
+
+/**
+ * Single-flight execution of identical concurrent reads: while a read is in flight, requests for the same endpoint
+ * and key wait for it instead of loading and encoding the same body again, and all of them write the same bytes.
+ * The first request runs the read on its own thread. The read returns a message, which is encoded once into the
+ * body shared by all requests, so the others can write it at their own pace. Nothing is kept once the read
+ * completes: a later request starts a new read.
+ * <p>
+ * Only reads that build their body as one message anyway are coalesced. A body streamed while the response is
+ * written would have to be buffered for the waiters, which costs more than the read it saves.
+ * <p>
+ * If the read fails, every waiting request fails with the same exception. A request waits at most for the
+ * configured timeout and then fails with {@link WaitTimeoutException}, answered with 503, rather than piling up
+ * behind a slow read.
+ * <p>
+ * Per endpoint, requests are counted in <code>petclinic.coalescing.requests</code>, tagged with their
+ * <code>role</code>, <code>leader</code> if it ran the read or <code>follower</code> if it was coalesced into
+ * another request, and with their <code>outcome</code>: <code>success</code>, <code>error</code> or
+ * <code>timeout</code>.
+ */
+public class RequestCoalescer {
+
+    private final MeterRegistry registry;
+
+    private final Duration timeout;
+
+    private final ConcurrentMap<String, CompletableFuture<ProtobufStream>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param timeout how long a request waits for a read in flight
+     */
+    public RequestCoalescer(MeterRegistry registry, Duration timeout) {
+        this.registry = registry;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Run the read, or wait for the identical read in flight, and return its encoded body.
+     *
+     * @param endpoint the URI pattern, such as <code>/owners</code>
+     * @param key      everything the body depends on besides the endpoint: the format, the parameters and the
+     *                 version of the data, so that a request never joins a read that started before the last write
+     * @param read     the read, which returns the message or <code>null</code> if there is none
+     * @return the encoded message, shared by all requests coalesced into the read, or <code>null</code>
+     * @throws WaitTimeoutException if the read in flight did not complete within the timeout
+     */
+    public ProtobufStream execute(String endpoint, String key, Supplier<? extends MessageLite> read) {
+        String flightKey = endpoint + '\n' + key;
+        CompletableFuture<ProtobufStream> flight = new CompletableFuture<>();
+        CompletableFuture<ProtobufStream> running = this.inFlight.putIfAbsent(flightKey, flight);
+        if (running != null) {
+            return follow(endpoint, running);
+        }
+        try {
+            MessageLite message = read.get();
+            ProtobufStream body = message != null ? ProtobufStream.of(message) : null;
+            flight.complete(body);
+            count(endpoint, "leader", "success");
+            return body;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            count(endpoint, "leader", "error");
+            throw ex;
+        } finally {
+            this.inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private ProtobufStream follow(String endpoint, CompletableFuture<ProtobufStream> flight) {
+        try {
+            ProtobufStream body = flight.get(this.timeout.toNanos(), TimeUnit.NANOSECONDS);
+            count(endpoint, "follower", "success");
+            return body;
+        } catch (TimeoutException ex) {
+            count(endpoint, "follower", "timeout");
+            throw new WaitTimeoutException(endpoint, this.timeout);
+        } catch (ExecutionException ex) {
+            count(endpoint, "follower", "error");
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + endpoint, ex);
+        }
+    }
+
+    private void count(String endpoint, String role, String outcome) {
+        this.registry.counter("petclinic.coalescing.requests", "endpoint", endpoint, "role", role, "outcome", outcome)
+            .increment();
+    }
+
+    /**
+     * Thrown to a request that waited longer than the timeout for the read it was coalesced into.
+     */
+    public static class WaitTimeoutException extends RuntimeException {
+
+        public WaitTimeoutException(String endpoint, Duration timeout) {
+            super("The read of " + endpoint + " in flight did not complete within " + timeout);
+        }
+
+    }
+
+}
@@ -16,15 +16,21 @@
 
 package org.springframework.samples.petclinic.rest.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
 import org.springframework.samples.petclinic.model.Specialty;
 import org.springframework.samples.petclinic.protobuf.*;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
 import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.ReferenceDataCache;
+import org.springframework.samples.petclinic.service.ReferenceDataCache.Region;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.function.Supplier;
 
 /**
  * @author Vitaliy Fedoriv
@@ -36,30 +42,50 @@ public class SpecialtyRestController {
 
     private final ClinicService clinicService;
 
-    public SpecialtyRestController(ClinicService clinicService) {
+    private final ReferenceDataCache referenceDataCache;
+
+    private final Supplier<ProtobufStream> specialtiesEncoder = this::encodeSpecialties;
+
+    public SpecialtyRestController(ClinicService clinicService, ReferenceDataCache referenceDataCache) {
         this.clinicService = clinicService;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @GetMapping("specialties")
-    public ResponseEntity<ProtoSpecialties> listSpecialties() {
-
-        List<Specialty> specialties = new ArrayList<>(this.clinicService.findAllSpecialties());
-
-        if (specialties.isEmpty()) {
+    public ResponseEntity<?> listSpecialties(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+        if (ProtobufMediaTypes.isJsonRequested(accept)) {
+            // only the encoded protobuf list is cached, JSON is written from the message
+            ProtoSpecialties specialties = specialtyList();
+            if (specialties == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return new ResponseEntity<>(specialties, HttpStatus.OK);
+        }
+        ProtobufStream specialties = this.referenceDataCache.get(Region.SPECIALTIES, this.specialtiesEncoder);
+        if (specialties == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        List<ProtoSpecialty> collection = new ArrayList<>();
-
-        for (Specialty specialty : specialties) {
-            ProtoSpecialty specialtyProto = ProtoSpecialty.newBuilder().setId(specialty.getId()).setName(specialty.getName()).build();
-            collection.add(specialtyProto);
-        }
+        return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF).body(specialties);
 
-        ProtoSpecialties ls = ProtoSpecialties.newBuilder().addAllSpecialties(collection).build();
+    }
 
-        return new ResponseEntity<>(ls, HttpStatus.OK);
+    private ProtobufStream encodeSpecialties() {
+        ProtoSpecialties specialties = specialtyList();
+        return specialties != null ? ProtobufStream.of(specialties) : null;
+    }
 
+    private ProtoSpecialties specialtyList() {
+        Collection<Specialty> specialties = this.clinicService.findAllSpecialties();
+        if (specialties.isEmpty()) {
+            return null;
+        }
+        ProtoSpecialties.Builder builder = ProtoSpecialties.newBuilder();
+        for (Specialty specialty : specialties) {
+            builder.addSpecialties(ProtoMapper.toProtoSpecialty(specialty));
+        }
+        return builder.build();
     }
 
     @GetMapping("specialties/{specialtyId}")
@@ -98,8 +124,11 @@ public class SpecialtyRestController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        currentSpecialty.setName(protoAdd.getName());
-        this.clinicService.saveSpecialty(currentSpecialty);
+        // the found specialty may be the cached instance, shared with other requests: save a new one instead
+        Specialty specialty = new Specialty();
+        specialty.setId(currentSpecialty.getId());
+        specialty.setName(protoAdd.getName());
+        this.clinicService.saveSpecialty(specialty);
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
 
@@ -15,13 +15,19 @@
  */
 package org.springframework.samples.petclinic.rest.controller;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
 import org.springframework.samples.petclinic.model.Specialty;
 import org.springframework.samples.petclinic.model.Vet;
 import org.springframework.samples.petclinic.protobuf.*;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
 import org.springframework.samples.petclinic.rest.dto.VetDto;
 import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.EntityVersions;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
@@ -32,46 +38,89 @@ import java.util.List;
  */
 
 @RestController
-@CrossOrigin(exposedHeaders = "errors, content-type")
+@CrossOrigin(exposedHeaders = "errors, content-type, " + KeysetPage.NEXT_CURSOR_HEADER)
 public class VetRestController {
 
     private final ClinicService clinicService;
 
-    public VetRestController(ClinicService clinicService) {
+    private final EntityVersions entityVersions;
+
+    private final ObjectProvider<RequestCoalescer> requestCoalescer;
+
+    public VetRestController(ClinicService clinicService, EntityVersions entityVersions,
+                             ObjectProvider<RequestCoalescer> requestCoalescer) {
         this.clinicService = clinicService;
+        this.entityVersions = entityVersions;
+        this.requestCoalescer = requestCoalescer;
     }
 
     @GetMapping("vets")
-    public ResponseEntity<ProtoVets> listVets() {
+    public ResponseEntity<?> listVets(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                        @RequestParam(value = "limit", required = false) Integer limit,
+                                        @RequestParam(value = "after", required = false) Integer after) {
+
+        if (KeysetPage.isRequested(limit, after)) {
+            if (!KeysetPage.isValid(limit, after)) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            KeysetPage<Vet> page = KeysetPage.load(this.clinicService::findVetPage, limit, after);
+            if (ProtobufMediaTypes.isDelimitedRequested(accept)) {
+                return page.delimited(ProtoMapper::toProtoVet);
+            }
+            ProtoVetPage.Builder protoPage = ProtoVetPage.newBuilder().setNextCursor(page.nextCursor());
+            for (Vet vet : page.items()) {
+                protoPage.addVets(ProtoMapper.toProtoVet(vet));
+            }
+            return new ResponseEntity<>(protoPage.build(), HttpStatus.OK);
+        }
 
-        List<Vet> vets = new ArrayList<>(this.clinicService.findAllVets());
+        String eTag = ConditionalGet.eTag(this.entityVersions.vetsVersion(), accept);
+        if (ConditionalGet.isNotModified(ifNoneMatch, eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
 
-        if (vets.isEmpty()) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        if (ProtobufMediaTypes.isDelimitedRequested(accept)) {
+            // streamed page by page in id order, so neither the vets nor the body are held in memory as a whole
+            Iterable<Vet> vets = KeysetPage.allOrNull(this.clinicService::findVetPage, KeysetPage.STREAM_PAGE_SIZE);
+            if (vets == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED).eTag(eTag)
+                .body(ProtobufStream.delimited(vets, ProtoMapper::toProtoVet));
         }
 
-        List<ProtoVet> collection = new ArrayList<>();
+        RequestCoalescer coalescer = this.requestCoalescer.getIfAvailable();
+        if (coalescer != null && !ProtobufMediaTypes.isJsonRequested(accept)) {
+            // the entity tag already tells the formats and versions apart
+            ProtobufStream body = coalescer.execute("/vets", eTag, () -> {
+                List<Vet> vets = new ArrayList<>(this.clinicService.findAllVets());
+                return vets.isEmpty() ? null : vetList(vets);
+            });
+            if (body == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF).eTag(eTag).body(body);
+        }
 
-        for (Vet vet : vets) {
+        List<Vet> vets = new ArrayList<>(this.clinicService.findAllVets());
 
-            List<ProtoSpecialty> collection2 = new ArrayList<>();
+        if (vets.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
 
-            for (Specialty s : vet.getSpecialties()) {
-                ProtoSpecialty vProto = ProtoSpecialty.newBuilder().setId(s.getId()).setName(s.getName()).build();
-                collection2.add(vProto);
-            }
+        return ResponseEntity.ok().eTag(eTag).body(vetList(vets));
 
-            ProtoVet vetProto = ProtoVet.newBuilder().setId(vet.getId()).setFirstName(vet.getFirstName()).setLastName(vet.getLastName())
-                .addAllSpecialties(collection2).build();
+    }
 
-            collection.add(vetProto);
+    private static ProtoVets vetList(List<Vet> vets) {
+        ProtoVets.Builder protoVets = ProtoVets.newBuilder();
 
+        for (Vet vet : vets) {
+            protoVets.addVets(ProtoMapper.toProtoVet(vet));
         }
 
-        ProtoVets protoVets = ProtoVets.newBuilder().addAllVets(collection).build();
-
-        return new ResponseEntity<>(protoVets, HttpStatus.OK);
-
+        return protoVets.build();
     }
 
     @GetMapping("vets/{vetId}")
@@ -138,9 +187,11 @@ public class VetRestController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        currentVet.setFirstName(protoAdd.getFirstName());
-        currentVet.setLastName(protoAdd.getLastName());
-        currentVet.clearSpecialties();
+        // the found vet may be the cached instance, shared with other requests: save a new one instead
+        Vet vet = new Vet();
+        vet.setId(currentVet.getId());
+        vet.setFirstName(protoAdd.getFirstName());
+        vet.setLastName(protoAdd.getLastName());
 
         for (ProtoSpecialty ps : protoAdd.getSpecialtiesList()) {
 
@@ -148,7 +199,7 @@ public class VetRestController {
 
                 if(s.getName().equals(ps.getName())){
 
-                    currentVet.addSpecialty(s);
+                    vet.addSpecialty(s);
 
                 }
 
@@ -156,7 +207,7 @@ public class VetRestController {
 
         }
 
-        this.clinicService.saveVet(currentVet);
+        this.clinicService.saveVet(vet);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
 
     }
@@ -16,10 +16,17 @@
 
 package org.springframework.samples.petclinic.rest.controller;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.mapper.ProtoV2Mapper;
 import org.springframework.samples.petclinic.model.Visit;
 import org.springframework.samples.petclinic.protobuf.*;
+import org.springframework.samples.petclinic.repository.ProtoListRepository;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
 import org.springframework.samples.petclinic.service.ClinicService;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,34 +39,82 @@ import java.util.List;
  */
 
 @RestController
-@CrossOrigin(exposedHeaders = "errors, content-type")
+@CrossOrigin(exposedHeaders = "errors, content-type, " + KeysetPage.NEXT_CURSOR_HEADER)
 public class VisitRestController {
 
     private final ClinicService clinicService;
 
-    public VisitRestController(ClinicService clinicService) {
+    private final ObjectProvider<ProtoListRepository> protoListRepository;
+
+    public VisitRestController(ClinicService clinicService, ObjectProvider<ProtoListRepository> protoListRepository) {
         this.clinicService = clinicService;
+        this.protoListRepository = protoListRepository;
     }
 
     @GetMapping("visits")
-    public ResponseEntity<ProtoVisits> listVisits() {
+    public ResponseEntity<?> listVisits(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                        @RequestParam(value = "limit", required = false) Integer limit,
+                                        @RequestParam(value = "after", required = false) Integer after) {
+        boolean delimited = ProtobufMediaTypes.isDelimitedRequested(accept);
+        boolean v2 = !delimited && ProtobufMediaTypes.isV2Requested(accept);
+
+        if (KeysetPage.isRequested(limit, after)) {
+            if (!KeysetPage.isValid(limit, after)) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            KeysetPage<Visit> page = KeysetPage.load(this.clinicService::findVisitPage, limit, after);
+            if (delimited) {
+                return page.delimited(ProtoMapper::toProtoVisit);
+            }
+            if (v2) {
+                return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_V2)
+                    .body(ProtoV2Mapper.toProtoVisits(page.items()).setNextCursor(page.nextCursor()).build());
+            }
+            ProtoVisitPage.Builder protoPage = ProtoVisitPage.newBuilder().setNextCursor(page.nextCursor());
+            for (Visit visit : page.items()) {
+                protoPage.addVisits(ProtoMapper.toProtoVisit(visit));
+            }
+            return new ResponseEntity<>(protoPage.build(), HttpStatus.OK);
+        }
+
+        ProtoListRepository encoder = this.protoListRepository.getIfAvailable();
+        if (encoder != null && !v2 && !ProtobufMediaTypes.isJsonRequested(accept)) {
+            // like the entity path below, an empty list is answered with 404
+            if (!encoder.hasVisits()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            ProtobufStream stream = out -> encoder.writeVisits(out, delimited);
+            return ResponseEntity.ok()
+                .contentType(delimited ? ProtobufMediaTypes.PROTOBUF_DELIMITED : ProtobufMediaTypes.PROTOBUF)
+                .body(stream);
+        }
+
+        if (delimited) {
+            Iterable<Visit> visits = KeysetPage.allOrNull(this.clinicService::findVisitPage, KeysetPage.STREAM_PAGE_SIZE);
+            if (visits == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED)
+                .body(ProtobufStream.delimited(visits, ProtoMapper::toProtoVisit));
+        }
+
         List<Visit> visits = new ArrayList<>(this.clinicService.findAllVisits());
         if (visits.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        List<ProtoVisit> collection = new ArrayList<>();
+        if (v2) {
+            return ResponseEntity.ok().contentType(ProtobufMediaTypes.PROTOBUF_V2)
+                .body(ProtoV2Mapper.toProtoVisits(visits).build());
+        }
 
-        for (Visit v: visits) {
-            ProtoVisit protoVisit = ProtoVisit.newBuilder().setId(v.getId()).setDate(v.getDate().toString()).
-                setDescription(v.getDescription()).setPetId(v.getPet().getId()).build();
+        ProtoVisits.Builder protoVisits = ProtoVisits.newBuilder();
 
-            collection.add(protoVisit);
+        for (Visit v: visits) {
+            protoVisits.addVisits(ProtoMapper.toProtoVisit(v));
         }
 
-        ProtoVisits protoVisits = ProtoVisits.newBuilder().addAllVisits(collection).build();
-
-        return new ResponseEntity<>(protoVisits, HttpStatus.OK);
+        return new ResponseEntity<>(protoVisits.build(), HttpStatus.OK);
 
     }
 
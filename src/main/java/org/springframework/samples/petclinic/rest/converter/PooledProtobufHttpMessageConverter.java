@@ -0,0 +1,196 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.converter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+
+/**
+ * {@link ProtobufHttpMessageConverter} that reads and writes the binary protobuf format without per-request buffers.
+ * Other formats, such as JSON, are left to the superclass.
+ * <p>
+ * A message is written with a <code>Content-Length</code> taken from its memoized
+ * {@link Message#getSerializedSize() serialized size}. Messages of up to {@value #BUFFER_SIZE} bytes, which covers
+ * single owners, pets and visits, are encoded into a pooled buffer and written to the response in one call, instead
+ * of through a {@link CodedOutputStream} allocated over the response stream. Requests of known length up to the same
+ * size are read into a pooled buffer and parsed from there with the parser of the message type, without the
+ * intermediate builder of the superclass. Larger and chunked requests are parsed from the stream by a
+ * {@link CodedInputStream} limited to {@link #getMaxMessageSize()} bytes. Large responses can be compressed with
+ * {@link #setResponseCompression}.
+ */
+public class PooledProtobufHttpMessageConverter extends ProtobufHttpMessageConverter {
+
+    public static final int BUFFER_SIZE = 8192;
+
+    public static final int DEFAULT_MAX_MESSAGE_SIZE = 4 << 20;
+
+    private static final int POOL_SIZE = 64;
+
+    private final BlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private final Map<Class<?>, Parser<? extends Message>> parsers = new ConcurrentHashMap<>();
+
+    private final ExtensionRegistry extensionRegistry;
+
+    private final int maxMessageSize;
+
+    private ResponseCompression responseCompression;
+
+    public PooledProtobufHttpMessageConverter() {
+        this(ExtensionRegistry.newInstance(), DEFAULT_MAX_MESSAGE_SIZE);
+    }
+
+    public PooledProtobufHttpMessageConverter(ExtensionRegistry extensionRegistry, int maxMessageSize) {
+        super(extensionRegistry);
+        this.extensionRegistry = extensionRegistry;
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    public int getMaxMessageSize() {
+        return this.maxMessageSize;
+    }
+
+    /**
+     * Compress large binary responses, see {@link ResponseCompression}.
+     */
+    public void setResponseCompression(ResponseCompression responseCompression) {
+        this.responseCompression = responseCompression;
+    }
+
+    @Override
+    protected Long getContentLength(Message message, MediaType contentType) {
+        return isBinary(contentType) ? (long) message.getSerializedSize() : null;
+    }
+
+    @Override
+    protected Message readInternal(Class<? extends Message> clazz, HttpInputMessage inputMessage)
+        throws IOException, HttpMessageNotReadableException {
+
+        if (!isBinary(inputMessage.getHeaders().getContentType())) {
+            return super.readInternal(clazz, inputMessage);
+        }
+        Parser<? extends Message> parser = getParser(clazz);
+        long contentLength = inputMessage.getHeaders().getContentLength();
+        if (contentLength > this.maxMessageSize) {
+            throw new HttpMessageNotReadableException(
+                "Message of " + contentLength + " bytes exceeds the limit of " + this.maxMessageSize, inputMessage);
+        }
+        InputStream body = inputMessage.getBody();
+        try {
+            if (contentLength >= 0 && contentLength <= BUFFER_SIZE) {
+                int length = (int) contentLength;
+                byte[] buffer = acquire();
+                try {
+                    if (body.readNBytes(buffer, 0, length) < length) {
+                        throw new HttpMessageNotReadableException("Message shorter than its Content-Length",
+                            inputMessage);
+                    }
+                    return parser.parseFrom(buffer, 0, length, this.extensionRegistry);
+                } finally {
+                    release(buffer);
+                }
+            }
+            CodedInputStream input = CodedInputStream.newInstance(body);
+            input.setSizeLimit(this.maxMessageSize);
+            return parser.parseFrom(input, this.extensionRegistry);
+        } catch (InvalidProtocolBufferException ex) {
+            throw new HttpMessageNotReadableException("Could not read protobuf message: " + ex.getMessage(), ex,
+                inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Message message, HttpOutputMessage outputMessage) throws IOException {
+        HttpHeaders headers = outputMessage.getHeaders();
+        if (!isBinary(headers.getContentType())) {
+            super.writeInternal(message, outputMessage);
+            return;
+        }
+        headers.set(X_PROTOBUF_SCHEMA_HEADER, message.getDescriptorForType().getFile().getName());
+        headers.set(X_PROTOBUF_MESSAGE_HEADER, message.getDescriptorForType().getFullName());
+        int size = message.getSerializedSize();
+        if (this.responseCompression == null) {
+            writeBinary(message, size, outputMessage.getBody());
+            return;
+        }
+        try (OutputStream body = this.responseCompression.encode(outputMessage, size)) {
+            writeBinary(message, size, body);
+        }
+    }
+
+    private void writeBinary(Message message, int size, OutputStream body) throws IOException {
+        if (size > BUFFER_SIZE) {
+            CodedOutputStream output = CodedOutputStream.newInstance(body, BUFFER_SIZE);
+            message.writeTo(output);
+            output.flush();
+            return;
+        }
+        byte[] buffer = acquire();
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer, 0, size);
+            message.writeTo(output);
+            output.checkNoSpaceLeft();
+            body.write(buffer, 0, size);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    private static boolean isBinary(MediaType contentType) {
+        return contentType == null || PROTOBUF.isCompatibleWith(contentType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Parser<? extends Message> getParser(Class<? extends Message> clazz) {
+        return this.parsers.computeIfAbsent(clazz, messageClass -> {
+            try {
+                return ((Message) messageClass.getMethod("getDefaultInstance").invoke(null)).getParserForType();
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+                throw new IllegalStateException("No protobuf message class: " + messageClass, ex);
+            }
+        });
+    }
+
+    private byte[] acquire() {
+        byte[] buffer = this.buffers.poll();
+        return buffer != null ? buffer : new byte[BUFFER_SIZE];
+    }
+
+    private void release(byte[] buffer) {
+        this.buffers.offer(buffer);
+    }
+
+}
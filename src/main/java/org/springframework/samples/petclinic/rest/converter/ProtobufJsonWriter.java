@@ -0,0 +1,345 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Writes protobuf messages as JSON in the proto3 mapping: fields under their JSON name (<code>firstName</code>),
+ * fields with default values omitted, 64-bit integers as strings, enums by name and bytes in base64.
+ * <p>
+ * Instead of reading every field through the reflective accessors of the message, as generic formatters do, the
+ * message is serialized by its generated code and its wire format is transcoded to JSON in one pass. Per message
+ * type, the field descriptors are indexed by field number and the quoted field names encoded once. Strings are
+ * copied as UTF-8 bytes, escaping only quotes, backslashes and control characters, without decoding them.
+ * <p>
+ * The transcoding relies on the Java encoder writing fields in field-number order and the elements of a repeated
+ * field one after another, so it is meant for messages serialized in this process. Map fields, which the petclinic
+ * schemas do not use, are written as arrays of <code>key</code>/<code>value</code> entries, and well-known types such as
+ * <code>Timestamp</code> as ordinary messages.
+ */
+public final class ProtobufJsonWriter {
+
+    private static final Map<Descriptor, Fields> FIELDS = new ConcurrentHashMap<>();
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] in;
+
+    private int position;
+
+    private byte[] out;
+
+    private int size;
+
+    private ProtobufJsonWriter(byte[] in) {
+        this.in = in;
+        // JSON of the petclinic messages is a little over twice the size of their wire format
+        this.out = new byte[64 + in.length * 5 / 2];
+    }
+
+    public static void write(Message message, OutputStream out) throws IOException {
+        ProtobufJsonWriter writer = transcode(message);
+        out.write(writer.out, 0, writer.size);
+    }
+
+    public static String toJson(Message message) {
+        ProtobufJsonWriter writer = transcode(message);
+        return new String(writer.out, 0, writer.size, StandardCharsets.UTF_8);
+    }
+
+    private static ProtobufJsonWriter transcode(Message message) {
+        byte[] bytes = message.toByteArray();
+        ProtobufJsonWriter writer = new ProtobufJsonWriter(bytes);
+        writer.writeMessage(fields(message.getDescriptorForType()), bytes.length);
+        return writer;
+    }
+
+    private static Fields fields(Descriptor descriptor) {
+        return FIELDS.computeIfAbsent(descriptor, Fields::new);
+    }
+
+    private void writeMessage(Fields fields, int limit) {
+        writeByte('{');
+        boolean first = true;
+        int openArray = 0;
+        while (this.position < limit) {
+            int tag = readVarint32();
+            int number = WireFormat.getTagFieldNumber(tag);
+            int wireType = WireFormat.getTagWireType(tag);
+            FieldDescriptor field = fields.get(number);
+            if (field == null) {
+                skip(wireType);
+                continue;
+            }
+            if (number == openArray) {
+                writeByte(',');
+            } else {
+                if (openArray != 0) {
+                    writeByte(']');
+                    openArray = 0;
+                }
+                if (!first) {
+                    writeByte(',');
+                }
+                first = false;
+                writeBytes(fields.names[number]);
+                if (field.isRepeated()) {
+                    writeByte('[');
+                    openArray = number;
+                }
+            }
+            if (field.isRepeated() && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED && field.isPackable()) {
+                int end = readVarint32() + this.position;
+                int packedWireType = field.getLiteType().getWireType();
+                for (boolean firstElement = true; this.position < end; firstElement = false) {
+                    if (!firstElement) {
+                        writeByte(',');
+                    }
+                    writeValue(field, packedWireType);
+                }
+            } else {
+                writeValue(field, wireType);
+            }
+        }
+        if (openArray != 0) {
+            writeByte(']');
+        }
+        writeByte('}');
+    }
+
+    private void writeValue(FieldDescriptor field, int wireType) {
+        switch (field.getType()) {
+            case INT32 -> writeInt((int) readVarint64());
+            case SINT32 -> writeInt(decodeZigZag32(readVarint32()));
+            case SFIXED32 -> writeInt(readFixed32());
+            case UINT32 -> writeAscii(Integer.toUnsignedString((int) readVarint64()));
+            case FIXED32 -> writeAscii(Integer.toUnsignedString(readFixed32()));
+            case INT64 -> writeQuoted(Long.toString(readVarint64()));
+            case SINT64 -> writeQuoted(Long.toString(decodeZigZag64(readVarint64())));
+            case SFIXED64 -> writeQuoted(Long.toString(readFixed64()));
+            case UINT64 -> writeQuoted(Long.toUnsignedString(readVarint64()));
+            case FIXED64 -> writeQuoted(Long.toUnsignedString(readFixed64()));
+            case BOOL -> writeAscii(readVarint64() != 0 ? "true" : "false");
+            case FLOAT -> writeFloatingPoint(Float.intBitsToFloat(readFixed32()));
+            case DOUBLE -> writeFloatingPoint(Double.longBitsToDouble(readFixed64()));
+            case STRING -> writeString(readVarint32());
+            case BYTES -> {
+                int length = readVarint32();
+                writeByte('"');
+                writeBytes(Base64.getEncoder().encode(Arrays.copyOfRange(this.in, this.position, this.position + length)));
+                writeByte('"');
+                this.position += length;
+            }
+            case ENUM -> {
+                int number = (int) readVarint64();
+                EnumValueDescriptor value = field.getEnumType().findValueByNumber(number);
+                if (value != null) {
+                    writeQuoted(value.getName());
+                } else {
+                    writeAscii(Integer.toString(number));
+                }
+            }
+            case MESSAGE -> {
+                int length = readVarint32();
+                writeMessage(fields(field.getMessageType()), this.position + length);
+            }
+            default -> throw new IllegalArgumentException(
+                "Unsupported field type " + field.getType() + " of " + field.getFullName());
+        }
+    }
+
+    private void writeFloatingPoint(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeQuoted(Double.isNaN(value) ? "NaN" : value > 0 ? "Infinity" : "-Infinity");
+        } else {
+            writeAscii(Double.toString(value));
+        }
+    }
+
+    /**
+     * Copy a UTF-8 string of the given length from the input, as a JSON string. Multi-byte sequences never contain
+     * bytes below 0x80, so they are copied unchanged.
+     */
+    private void writeString(int length) {
+        ensureCapacity(length * 6 + 2);
+        byte[] out = this.out;
+        int size = this.size;
+        out[size++] = '"';
+        for (int end = this.position + length; this.position < end; this.position++) {
+            byte b = this.in[this.position];
+            if (b == '"' || b == '\\') {
+                out[size++] = '\\';
+                out[size++] = b;
+            } else if (b >= 0 && b < 0x20) {
+                out[size++] = '\\';
+                switch (b) {
+                    case '\n' -> out[size++] = 'n';
+                    case '\r' -> out[size++] = 'r';
+                    case '\t' -> out[size++] = 't';
+                    default -> {
+                        out[size++] = 'u';
+                        out[size++] = '0';
+                        out[size++] = '0';
+                        out[size++] = HEX[b >> 4];
+                        out[size++] = HEX[b & 0xF];
+                    }
+                }
+            } else {
+                out[size++] = b;
+            }
+        }
+        out[size++] = '"';
+        this.size = size;
+    }
+
+    private void writeInt(int value) {
+        if (value < 0) {
+            if (value == Integer.MIN_VALUE) {
+                writeAscii(Integer.toString(value));
+                return;
+            }
+            writeByte('-');
+            value = -value;
+        }
+        int digits = 1;
+        for (int bound = 10; digits < 10 && value >= bound; bound *= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        for (int i = this.size + digits - 1; i >= this.size; i--) {
+            this.out[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        this.size += digits;
+    }
+
+    private void writeQuoted(String ascii) {
+        writeByte('"');
+        writeAscii(ascii);
+        writeByte('"');
+    }
+
+    private void writeAscii(String ascii) {
+        int length = ascii.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            this.out[this.size++] = (byte) ascii.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.out, this.size, bytes.length);
+        this.size += bytes.length;
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        this.out[this.size++] = (byte) c;
+    }
+
+    private void ensureCapacity(int length) {
+        if (this.size + length > this.out.length) {
+            this.out = Arrays.copyOf(this.out, Math.max(this.out.length * 2, this.size + length));
+        }
+    }
+
+    private void skip(int wireType) {
+        switch (wireType) {
+            case WireFormat.WIRETYPE_VARINT -> readVarint64();
+            case WireFormat.WIRETYPE_FIXED32 -> this.position += 4;
+            case WireFormat.WIRETYPE_FIXED64 -> this.position += 8;
+            case WireFormat.WIRETYPE_LENGTH_DELIMITED -> this.position += readVarint32();
+            default -> throw new IllegalArgumentException("Unsupported wire type " + wireType);
+        }
+    }
+
+    private int readVarint32() {
+        return (int) readVarint64();
+    }
+
+    private long readVarint64() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = this.in[this.position++];
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private int readFixed32() {
+        int position = this.position;
+        this.position += 4;
+        return (this.in[position] & 0xFF) | (this.in[position + 1] & 0xFF) << 8
+            | (this.in[position + 2] & 0xFF) << 16 | (this.in[position + 3] & 0xFF) << 24;
+    }
+
+    private long readFixed64() {
+        return (readFixed32() & 0xFFFFFFFFL) | (long) readFixed32() << 32;
+    }
+
+    private static int decodeZigZag32(int n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    private static long decodeZigZag64(long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    /**
+     * The fields of a message type by number, with their names encoded as <code>"jsonName":</code>.
+     */
+    private static final class Fields {
+
+        private final FieldDescriptor[] byNumber;
+
+        private final byte[][] names;
+
+        Fields(Descriptor descriptor) {
+            List<FieldDescriptor> fields = descriptor.getFields();
+            int maxNumber = fields.stream().mapToInt(FieldDescriptor::getNumber).max().orElse(0);
+            this.byNumber = new FieldDescriptor[maxNumber + 1];
+            this.names = new byte[maxNumber + 1][];
+            for (FieldDescriptor field : fields) {
+                this.byNumber[field.getNumber()] = field;
+                this.names[field.getNumber()] = ("\"" + field.getJsonName() + "\":").getBytes(StandardCharsets.UTF_8);
+            }
+        }
+
+        FieldDescriptor get(int number) {
+            return number < this.byNumber.length ? this.byNumber[number] : null;
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.rest.converter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Media types understood by the protobuf endpoints.
+ */
+public abstract class ProtobufMediaTypes {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public static final String DELIMITED_PARAMETER = "delimited";
+
+    /**
+     * A stream of length-delimited messages, as written by {@code MessageLite#writeDelimitedTo}.
+     */
+    public static final MediaType PROTOBUF_DELIMITED = new MediaType(PROTOBUF, Map.of(DELIMITED_PARAMETER, "true"));
+
+    public static final String VERSION_PARAMETER = "version";
+
+    /**
+     * The compact list messages of <code>petclinic_v2.proto</code>. Without the parameter, or with any other
+     * version, clients get the messages of <code>petclinic.proto</code>.
+     */
+    public static final MediaType PROTOBUF_V2 = new MediaType(PROTOBUF, Map.of(VERSION_PARAMETER, "2"));
+
+    private static final MediaType JSON_SUFFIXED = new MediaType("application", "*+json");
+
+    /**
+     * Check whether the given <code>Accept</code> header asks for {@link #PROTOBUF_DELIMITED}.
+     *
+     * @param accept the raw header value, may be <code>null</code>
+     * @return true if a delimited protobuf stream was requested
+     */
+    public static boolean isDelimitedRequested(String accept) {
+        return isParameterRequested(accept, DELIMITED_PARAMETER, "true");
+    }
+
+    /**
+     * Check whether the given <code>Accept</code> header asks for {@link #PROTOBUF_V2}.
+     *
+     * @param accept the raw header value, may be <code>null</code>
+     * @return true if the v2 messages were requested
+     */
+    public static boolean isV2Requested(String accept) {
+        return isParameterRequested(accept, VERSION_PARAMETER, "2");
+    }
+
+    /**
+     * Check whether the given <code>Accept</code> header prefers JSON to protobuf. Wildcards do not count, so that
+     * clients accepting anything keep getting protobuf.
+     *
+     * @param accept the raw header value, may be <code>null</code>
+     * @return true if the most preferred of JSON and protobuf is JSON
+     */
+    public static boolean isJsonRequested(String accept) {
+        List<MediaType> mediaTypes = new ArrayList<>(parse(accept));
+        mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : mediaTypes) {
+            if (PROTOBUF.equalsTypeAndSubtype(mediaType)) {
+                return false;
+            }
+            if (MediaType.APPLICATION_JSON.equalsTypeAndSubtype(mediaType) || JSON_SUFFIXED.includes(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isParameterRequested(String accept, String parameter, String value) {
+        for (MediaType mediaType : parse(accept)) {
+            if (PROTOBUF.equalsTypeAndSubtype(mediaType)
+                && value.equalsIgnoreCase(mediaType.getParameter(parameter))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<MediaType> parse(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return List.of();
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.rest.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
+/**
+ * Protobuf response body that is encoded while the response is written, instead of being
+ * built as one message first.
+ */
+@FunctionalInterface
+public interface ProtobufStream {
+
+    int BUFFER_SIZE = 8192;
+
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Length of the body in bytes, or <code>null</code> when it is only known once written.
+     */
+    default Long contentLength() {
+        return null;
+    }
+
+    /**
+     * Create a stream that writes the message encoded once, up front. The stream can be kept and written
+     * any number of times without encoding or allocating again.
+     */
+    static ProtobufStream of(MessageLite message) {
+        return of(message.toByteArray());
+    }
+
+    /**
+     * Create a stream that writes the given encoded body, which must not be modified afterwards.
+     */
+    static ProtobufStream of(byte[] bytes) {
+        Long length = (long) bytes.length;
+        return new ProtobufStream() {
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                out.write(bytes);
+            }
+
+            @Override
+            public Long contentLength() {
+                return length;
+            }
+        };
+    }
+
+    /**
+     * Create a {@link ProtobufMediaTypes#PROTOBUF_DELIMITED} stream: each element of the source is mapped
+     * to a message right before it is written with a varint length prefix, so the complete list never exists
+     * as a single message on the heap.
+     */
+    static <T> ProtobufStream delimited(Iterable<T> source, Function<? super T, ? extends MessageLite> mapper) {
+        return out -> {
+            CodedOutputStream output = CodedOutputStream.newInstance(out, BUFFER_SIZE);
+            for (T element : source) {
+                MessageLite message = mapper.apply(element);
+                output.writeUInt32NoTag(message.getSerializedSize());
+                message.writeTo(output);
+            }
+            output.flush();
+        };
+    }
+
+}
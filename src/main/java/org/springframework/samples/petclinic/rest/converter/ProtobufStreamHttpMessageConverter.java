@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.rest.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes a {@link ProtobufStream} straight to the response body. Unless the stream knows its
+ * {@link ProtobufStream#contentLength() length}, the servlet container sends the response chunked. Large streams can be
+ * compressed with {@link #setResponseCompression}.
+ */
+public class ProtobufStreamHttpMessageConverter extends AbstractHttpMessageConverter<ProtobufStream> {
+
+    private ResponseCompression responseCompression;
+
+    public ProtobufStreamHttpMessageConverter() {
+        super(ProtobufMediaTypes.PROTOBUF, ProtobufMediaTypes.PROTOBUF_DELIMITED);
+    }
+
+    /**
+     * Compress large streams and those of unknown length, see {@link ResponseCompression}.
+     */
+    public void setResponseCompression(ResponseCompression responseCompression) {
+        this.responseCompression = responseCompression;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProtobufStream.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ProtobufStream readInternal(Class<? extends ProtobufStream> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf streams are write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ProtobufStream stream, MediaType contentType) {
+        return stream.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(ProtobufStream stream, HttpOutputMessage outputMessage) throws IOException {
+        if (this.responseCompression == null) {
+            stream.writeTo(outputMessage.getBody());
+            return;
+        }
+        Long contentLength = stream.contentLength();
+        long length = contentLength != null ? contentLength : -1;
+        try (OutputStream body = this.responseCompression.encode(outputMessage, length)) {
+            stream.writeTo(body);
+        }
+    }
+
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.xxhash.XXHash32;
+import net.jpountz.xxhash.XXHashFactory;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Compresses large protobuf response bodies with a coding the client accepts: <code>lz4</code>, the LZ4 frame
+ * format, which costs little CPU on either side, or <code>gzip</code> at {@link Deflater#BEST_SPEED}. The client's
+ * quality values decide between the two, and <code>lz4</code> wins a tie. A <code>*</code> only stands for
+ * <code>gzip</code>. Bodies shorter than the threshold of their endpoint, {@link #DEFAULT_THRESHOLD} bytes unless
+ * configured per URI pattern, are sent as they are. Strong entity tags of compressed responses are made weak.
+ * Deflaters are pooled; the LZ4 frames are written by lz4-java.
+ * <p>
+ * Per endpoint (the matched URI pattern) and coding, the bytes before and after compression are counted in
+ * <code>petclinic.compression.input</code> and <code>petclinic.compression.output</code>, and the time spent
+ * compressing, without writing to the client, in the <code>petclinic.compression.time</code> timer. Responses
+ * left uncompressed for being under the threshold are counted per endpoint in
+ * <code>petclinic.compression.skipped</code>. Together they tell which thresholds pay off.
+ */
+public class ResponseCompression {
+
+    public static final int DEFAULT_THRESHOLD = 16 * 1024;
+
+    private static final int POOL_SIZE = 16;
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    /**
+     * The bounds-checked Java implementations, neither native code nor <code>Unsafe</code>; both are thread-safe.
+     */
+    private static final LZ4Compressor LZ4_COMPRESSOR = LZ4Factory.safeInstance().fastCompressor();
+
+    private static final XXHash32 XXHASH_32 = XXHashFactory.safeInstance().hash32();
+
+    public enum ContentCoding {
+
+        LZ4("lz4"), GZIP("gzip");
+
+        private final String token;
+
+        ContentCoding(String token) {
+            this.token = token;
+        }
+
+        public String token() {
+            return this.token;
+        }
+
+        /**
+         * Pick the coding to use for the given <code>Accept-Encoding</code> header.
+         *
+         * @param acceptEncoding the raw header value, may be <code>null</code>
+         * @return the accepted coding of the highest quality, or <code>null</code> if neither is accepted
+         */
+        public static ContentCoding negotiate(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return null;
+            }
+            ContentCoding[] codings = values();
+            double[] quality = {-1, -1};
+            double wildcard = -1;
+            for (String element : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+                String[] parameters = StringUtils.tokenizeToStringArray(element, ";");
+                double q = 1;
+                for (int i = 1; i < parameters.length; i++) {
+                    if (parameters[i].startsWith("q=")) {
+                        try {
+                            q = Double.parseDouble(parameters[i].substring(2));
+                        } catch (NumberFormatException ex) {
+                            q = 0;
+                        }
+                    }
+                }
+                if (parameters.length > 0 && parameters[0].equals("*")) {
+                    wildcard = q;
+                }
+                for (ContentCoding coding : codings) {
+                    if (parameters.length > 0 && coding.token.equalsIgnoreCase(parameters[0])) {
+                        quality[coding.ordinal()] = q;
+                    }
+                }
+            }
+            if (quality[GZIP.ordinal()] < 0) {
+                quality[GZIP.ordinal()] = wildcard;
+            }
+            ContentCoding best = null;
+            double bestQuality = 0;
+            for (ContentCoding coding : codings) {
+                if (quality[coding.ordinal()] > bestQuality) {
+                    best = coding;
+                    bestQuality = quality[coding.ordinal()];
+                }
+            }
+            return best;
+        }
+
+    }
+
+    private final MeterRegistry registry;
+
+    private final int threshold;
+
+    private final Map<String, Integer> endpointThresholds;
+
+    private final BlockingQueue<Gzip> gzips = new ArrayBlockingQueue<>(POOL_SIZE);
+
+
+    /**
+     * @param threshold          bodies shorter than this are not compressed
+     * @param endpointThresholds thresholds overriding the default, by URI pattern such as <code>/owners</code>
+     */
+    public ResponseCompression(MeterRegistry registry, int threshold, Map<String, Integer> endpointThresholds) {
+        this.registry = registry;
+        this.threshold = threshold;
+        this.endpointThresholds = Map.copyOf(endpointThresholds);
+    }
+
+    /**
+     * Open the body of a response for writing, compressed if the current request accepts a coding and the body is
+     * long enough. Must be called before {@link HttpOutputMessage#getBody()}, as it may change the
+     * <code>Content-Encoding</code>, <code>Content-Length</code> and <code>Vary</code> headers.
+     *
+     * @param outputMessage the response
+     * @param contentLength the length of the uncompressed body, or -1 if unknown, in which case it is compressed
+     * @return the stream to write the body to, which must be closed to finish the compressed body; closing it
+     * leaves the response body open
+     */
+    public OutputStream encode(HttpOutputMessage outputMessage, long contentLength) throws IOException {
+        HttpServletRequest request = currentRequest();
+        if (request == null || !(outputMessage instanceof ServerHttpResponse)) {
+            return StreamUtils.nonClosing(outputMessage.getBody());
+        }
+        String uri = uri(request);
+        if (contentLength >= 0 && contentLength < this.endpointThresholds.getOrDefault(uri, this.threshold)) {
+            this.registry.counter("petclinic.compression.skipped", "uri", uri).increment();
+            return StreamUtils.nonClosing(outputMessage.getBody());
+        }
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ContentCoding coding = ContentCoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (coding == null) {
+            return StreamUtils.nonClosing(outputMessage.getBody());
+        }
+        headers.set(HttpHeaders.CONTENT_ENCODING, coding.token());
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        String eTag = headers.getETag();
+        if (eTag != null && !eTag.startsWith("W/")) {
+            // the compressed bytes differ from those the strong tag stands for
+            headers.setETag("W/" + eTag);
+        }
+        OutputStream body = outputMessage.getBody();
+        return coding == ContentCoding.LZ4 ? new Lz4FrameOutputStream(body, uri) : new GzipOutputStream(body, uri);
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    /**
+     * A compressed response body, which records its metrics once closed.
+     */
+    private abstract class EncodingOutputStream extends OutputStream {
+
+        final OutputStream body;
+
+        private final Tags tags;
+
+        long bytesIn;
+
+        long bytesOut;
+
+        long nanos;
+
+        private boolean closed;
+
+        EncodingOutputStream(OutputStream body, String uri, ContentCoding coding) {
+            this.body = body;
+            this.tags = Tags.of("uri", uri, "encoding", coding.token());
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            try {
+                finish();
+            } finally {
+                release();
+                Counter.builder("petclinic.compression.input").baseUnit("bytes").tags(this.tags)
+                    .register(registry).increment(this.bytesIn);
+                Counter.builder("petclinic.compression.output").baseUnit("bytes").tags(this.tags)
+                    .register(registry).increment(this.bytesOut);
+                Timer.builder("petclinic.compression.time").tags(this.tags)
+                    .register(registry).record(this.nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        abstract void finish() throws IOException;
+
+        abstract void release();
+
+    }
+
+    /**
+     * The LZ4 frame format, written by lz4-java's pure Java compressor: independent blocks of up to 64 KB, each
+     * stored as is when it does not compress, without checksums. The frame writes through a {@link TimedOutputStream},
+     * so that the time spent writing to the client is not counted as compression time.
+     */
+    private final class Lz4FrameOutputStream extends EncodingOutputStream {
+
+        private final TimedOutputStream timedBody;
+
+        private final LZ4FrameOutputStream frame;
+
+        Lz4FrameOutputStream(OutputStream body, String uri) throws IOException {
+            super(body, uri, ContentCoding.LZ4);
+            this.timedBody = new TimedOutputStream(body);
+            long start = System.nanoTime();
+            this.frame = new LZ4FrameOutputStream(this.timedBody, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB, -1L,
+                LZ4_COMPRESSOR, XXHASH_32, LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE);
+            record(start);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.bytesIn += len;
+            long start = System.nanoTime();
+            this.frame.write(b, off, len);
+            record(start);
+        }
+
+        @Override
+        void finish() throws IOException {
+            long start = System.nanoTime();
+            // closes the timed stream only, which leaves the response body open
+            this.frame.close();
+            record(start);
+        }
+
+        @Override
+        void release() {
+        }
+
+        private void record(long start) {
+            this.nanos += System.nanoTime() - start - this.timedBody.takeNanos();
+            this.bytesOut = this.timedBody.count;
+        }
+
+    }
+
+    /**
+     * Counts the bytes written to the target and the time spent writing them; closing it leaves the target open.
+     */
+    private static final class TimedOutputStream extends OutputStream {
+
+        private final OutputStream target;
+
+        long count;
+
+        private long nanos;
+
+        TimedOutputStream(OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long start = System.nanoTime();
+            this.target.write(b);
+            this.nanos += System.nanoTime() - start;
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            this.target.write(b, off, len);
+            this.nanos += System.nanoTime() - start;
+            this.count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long start = System.nanoTime();
+            this.target.flush();
+            this.nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        /**
+         * Return the time spent writing since the last call.
+         */
+        long takeNanos() {
+            long nanos = this.nanos;
+            this.nanos = 0;
+            return nanos;
+        }
+
+    }
+
+    /**
+     * The gzip format around a pooled raw {@link Deflater}, which {@link java.util.zip.GZIPOutputStream} would
+     * allocate and release per response.
+     */
+    private final class GzipOutputStream extends EncodingOutputStream {
+
+        private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+        private final Gzip gzip;
+
+        GzipOutputStream(OutputStream body, String uri) throws IOException {
+            super(body, uri, ContentCoding.GZIP);
+            Gzip pooled = gzips.poll();
+            this.gzip = pooled != null ? pooled : new Gzip();
+            body.write(HEADER);
+            this.bytesOut = HEADER.length;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.bytesIn += len;
+            this.gzip.crc.update(b, off, len);
+            this.gzip.deflater.setInput(b, off, len);
+            while (!this.gzip.deflater.needsInput()) {
+                deflate();
+            }
+        }
+
+        private void deflate() throws IOException {
+            long start = System.nanoTime();
+            int length = this.gzip.deflater.deflate(this.gzip.buffer);
+            this.nanos += System.nanoTime() - start;
+            if (length > 0) {
+                this.body.write(this.gzip.buffer, 0, length);
+                this.bytesOut += length;
+            }
+        }
+
+        @Override
+        void finish() throws IOException {
+            this.gzip.deflater.finish();
+            while (!this.gzip.deflater.finished()) {
+                deflate();
+            }
+            int crc = (int) this.gzip.crc.getValue();
+            int size = (int) this.bytesIn;
+            this.body.write(new byte[]{(byte) crc, (byte) (crc >>> 8), (byte) (crc >>> 16), (byte) (crc >>> 24),
+                (byte) size, (byte) (size >>> 8), (byte) (size >>> 16), (byte) (size >>> 24)});
+            this.bytesOut += 8;
+        }
+
+        @Override
+        void release() {
+            this.gzip.deflater.reset();
+            this.gzip.crc.reset();
+            if (!gzips.offer(this.gzip)) {
+                this.gzip.deflater.end();
+            }
+        }
+
+    }
+
+    private static final class Gzip {
+
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+
+        final CRC32 crc = new CRC32();
+
+        final byte[] buffer = new byte[GZIP_BUFFER_SIZE];
+
+    }
+
+}
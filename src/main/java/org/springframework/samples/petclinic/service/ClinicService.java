@@ -15,6 +15,7 @@
  */
 package org.springframework.samples.petclinic.service;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -26,6 +27,8 @@ import org.springframework.samples.petclinic.model.PetType;
 import org.springframework.samples.petclinic.model.Specialty;
 import org.springframework.samples.petclinic.model.Vet;
 import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository;
+import org.springframework.samples.petclinic.repository.OwnerRepository;
 
 /**
  * Mostly used as a facade so all controllers have a single point of entry
@@ -37,23 +40,37 @@ public interface ClinicService {
 
 	Pet findPetById(int id) throws DataAccessException;
 	Collection<Pet> findAllPets() throws DataAccessException;
+	List<Pet> findPetPage(int afterId, int limit) throws DataAccessException;
+	List<Pet> findPetsByIds(Collection<Integer> ids) throws DataAccessException;
 	void savePet(Pet pet) throws DataAccessException;
 	void deletePet(Pet pet) throws DataAccessException;
 
 	Collection<Visit> findVisitsByPetId(int petId);
 	Visit findVisitById(int visitId) throws DataAccessException;
 	Collection<Visit> findAllVisits() throws DataAccessException;
+	List<Visit> findVisitPage(int afterId, int limit) throws DataAccessException;
+	List<Visit> findVisitsByIds(Collection<Integer> ids) throws DataAccessException;
 	void saveVisit(Visit visit) throws DataAccessException;
 	void deleteVisit(Visit visit) throws DataAccessException;
 	Vet findVetById(int id) throws DataAccessException;
 	Collection<Vet> findVets() throws DataAccessException;
 	Collection<Vet> findAllVets() throws DataAccessException;
+	List<Vet> findVetPage(int afterId, int limit) throws DataAccessException;
 	void saveVet(Vet vet) throws DataAccessException;
 	void deleteVet(Vet vet) throws DataAccessException;
 	Owner findOwnerById(int id) throws DataAccessException;
+	Owner findOwnerById(int id, OwnerRepository.Fetch fetch) throws DataAccessException;
 	Collection<Owner> findAllOwners() throws DataAccessException;
+	Collection<Owner> findAllOwners(OwnerRepository.Fetch fetch) throws DataAccessException;
+	List<Owner> findOwnerPage(int afterId, int limit) throws DataAccessException;
+	List<Owner> findOwnerPage(int afterId, int limit, OwnerRepository.Fetch fetch) throws DataAccessException;
+	List<Owner> findOwnersByIds(Collection<Integer> ids) throws DataAccessException;
 	void saveOwner(Owner owner) throws DataAccessException;
 	void deleteOwner(Owner owner) throws DataAccessException;
+	void importAll(List<Owner> owners, List<Pet> pets, List<Visit> visits) throws DataAccessException;
+	ChangeLogRepository.Head findChangeLogHead() throws DataAccessException;
+	List<ChangeLogRepository.Change> findChanges(long afterToken, long upToToken, int limit) throws DataAccessException;
+	long compactChangeLog(Instant before) throws DataAccessException;
 	Collection<Owner> findOwnerByLastName(String lastName) throws DataAccessException;
 
 	PetType findPetTypeById(int petTypeId);
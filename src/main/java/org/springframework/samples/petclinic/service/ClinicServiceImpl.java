@@ -15,12 +15,17 @@
  */
 package org.springframework.samples.petclinic.service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.orm.ObjectRetrievalFailureException;
@@ -30,18 +35,37 @@ import org.springframework.samples.petclinic.model.PetType;
 import org.springframework.samples.petclinic.model.Specialty;
 import org.springframework.samples.petclinic.model.Vet;
 import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository.Change;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository.Entity;
+import org.springframework.samples.petclinic.repository.ImportRepository;
 import org.springframework.samples.petclinic.repository.OwnerRepository;
 import org.springframework.samples.petclinic.repository.PetRepository;
 import org.springframework.samples.petclinic.repository.PetTypeRepository;
 import org.springframework.samples.petclinic.repository.SpecialtyRepository;
 import org.springframework.samples.petclinic.repository.VetRepository;
 import org.springframework.samples.petclinic.repository.VisitRepository;
+import org.springframework.samples.petclinic.service.ReferenceDataCache.Region;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Mostly used as a facade for all Petclinic controllers
- * Also a placeholder for @Transactional and @Cacheable annotations
+ * Mostly used as a facade for all Petclinic controllers, and where their transactions and caches are declared.
+ * <p>
+ * Single owners, pets and vets and the pet type and specialty lookups are cached (see
+ * {@link org.springframework.samples.petclinic.config.CacheConfig}). Cached entities are shared by every caller and
+ * must not be changed; to update one, save a new instance with its id, as the update endpoints do. Every write evicts
+ * exactly the entries that embed the written entity: a visit evicts its pet and the pet's owner, a pet its owner, an
+ * owner its pets. Writes of pet types and specialties, which are rare and referenced from many entries, clear the
+ * caches that embed them.
+ * Evictions also change the {@link EntityVersions} the REST layer derives entity tags from, and remove the encoded
+ * owners and pets of the {@link EncodedEntityCache} built from the evicted entity. Pet type writes clear the owner
+ * and pet caches but only remove the encoded owners and pets of that pet type.
+ * <p>
+ * Every write also appends to the {@link ChangeLogRepository change log}, from which clients catch up with the
+ * changes since they last synchronized. The append runs in the transaction of the write, not in one of its own, and
+ * is its last step, as the transaction then has to commit within a bounded time, see
+ * {@link org.springframework.samples.petclinic.repository.jdbc.JdbcChangeLogRepositoryImpl}.
  *
  * @author Michael Isvy
  * @author Vitaliy Fedoriv
@@ -49,12 +73,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ClinicServiceImpl implements ClinicService {
 
+    static final String OWNERS = "owners";
+    static final String PETS = "pets";
+    static final String VETS = "vets";
+    static final String PET_TYPES = "petTypes";
+    static final String SPECIALTIES = "specialties";
+
     private PetRepository petRepository;
     private VetRepository vetRepository;
     private OwnerRepository ownerRepository;
     private VisitRepository visitRepository;
     private SpecialtyRepository specialtyRepository;
 	private PetTypeRepository petTypeRepository;
+    private ImportRepository importRepository;
+    private ChangeLogRepository changeLogRepository;
+    private ReferenceDataCache referenceDataCache;
+    private EntityVersions entityVersions;
+    private EncodedEntityCache encodedEntityCache;
+    private CacheManager cacheManager;
 
     @Autowired
      public ClinicServiceImpl(
@@ -63,13 +99,25 @@ public class ClinicServiceImpl implements ClinicService {
     		 OwnerRepository ownerRepository,
     		 VisitRepository visitRepository,
     		 SpecialtyRepository specialtyRepository,
-			 PetTypeRepository petTypeRepository) {
+			 PetTypeRepository petTypeRepository,
+			 ImportRepository importRepository,
+			 ChangeLogRepository changeLogRepository,
+			 ReferenceDataCache referenceDataCache,
+			 EntityVersions entityVersions,
+			 EncodedEntityCache encodedEntityCache,
+			 CacheManager cacheManager) {
         this.petRepository = petRepository;
         this.vetRepository = vetRepository;
         this.ownerRepository = ownerRepository;
         this.visitRepository = visitRepository;
         this.specialtyRepository = specialtyRepository;
 		this.petTypeRepository = petTypeRepository;
+		this.importRepository = importRepository;
+		this.changeLogRepository = changeLogRepository;
+		this.referenceDataCache = referenceDataCache;
+		this.entityVersions = entityVersions;
+		this.encodedEntityCache = encodedEntityCache;
+		this.cacheManager = cacheManager;
     }
 
 	@Override
@@ -78,10 +126,24 @@ public class ClinicServiceImpl implements ClinicService {
 		return petRepository.findAll();
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public List<Pet> findPetPage(int afterId, int limit) throws DataAccessException {
+		return petRepository.findPage(afterId, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Pet> findPetsByIds(Collection<Integer> ids) throws DataAccessException {
+		return petRepository.findByIds(ids);
+	}
+
 	@Override
 	@Transactional
 	public void deletePet(Pet pet) throws DataAccessException {
 		petRepository.delete(pet);
+		evictPet(pet);
+		logChange(Change.deleted(Entity.PET, pet.getId()));
 	}
 
 	@Override
@@ -103,14 +165,29 @@ public class ClinicServiceImpl implements ClinicService {
 		return visitRepository.findAll();
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public List<Visit> findVisitPage(int afterId, int limit) throws DataAccessException {
+		return visitRepository.findPage(afterId, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Visit> findVisitsByIds(Collection<Integer> ids) throws DataAccessException {
+		return visitRepository.findByIds(ids);
+	}
+
 	@Override
 	@Transactional
 	public void deleteVisit(Visit visit) throws DataAccessException {
 		visitRepository.delete(visit);
+		evictPet(visit.getPet());
+		logChange(Change.deleted(Entity.VISIT, visit.getId()));
 	}
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = VETS, unless = "#result == null")
 	public Vet findVetById(int id) throws DataAccessException {
 		Vet vet = null;
 		try {
@@ -124,20 +201,31 @@ public class ClinicServiceImpl implements ClinicService {
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = VETS, key = "'all'")
 	public Collection<Vet> findAllVets() throws DataAccessException {
 		return vetRepository.findAll();
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public List<Vet> findVetPage(int afterId, int limit) throws DataAccessException {
+		return vetRepository.findPage(afterId, limit);
+	}
+
 	@Override
 	@Transactional
 	public void saveVet(Vet vet) throws DataAccessException {
 		vetRepository.save(vet);
+		evictVet(vet);
+		logChange(Change.upserted(Entity.VET, vet.getId()));
 	}
 
 	@Override
 	@Transactional
 	public void deleteVet(Vet vet) throws DataAccessException {
 		vetRepository.delete(vet);
+		evictVet(vet);
+		logChange(Change.deleted(Entity.VET, vet.getId()));
 	}
 
 	@Override
@@ -146,14 +234,88 @@ public class ClinicServiceImpl implements ClinicService {
 		return ownerRepository.findAll();
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Collection<Owner> findAllOwners(OwnerRepository.Fetch fetch) throws DataAccessException {
+		return ownerRepository.findAll(fetch);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Owner> findOwnerPage(int afterId, int limit) throws DataAccessException {
+		return ownerRepository.findPage(afterId, limit);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Owner> findOwnerPage(int afterId, int limit, OwnerRepository.Fetch fetch) throws DataAccessException {
+		return ownerRepository.findPage(afterId, limit, fetch);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Owner> findOwnersByIds(Collection<Integer> ids) throws DataAccessException {
+		return ownerRepository.findByIds(ids);
+	}
+
 	@Override
 	@Transactional
 	public void deleteOwner(Owner owner) throws DataAccessException {
 		ownerRepository.delete(owner);
+		evictOwner(owner);
+		logChange(Change.deleted(Entity.OWNER, owner.getId()));
+	}
+
+	/**
+	 * Inserts new entities in one batch per table, see {@link ImportRepository#insertAll}. New owners are not
+	 * cached yet, so only the existing owners and pets that gain pets or visits are evicted.
+	 */
+	@Override
+	@Transactional
+	public void importAll(List<Owner> owners, List<Pet> pets, List<Visit> visits) throws DataAccessException {
+		importRepository.insertAll(owners, pets, visits);
+		if (!owners.isEmpty()) {
+			entityVersions.listChanged(OWNERS);
+		}
+		for (Pet pet : pets) {
+			evict(OWNERS, pet.getOwner().getId());
+		}
+		Set<Integer> petIds = new HashSet<>();
+		for (Visit visit : visits) {
+			petIds.add(visit.getPet().getId());
+		}
+		for (Integer petId : petIds) {
+			evict(PETS, petId);
+		}
+		evictOwnersOfPets(petIds);
+		List<Change> changes = new ArrayList<>(owners.size() + pets.size() + visits.size());
+		owners.forEach(owner -> changes.add(Change.upserted(Entity.OWNER, owner.getId())));
+		pets.forEach(pet -> changes.add(Change.upserted(Entity.PET, pet.getId())));
+		visits.forEach(visit -> changes.add(Change.upserted(Entity.VISIT, visit.getId())));
+		changeLogRepository.append(changes);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ChangeLogRepository.Head findChangeLogHead() throws DataAccessException {
+		return changeLogRepository.findHead();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Change> findChanges(long afterToken, long upToToken, int limit) throws DataAccessException {
+		return changeLogRepository.findChanges(afterToken, upToToken, limit);
+	}
+
+	@Override
+	@Transactional
+	public long compactChangeLog(Instant before) throws DataAccessException {
+		return changeLogRepository.compact(before);
 	}
 
 	@Override
     @Transactional(readOnly = true)
+	@Cacheable(cacheNames = PET_TYPES, unless = "#result == null")
 	public PetType findPetTypeById(int petTypeId) {
 		PetType petType = null;
 		try {
@@ -167,6 +329,7 @@ public class ClinicServiceImpl implements ClinicService {
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = PET_TYPES, key = "'all'")
 	public Collection<PetType> findAllPetTypes() throws DataAccessException {
 		return petTypeRepository.findAll();
 	}
@@ -175,16 +338,25 @@ public class ClinicServiceImpl implements ClinicService {
 	@Transactional
 	public void savePetType(PetType petType) throws DataAccessException {
 		petTypeRepository.save(petType);
+		referenceDataCache.invalidate(Region.PET_TYPES);
+		clear(PET_TYPES, PETS, OWNERS);
+		encodedEntityCache.petTypeChanged(petType.getId());
+		logChange(Change.upserted(Entity.PET_TYPE, petType.getId()));
 	}
 
 	@Override
 	@Transactional
 	public void deletePetType(PetType petType) throws DataAccessException {
 		petTypeRepository.delete(petType);
+		referenceDataCache.invalidate(Region.PET_TYPES);
+		clear(PET_TYPES, PETS, OWNERS);
+		encodedEntityCache.petTypeChanged(petType.getId());
+		logChange(Change.deleted(Entity.PET_TYPE, petType.getId()));
 	}
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = SPECIALTIES, unless = "#result == null")
 	public Specialty findSpecialtyById(int specialtyId) {
 		Specialty specialty = null;
 		try {
@@ -198,6 +370,7 @@ public class ClinicServiceImpl implements ClinicService {
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = SPECIALTIES, key = "'all'")
 	public Collection<Specialty> findAllSpecialties() throws DataAccessException {
 		return specialtyRepository.findAll();
 	}
@@ -206,22 +379,30 @@ public class ClinicServiceImpl implements ClinicService {
 	@Transactional
 	public void saveSpecialty(Specialty specialty) throws DataAccessException {
 		specialtyRepository.save(specialty);
+		referenceDataCache.invalidate(Region.SPECIALTIES);
+		clear(SPECIALTIES, VETS);
+		logChange(Change.upserted(Entity.SPECIALTY, specialty.getId()));
 	}
 
 	@Override
 	@Transactional
 	public void deleteSpecialty(Specialty specialty) throws DataAccessException {
 		specialtyRepository.delete(specialty);
+		referenceDataCache.invalidate(Region.SPECIALTIES);
+		clear(SPECIALTIES, VETS);
+		logChange(Change.deleted(Entity.SPECIALTY, specialty.getId()));
 	}
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = PET_TYPES, key = "'all'")
 	public Collection<PetType> findPetTypes() throws DataAccessException {
 		return petRepository.findPetTypes();
 	}
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = OWNERS, unless = "#result == null")
 	public Owner findOwnerById(int id) throws DataAccessException {
 		Owner owner = null;
 		try {
@@ -233,8 +414,32 @@ public class ClinicServiceImpl implements ClinicService {
 		return owner;
 	}
 
+	/**
+	 * Shares the {@link #OWNERS} cache with {@link #findOwnerById(int)}: a cached owner is complete, so it serves any
+	 * fetch, while owners loaded partially are never cached.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Owner findOwnerById(int id, OwnerRepository.Fetch fetch) throws DataAccessException {
+		Cache owners = cacheManager.getCache(OWNERS);
+		Owner owner = owners == null ? null : owners.get(id, Owner.class);
+		if (owner != null) {
+			return owner;
+		}
+		try {
+			owner = ownerRepository.findById(id, fetch);
+		} catch (ObjectRetrievalFailureException|EmptyResultDataAccessException e) {
+			return null;
+		}
+		if (owners != null && fetch == OwnerRepository.Fetch.PETS_AND_VISITS) {
+			owners.put(id, owner);
+		}
+		return owner;
+	}
+
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = PETS, unless = "#result == null")
 	public Pet findPetById(int id) throws DataAccessException {
 		Pet pet = null;
 		try {
@@ -249,18 +454,27 @@ public class ClinicServiceImpl implements ClinicService {
 	@Override
 	@Transactional
 	public void savePet(Pet pet) throws DataAccessException {
+		boolean isNew = pet.isNew();
 		petRepository.save(pet);
+		if (!isNew) {
+			// the pet may have moved, so also evict the owner it was cached with
+			evictOwnersOfPet(pet.getId());
+		}
+		evictPet(pet);
+		logChange(Change.upserted(Entity.PET, pet.getId()));
 	}
 
 	@Override
 	@Transactional
 	public void saveVisit(Visit visit) throws DataAccessException {
 		visitRepository.save(visit);
-
+		evictPet(visit.getPet());
+		logChange(Change.upserted(Entity.VISIT, visit.getId()));
 	}
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = VETS, key = "'all'")
 	public Collection<Vet> findVets() throws DataAccessException {
 		return vetRepository.findAll();
 	}
@@ -269,7 +483,8 @@ public class ClinicServiceImpl implements ClinicService {
 	@Transactional
 	public void saveOwner(Owner owner) throws DataAccessException {
 		ownerRepository.save(owner);
-
+		evictOwner(owner);
+		logChange(Change.upserted(Entity.OWNER, owner.getId()));
 	}
 
 	@Override
@@ -286,6 +501,7 @@ public class ClinicServiceImpl implements ClinicService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = SPECIALTIES, key = "T(java.util.Set).copyOf(#p0)")
     public List<Specialty> findSpecialtiesByNameIn(Set<String> names){
         List<Specialty> specialties = new ArrayList<>();
         try {
@@ -299,6 +515,7 @@ public class ClinicServiceImpl implements ClinicService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = PET_TYPES, key = "'name:' + #p0", unless = "#result == null")
     public PetType findPetTypeByName(String name){
         PetType petType;
         try {
@@ -309,4 +526,87 @@ public class ClinicServiceImpl implements ClinicService {
         }
         return petType;
     }
+
+    private void evictOwner(Owner owner) {
+        evict(OWNERS, owner.getId());
+        for (Pet pet : owner.getPets()) {
+            evict(PETS, pet.getId());
+        }
+    }
+
+    private void evictPet(Pet pet) {
+        if (pet == null) {
+            return;
+        }
+        evict(PETS, pet.getId());
+        if (pet.getOwner() != null) {
+            evict(OWNERS, pet.getOwner().getId());
+        } else {
+            evictOwnersOfPet(pet.getId());
+        }
+    }
+
+    /**
+     * Evict the cached owners holding the pet, for writes where the owner is not known or may have changed.
+     */
+    private void evictOwnersOfPet(Integer petId) {
+        if (petId != null) {
+            evictOwnersOfPets(Set.of(petId));
+        }
+    }
+
+    /**
+     * Evict the cached owners holding any of the pets, in one pass over the cache. The owners that are not cached
+     * are not known, so the versions of all owners change.
+     */
+    private void evictOwnersOfPets(Set<Integer> petIds) {
+        if (!petIds.isEmpty()) {
+            entityVersions.cacheChanged(OWNERS);
+        }
+        Cache owners = cacheManager.getCache(OWNERS);
+        if (petIds.isEmpty() || owners == null
+            || !(owners.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return;
+        }
+        for (Object value : nativeCache.asMap().values()) {
+            Owner owner = (Owner) value;
+            if (owner.getPets().stream().anyMatch(pet -> petIds.contains(pet.getId()))) {
+                owners.evict(owner.getId());
+            }
+        }
+    }
+
+    private void evictVet(Vet vet) {
+        evict(VETS, vet.getId());
+        evict(VETS, "all");
+    }
+
+    private void evict(String cacheName, Object key) {
+        if (key == null) {
+            return;
+        }
+        entityVersions.entryChanged(cacheName, key);
+        encodedEntityCache.entryChanged(cacheName, key);
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String... cacheNames) {
+        for (String cacheName : cacheNames) {
+            entityVersions.cacheChanged(cacheName);
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * Append a change in the current transaction, which then has to commit within half the change log commit lag.
+     */
+    private void logChange(Change change) {
+        changeLogRepository.append(List.of(change));
+    }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Encoded responses of single owners and pets (typically <code>ProtoOwner</code> and <code>ProtoPet</code>
+ * messages), so that hot records are not mapped and encoded again for every request. The cache is bounded by the
+ * total size of the encoded bytes, <code>petclinic.encoded-cache.maximum-size</code>; the dependency index is not
+ * counted.
+ * <p>
+ * Every entry records the entities its bytes were built from: an owner its pets and their pet types, a pet its pet
+ * type; visits are covered by their pet. {@link ClinicServiceImpl} reports each changed owner, pet and pet type,
+ * which removes exactly the entries built from it: a new visit removes its pet and the pet's owner, a renamed pet
+ * type the pets of that type and their owners.
+ * <p>
+ * Like {@link ReferenceDataCache}, an entry computed concurrently with a write never outlives it: every change is
+ * stamped, a value loaded before a change of any of its entities is not stored, and inside a transaction the
+ * change is reported again once the transaction completes. Changes are recorded in {@value #STRIPES} stripes by
+ * hash, so an unrelated change may occasionally keep a value from being stored.
+ */
+@Component
+public class EncodedEntityCache {
+
+    private static final int STRIPES = 4096;
+
+    private final Cache<Key, Entry> entries;
+
+    private final Map<Key, Set<Entry>> dependents = new ConcurrentHashMap<>();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicLongArray changed = new AtomicLongArray(STRIPES);
+
+    private final AtomicLong clearedAt = new AtomicLong();
+
+    public EncodedEntityCache(@Value("${petclinic.encoded-cache.maximum-size:16MB}") DataSize maximumSize) {
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(maximumSize.toBytes())
+            .<Key, Entry>weigher((key, entry) -> entry.bytes.length)
+            .executor(Runnable::run)
+            .removalListener((Key key, Entry entry, RemovalCause cause) -> {
+                if (entry != null) {
+                    unindex(entry);
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Return the encoded owner, loading and encoding it on a miss.
+     *
+     * @param loader  loads the owner with its pets, pet types and visits, or returns <code>null</code>
+     * @param encoder encodes the owner
+     * @return the encoded owner, or <code>null</code> if the loader found none
+     */
+    public byte[] getOwner(int ownerId, IntFunction<Owner> loader, Function<Owner, byte[]> encoder) {
+        return get(Key.owner(ownerId), loader, encoder, EncodedEntityCache::dependencies);
+    }
+
+    /**
+     * Return the encoded pet, loading and encoding it on a miss.
+     *
+     * @param loader  loads the pet with its pet type and visits, or returns <code>null</code>
+     * @param encoder encodes the pet
+     * @return the encoded pet, or <code>null</code> if the loader found none
+     */
+    public byte[] getPet(int petId, IntFunction<Pet> loader, Function<Pet, byte[]> encoder) {
+        return get(Key.pet(petId), loader, encoder, EncodedEntityCache::dependencies);
+    }
+
+    /**
+     * Remove all entries, for writes that bypass {@link ClinicService}.
+     */
+    public void clear() {
+        this.clearedAt.set(this.clock.incrementAndGet());
+        this.entries.invalidateAll();
+    }
+
+    /**
+     * Report the change of an entry of one of the caches of {@link ClinicServiceImpl}; owners and pets remove the
+     * entries built from them.
+     */
+    void entryChanged(String cacheName, Object key) {
+        if (ClinicServiceImpl.OWNERS.equals(cacheName) && key instanceof Integer id) {
+            changed(Key.owner(id));
+        } else if (ClinicServiceImpl.PETS.equals(cacheName) && key instanceof Integer id) {
+            changed(Key.pet(id));
+        }
+    }
+
+    /**
+     * Report the change of a pet type, such as a new name, which removes the pets of that type and their owners.
+     */
+    void petTypeChanged(int petTypeId) {
+        changed(Key.petType(petTypeId));
+    }
+
+    private <T> byte[] get(Key key, IntFunction<T> loader, Function<T, byte[]> encoder,
+                           Function<T, List<Key>> dependencies) {
+        Entry cached = this.entries.getIfPresent(key);
+        if (cached != null) {
+            return cached.bytes;
+        }
+        long loadedAt = this.clock.get();
+        T entity = loader.apply(key.id());
+        if (entity == null) {
+            return null;
+        }
+        Entry entry = new Entry(key, encoder.apply(entity), dependencies.apply(entity));
+        if (isUnchangedSince(entry, loadedAt)) {
+            index(entry);
+            this.entries.put(key, entry);
+            // a change between the check and the put found nothing to remove yet
+            if (!isUnchangedSince(entry, loadedAt)) {
+                this.entries.asMap().remove(key, entry);
+            }
+        }
+        return entry.bytes;
+    }
+
+    private boolean isUnchangedSince(Entry entry, long loadedAt) {
+        if (this.clearedAt.get() > loadedAt) {
+            return false;
+        }
+        for (Key dependency : entry.dependencies) {
+            if (this.changed.get(dependency.stripe()) > loadedAt) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void changed(Key key) {
+        remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    private void remove(Key key) {
+        long now = this.clock.incrementAndGet();
+        this.changed.accumulateAndGet(key.stripe(), now, Math::max);
+        Set<Entry> entries = this.dependents.get(key);
+        if (entries != null) {
+            for (Entry entry : List.copyOf(entries)) {
+                this.entries.asMap().remove(entry.key, entry);
+            }
+        }
+    }
+
+    private void index(Entry entry) {
+        for (Key dependency : entry.dependencies) {
+            this.dependents.compute(dependency, (key, entries) -> {
+                Set<Entry> dependents = entries != null ? entries : ConcurrentHashMap.newKeySet();
+                dependents.add(entry);
+                return dependents;
+            });
+        }
+    }
+
+    private void unindex(Entry entry) {
+        for (Key dependency : entry.dependencies) {
+            this.dependents.computeIfPresent(dependency, (key, entries) -> {
+                entries.remove(entry);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    private static List<Key> dependencies(Owner owner) {
+        List<Key> dependencies = new ArrayList<>();
+        dependencies.add(Key.owner(owner.getId()));
+        for (Pet pet : owner.getPets()) {
+            dependencies.addAll(dependencies(pet));
+        }
+        return dependencies;
+    }
+
+    private static List<Key> dependencies(Pet pet) {
+        List<Key> dependencies = new ArrayList<>(2);
+        dependencies.add(Key.pet(pet.getId()));
+        if (pet.getType() != null && pet.getType().getId() != null) {
+            dependencies.add(Key.petType(pet.getType().getId()));
+        }
+        return dependencies;
+    }
+
+    private record Key(char kind, int id) {
+
+        static Key owner(int id) {
+            return new Key('o', id);
+        }
+
+        static Key pet(int id) {
+            return new Key('p', id);
+        }
+
+        static Key petType(int id) {
+            return new Key('t', id);
+        }
+
+        int stripe() {
+            int hash = hashCode();
+            return (hash ^ hash >>> 16) & (STRIPES - 1);
+        }
+
+    }
+
+    /**
+     * Compared by identity, so that removing an entry never removes a newer one for the same key.
+     */
+    private static final class Entry {
+
+        final Key key;
+
+        final byte[] bytes;
+
+        final List<Key> dependencies;
+
+        Entry(Key key, byte[] bytes, List<Key> dependencies) {
+            this.key = key;
+            this.bytes = bytes;
+            this.dependencies = dependencies;
+        }
+
+    }
+
+}
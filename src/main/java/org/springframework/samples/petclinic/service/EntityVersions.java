@@ -0,0 +1,138 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Version counters of the cached representations of {@link ClinicServiceImpl}, from which entity tags are derived
+ * without reading anything: the version of an owner changes whenever its entry in the owners cache is evicted, and
+ * the version of the vets whenever the cached list of all vets is. The counters follow the cache evictions, which
+ * already cover every write that changes an entry, including its embedded pets, visits and pet types.
+ * <p>
+ * The list of all owners has a version of its own, which changes with any owner.
+ * <p>
+ * Entries share {@value #STRIPES} counters by hash, so memory stays constant and a write may change the version of
+ * unrelated entries, costing their clients one full response. Clearing a cache bumps a counter of the whole cache.
+ * Like {@link ReferenceDataCache}, versions are bumped again once the writing transaction completes, so a
+ * representation read before the commit never carries the version of the committed state. The versions start
+ * from a random epoch per instance, so tags never survive a restart; like the caches, they do not see writes made
+ * through other instances.
+ */
+@Component
+public class EntityVersions {
+
+    private static final int STRIPES = 4096;
+
+    private static final String ALL = "all";
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+
+    private final AtomicLongArray entries = new AtomicLongArray(STRIPES);
+
+    private final Map<String, AtomicLong> caches = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicLong> lists = new ConcurrentHashMap<>();
+
+    /**
+     * @return the version of <code>GET /owners/{ownerId}</code>
+     */
+    public String ownerVersion(int ownerId) {
+        return version(ClinicServiceImpl.OWNERS, ownerId);
+    }
+
+    /**
+     * @return the version of <code>GET /owners</code>, which changes with every owner
+     */
+    public String ownersVersion() {
+        return this.epoch + '.' + Long.toString(listVersion(ClinicServiceImpl.OWNERS).get(), 36);
+    }
+
+    /**
+     * @return the version of <code>GET /vets</code>
+     */
+    public String vetsVersion() {
+        return version(ClinicServiceImpl.VETS, ALL);
+    }
+
+    /**
+     * @return the version of <code>GET /pettypes</code>
+     */
+    public String petTypesVersion() {
+        return version(ClinicServiceImpl.PET_TYPES, ALL);
+    }
+
+    private String version(String cacheName, Object key) {
+        return this.epoch + '.' + Long.toString(cacheVersion(cacheName).get(), 36) + '.'
+            + Long.toString(this.entries.get(stripe(cacheName, key)), 36);
+    }
+
+    void entryChanged(String cacheName, Object key) {
+        int stripe = stripe(cacheName, key);
+        this.entries.incrementAndGet(stripe);
+        afterCompletion(() -> this.entries.incrementAndGet(stripe));
+        listChanged(cacheName);
+    }
+
+    void cacheChanged(String cacheName) {
+        AtomicLong version = cacheVersion(cacheName);
+        version.incrementAndGet();
+        afterCompletion(version::incrementAndGet);
+        listChanged(cacheName);
+    }
+
+    /**
+     * Change the version of the list of all entities of the cache, for writes that add entities no cache holds yet.
+     */
+    void listChanged(String cacheName) {
+        AtomicLong version = listVersion(cacheName);
+        version.incrementAndGet();
+        afterCompletion(version::incrementAndGet);
+    }
+
+    private AtomicLong cacheVersion(String cacheName) {
+        return this.caches.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    private AtomicLong listVersion(String cacheName) {
+        return this.lists.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    private static int stripe(String cacheName, Object key) {
+        int hash = 31 * cacheName.hashCode() + key.hashCode();
+        return (hash ^ hash >>> 16) & (STRIPES - 1);
+    }
+
+    private static void afterCompletion(Runnable bump) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump.run();
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Holds one ready-made value per kind of reference data (typically the encoded response of a list
+ * endpoint), so reads of data that almost never changes skip the database entirely.
+ * <p>
+ * Every {@link Region} carries a version that {@link ClinicService} bumps whenever the underlying table is
+ * written. A cached value is only served while its version is current, so a value computed concurrently with a
+ * write can never outlive it. Inside a transaction the version is bumped again once the transaction completes,
+ * which also discards values loaded by other threads before the write was visible to them.
+ *
+ * @see ClinicServiceImpl#savePetType
+ * @see ClinicServiceImpl#saveSpecialty
+ */
+@Component
+public class ReferenceDataCache {
+
+    public enum Region {
+        PET_TYPES, SPECIALTIES
+    }
+
+    private final AtomicLongArray versions = new AtomicLongArray(Region.values().length);
+
+    private final AtomicReferenceArray<Snapshot> snapshots = new AtomicReferenceArray<>(Region.values().length);
+
+    /**
+     * Return the cached value of the region, computing it with the loader when there is none or a write
+     * happened since it was computed. The loader may return <code>null</code>, which is cached as well.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Region region, Supplier<T> loader) {
+        int index = region.ordinal();
+        long version = this.versions.get(index);
+        Snapshot snapshot = this.snapshots.get(index);
+        if (snapshot != null && snapshot.version == version) {
+            return (T) snapshot.value;
+        }
+        T value = loader.get();
+        this.snapshots.set(index, new Snapshot(version, value));
+        return value;
+    }
+
+    public void invalidate(Region region) {
+        int index = region.ordinal();
+        this.versions.incrementAndGet(index);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.incrementAndGet(index);
+                }
+            });
+        }
+    }
+
+    private record Snapshot(long version, Object value) {
+    }
+
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.samples.petclinic.util;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -28,6 +30,9 @@ import org.springframework.util.StopWatch;
  * monitored using any JMX console such as the jConsole
  * <p/>
  * This is only useful if you use JPA or JDBC.  Spring-data-jpa doesn't have any correctly annotated classes to join on
+ * <p/>
+ * The counters are {@link LongAdder}s rather than fields guarded by a monitor, so that a virtual thread leaving a
+ * repository call never blocks on, or pins its carrier thread to, the monitor of the aspect.
  *
  * @author Rob Harrop
  * @author Juergen Hoeller
@@ -40,9 +45,9 @@ public class CallMonitoringAspect {
 
     private boolean enabled = true;
 
-    private int callCount = 0;
+    private final LongAdder callCount = new LongAdder();
 
-    private long accumulatedCallTime = 0;
+    private final LongAdder accumulatedCallTime = new LongAdder();
 
     @ManagedAttribute
     public boolean isEnabled() {
@@ -56,19 +61,20 @@ public class CallMonitoringAspect {
 
     @ManagedOperation
     public void reset() {
-        this.callCount = 0;
-        this.accumulatedCallTime = 0;
+        this.callCount.reset();
+        this.accumulatedCallTime.reset();
     }
 
     @ManagedAttribute
     public int getCallCount() {
-        return callCount;
+        return callCount.intValue();
     }
 
     @ManagedAttribute
     public long getCallTime() {
-        if (this.callCount > 0)
-            return this.accumulatedCallTime / this.callCount;
+        long count = this.callCount.sum();
+        if (count > 0)
+            return this.accumulatedCallTime.sum() / count;
         else
             return 0;
     }
@@ -84,10 +90,8 @@ public class CallMonitoringAspect {
                 return joinPoint.proceed();
             } finally {
                 sw.stop();
-                synchronized (this) {
-                    this.callCount++;
-                    this.accumulatedCallTime += sw.getTotalTimeMillis();
-                }
+                this.callCount.increment();
+                this.accumulatedCallTime.add(sw.getTotalTimeMillis());
             }
         } else {
             return joinPoint.proceed();
@@ -16,7 +16,10 @@
 
 package org.springframework.samples.petclinic.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 import org.springframework.orm.ObjectRetrievalFailureException;
 import org.springframework.samples.petclinic.model.BaseEntity;
@@ -32,6 +35,12 @@ import org.springframework.samples.petclinic.model.BaseEntity;
  */
 public abstract class EntityUtils {
 
+    /**
+     * Maximum number of ids bound to one <code>IN</code> list. Keeps statements well below the parameter limits of
+     * the supported databases, and the number of distinct statement shapes small.
+     */
+    public static final int IN_LIST_CHUNK_SIZE = 500;
+
     /**
      * Look up the entity of the given class with the given id in the given collection.
      *
@@ -51,4 +60,18 @@ public abstract class EntityUtils {
         throw new ObjectRetrievalFailureException(entityClass, entityId);
     }
 
+    /**
+     * Split the ids, without duplicates and <code>null</code>s, into chunks of at most
+     * {@link #IN_LIST_CHUNK_SIZE} ids.
+     */
+    public static List<List<Integer>> chunkIds(Collection<Integer> ids) {
+        List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(id -> id == null);
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += IN_LIST_CHUNK_SIZE) {
+            chunks.add(distinct.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.util;
+
+import java.util.Collection;
+
+import org.springframework.orm.ObjectRetrievalFailureException;
+import org.springframework.samples.petclinic.model.BaseEntity;
+
+/**
+ * Index of values by <code>int</code> key, used to join rows in memory by id without boxing the keys. Open
+ * addressing with linear probing over parallel key and value arrays; values must not be <code>null</code>.
+ * Not thread-safe.
+ *
+ * @see EntityUtils#getById
+ */
+public final class IntIndex<T> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+
+    private Object[] values;
+
+    private int size;
+
+    public IntIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Index the given entities by their id.
+     */
+    public static <T extends BaseEntity> IntIndex<T> byId(Collection<? extends T> entities) {
+        IntIndex<T> index = new IntIndex<>(entities.size());
+        for (T entity : entities) {
+            index.put(entity.getId(), entity);
+        }
+        return index;
+    }
+
+    /**
+     * Associate the value with the key, returning the value it replaces, if any.
+     */
+    public T put(int key, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("IntIndex does not hold null values");
+        }
+        int slot = slot(key);
+        @SuppressWarnings("unchecked")
+        T previous = (T) this.values[slot];
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        if (previous == null && ++this.size * 2 > this.keys.length) {
+            resize();
+        }
+        return previous;
+    }
+
+    /**
+     * Return the value of the key, or <code>null</code> if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int key) {
+        return (T) this.values[slot(key)];
+    }
+
+    /**
+     * Return the value of the key.
+     *
+     * @throws ObjectRetrievalFailureException if there is none, like {@link EntityUtils#getById}
+     */
+    public T getRequired(int key, Class<?> entityClass) throws ObjectRetrievalFailureException {
+        T value = get(key);
+        if (value == null) {
+            throw new ObjectRetrievalFailureException(entityClass, key);
+        }
+        return value;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Return the slot holding the key, or the empty slot where it belongs.
+     */
+    private int slot(int key) {
+        int mask = this.keys.length - 1;
+        int slot = mix(key) & mask;
+        while (this.values[slot] != null && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.keys = new int[oldKeys.length << 1];
+        this.values = new Object[oldValues.length << 1];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return "IntIndex[size=" + this.size + ", capacity=" + this.keys.length + "]";
+    }
+
+}
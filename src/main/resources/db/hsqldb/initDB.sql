@@ -1,3 +1,5 @@
+DROP TABLE change_log IF EXISTS;
+DROP TABLE change_log_head IF EXISTS;
 DROP TABLE vet_specialties IF EXISTS;
 DROP TABLE vets IF EXISTS;
 DROP TABLE specialties IF EXISTS;
@@ -80,3 +82,17 @@ CREATE TABLE roles (
 ALTER TABLE roles ADD CONSTRAINT fk_username FOREIGN KEY (username) REFERENCES users (username);
 CREATE INDEX fk_username_idx ON roles (username);
 
+CREATE TABLE change_log (
+  id         BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
+  entity     VARCHAR(16) NOT NULL,
+  entity_id  INTEGER NOT NULL,
+  deleted    BOOLEAN NOT NULL,
+  changed_at TIMESTAMP NOT NULL
+);
+CREATE UNIQUE INDEX change_log_entity ON change_log (entity, entity_id);
+
+CREATE TABLE change_log_head (
+  id         INTEGER PRIMARY KEY,
+  horizon    BIGINT NOT NULL
+);
+INSERT INTO change_log_head VALUES (1, 0);
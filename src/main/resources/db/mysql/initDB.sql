@@ -80,3 +80,19 @@ CREATE TABLE IF NOT EXISTS roles (
   KEY fk_username_idx (username),
   CONSTRAINT fk_username FOREIGN KEY (username) REFERENCES users (username)
 ) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS change_log (
+  id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  entity VARCHAR(16) NOT NULL,
+  entity_id INT(4) UNSIGNED NOT NULL,
+  deleted BOOLEAN NOT NULL,
+  changed_at TIMESTAMP NOT NULL,
+  UNIQUE (entity, entity_id)
+) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS change_log_head (
+  id INT(4) UNSIGNED NOT NULL PRIMARY KEY,
+  horizon BIGINT NOT NULL
+) engine=InnoDB;
+
+INSERT IGNORE INTO change_log_head VALUES (1, 0);
@@ -68,6 +68,7 @@ CREATE TABLE IF NOT EXISTS pets (
 );
 
 CREATE INDEX IF NOT EXISTS idx_pets_name ON pets (name);
+CREATE INDEX IF NOT EXISTS idx_pets_owner_id ON pets (owner_id);
 
 ALTER SEQUENCE pets_id_seq RESTART WITH 100;
 
@@ -81,6 +82,8 @@ CREATE TABLE IF NOT EXISTS visits (
   CONSTRAINT pk_visits PRIMARY KEY (id)
 );
 
+CREATE INDEX IF NOT EXISTS idx_visits_pet_id ON visits (pet_id);
+
 ALTER SEQUENCE visits_id_seq RESTART WITH 100;
 
 CREATE TABLE IF NOT EXISTS users (
@@ -100,3 +103,21 @@ CREATE TABLE IF NOT EXISTS roles (
 
 ALTER TABLE roles ADD CONSTRAINT uni_username_role UNIQUE (role,username);
 ALTER SEQUENCE roles_id_seq RESTART WITH 100;
+
+CREATE TABLE IF NOT EXISTS change_log (
+  id BIGSERIAL,
+  entity VARCHAR(16) NOT NULL,
+  entity_id INT NOT NULL,
+  deleted BOOLEAN NOT NULL,
+  changed_at TIMESTAMP NOT NULL,
+  CONSTRAINT pk_change_log PRIMARY KEY (id),
+  CONSTRAINT unique_change_log_entity UNIQUE (entity, entity_id)
+);
+
+CREATE TABLE IF NOT EXISTS change_log_head (
+  id INT NOT NULL,
+  horizon BIGINT NOT NULL,
+  CONSTRAINT pk_change_log_head PRIMARY KEY (id)
+);
+
+INSERT INTO change_log_head VALUES (1, 0) ON CONFLICT DO NOTHING;
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.reactive.ReactivePetClinicApplication;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+
+/**
+ * Load test of <code>GET /owners</code> on the servlet stack (Tomcat, jdbc profile on HSQLDB) and on the reactive
+ * stack of {@link ReactivePetClinicApplication} (Netty, r2dbc profile on H2), both in memory on the same host. Every
+ * benchmark thread is one client issuing requests back to back, so the score is the number of complete lists served
+ * per second.
+ * <p>
+ * Clients and server share the JVM and its CPUs. To compare throughput per core, run the benchmark once per core
+ * count under <code>taskset</code> and divide the scores by the number of cores, e.g.
+ * <code>taskset -c 0-3 ./mvnw test -Pbenchmark -DskipTests -Dbenchmark.args="ReactiveStackBenchmark"</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class ReactiveStackBenchmark {
+
+    /**
+     * The in-memory database of <code>reactive.properties</code>, opened over JDBC to load the data set.
+     */
+    private static final String REACTIVE_JDBC_URL = "jdbc:h2:mem:petclinic;DB_CLOSE_DELAY=-1";
+
+    @Param({"100", "1000"})
+    private int owners;
+
+    @Param({"servlet", "reactive"})
+    private String stack;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private HttpRequest ownersRequest;
+
+    private HttpRequest delimitedOwnersRequest;
+
+    @Setup
+    public void setUp() {
+        JdbcTemplate jdbcTemplate;
+        if ("reactive".equals(this.stack)) {
+            this.context = new SpringApplicationBuilder(ReactivePetClinicApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("r2dbc")
+                .properties("spring.config.name=reactive")
+                .run("--server.port=0", "--logging.level.org.springframework=WARN");
+            jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(REACTIVE_JDBC_URL, "sa", ""));
+        } else {
+            // the test application.properties comes first on the benchmark classpath and enables security
+            this.context = new SpringApplicationBuilder(PetClinicApplication.class).run(
+                "--spring.profiles.active=hsqldb,jdbc",
+                "--petclinic.security.enable=false",
+                "--server.port=0",
+                "--logging.level.org.springframework=WARN");
+            jdbcTemplate = this.context.getBean(JdbcTemplate.class);
+        }
+        BenchmarkDatabase.replaceOwners(jdbcTemplate, this.owners, 2, 4);
+
+        int port = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+        URI ownersUri = URI.create("http://localhost:" + port + "/petclinic/owners");
+        this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.ownersRequest = HttpRequest.newBuilder(ownersUri)
+            .header("Accept", ProtobufMediaTypes.PROTOBUF.toString()).build();
+        this.delimitedOwnersRequest = HttpRequest.newBuilder(ownersUri)
+            .header("Accept", ProtobufMediaTypes.PROTOBUF_DELIMITED.toString()).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public ProtoOwners list() throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = this.httpClient.send(this.ownersRequest,
+            HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            return ProtoOwners.parseFrom(body);
+        }
+    }
+
+    @Benchmark
+    public void delimited(Blackhole blackhole) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = this.httpClient.send(this.delimitedOwnersRequest,
+            HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            ProtoOwner owner;
+            while ((owner = ProtoOwner.parseDelimitedFrom(body)) != null) {
+                blackhole.consume(owner);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.reactive;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.protobuf.ProtoVets;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test of the WebFlux stack, on a random port, against the r2dbc repositories on the in-memory H2 database of
+ * <code>reactive.properties</code>. The base URL of the client already ends with <code>spring.webflux.base-path</code>.
+ */
+@SpringBootTest(classes = ReactivePetClinicApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"spring.config.name=reactive", "spring.main.web-application-type=reactive"})
+@ActiveProfiles("r2dbc")
+class ReactivePetClinicApplicationTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void shouldListOwnersWithPetsAndVisits() {
+        ProtoOwners owners = this.webTestClient.get().uri("/owners").accept(ProtobufMediaTypes.PROTOBUF)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(ProtobufMediaTypes.PROTOBUF)
+            .expectBody(ProtoOwners.class).returnResult().getResponseBody();
+
+        assertThat(owners.getOwnersCount()).isEqualTo(10);
+        ProtoOwner jean = owners.getOwners(5);
+        assertThat(jean.getLastName()).isEqualTo("Coleman");
+        assertThat(jean.getPetsList()).extracting(pet -> pet.getName()).containsExactly("Max", "Samantha");
+        assertThat(jean.getPets(0).getVisitsCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStreamOwnersAsDelimitedFrames() {
+        List<ProtoOwner> owners = this.webTestClient.get().uri("/owners")
+            .accept(ProtobufMediaTypes.PROTOBUF_DELIMITED)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueMatches("Content-Type", ".*delimited=true.*")
+            .returnResult(ProtoOwner.class).getResponseBody().collectList().block();
+
+        assertThat(owners).extracting(ProtoOwner::getId).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void shouldListVetsWithSpecialties() {
+        ProtoVets vets = this.webTestClient.get().uri("/vets").accept(ProtobufMediaTypes.PROTOBUF)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(ProtoVets.class).returnResult().getResponseBody();
+
+        assertThat(vets.getVetsCount()).isEqualTo(6);
+        assertThat(vets.getVets(1).getSpecialtiesList()).extracting(specialty -> specialty.getName())
+            .containsExactly("radiology");
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownOwner() {
+        this.webTestClient.get().uri("/owners/9999").accept(ProtobufMediaTypes.PROTOBUF)
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldReturnBadRequestForInvalidId() {
+        this.webTestClient.get().uri("/pets/abc").accept(ProtobufMediaTypes.PROTOBUF)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+}
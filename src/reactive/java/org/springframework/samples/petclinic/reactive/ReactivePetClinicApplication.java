@@ -0,0 +1,85 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.ReactiveManagementWebSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.samples.petclinic.repository.r2dbc.R2dbcOwnerRepositoryImpl;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Non-blocking variant of the protobuf API: WebFlux on Netty in front of the r2dbc repositories, on an in-memory H2
+ * database. It serves the read endpoints and the deletion of owners under the same paths and media types as
+ * {@link org.springframework.samples.petclinic.PetClinicApplication}; users, security, caching and the change log
+ * are not part of it.
+ * <p>
+ * It is configured by <code>reactive.properties</code> instead of <code>application.properties</code>, and only
+ * scans its own package and the r2dbc repositories, so that none of the servlet beans are created.
+ */
+@SpringBootApplication(
+    scanBasePackageClasses = {ReactivePetClinicApplication.class, R2dbcOwnerRepositoryImpl.class},
+    exclude = {DataSourceAutoConfiguration.class, ReactiveSecurityAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class, ReactiveManagementWebSecurityAutoConfiguration.class})
+@Profile("r2dbc")
+public class ReactivePetClinicApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactivePetClinicApplication.class)
+            .web(WebApplicationType.REACTIVE)
+            .profiles("r2dbc")
+            .properties("spring.config.name=reactive")
+            .run(args);
+    }
+
+    /**
+     * Tomcat is on the classpath for the servlet application and would otherwise be picked as reactive server.
+     */
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    RouterFunction<ServerResponse> protobufRoutes(ReactiveProtobufHandler handler) {
+        return route()
+            .GET("/owners", handler::listOwners)
+            .GET("/owners/{ownerId}", handler::getOwner)
+            .DELETE("/owners/{ownerId}", handler::deleteOwner)
+            .GET("/pets", handler::listPets)
+            .GET("/pets/{petId}", handler::getPet)
+            .GET("/visits", handler::listVisits)
+            .GET("/visits/{visitId}", handler::getVisit)
+            .GET("/vets", handler::listVets)
+            .GET("/vets/{vetId}", handler::getVet)
+            .GET("/pettypes", handler::listPetTypes)
+            .GET("/pettypes/{petTypeId}", handler::getPetType)
+            .GET("/specialties", handler::listSpecialties)
+            .GET("/specialties/{specialtyId}", handler::getSpecialty)
+            .build();
+    }
+
+}
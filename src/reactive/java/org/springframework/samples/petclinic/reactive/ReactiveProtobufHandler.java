@@ -0,0 +1,180 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.reactive;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.protobuf.Message;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.ProtoPetType;
+import org.springframework.samples.petclinic.protobuf.ProtoPetTypes;
+import org.springframework.samples.petclinic.protobuf.ProtoPets;
+import org.springframework.samples.petclinic.protobuf.ProtoSpecialties;
+import org.springframework.samples.petclinic.protobuf.ProtoSpecialty;
+import org.springframework.samples.petclinic.protobuf.ProtoVet;
+import org.springframework.samples.petclinic.protobuf.ProtoVets;
+import org.springframework.samples.petclinic.protobuf.ProtoVisit;
+import org.springframework.samples.petclinic.protobuf.ProtoVisits;
+import org.springframework.samples.petclinic.repository.ReactiveOwnerRepository;
+import org.springframework.samples.petclinic.repository.ReactivePetRepository;
+import org.springframework.samples.petclinic.repository.ReactivePetTypeRepository;
+import org.springframework.samples.petclinic.repository.ReactiveSpecialtyRepository;
+import org.springframework.samples.petclinic.repository.ReactiveVetRepository;
+import org.springframework.samples.petclinic.repository.ReactiveVisitRepository;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux handlers of the protobuf endpoints, routed by {@link ReactivePetClinicApplication}. Entities are mapped
+ * with {@link ProtoMapper}, so the messages are those of the servlet controllers.
+ * <p>
+ * A list requested as {@link ProtobufMediaTypes#PROTOBUF_DELIMITED} is written as one length-delimited frame per
+ * entity while the repository streams its pages, so that neither the entities nor the response are held in memory
+ * and a slow client holds back the next page query. Otherwise the list is collected into the list message of the
+ * servlet controllers. Unlike the servlet controllers, JSON, field masks and keyset paging are not supported.
+ */
+@Component
+@Profile("r2dbc")
+public class ReactiveProtobufHandler {
+
+    private final ReactiveOwnerRepository ownerRepository;
+
+    private final ReactivePetRepository petRepository;
+
+    private final ReactiveVisitRepository visitRepository;
+
+    private final ReactiveVetRepository vetRepository;
+
+    private final ReactivePetTypeRepository petTypeRepository;
+
+    private final ReactiveSpecialtyRepository specialtyRepository;
+
+    public ReactiveProtobufHandler(ReactiveOwnerRepository ownerRepository, ReactivePetRepository petRepository,
+                                   ReactiveVisitRepository visitRepository, ReactiveVetRepository vetRepository,
+                                   ReactivePetTypeRepository petTypeRepository,
+                                   ReactiveSpecialtyRepository specialtyRepository) {
+        this.ownerRepository = ownerRepository;
+        this.petRepository = petRepository;
+        this.visitRepository = visitRepository;
+        this.vetRepository = vetRepository;
+        this.petTypeRepository = petTypeRepository;
+        this.specialtyRepository = specialtyRepository;
+    }
+
+    public Mono<ServerResponse> listOwners(ServerRequest request) {
+        return list(request, this.ownerRepository.findAll().map(ProtoMapper::toProtoOwner), ProtoOwner.class,
+            owners -> ProtoOwners.newBuilder().addAllOwners(owners).build());
+    }
+
+    public Mono<ServerResponse> getOwner(ServerRequest request) {
+        return withId(request, "ownerId",
+            id -> single(this.ownerRepository.findById(id).map(ProtoMapper::toProtoOwner)));
+    }
+
+    public Mono<ServerResponse> deleteOwner(ServerRequest request) {
+        return withId(request, "ownerId", id -> this.ownerRepository.findById(id)
+            .flatMap(owner -> this.ownerRepository.delete(owner).then(ServerResponse.noContent().build()))
+            .switchIfEmpty(ServerResponse.notFound().build()));
+    }
+
+    public Mono<ServerResponse> listPets(ServerRequest request) {
+        return list(request, this.petRepository.findAll().map(ProtoMapper::toProtoPet), ProtoPet.class,
+            pets -> ProtoPets.newBuilder().addAllPets(pets).build());
+    }
+
+    public Mono<ServerResponse> getPet(ServerRequest request) {
+        return withId(request, "petId", id -> single(this.petRepository.findById(id).map(ProtoMapper::toProtoPet)));
+    }
+
+    public Mono<ServerResponse> listVisits(ServerRequest request) {
+        return list(request, this.visitRepository.findAll().map(ProtoMapper::toProtoVisit), ProtoVisit.class,
+            visits -> ProtoVisits.newBuilder().addAllVisits(visits).build());
+    }
+
+    public Mono<ServerResponse> getVisit(ServerRequest request) {
+        return withId(request, "visitId",
+            id -> single(this.visitRepository.findById(id).map(ProtoMapper::toProtoVisit)));
+    }
+
+    public Mono<ServerResponse> listVets(ServerRequest request) {
+        return list(request, this.vetRepository.findAll().map(ProtoMapper::toProtoVet), ProtoVet.class,
+            vets -> ProtoVets.newBuilder().addAllVets(vets).build());
+    }
+
+    public Mono<ServerResponse> getVet(ServerRequest request) {
+        return withId(request, "vetId", id -> single(this.vetRepository.findById(id).map(ProtoMapper::toProtoVet)));
+    }
+
+    public Mono<ServerResponse> listPetTypes(ServerRequest request) {
+        return list(request, this.petTypeRepository.findAll().map(ProtoMapper::toProtoPetType), ProtoPetType.class,
+            petTypes -> ProtoPetTypes.newBuilder().addAllPetTypes(petTypes).build());
+    }
+
+    public Mono<ServerResponse> getPetType(ServerRequest request) {
+        return withId(request, "petTypeId",
+            id -> single(this.petTypeRepository.findById(id).map(ProtoMapper::toProtoPetType)));
+    }
+
+    public Mono<ServerResponse> listSpecialties(ServerRequest request) {
+        return list(request, this.specialtyRepository.findAll().map(ProtoMapper::toProtoSpecialty),
+            ProtoSpecialty.class, specialties -> ProtoSpecialties.newBuilder().addAllSpecialties(specialties).build());
+    }
+
+    public Mono<ServerResponse> getSpecialty(ServerRequest request) {
+        return withId(request, "specialtyId",
+            id -> single(this.specialtyRepository.findById(id).map(ProtoMapper::toProtoSpecialty)));
+    }
+
+    private static <M extends Message> Mono<ServerResponse> list(ServerRequest request, Flux<M> messages,
+                                                                 Class<M> messageType,
+                                                                 Function<List<M>, Message> aggregate) {
+        if (ProtobufMediaTypes.isDelimitedRequested(request.headers().firstHeader(HttpHeaders.ACCEPT))) {
+            return ServerResponse.ok().contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED).body(messages, messageType);
+        }
+        return messages.collectList().flatMap(list -> ServerResponse.ok()
+            .contentType(ProtobufMediaTypes.PROTOBUF).bodyValue(aggregate.apply(list)));
+    }
+
+    private static Mono<ServerResponse> single(Mono<? extends Message> message) {
+        return message
+            .flatMap(body -> ServerResponse.ok().contentType(ProtobufMediaTypes.PROTOBUF).bodyValue(body))
+            .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    private static Mono<ServerResponse> withId(ServerRequest request, String variable,
+                                               Function<Integer, Mono<ServerResponse>> handler) {
+        int id;
+        try {
+            id = Integer.parseInt(request.pathVariable(variable));
+        } catch (NumberFormatException ex) {
+            return ServerResponse.badRequest().build();
+        }
+        return handler.apply(id);
+    }
+
+}
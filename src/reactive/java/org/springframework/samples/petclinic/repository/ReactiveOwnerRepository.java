@@ -0,0 +1,60 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository;
+
+import org.springframework.samples.petclinic.model.Owner;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link OwnerRepository}, implemented by the r2dbc profile. Owners are always loaded
+ * with their pets, pet types and visits. Failures are signalled as {@link org.springframework.dao.DataAccessException}.
+ */
+public interface ReactiveOwnerRepository {
+
+    /**
+     * Retrieve the owners whose last name starts with the given name.
+     */
+    Flux<Owner> findByLastName(String lastName);
+
+    /**
+     * Retrieve the owner with the given id, or complete empty if there is none.
+     */
+    Mono<Owner> findById(int id);
+
+    /**
+     * Stream all owners in id order. Owners are loaded page by page as they are requested, so a slow subscriber
+     * holds at most one page in memory.
+     */
+    Flux<Owner> findAll();
+
+    /**
+     * Retrieve up to <code>limit</code> owners with an id greater than <code>afterId</code>, in id order.
+     */
+    Flux<Owner> findPage(int afterId, int limit);
+
+    /**
+     * Insert or update the owner, without its pets. A new owner gets its generated id.
+     */
+    Mono<Void> save(Owner owner);
+
+    /**
+     * Delete the owner with its pets and their visits.
+     */
+    Mono<Void> delete(Owner owner);
+
+}
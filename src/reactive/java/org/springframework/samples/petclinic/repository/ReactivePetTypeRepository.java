@@ -0,0 +1,41 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository;
+
+import org.springframework.samples.petclinic.model.PetType;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link PetTypeRepository}, implemented by the r2dbc profile.
+ */
+public interface ReactivePetTypeRepository {
+
+    Mono<PetType> findById(int id);
+
+    Mono<PetType> findByName(String name);
+
+    Flux<PetType> findAll();
+
+    Mono<Void> save(PetType petType);
+
+    /**
+     * Delete the pet type with the pets of that type and their visits.
+     */
+    Mono<Void> delete(PetType petType);
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository;
+
+import java.util.Set;
+
+import org.springframework.samples.petclinic.model.Specialty;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link SpecialtyRepository}, implemented by the r2dbc profile.
+ */
+public interface ReactiveSpecialtyRepository {
+
+    Mono<Specialty> findById(int id);
+
+    Flux<Specialty> findSpecialtiesByNameIn(Set<String> names);
+
+    Flux<Specialty> findAll();
+
+    Mono<Void> save(Specialty specialty);
+
+    /**
+     * Delete the specialty and remove it from the vets that have it.
+     */
+    Mono<Void> delete(Specialty specialty);
+
+}
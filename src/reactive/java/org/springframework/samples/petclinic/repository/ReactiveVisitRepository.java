@@ -0,0 +1,44 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository;
+
+import org.springframework.samples.petclinic.model.Visit;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link VisitRepository}, implemented by the r2dbc profile. The pet of a visit only
+ * carries its id.
+ */
+public interface ReactiveVisitRepository {
+
+    Mono<Visit> findById(int id);
+
+    Flux<Visit> findByPetId(int petId);
+
+    /**
+     * Stream all visits in id order, loading them page by page as they are requested.
+     */
+    Flux<Visit> findAll();
+
+    Flux<Visit> findPage(int afterId, int limit);
+
+    Mono<Void> save(Visit visit);
+
+    Mono<Void> delete(Visit visit);
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.r2dbc;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.repository.ReactiveOwnerRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of the {@link ReactiveOwnerRepository} interface. A page of owners takes three queries:
+ * the owners, then their pets and their visits concurrently.
+ */
+@Repository
+@Profile("r2dbc")
+public class R2dbcOwnerRepositoryImpl implements ReactiveOwnerRepository {
+
+    private static final String OWNER_COLUMNS = "SELECT id, first_name, last_name, address, city, telephone FROM owners";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcOwnerRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Owner> findByLastName(String lastName) {
+        return this.databaseClient.sql(OWNER_COLUMNS + " WHERE last_name LIKE :lastName ORDER BY id")
+            .bind("lastName", lastName + "%")
+            .map(R2dbcRows::owner)
+            .all()
+            .collectList()
+            .flatMap(owners -> R2dbcRows.withPets(this.databaseClient, owners))
+            .flatMapIterable(owners -> owners);
+    }
+
+    @Override
+    public Mono<Owner> findById(int id) {
+        return this.databaseClient.sql(OWNER_COLUMNS + " WHERE id = :id")
+            .bind("id", id)
+            .map(R2dbcRows::owner)
+            .one()
+            .flatMap(owner -> R2dbcRows.withPets(this.databaseClient, List.of(owner)))
+            .map(owners -> owners.get(0));
+    }
+
+    @Override
+    public Flux<Owner> findAll() {
+        return R2dbcRows.pages(this::loadPage, R2dbcRows.PAGE_SIZE);
+    }
+
+    @Override
+    public Flux<Owner> findPage(int afterId, int limit) {
+        return loadPage(afterId, limit).flatMapIterable(owners -> owners);
+    }
+
+    private Mono<List<Owner>> loadPage(int afterId, int limit) {
+        return this.databaseClient.sql(OWNER_COLUMNS + " WHERE id > :afterId ORDER BY id LIMIT :limit")
+            .bind("afterId", afterId)
+            .bind("limit", limit)
+            .map(R2dbcRows::owner)
+            .all()
+            .collectList()
+            .flatMap(owners -> R2dbcRows.withPets(this.databaseClient, owners));
+    }
+
+    @Override
+    public Mono<Void> save(Owner owner) {
+        if (owner.isNew()) {
+            return this.databaseClient.sql("INSERT INTO owners (first_name, last_name, address, city, telephone) "
+                    + "VALUES (:firstName, :lastName, :address, :city, :telephone)")
+                .bind("firstName", R2dbcRows.nullable(owner.getFirstName(), String.class))
+                .bind("lastName", R2dbcRows.nullable(owner.getLastName(), String.class))
+                .bind("address", R2dbcRows.nullable(owner.getAddress(), String.class))
+                .bind("city", R2dbcRows.nullable(owner.getCity(), String.class))
+                .bind("telephone", R2dbcRows.nullable(owner.getTelephone(), String.class))
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Integer.class))
+                .one()
+                .doOnNext(owner::setId)
+                .then();
+        }
+        return this.databaseClient.sql("UPDATE owners SET first_name=:firstName, last_name=:lastName, "
+                + "address=:address, city=:city, telephone=:telephone WHERE id=:id")
+            .bind("firstName", R2dbcRows.nullable(owner.getFirstName(), String.class))
+            .bind("lastName", R2dbcRows.nullable(owner.getLastName(), String.class))
+            .bind("address", R2dbcRows.nullable(owner.getAddress(), String.class))
+            .bind("city", R2dbcRows.nullable(owner.getCity(), String.class))
+            .bind("telephone", R2dbcRows.nullable(owner.getTelephone(), String.class))
+            .bind("id", owner.getId())
+            .then();
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> delete(Owner owner) {
+        return this.databaseClient.sql("DELETE FROM visits WHERE pet_id IN (SELECT id FROM pets WHERE owner_id=:id)")
+            .bind("id", owner.getId())
+            .then()
+            .then(this.databaseClient.sql("DELETE FROM pets WHERE owner_id=:id").bind("id", owner.getId()).then())
+            .then(this.databaseClient.sql("DELETE FROM owners WHERE id=:id").bind("id", owner.getId()).then());
+    }
+
+}
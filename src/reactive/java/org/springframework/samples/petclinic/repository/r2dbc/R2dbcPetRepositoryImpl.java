@@ -0,0 +1,114 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.r2dbc;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.repository.ReactivePetRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of the {@link ReactivePetRepository} interface. A page of pets takes two queries: the pets
+ * with their pet types, then their visits.
+ */
+@Repository
+@Profile("r2dbc")
+public class R2dbcPetRepositoryImpl implements ReactivePetRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcPetRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Pet> findById(int id) {
+        Map<Integer, PetType> petTypes = new HashMap<>();
+        return this.databaseClient.sql(R2dbcRows.PET_COLUMNS + " WHERE pets.id = :id")
+            .bind("id", id)
+            .map(row -> R2dbcRows.pet(row, petTypes))
+            .one()
+            .flatMap(pet -> R2dbcRows.withVisits(this.databaseClient, List.of(pet)))
+            .map(pets -> pets.get(0));
+    }
+
+    @Override
+    public Flux<Pet> findAll() {
+        return R2dbcRows.pages(this::loadPage, R2dbcRows.PAGE_SIZE);
+    }
+
+    @Override
+    public Flux<Pet> findPage(int afterId, int limit) {
+        return loadPage(afterId, limit).flatMapIterable(pets -> pets);
+    }
+
+    private Mono<List<Pet>> loadPage(int afterId, int limit) {
+        Map<Integer, PetType> petTypes = new HashMap<>();
+        return this.databaseClient.sql(R2dbcRows.PET_COLUMNS + " WHERE pets.id > :afterId ORDER BY pets.id LIMIT :limit")
+            .bind("afterId", afterId)
+            .bind("limit", limit)
+            .map(row -> R2dbcRows.pet(row, petTypes))
+            .all()
+            .collectList()
+            .flatMap(pets -> R2dbcRows.withVisits(this.databaseClient, pets));
+    }
+
+    @Override
+    public Mono<Void> save(Pet pet) {
+        if (pet.isNew()) {
+            return this.databaseClient.sql("INSERT INTO pets (name, birth_date, type_id, owner_id) "
+                    + "VALUES (:name, :birthDate, :typeId, :ownerId)")
+                .bind("name", R2dbcRows.nullable(pet.getName(), String.class))
+                .bind("birthDate", R2dbcRows.nullable(pet.getBirthDate(), LocalDate.class))
+                .bind("typeId", pet.getType().getId())
+                .bind("ownerId", pet.getOwner().getId())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Integer.class))
+                .one()
+                .doOnNext(pet::setId)
+                .then();
+        }
+        return this.databaseClient.sql("UPDATE pets SET name=:name, birth_date=:birthDate, type_id=:typeId, "
+                + "owner_id=:ownerId WHERE id=:id")
+            .bind("name", R2dbcRows.nullable(pet.getName(), String.class))
+            .bind("birthDate", R2dbcRows.nullable(pet.getBirthDate(), LocalDate.class))
+            .bind("typeId", pet.getType().getId())
+            .bind("ownerId", pet.getOwner().getId())
+            .bind("id", pet.getId())
+            .then();
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> delete(Pet pet) {
+        return this.databaseClient.sql("DELETE FROM visits WHERE pet_id=:id")
+            .bind("id", pet.getId())
+            .then()
+            .then(this.databaseClient.sql("DELETE FROM pets WHERE id=:id").bind("id", pet.getId()).then());
+    }
+
+}
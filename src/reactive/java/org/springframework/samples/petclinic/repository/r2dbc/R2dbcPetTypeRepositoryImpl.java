@@ -0,0 +1,91 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.r2dbc;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.repository.ReactivePetTypeRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of the {@link ReactivePetTypeRepository} interface.
+ */
+@Repository
+@Profile("r2dbc")
+public class R2dbcPetTypeRepositoryImpl implements ReactivePetTypeRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcPetTypeRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<PetType> findById(int id) {
+        return this.databaseClient.sql("SELECT id, name FROM types WHERE id = :id")
+            .bind("id", id)
+            .map(R2dbcRows::petType)
+            .one();
+    }
+
+    @Override
+    public Mono<PetType> findByName(String name) {
+        return this.databaseClient.sql("SELECT id, name FROM types WHERE name = :name")
+            .bind("name", name)
+            .map(R2dbcRows::petType)
+            .first();
+    }
+
+    @Override
+    public Flux<PetType> findAll() {
+        return this.databaseClient.sql("SELECT id, name FROM types ORDER BY name")
+            .map(R2dbcRows::petType)
+            .all();
+    }
+
+    @Override
+    public Mono<Void> save(PetType petType) {
+        if (petType.isNew()) {
+            return this.databaseClient.sql("INSERT INTO types (name) VALUES (:name)")
+                .bind("name", R2dbcRows.nullable(petType.getName(), String.class))
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Integer.class))
+                .one()
+                .doOnNext(petType::setId)
+                .then();
+        }
+        return this.databaseClient.sql("UPDATE types SET name=:name WHERE id=:id")
+            .bind("name", R2dbcRows.nullable(petType.getName(), String.class))
+            .bind("id", petType.getId())
+            .then();
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> delete(PetType petType) {
+        return this.databaseClient.sql("DELETE FROM visits WHERE pet_id IN (SELECT id FROM pets WHERE type_id=:id)")
+            .bind("id", petType.getId())
+            .then()
+            .then(this.databaseClient.sql("DELETE FROM pets WHERE type_id=:id").bind("id", petType.getId()).then())
+            .then(this.databaseClient.sql("DELETE FROM types WHERE id=:id").bind("id", petType.getId()).then());
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.r2dbc;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import io.r2dbc.spi.Readable;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.samples.petclinic.model.BaseEntity;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.model.Specialty;
+import org.springframework.samples.petclinic.model.Visit;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Row mapping and association loading shared by the R2DBC repositories. Associations are loaded set-based, like
+ * in the jdbc profile: the pets and visits of a page of owners take one query each, whatever the page size.
+ */
+final class R2dbcRows {
+
+    /**
+     * Page size of the <code>findAll</code> streams.
+     */
+    static final int PAGE_SIZE = 500;
+
+    static final String PET_COLUMNS = "SELECT pets.id, pets.name, pets.birth_date, pets.owner_id, "
+        + "types.id AS type_id, types.name AS type_name FROM pets JOIN types ON pets.type_id = types.id";
+
+    static final String VISIT_COLUMNS = "SELECT visits.id, visits.pet_id, visits.visit_date, visits.description";
+
+    private R2dbcRows() {
+    }
+
+    /**
+     * Stream all entities page by page, loading the next page when the previous one has been consumed.
+     */
+    static <T extends BaseEntity> Flux<T> pages(BiFunction<Integer, Integer, Mono<List<T>>> loader, int pageSize) {
+        return loader.apply(0, pageSize)
+            .expand(page -> page.size() < pageSize ? Mono.empty()
+                : loader.apply(page.get(page.size() - 1).getId(), pageSize))
+            .flatMapIterable(Function.identity());
+    }
+
+    static Parameter nullable(Object value, Class<?> type) {
+        return Parameter.fromOrEmpty(value, type);
+    }
+
+    static Owner owner(Readable row) {
+        Owner owner = new Owner();
+        owner.setId(row.get("id", Integer.class));
+        owner.setFirstName(row.get("first_name", String.class));
+        owner.setLastName(row.get("last_name", String.class));
+        owner.setAddress(row.get("address", String.class));
+        owner.setCity(row.get("city", String.class));
+        owner.setTelephone(row.get("telephone", String.class));
+        return owner;
+    }
+
+    /**
+     * Map a row of {@link #PET_COLUMNS}. The owner only carries its id; pet types are shared through the map.
+     */
+    static Pet pet(Readable row, Map<Integer, PetType> petTypes) {
+        Pet pet = new Pet();
+        pet.setId(row.get("id", Integer.class));
+        pet.setName(row.get("name", String.class));
+        pet.setBirthDate(row.get("birth_date", LocalDate.class));
+        Integer typeId = row.get("type_id", Integer.class);
+        PetType petType = petTypes.get(typeId);
+        if (petType == null) {
+            petType = new PetType();
+            petType.setId(typeId);
+            petType.setName(row.get("type_name", String.class));
+            petTypes.put(typeId, petType);
+        }
+        pet.setType(petType);
+        Owner owner = new Owner();
+        owner.setId(row.get("owner_id", Integer.class));
+        pet.setOwner(owner);
+        return pet;
+    }
+
+    /**
+     * Map a row of {@link #VISIT_COLUMNS}. The pet only carries its id.
+     */
+    static Visit visit(Readable row) {
+        Visit visit = new Visit();
+        visit.setId(row.get("id", Integer.class));
+        visit.setDate(row.get("visit_date", LocalDate.class));
+        visit.setDescription(row.get("description", String.class));
+        Pet pet = new Pet();
+        pet.setId(row.get("pet_id", Integer.class));
+        visit.setPet(pet);
+        return visit;
+    }
+
+    static PetType petType(Readable row) {
+        PetType petType = new PetType();
+        petType.setId(row.get("id", Integer.class));
+        petType.setName(row.get("name", String.class));
+        return petType;
+    }
+
+    static Specialty specialty(Readable row) {
+        Specialty specialty = new Specialty();
+        specialty.setId(row.get("id", Integer.class));
+        specialty.setName(row.get("name", String.class));
+        return specialty;
+    }
+
+    /**
+     * Load the pets of the owners with their pet types and visits, with one query for the pets and one for the
+     * visits, run concurrently.
+     */
+    static Mono<List<Owner>> withPets(DatabaseClient databaseClient, List<Owner> owners) {
+        if (owners.isEmpty()) {
+            return Mono.just(owners);
+        }
+        List<Integer> ownerIds = owners.stream().map(Owner::getId).toList();
+        Map<Integer, PetType> petTypes = new HashMap<>();
+        Mono<List<Pet>> pets = databaseClient.sql(PET_COLUMNS + " WHERE pets.owner_id IN (:ownerIds)")
+            .bind("ownerIds", ownerIds)
+            .map(row -> pet(row, petTypes))
+            .all()
+            .collectList();
+        Mono<List<Visit>> visits = databaseClient
+            .sql(VISIT_COLUMNS + " FROM visits JOIN pets ON visits.pet_id = pets.id WHERE pets.owner_id IN (:ownerIds)")
+            .bind("ownerIds", ownerIds)
+            .map(R2dbcRows::visit)
+            .all()
+            .collectList();
+        return Mono.zip(pets, visits).map(loaded -> {
+            Map<Integer, Owner> ownersById = byId(owners);
+            for (Pet pet : loaded.getT1()) {
+                ownersById.get(pet.getOwner().getId()).addPet(pet);
+            }
+            addVisits(loaded.getT1(), loaded.getT2());
+            return owners;
+        });
+    }
+
+    /**
+     * Load the visits of the pets, with one query.
+     */
+    static Mono<List<Pet>> withVisits(DatabaseClient databaseClient, List<Pet> pets) {
+        if (pets.isEmpty()) {
+            return Mono.just(pets);
+        }
+        return databaseClient.sql(VISIT_COLUMNS + " FROM visits WHERE visits.pet_id IN (:petIds)")
+            .bind("petIds", pets.stream().map(Pet::getId).toList())
+            .map(R2dbcRows::visit)
+            .all()
+            .collectList()
+            .map(visits -> {
+                addVisits(pets, visits);
+                return pets;
+            });
+    }
+
+    private static void addVisits(Collection<Pet> pets, List<Visit> visits) {
+        Map<Integer, Pet> petsById = byId(pets);
+        for (Visit visit : visits) {
+            petsById.get(visit.getPet().getId()).addVisit(visit);
+        }
+    }
+
+    private static <T extends BaseEntity> Map<Integer, T> byId(Collection<T> entities) {
+        Map<Integer, T> byId = new HashMap<>(entities.size() * 2);
+        for (T entity : entities) {
+            byId.put(entity.getId(), entity);
+        }
+        return byId;
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.r2dbc;
+
+import java.util.Set;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.samples.petclinic.model.Specialty;
+import org.springframework.samples.petclinic.repository.ReactiveSpecialtyRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of the {@link ReactiveSpecialtyRepository} interface.
+ */
+@Repository
+@Profile("r2dbc")
+public class R2dbcSpecialtyRepositoryImpl implements ReactiveSpecialtyRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcSpecialtyRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Specialty> findById(int id) {
+        return this.databaseClient.sql("SELECT id, name FROM specialties WHERE id = :id")
+            .bind("id", id)
+            .map(R2dbcRows::specialty)
+            .one();
+    }
+
+    @Override
+    public Flux<Specialty> findSpecialtiesByNameIn(Set<String> names) {
+        if (names.isEmpty()) {
+            return Flux.empty();
+        }
+        return this.databaseClient.sql("SELECT id, name FROM specialties WHERE name IN (:names)")
+            .bind("names", names)
+            .map(R2dbcRows::specialty)
+            .all();
+    }
+
+    @Override
+    public Flux<Specialty> findAll() {
+        return this.databaseClient.sql("SELECT id, name FROM specialties ORDER BY name")
+            .map(R2dbcRows::specialty)
+            .all();
+    }
+
+    @Override
+    public Mono<Void> save(Specialty specialty) {
+        if (specialty.isNew()) {
+            return this.databaseClient.sql("INSERT INTO specialties (name) VALUES (:name)")
+                .bind("name", R2dbcRows.nullable(specialty.getName(), String.class))
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Integer.class))
+                .one()
+                .doOnNext(specialty::setId)
+                .then();
+        }
+        return this.databaseClient.sql("UPDATE specialties SET name=:name WHERE id=:id")
+            .bind("name", R2dbcRows.nullable(specialty.getName(), String.class))
+            .bind("id", specialty.getId())
+            .then();
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> delete(Specialty specialty) {
+        return this.databaseClient.sql("DELETE FROM vet_specialties WHERE specialty_id=:id")
+            .bind("id", specialty.getId())
+            .then()
+            .then(this.databaseClient.sql("DELETE FROM specialties WHERE id=:id").bind("id", specialty.getId()).then());
+    }
+
+}
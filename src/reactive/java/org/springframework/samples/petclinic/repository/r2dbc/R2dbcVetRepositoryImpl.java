@@ -0,0 +1,180 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.r2dbc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.r2dbc.spi.Readable;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.samples.petclinic.model.Specialty;
+import org.springframework.samples.petclinic.model.Vet;
+import org.springframework.samples.petclinic.repository.ReactiveVetRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of the {@link ReactiveVetRepository} interface. Vets and their specialties are read with a
+ * single join query, like in the jdbc profile.
+ */
+@Repository
+@Profile("r2dbc")
+public class R2dbcVetRepositoryImpl implements ReactiveVetRepository {
+
+    private static final String VET_SPECIALTIES_COLUMNS =
+        "SELECT vets.id, first_name, last_name, specialties.id AS specialty_id, specialties.name AS specialty_name ";
+
+    private static final String SPECIALTIES_JOIN =
+        " LEFT OUTER JOIN vet_specialties ON vets.id = vet_specialties.vet_id " +
+            "LEFT OUTER JOIN specialties ON vet_specialties.specialty_id = specialties.id";
+
+    /**
+     * One page of vets, limited in a derived table so the limit counts vets rather than joined rows.
+     */
+    private static final String VET_PAGE_WITH_SPECIALTIES = VET_SPECIALTIES_COLUMNS +
+        "FROM (SELECT id, first_name, last_name FROM vets WHERE id > :afterId ORDER BY id LIMIT :limit) vets" +
+        SPECIALTIES_JOIN + " ORDER BY vets.id";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcVetRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Vet> findById(int id) {
+        return this.databaseClient.sql(VET_SPECIALTIES_COLUMNS + "FROM vets" + SPECIALTIES_JOIN + " WHERE vets.id = :id")
+            .bind("id", id)
+            .map(VetRow::of)
+            .all()
+            .collectList()
+            .flatMap(rows -> rows.isEmpty() ? Mono.empty() : Mono.just(toVets(rows).get(0)));
+    }
+
+    @Override
+    public Flux<Vet> findAll() {
+        return R2dbcRows.pages(this::loadPage, R2dbcRows.PAGE_SIZE);
+    }
+
+    @Override
+    public Flux<Vet> findPage(int afterId, int limit) {
+        return loadPage(afterId, limit).flatMapIterable(vets -> vets);
+    }
+
+    private Mono<List<Vet>> loadPage(int afterId, int limit) {
+        return this.databaseClient.sql(VET_PAGE_WITH_SPECIALTIES)
+            .bind("afterId", afterId)
+            .bind("limit", limit)
+            .map(VetRow::of)
+            .all()
+            .collectList()
+            .map(R2dbcVetRepositoryImpl::toVets);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> save(Vet vet) {
+        Mono<Void> saveVet;
+        if (vet.isNew()) {
+            saveVet = this.databaseClient.sql("INSERT INTO vets (first_name, last_name) VALUES (:firstName, :lastName)")
+                .bind("firstName", R2dbcRows.nullable(vet.getFirstName(), String.class))
+                .bind("lastName", R2dbcRows.nullable(vet.getLastName(), String.class))
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Integer.class))
+                .one()
+                .doOnNext(vet::setId)
+                .then();
+        } else {
+            saveVet = this.databaseClient.sql("UPDATE vets SET first_name=:firstName, last_name=:lastName WHERE id=:id")
+                .bind("firstName", R2dbcRows.nullable(vet.getFirstName(), String.class))
+                .bind("lastName", R2dbcRows.nullable(vet.getLastName(), String.class))
+                .bind("id", vet.getId())
+                .then();
+        }
+        return saveVet.then(Mono.defer(() -> updateVetSpecialties(vet)));
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> delete(Vet vet) {
+        return this.databaseClient.sql("DELETE FROM vet_specialties WHERE vet_id=:id")
+            .bind("id", vet.getId())
+            .then()
+            .then(this.databaseClient.sql("DELETE FROM vets WHERE id=:id").bind("id", vet.getId()).then());
+    }
+
+    private Mono<Void> updateVetSpecialties(Vet vet) {
+        Mono<Void> clear = this.databaseClient.sql("DELETE FROM vet_specialties WHERE vet_id=:id")
+            .bind("id", vet.getId())
+            .then();
+        return clear.thenMany(Flux.fromIterable(vet.getSpecialties()))
+            .filter(specialty -> specialty.getId() != null)
+            .concatMap(specialty -> this.databaseClient.sql("INSERT INTO vet_specialties VALUES (:id, :specId)")
+                .bind("id", vet.getId())
+                .bind("specId", specialty.getId())
+                .then())
+            .then();
+    }
+
+    /**
+     * Builds vets from rows of the join, where the rows of one vet are adjacent. Specialties are looked up by id,
+     * so each one is created once and shared between vets.
+     */
+    private static List<Vet> toVets(List<VetRow> rows) {
+        List<Vet> vets = new ArrayList<>();
+        Map<Integer, Specialty> specialtiesById = new HashMap<>();
+        Vet current = null;
+        for (VetRow row : rows) {
+            if (current == null || current.getId() != row.id()) {
+                current = new Vet();
+                current.setId(row.id());
+                current.setFirstName(row.firstName());
+                current.setLastName(row.lastName());
+                vets.add(current);
+            }
+            if (row.specialtyId() == null) {
+                continue;
+            }
+            Specialty specialty = specialtiesById.get(row.specialtyId());
+            if (specialty == null) {
+                specialty = new Specialty();
+                specialty.setId(row.specialtyId());
+                specialty.setName(row.specialtyName());
+                specialtiesById.put(row.specialtyId(), specialty);
+            }
+            current.addSpecialty(specialty);
+        }
+        return vets;
+    }
+
+    private record VetRow(int id, String firstName, String lastName, Integer specialtyId, String specialtyName) {
+
+        static VetRow of(Readable row) {
+            return new VetRow(row.get("id", Integer.class), row.get("first_name", String.class),
+                row.get("last_name", String.class), row.get("specialty_id", Integer.class),
+                row.get("specialty_name", String.class));
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.r2dbc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.repository.ReactiveVisitRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of the {@link ReactiveVisitRepository} interface.
+ */
+@Repository
+@Profile("r2dbc")
+public class R2dbcVisitRepositoryImpl implements ReactiveVisitRepository {
+
+    private static final String VISITS = R2dbcRows.VISIT_COLUMNS + " FROM visits";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcVisitRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Visit> findById(int id) {
+        return this.databaseClient.sql(VISITS + " WHERE id = :id")
+            .bind("id", id)
+            .map(R2dbcRows::visit)
+            .one();
+    }
+
+    @Override
+    public Flux<Visit> findByPetId(int petId) {
+        return this.databaseClient.sql(VISITS + " WHERE pet_id = :petId ORDER BY id")
+            .bind("petId", petId)
+            .map(R2dbcRows::visit)
+            .all();
+    }
+
+    @Override
+    public Flux<Visit> findAll() {
+        return R2dbcRows.pages(this::loadPage, R2dbcRows.PAGE_SIZE);
+    }
+
+    @Override
+    public Flux<Visit> findPage(int afterId, int limit) {
+        return loadPage(afterId, limit).flatMapIterable(visits -> visits);
+    }
+
+    private Mono<List<Visit>> loadPage(int afterId, int limit) {
+        return this.databaseClient.sql(VISITS + " WHERE id > :afterId ORDER BY id LIMIT :limit")
+            .bind("afterId", afterId)
+            .bind("limit", limit)
+            .map(R2dbcRows::visit)
+            .all()
+            .collectList();
+    }
+
+    @Override
+    public Mono<Void> save(Visit visit) {
+        if (visit.isNew()) {
+            return this.databaseClient.sql("INSERT INTO visits (pet_id, visit_date, description) "
+                    + "VALUES (:petId, :date, :description)")
+                .bind("petId", visit.getPet().getId())
+                .bind("date", R2dbcRows.nullable(visit.getDate(), LocalDate.class))
+                .bind("description", R2dbcRows.nullable(visit.getDescription(), String.class))
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Integer.class))
+                .one()
+                .doOnNext(visit::setId)
+                .then();
+        }
+        return this.databaseClient.sql("UPDATE visits SET pet_id=:petId, visit_date=:date, description=:description "
+                + "WHERE id=:id")
+            .bind("petId", visit.getPet().getId())
+            .bind("date", R2dbcRows.nullable(visit.getDate(), LocalDate.class))
+            .bind("description", R2dbcRows.nullable(visit.getDescription(), String.class))
+            .bind("id", visit.getId())
+            .then();
+    }
+
+    @Override
+    public Mono<Void> delete(Visit visit) {
+        return this.databaseClient.sql("DELETE FROM visits WHERE id=:id").bind("id", visit.getId()).then();
+    }
+
+}
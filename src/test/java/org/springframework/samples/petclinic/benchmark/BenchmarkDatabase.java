@@ -0,0 +1,96 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.benchmark;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Builds an in-memory HSQLDB with the petclinic schema and a generated data set large enough for the list
+ * endpoints to matter. Shared by the JMH benchmarks in this package.
+ */
+final class BenchmarkDatabase {
+
+    private static final String[] PET_TYPES = {"cat", "dog", "lizard", "snake", "bird", "hamster"};
+
+    private BenchmarkDatabase() {
+    }
+
+    static EmbeddedDatabase create(int owners, int petsPerOwner, int visitsPerPet) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.HSQL)
+            .addScript("classpath:db/hsqldb/initDB.sql")
+            .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+
+        List<Object[]> types = new ArrayList<>();
+        for (int i = 0; i < PET_TYPES.length; i++) {
+            types.add(new Object[]{i + 1, PET_TYPES[i]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO types (id, name) VALUES (?, ?)", types);
+        insertOwners(jdbcTemplate, owners, petsPerOwner, visitsPerPet);
+        return database;
+    }
+
+    /**
+     * Replace the owners, pets and visits of a database that has the pet types of <code>populateDB.sql</code>,
+     * such as the one of a running application, with the generated data set.
+     */
+    static void replaceOwners(JdbcTemplate jdbcTemplate, int owners, int petsPerOwner, int visitsPerPet) {
+        jdbcTemplate.update("DELETE FROM visits");
+        jdbcTemplate.update("DELETE FROM pets");
+        jdbcTemplate.update("DELETE FROM owners");
+        insertOwners(jdbcTemplate, owners, petsPerOwner, visitsPerPet);
+    }
+
+    private static void insertOwners(JdbcTemplate jdbcTemplate, int owners, int petsPerOwner, int visitsPerPet) {
+        List<Object[]> ownerRows = new ArrayList<>();
+        List<Object[]> petRows = new ArrayList<>();
+        List<Object[]> visitRows = new ArrayList<>();
+        Date birthDate = Date.valueOf(LocalDate.of(2015, 3, 1));
+        Date visitDate = Date.valueOf(LocalDate.of(2023, 6, 15));
+        int petId = 0;
+        int visitId = 0;
+        for (int ownerId = 1; ownerId <= owners; ownerId++) {
+            ownerRows.add(new Object[]{ownerId, "First" + ownerId, "Last" + ownerId, ownerId + " Main St.",
+                "Madison", String.format("608%07d", ownerId)});
+            for (int p = 0; p < petsPerOwner; p++) {
+                petId++;
+                petRows.add(new Object[]{petId, "Pet" + petId, birthDate, petId % PET_TYPES.length + 1, ownerId});
+                for (int v = 0; v < visitsPerPet; v++) {
+                    visitId++;
+                    visitRows.add(new Object[]{visitId, petId, visitDate, "routine check " + visitId});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO owners (id, first_name, last_name, address, city, telephone) VALUES (?, ?, ?, ?, ?, ?)",
+            ownerRows);
+        jdbcTemplate.batchUpdate("INSERT INTO pets (id, name, birth_date, type_id, owner_id) VALUES (?, ?, ?, ?, ?)",
+            petRows);
+        jdbcTemplate.batchUpdate("INSERT INTO visits (id, pet_id, visit_date, description) VALUES (?, ?, ?, ?)",
+            visitRows);
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.repository.jdbc.JdbcOwnerRepositoryImpl;
+import org.springframework.samples.petclinic.rest.converter.ResponseCompression;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Measures {@link ResponseCompression} on the <code>ProtoOwners</code> body of <code>GET /owners</code> for a
+ * generated data set, per coding: the time to compress the body into a response that discards it, and once per trial the
+ * compressed size.
+ * <p>
+ * Run with <code>./mvnw test -Pbenchmark -DskipTests -Dbenchmark.args="CompressionBenchmark -prof gc"</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"1000"})
+    private int owners;
+
+    @Param({"identity", "lz4", "gzip"})
+    private String encoding;
+
+    private final ResponseCompression compression = new ResponseCompression(new SimpleMeterRegistry(), 0, Map.of());
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        EmbeddedDatabase database = BenchmarkDatabase.create(this.owners, 2, 4);
+        ProtoOwners.Builder builder = ProtoOwners.newBuilder();
+        try {
+            for (Owner owner : new JdbcOwnerRepositoryImpl(database).findAll()) {
+                builder.addOwners(ProtoMapper.toProtoOwner(owner));
+            }
+        } finally {
+            database.shutdown();
+        }
+        this.payload = builder.build().toByteArray();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/owners");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/owners");
+        request.addHeader("Accept-Encoding", this.encoding);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        DiscardingResponse response = new DiscardingResponse();
+        write(response);
+        System.out.printf("%n%d owners, %s: %d of %d bytes%n", this.owners, this.encoding,
+            response.body.written, this.payload.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public long compress() throws IOException {
+        DiscardingResponse response = new DiscardingResponse();
+        write(response);
+        return response.body.written;
+    }
+
+    private void write(DiscardingResponse servletResponse) throws IOException {
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        try (OutputStream body = this.compression.encode(response, this.payload.length)) {
+            body.write(this.payload);
+        }
+        response.flush();
+    }
+
+    /**
+     * Counts the bytes of the body instead of keeping them, which the mock response would copy one by one.
+     */
+    private static final class DiscardingResponse extends MockHttpServletResponse {
+
+        private final DiscardingOutputStream body = new DiscardingOutputStream();
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return this.body;
+        }
+
+    }
+
+    private static final class DiscardingOutputStream extends ServletOutputStream {
+
+        private long written;
+
+        @Override
+        public void write(int b) {
+            this.written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            this.written += len;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.protobuf.PetClinicGrpc;
+import org.springframework.samples.petclinic.protobuf.ProtoListRequest;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+
+/**
+ * Load test of the complete owner list over the three transports of a running application on the same host: REST
+ * (<code>GET /owners</code> as one <code>ProtoOwners</code> and as delimited <code>ProtoOwner</code> messages over
+ * HTTP/1.1), the unary gRPC call <code>ListOwners</code> and the server-streaming call <code>StreamOwners</code>,
+ * both over Netty on HTTP/2. Every benchmark thread is one client issuing calls back to back, so the score is the
+ * number of complete lists served per second by the application under that load.
+ * <p>
+ * With the jdbc profile, the REST list is encoded straight from the <code>ResultSet</code> while gRPC goes through
+ * <code>ClinicService</code>; the spring-data-jpa profile serves both through <code>ClinicService</code>.
+ * <p>
+ * Run with <code>./mvnw test -Pbenchmark -DskipTests -Dbenchmark.args="GrpcBenchmark -t 32"</code> to change the
+ * number of concurrent clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class GrpcBenchmark {
+
+    @Param({"100", "1000"})
+    private int owners;
+
+    @Param({"jdbc", "spring-data-jpa"})
+    private String repository;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private HttpRequest ownersRequest;
+
+    private HttpRequest delimitedOwnersRequest;
+
+    private ManagedChannel channel;
+
+    private PetClinicGrpc.PetClinicBlockingStub stub;
+
+    @Setup
+    public void setUp() {
+        // the test application.properties comes first on the benchmark classpath and enables security
+        this.context = new SpringApplicationBuilder(PetClinicApplication.class).run(
+            "--spring.profiles.active=hsqldb," + this.repository,
+            "--petclinic.security.enable=false",
+            "--server.port=0",
+            "--petclinic.grpc.enabled=true",
+            "--petclinic.grpc.port=0",
+            "--logging.level.org.springframework=WARN");
+        BenchmarkDatabase.replaceOwners(this.context.getBean(JdbcTemplate.class), this.owners, 2, 4);
+
+        int httpPort = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+        URI ownersUri = URI.create("http://localhost:" + httpPort + "/petclinic/owners");
+        this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.ownersRequest = HttpRequest.newBuilder(ownersUri)
+            .header("Accept", ProtobufMediaTypes.PROTOBUF.toString()).build();
+        this.delimitedOwnersRequest = HttpRequest.newBuilder(ownersUri)
+            .header("Accept", ProtobufMediaTypes.PROTOBUF_DELIMITED.toString()).build();
+
+        int grpcPort = this.context.getBean("grpcServer", Server.class).getPort();
+        this.channel = NettyChannelBuilder.forAddress("localhost", grpcPort).usePlaintext()
+            .maxInboundMessageSize(Integer.MAX_VALUE).build();
+        this.stub = PetClinicGrpc.newBlockingStub(this.channel);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        this.channel.shutdown().awaitTermination(10, TimeUnit.SECONDS);
+        this.context.close();
+    }
+
+    @Benchmark
+    public ProtoOwners rest() throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = this.httpClient.send(this.ownersRequest,
+            HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            return ProtoOwners.parseFrom(body);
+        }
+    }
+
+    @Benchmark
+    public void restDelimited(Blackhole blackhole) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = this.httpClient.send(this.delimitedOwnersRequest,
+            HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            ProtoOwner owner;
+            while ((owner = ProtoOwner.parseDelimitedFrom(body)) != null) {
+                blackhole.consume(owner);
+            }
+        }
+    }
+
+    @Benchmark
+    public ProtoOwners grpcUnary() {
+        return this.stub.listOwners(ProtoListRequest.getDefaultInstance());
+    }
+
+    @Benchmark
+    public void grpcStreaming(Blackhole blackhole) {
+        Iterator<ProtoOwner> owners = this.stub.streamOwners(ProtoListRequest.getDefaultInstance());
+        while (owners.hasNext()) {
+            blackhole.consume(owners.next());
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.googlecode.protobuf.format.JsonFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.samples.petclinic.mapper.OwnerMapper;
+import org.springframework.samples.petclinic.mapper.OwnerMapperImpl;
+import org.springframework.samples.petclinic.mapper.PetMapperImpl;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.repository.jdbc.JdbcOwnerRepositoryImpl;
+import org.springframework.samples.petclinic.rest.converter.ProtobufJsonWriter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Compares the JSON body of <code>GET /owners</code> written by {@link ProtobufJsonWriter} with the binary protobuf
+ * body, with the generic protobuf-java-format formatter and with Jackson serializing the generated
+ * <code>OwnerDto</code> classes. Each benchmark maps the owners of a generated data set and writes them to a stream.
+ * The payload sizes are printed once per trial.
+ * <p>
+ * Run with <code>./mvnw test -Pbenchmark -DskipTests -Dbenchmark.args="JsonSerializationBenchmark -prof gc"</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"1000"})
+    private int owners;
+
+    private Collection<Owner> ownerEntities;
+
+    private OwnerMapper ownerMapper;
+
+    private ObjectMapper objectMapper;
+
+    private final JsonFormat jsonFormat = new JsonFormat();
+
+    @Setup
+    public void setUp() throws IOException {
+        EmbeddedDatabase database = BenchmarkDatabase.create(this.owners, 2, 4);
+        try {
+            this.ownerEntities = new JdbcOwnerRepositoryImpl(database).findAll();
+        } finally {
+            database.shutdown();
+        }
+        this.ownerMapper = new OwnerMapperImpl();
+        ReflectionTestUtils.setField(this.ownerMapper, "petMapper", new PetMapperImpl());
+        this.objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        System.out.printf("%n%d owners: protobuf %d bytes, JSON %d bytes, protobuf-java-format %d bytes, "
+                + "Jackson %d bytes%n", this.owners, protobuf(), protobufJson(),
+            protobufJavaFormat(), jackson());
+    }
+
+    @Benchmark
+    public int protobuf() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        toProtoOwners().writeTo(out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int protobufJson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ProtobufJsonWriter.write(toProtoOwners(), out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int protobufJavaFormat() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.jsonFormat.print(toProtoOwners(), out, StandardCharsets.UTF_8);
+        return out.size();
+    }
+
+    @Benchmark
+    public int jackson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.objectMapper.writeValue(out, this.ownerMapper.toOwnerDtoCollection(this.ownerEntities));
+        return out.size();
+    }
+
+    private ProtoOwners toProtoOwners() {
+        ProtoOwners.Builder builder = ProtoOwners.newBuilder();
+        for (Owner owner : this.ownerEntities) {
+            builder.addOwners(ProtoMapper.toProtoOwner(owner));
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.repository.jdbc.JdbcOwnerRepositoryImpl;
+import org.springframework.samples.petclinic.repository.jdbc.JdbcProtoListRepositoryImpl;
+
+/**
+ * Compares the two ways of answering <code>GET /owners</code> with the jdbc profile: hydrating entities through
+ * {@link JdbcOwnerRepositoryImpl#findAll()} and mapping them to protobuf, versus encoding the rows directly with
+ * {@link JdbcProtoListRepositoryImpl#writeOwners(OutputStream, boolean)}.
+ * <p>
+ * Run with <code>./mvnw test -Pbenchmark -DskipTests -Dbenchmark.args="OwnerListBenchmark -prof gc"</code>;
+ * the gc profiler reports the allocation rate per operation next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OwnerListBenchmark {
+
+    @Param({"100", "1000"})
+    private int owners;
+
+    private EmbeddedDatabase database;
+
+    private JdbcOwnerRepositoryImpl ownerRepository;
+
+    private JdbcProtoListRepositoryImpl protoListRepository;
+
+    @Setup
+    public void setUp() {
+        this.database = BenchmarkDatabase.create(this.owners, 2, 4);
+        this.ownerRepository = new JdbcOwnerRepositoryImpl(this.database);
+        this.protoListRepository = new JdbcProtoListRepositoryImpl(this.database,
+            new DataSourceTransactionManager(this.database), 500);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Benchmark
+    public void entityPath() throws IOException {
+        ProtoOwners.Builder builder = ProtoOwners.newBuilder();
+        for (Owner owner : this.ownerRepository.findAll()) {
+            builder.addOwners(ProtoMapper.toProtoOwner(owner));
+        }
+        builder.build().writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void directEncoder() throws IOException {
+        this.protoListRepository.writeOwners(OutputStream.nullOutputStream(), false);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.repository.jdbc.JdbcOwnerRepositoryImpl;
+import org.springframework.samples.petclinic.repository.jdbc.JdbcPetRepositoryImpl;
+import org.springframework.samples.petclinic.repository.jdbc.JdbcVisitRepositoryImpl;
+import org.springframework.samples.petclinic.util.EntityUtils;
+
+/**
+ * Compares {@link JdbcPetRepositoryImpl#findById(int)} with the former lookup through the owner, which loaded all
+ * of the owner's pets and visits to pick one pet. Owners have many pets with long visit histories.
+ * <p>
+ * Run with <code>./mvnw test -Pbenchmark -DskipTests -Dbenchmark.args="PetLookupBenchmark -prof gc"</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PetLookupBenchmark {
+
+    private static final int OWNERS = 50;
+
+    @Param({"5", "20"})
+    private int petsPerOwner;
+
+    @Param({"10", "100"})
+    private int visitsPerPet;
+
+    private EmbeddedDatabase database;
+
+    private JdbcOwnerRepositoryImpl ownerRepository;
+
+    private JdbcPetRepositoryImpl petRepository;
+
+    private int petId;
+
+    private int ownerId;
+
+    @Setup
+    public void setUp() {
+        this.database = BenchmarkDatabase.create(OWNERS, this.petsPerOwner, this.visitsPerPet);
+        this.ownerRepository = new JdbcOwnerRepositoryImpl(this.database);
+        this.petRepository = new JdbcPetRepositoryImpl(this.database, new JdbcVisitRepositoryImpl(this.database));
+        this.ownerId = OWNERS / 2;
+        this.petId = (this.ownerId - 1) * this.petsPerOwner + 1;
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Benchmark
+    public Pet throughOwner() {
+        Owner owner = this.ownerRepository.findById(this.ownerId);
+        return EntityUtils.getById(owner.getPets(), Pet.class, this.petId);
+    }
+
+    @Benchmark
+    public Pet directLoader() {
+        return this.petRepository.findById(this.petId);
+    }
+
+}
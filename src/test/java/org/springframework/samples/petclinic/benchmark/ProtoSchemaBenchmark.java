@@ -0,0 +1,102 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.samples.petclinic.mapper.ProtoFieldMask;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.mapper.ProtoV2Mapper;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.repository.jdbc.JdbcOwnerRepositoryImpl;
+
+/**
+ * Compares the v1 and v2 encodings of <code>GET /owners</code>: mapping and serializing the owners, and parsing the
+ * payload back, on a generated data set. The payload sizes of both versions are printed once per trial.
+ * <p>
+ * Run with <code>./mvnw test -Pbenchmark -DskipTests -Dbenchmark.args="ProtoSchemaBenchmark -prof gc"</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtoSchemaBenchmark {
+
+    @Param({"1000", "10000"})
+    private int owners;
+
+    private Collection<Owner> ownerEntities;
+
+    private byte[] v1Payload;
+
+    private byte[] v2Payload;
+
+    @Setup
+    public void setUp() {
+        EmbeddedDatabase database = BenchmarkDatabase.create(this.owners, 2, 4);
+        try {
+            this.ownerEntities = new JdbcOwnerRepositoryImpl(database).findAll();
+        } finally {
+            database.shutdown();
+        }
+        this.v1Payload = encodeV1();
+        this.v2Payload = encodeV2();
+        System.out.printf("%n%d owners: v1 %d bytes, v2 %d bytes (%.1f%% of v1)%n", this.owners,
+            this.v1Payload.length, this.v2Payload.length, 100.0 * this.v2Payload.length / this.v1Payload.length);
+    }
+
+    @Benchmark
+    public byte[] encodeV1() {
+        ProtoOwners.Builder builder = ProtoOwners.newBuilder();
+        for (Owner owner : this.ownerEntities) {
+            builder.addOwners(ProtoMapper.toProtoOwner(owner));
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeV2() {
+        return ProtoV2Mapper.toProtoOwners(this.ownerEntities, ProtoFieldMask.all()).build().toByteArray();
+    }
+
+    @Benchmark
+    public ProtoOwners decodeV1() throws InvalidProtocolBufferException {
+        return ProtoOwners.parseFrom(this.v1Payload);
+    }
+
+    @Benchmark
+    public org.springframework.samples.petclinic.protobuf.v2.ProtoOwners decodeV2() throws InvalidProtocolBufferException {
+        return org.springframework.samples.petclinic.protobuf.v2.ProtoOwners.parseFrom(this.v2Payload);
+    }
+
+}
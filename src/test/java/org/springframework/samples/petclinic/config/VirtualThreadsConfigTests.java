@@ -0,0 +1,42 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link VirtualThreadsConfig}
+ */
+class VirtualThreadsConfigTests {
+
+    @Test
+    void shouldRejectDriversWithMonitorGuardedIo() {
+        assertThat(VirtualThreadsConfig.pinsCarrierOnIo("MySQL Connector/J", 8, 0)).isTrue();
+        assertThat(VirtualThreadsConfig.pinsCarrierOnIo("MySQL Connector/J", 5, 1)).isTrue();
+        assertThat(VirtualThreadsConfig.pinsCarrierOnIo("PostgreSQL JDBC Driver", 42, 5)).isTrue();
+    }
+
+    @Test
+    void shouldAcceptLockBasedAndInMemoryDrivers() {
+        assertThat(VirtualThreadsConfig.pinsCarrierOnIo("MySQL Connector/J", 8, 1)).isFalse();
+        assertThat(VirtualThreadsConfig.pinsCarrierOnIo("MySQL Connector/J", 9, 0)).isFalse();
+        assertThat(VirtualThreadsConfig.pinsCarrierOnIo("PostgreSQL JDBC Driver", 42, 6)).isFalse();
+        assertThat(VirtualThreadsConfig.pinsCarrierOnIo("HSQL Database Engine Driver", 2, 7)).isFalse();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.grpc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.model.Specialty;
+import org.springframework.samples.petclinic.model.Vet;
+import org.springframework.samples.petclinic.protobuf.PetClinicGrpc;
+import org.springframework.samples.petclinic.protobuf.ProtoId;
+import org.springframework.samples.petclinic.protobuf.ProtoListRequest;
+import org.springframework.samples.petclinic.protobuf.ProtoVet;
+import org.springframework.samples.petclinic.protobuf.ProtoVets;
+import org.springframework.samples.petclinic.service.ClinicService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for {@link PetClinicGrpcService}, called through an in-process channel
+ */
+class PetClinicGrpcServiceTests {
+
+    private final ClinicService clinicService = mock(ClinicService.class);
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    private PetClinicGrpc.PetClinicBlockingStub stub;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        this.server = InProcessServerBuilder.forName(name).directExecutor()
+            .addService(new PetClinicGrpcService(this.clinicService)).build().start();
+        this.channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        this.stub = PetClinicGrpc.newBlockingStub(this.channel);
+    }
+
+    @AfterEach
+    void stopServer() throws InterruptedException {
+        this.channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        this.server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldListVets() {
+        given(this.clinicService.findAllVets()).willReturn(vets(1, 3));
+
+        ProtoVets vets = this.stub.listVets(ProtoListRequest.getDefaultInstance());
+
+        assertThat(vets.getVetsList()).extracting(ProtoVet::getId).containsExactly(1, 2, 3);
+        assertThat(vets.getVets(0).getSpecialties(0).getName()).isEqualTo("radiology");
+    }
+
+    @Test
+    void shouldStreamVetsPageByPage() {
+        int count = PetClinicGrpcService.STREAM_PAGE_SIZE + 2;
+        given(this.clinicService.findVetPage(0, PetClinicGrpcService.STREAM_PAGE_SIZE))
+            .willReturn(vets(1, PetClinicGrpcService.STREAM_PAGE_SIZE));
+        given(this.clinicService.findVetPage(PetClinicGrpcService.STREAM_PAGE_SIZE, PetClinicGrpcService.STREAM_PAGE_SIZE))
+            .willReturn(vets(PetClinicGrpcService.STREAM_PAGE_SIZE + 1, 2));
+
+        List<Integer> ids = new ArrayList<>();
+        this.stub.streamVets(ProtoListRequest.getDefaultInstance()).forEachRemaining(vet -> ids.add(vet.getId()));
+
+        assertThat(ids).hasSize(count).startsWith(1, 2).endsWith(count - 1, count);
+        verify(this.clinicService).findVetPage(PetClinicGrpcService.STREAM_PAGE_SIZE, PetClinicGrpcService.STREAM_PAGE_SIZE);
+    }
+
+    @Test
+    void shouldReportFailedPageToClient() {
+        given(this.clinicService.findVetPage(anyInt(), anyInt())).willThrow(new IllegalStateException("database down"));
+
+        assertThatThrownBy(() -> this.stub.streamVets(ProtoListRequest.getDefaultInstance()).hasNext())
+            .isInstanceOf(StatusRuntimeException.class)
+            .extracting(ex -> ((StatusRuntimeException) ex).getStatus().getCode())
+            .isEqualTo(Status.Code.INTERNAL);
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownOwner() {
+        given(this.clinicService.findOwnerById(42)).willReturn(null);
+
+        assertThatThrownBy(() -> this.stub.getOwner(ProtoId.newBuilder().setId(42).build()))
+            .isInstanceOf(StatusRuntimeException.class)
+            .extracting(ex -> ((StatusRuntimeException) ex).getStatus().getCode())
+            .isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    private static List<Vet> vets(int firstId, int count) {
+        Specialty radiology = new Specialty();
+        radiology.setId(1);
+        radiology.setName("radiology");
+        List<Vet> vets = new ArrayList<>();
+        for (int id = firstId; id < firstId + count; id++) {
+            Vet vet = new Vet();
+            vet.setId(id);
+            vet.setFirstName("First" + id);
+            vet.setLastName("Last" + id);
+            vet.addSpecialty(radiology);
+            vets.add(vet);
+        }
+        return vets;
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.springframework.samples.petclinic.mapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.ProtoPetType;
+import org.springframework.samples.petclinic.repository.OwnerRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for {@link ProtoFieldMask}
+ */
+class ProtoFieldMaskTests {
+
+    @Test
+    void shouldSelectAllFieldsWithoutPaths() {
+        assertThat(ProtoFieldMask.parse(null, ProtoOwner.getDescriptor()).isAll()).isTrue();
+        assertThat(ProtoFieldMask.parse(" ", ProtoOwner.getDescriptor()).isAll()).isTrue();
+        assertThat(ProtoMapper.ownerFetch(ProtoFieldMask.all())).isEqualTo(OwnerRepository.Fetch.PETS_AND_VISITS);
+    }
+
+    @Test
+    void shouldResolveNestedPaths() {
+        ProtoFieldMask mask = ProtoFieldMask.parse("id, lastName,pets.name,pets.type", ProtoOwner.getDescriptor());
+
+        assertThat(mask.isAll()).isFalse();
+        assertThat(mask.includes(ProtoOwner.ID_FIELD_NUMBER)).isTrue();
+        assertThat(mask.includes(ProtoOwner.LAST_NAME_FIELD_NUMBER)).isTrue();
+        assertThat(mask.includes(ProtoOwner.FIRST_NAME_FIELD_NUMBER)).isFalse();
+        ProtoFieldMask pets = mask.get(ProtoOwner.PETS_FIELD_NUMBER);
+        assertThat(pets.includes(ProtoPet.NAME_FIELD_NUMBER)).isTrue();
+        assertThat(pets.includes(ProtoPet.VISITS_FIELD_NUMBER)).isFalse();
+        assertThat(pets.get(ProtoPet.TYPE_FIELD_NUMBER).includes(ProtoPetType.NAME_FIELD_NUMBER)).isTrue();
+        assertThat(ProtoMapper.ownerFetch(mask)).isEqualTo(OwnerRepository.Fetch.PETS);
+    }
+
+    @Test
+    void shouldLetWholeMessagePathWin() {
+        ProtoFieldMask mask = ProtoFieldMask.parse("pets.visits.id,pets", ProtoOwner.getDescriptor());
+
+        assertThat(mask.get(ProtoOwner.PETS_FIELD_NUMBER).isAll()).isTrue();
+        assertThat(ProtoMapper.ownerFetch(mask)).isEqualTo(OwnerRepository.Fetch.PETS_AND_VISITS);
+        assertThat(ProtoMapper.ownerFetch(ProtoFieldMask.parse("city", ProtoOwner.getDescriptor())))
+            .isEqualTo(OwnerRepository.Fetch.OWNER);
+    }
+
+    @Test
+    void shouldHaveOneCanonicalStringPerSelection() {
+        String canonical = ProtoFieldMask.parse("pets.type,last_name,id,pets.name", ProtoOwner.getDescriptor())
+            .toCanonicalString();
+
+        assertThat(canonical).isEqualTo("1.3.7(2.4)");
+        assertThat(ProtoFieldMask.parse("id, lastName,pets.name,pets.type.name,pets.type", ProtoOwner.getDescriptor())
+            .toCanonicalString()).isEqualTo(canonical);
+        assertThat(ProtoFieldMask.parse("id,pets", ProtoOwner.getDescriptor()).toCanonicalString()).isEqualTo("1.7");
+        assertThat(ProtoFieldMask.all().toCanonicalString()).isEqualTo("*");
+    }
+
+    @Test
+    void shouldRejectUnknownFields() {
+        assertThatThrownBy(() -> ProtoFieldMask.parse("id,pets.nickname", ProtoOwner.getDescriptor()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("nickname");
+        assertThatThrownBy(() -> ProtoFieldMask.parse("city.name", ProtoOwner.getDescriptor()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.springframework.samples.petclinic.mapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoOwners;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.v2.ProtoPetType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link ProtoV2Mapper}
+ */
+class ProtoV2MapperTests {
+
+    private final PetType cat = petType(1, "cat");
+
+    private final PetType dog = petType(2, "dog");
+
+    @Test
+    void shouldWriteEachPetTypeOnceAndDatesAsEpochDays() {
+        List<Owner> owners = List.of(owner(1, this.cat, this.dog), owner(2, this.dog, this.dog));
+
+        ProtoOwners protoOwners = ProtoV2Mapper.toProtoOwners(owners, ProtoFieldMask.all()).build();
+
+        assertThat(protoOwners.getPetTypesList()).extracting(ProtoPetType::getName).containsExactly("cat", "dog");
+        assertThat(protoOwners.getOwnersList()).flatExtracting(owner -> owner.getPetsList())
+            .extracting(ProtoPet::getTypeId).containsExactly(1, 2, 2, 2);
+        ProtoPet pet = protoOwners.getOwners(0).getPets(0);
+        assertThat(LocalDate.ofEpochDay(pet.getBirthDate())).isEqualTo(LocalDate.of(2015, 3, 1));
+        assertThat(LocalDate.ofEpochDay(pet.getVisits(0).getDate())).isEqualTo(LocalDate.of(2023, 6, 15));
+        assertThat(pet.getVisits(0).getDescription()).isEqualTo("rabies shot");
+    }
+
+    @Test
+    void shouldEncodeSmallerThanV1() {
+        List<Owner> owners = new ArrayList<>();
+        for (int id = 1; id <= 100; id++) {
+            owners.add(owner(id, this.cat, this.dog));
+        }
+        org.springframework.samples.petclinic.protobuf.ProtoOwners.Builder v1 =
+            org.springframework.samples.petclinic.protobuf.ProtoOwners.newBuilder();
+        owners.forEach(owner -> v1.addOwners(ProtoMapper.toProtoOwner(owner)));
+
+        int v1Size = v1.build().getSerializedSize();
+        int v2Size = ProtoV2Mapper.toProtoOwners(owners, ProtoFieldMask.all()).build().getSerializedSize();
+
+        assertThat(v2Size).isLessThan(v1Size * 9 / 10);
+    }
+
+    @Test
+    void shouldLeaveOutTypesNotSelected() {
+        ProtoFieldMask mask = ProtoFieldMask.parse("last_name,pets.name",
+            org.springframework.samples.petclinic.protobuf.ProtoOwner.getDescriptor());
+
+        ProtoOwners protoOwners = ProtoV2Mapper.toProtoOwners(List.of(owner(1, this.cat)), mask).build();
+
+        assertThat(protoOwners.getPetTypesList()).isEmpty();
+        assertThat(protoOwners.getOwners(0).getPets(0).getName()).isEqualTo("Pet1-0");
+        assertThat(protoOwners.getOwners(0).getPets(0).getTypeId()).isZero();
+    }
+
+    private static Owner owner(int id, PetType... petTypes) {
+        Owner owner = new Owner();
+        owner.setId(id);
+        owner.setFirstName("George");
+        owner.setLastName("Franklin");
+        owner.setAddress("110 W. Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+        for (int i = 0; i < petTypes.length; i++) {
+            Pet pet = new Pet();
+            pet.setId(id * 10 + i);
+            pet.setName("Pet" + id + "-" + i);
+            pet.setBirthDate(LocalDate.of(2015, 3, 1));
+            pet.setType(petTypes[i]);
+            owner.addPet(pet);
+            Visit visit = new Visit();
+            visit.setId(pet.getId());
+            visit.setDate(LocalDate.of(2023, 6, 15));
+            visit.setDescription("rabies shot");
+            pet.addVisit(visit);
+        }
+        return owner;
+    }
+
+    private static PetType petType(int id, String name) {
+        PetType petType = new PetType();
+        petType.setId(id);
+        petType.setName(name);
+        return petType;
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.jdbc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.model.Visit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that {@link JdbcImportRepositoryImpl} inserts any number of owners, pets and visits with one batched
+ * statement per table and assigns the generated ids.
+ */
+class JdbcImportRepositoryImplTests {
+
+    private EmbeddedDatabase database;
+
+    private StatementCountingDataSource dataSource;
+
+    private JdbcImportRepositoryImpl importRepository;
+
+    @BeforeEach
+    void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.HSQL)
+            .addScripts("classpath:db/hsqldb/initDB.sql", "classpath:db/hsqldb/populateDB.sql")
+            .build();
+        this.dataSource = new StatementCountingDataSource(this.database);
+        this.importRepository = new JdbcImportRepositoryImpl(this.dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Test
+    void shouldInsertOwnersPetsAndVisitsInOneStatementPerTable() {
+        List<Owner> owners = new ArrayList<>();
+        List<Pet> pets = new ArrayList<>();
+        List<Visit> visits = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Owner owner = owner("Last" + i);
+            owners.add(owner);
+            Pet pet = pet("Pet" + i, owner);
+            pets.add(pet);
+            visits.add(visit(pet));
+        }
+        // a pet and a visit of existing entities
+        pets.add(pet("Newcomer", existingOwner(6)));
+        Pet samantha = new Pet();
+        samantha.setId(7);
+        visits.add(visit(samantha));
+
+        this.importRepository.insertAll(owners, pets, visits);
+
+        assertThat(this.dataSource.getStatements()).isEqualTo(3);
+        assertThat(owners).extracting(Owner::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(pets).extracting(Pet::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(visits).extracting(Visit::getId).doesNotContainNull().doesNotHaveDuplicates();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(this.database);
+        assertThat(jdbcTemplate.queryForObject("SELECT last_name FROM owners WHERE id = ?", String.class,
+            owners.get(299).getId())).isEqualTo("Last299");
+        assertThat(jdbcTemplate.queryForObject("SELECT owner_id FROM pets WHERE id = ?", Integer.class,
+            pets.get(299).getId())).isEqualTo(owners.get(299).getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT pet_id FROM visits WHERE id = ?", Integer.class,
+            visits.get(299).getId())).isEqualTo(pets.get(299).getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pets WHERE owner_id = 6", Integer.class))
+            .isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM visits WHERE pet_id = 7", Integer.class))
+            .isEqualTo(3);
+    }
+
+    @Test
+    void shouldFailForUnknownOwner() {
+        List<Pet> pets = List.of(pet("Stray", existingOwner(999)));
+
+        assertThatThrownBy(() -> this.importRepository.insertAll(List.of(), pets, List.of()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static Owner owner(String lastName) {
+        Owner owner = new Owner();
+        owner.setFirstName("First");
+        owner.setLastName(lastName);
+        owner.setAddress("Street");
+        owner.setCity("City");
+        owner.setTelephone("6085550000");
+        return owner;
+    }
+
+    private static Owner existingOwner(int id) {
+        Owner owner = new Owner();
+        owner.setId(id);
+        return owner;
+    }
+
+    private static Pet pet(String name, Owner owner) {
+        PetType dog = new PetType();
+        dog.setId(2);
+        Pet pet = new Pet();
+        pet.setName(name);
+        pet.setBirthDate(LocalDate.of(2015, 3, 1));
+        pet.setType(dog);
+        pet.setOwner(owner);
+        return pet;
+    }
+
+    private static Visit visit(Pet pet) {
+        Visit visit = new Visit();
+        visit.setDate(LocalDate.of(2023, 6, 15));
+        visit.setDescription("checkup");
+        visit.setPet(pet);
+        return visit;
+    }
+
+}
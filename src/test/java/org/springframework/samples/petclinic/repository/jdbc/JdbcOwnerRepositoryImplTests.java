@@ -0,0 +1,193 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.repository.OwnerRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link JdbcOwnerRepositoryImpl} loads owners with their pets and visits in a fixed number of
+ * statements, independent of the number of owners.
+ */
+class JdbcOwnerRepositoryImplTests {
+
+    private EmbeddedDatabase database;
+
+    private StatementCountingDataSource dataSource;
+
+    private JdbcOwnerRepositoryImpl ownerRepository;
+
+    @BeforeEach
+    void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.HSQL)
+            .addScripts("classpath:db/hsqldb/initDB.sql", "classpath:db/hsqldb/populateDB.sql")
+            .build();
+        this.dataSource = new StatementCountingDataSource(this.database);
+        this.ownerRepository = new JdbcOwnerRepositoryImpl(this.dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Test
+    void shouldLoadAllOwnersInConstantStatementCount() {
+        Collection<Owner> owners = countStatements(() -> this.ownerRepository.findAll());
+        int statements = this.dataSource.getStatements();
+        assertThat(owners).hasSize(10);
+
+        addOwners(200);
+
+        owners = countStatements(() -> this.ownerRepository.findAll());
+        assertThat(owners).hasSize(210);
+        assertThat(this.dataSource.getStatements()).isEqualTo(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void shouldFindOwnersByLastNameInConstantStatementCount() {
+        Collection<Owner> owners = countStatements(() -> this.ownerRepository.findByLastName("Davis"));
+        int statements = this.dataSource.getStatements();
+        assertThat(owners).hasSize(2);
+
+        addOwners(200);
+
+        owners = countStatements(() -> this.ownerRepository.findByLastName("Last"));
+        assertThat(owners).hasSize(200);
+        assertThat(this.dataSource.getStatements()).isEqualTo(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void shouldLoadDeepPagesInSameStatementCount() {
+        addOwners(200);
+
+        List<Owner> first = countStatements(() -> this.ownerRepository.findPage(0, 20));
+        int statements = this.dataSource.getStatements();
+        assertThat(first).extracting(Owner::getId).startsWith(1, 2, 3).hasSize(20);
+        assertThat(first.get(5).getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+
+        List<Owner> deep = countStatements(() -> this.ownerRepository.findPage(279, 20));
+        assertThat(deep).extracting(Owner::getId).containsExactly(280, 281, 282, 283, 284, 285, 286, 287, 288, 289,
+            290, 291, 292, 293, 294, 295, 296, 297, 298, 299);
+        assertThat(deep).allSatisfy(owner -> assertThat(owner.getPets()).hasSize(1));
+        assertThat(this.dataSource.getStatements()).isEqualTo(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void shouldSkipPetAndVisitQueriesNotFetched() {
+        Owner owner = countStatements(() -> this.ownerRepository.findById(6, OwnerRepository.Fetch.OWNER));
+        assertThat(this.dataSource.getStatements()).isEqualTo(1);
+        assertThat(owner.getPets()).isEmpty();
+
+        Collection<Owner> owners = countStatements(() -> this.ownerRepository.findAll(OwnerRepository.Fetch.OWNER));
+        assertThat(this.dataSource.getStatements()).isEqualTo(1);
+        assertThat(owners).hasSize(10).allSatisfy(o -> assertThat(o.getPets()).isEmpty());
+
+        owner = this.ownerRepository.findById(6, OwnerRepository.Fetch.PETS);
+        assertThat(owner.getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+        assertThat(owner.getPets()).allSatisfy(pet -> {
+            assertThat(pet.getType().getName()).isEqualTo("cat");
+            assertThat(pet.getVisits()).isEmpty();
+        });
+
+        List<Owner> page = this.ownerRepository.findPage(5, 1, OwnerRepository.Fetch.PETS);
+        assertThat(page).singleElement().satisfies(o -> assertThat(o.getPets()).hasSize(2));
+    }
+
+    @Test
+    void shouldFindOwnersByIdsInChunksOfConstantStatementCount() {
+        List<Owner> owners = countStatements(() -> this.ownerRepository.findByIds(List.of(6, 999, 1, 6)));
+        assertThat(this.dataSource.getStatements()).isEqualTo(3);
+        assertThat(owners).extracting(Owner::getId).containsExactlyInAnyOrder(1, 6);
+        assertThat(owners).filteredOn(owner -> owner.getId() == 6).singleElement()
+            .satisfies(jean -> assertThat(jean.getPet("Samantha").getVisits()).hasSize(2));
+
+        addOwners(600);
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 1; id <= 699; id++) {
+            ids.add(id);
+        }
+
+        owners = countStatements(() -> this.ownerRepository.findByIds(ids));
+        assertThat(owners).hasSize(610);
+        assertThat(this.dataSource.getStatements()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldAttachPetsVisitsAndTypesToTheirOwner() {
+        Owner jean = this.ownerRepository.findAll().stream()
+            .filter(owner -> owner.getId() == 6)
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(jean.getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+        Pet samantha = jean.getPet("Samantha");
+        assertThat(samantha.getOwner()).isSameAs(jean);
+        assertThat(samantha.getType().getName()).isEqualTo("cat");
+        assertThat(samantha.getVisits()).hasSize(2);
+
+        Collection<Owner> davis = this.ownerRepository.findByLastName("Davis");
+        assertThat(davis).flatExtracting(Owner::getPets).extracting(Pet::getName).containsExactlyInAnyOrder("Basil", "Iggy");
+    }
+
+    @Test
+    void shouldDeleteOwnerWithPetsAndVisitsSetBased() {
+        Owner jean = this.ownerRepository.findById(6);
+        this.dataSource.reset();
+
+        this.ownerRepository.delete(jean);
+
+        assertThat(this.dataSource.getStatements()).isEqualTo(3);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(this.database);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM visits WHERE pet_id IN (7, 8)", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pets WHERE owner_id = 6", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM owners", Integer.class)).isEqualTo(9);
+    }
+
+    private <T> T countStatements(Supplier<T> action) {
+        this.dataSource.reset();
+        return action.get();
+    }
+
+    private void addOwners(int count) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(this.database);
+        for (int i = 0; i < count; i++) {
+            int ownerId = 100 + i;
+            jdbcTemplate.update("INSERT INTO owners VALUES (?, 'First', ?, 'Street', 'City', '6085550000')",
+                ownerId, "Last" + i);
+            jdbcTemplate.update("INSERT INTO pets VALUES (?, 'Pet', '2015-03-01', 2, ?)", ownerId, ownerId);
+            jdbcTemplate.update("INSERT INTO visits VALUES (?, ?, '2023-06-15', 'checkup')", ownerId, ownerId);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.ObjectRetrievalFailureException;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.Visit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that {@link JdbcPetRepositoryImpl} loads pets with their type, owner and visits in a fixed number of
+ * statements.
+ */
+class JdbcPetRepositoryImplTests {
+
+    private EmbeddedDatabase database;
+
+    private StatementCountingDataSource dataSource;
+
+    private JdbcPetRepositoryImpl petRepository;
+
+    @BeforeEach
+    void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.HSQL)
+            .addScripts("classpath:db/hsqldb/initDB.sql", "classpath:db/hsqldb/populateDB.sql")
+            .build();
+        this.dataSource = new StatementCountingDataSource(this.database);
+        this.petRepository = new JdbcPetRepositoryImpl(this.dataSource, new JdbcVisitRepositoryImpl(this.dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Test
+    void shouldLoadPetTypeOwnerAndVisitsInOneStatement() {
+        Pet samantha = this.petRepository.findById(7);
+
+        assertThat(this.dataSource.getStatements()).isEqualTo(1);
+        assertThat(samantha.getName()).isEqualTo("Samantha");
+        assertThat(samantha.getType().getName()).isEqualTo("cat");
+        assertThat(samantha.getOwner().getId()).isEqualTo(6);
+        assertThat(samantha.getOwner().getLastName()).isEqualTo("Coleman");
+        assertThat(samantha.getVisits()).extracting(Visit::getDescription).containsExactly("spayed", "rabies shot");
+        assertThat(samantha.getVisits()).allSatisfy(visit -> assertThat(visit.getPet()).isSameAs(samantha));
+    }
+
+    @Test
+    void shouldLoadPetWithoutVisits() {
+        Pet leo = this.petRepository.findById(1);
+
+        assertThat(leo.getName()).isEqualTo("Leo");
+        assertThat(leo.getVisits()).isEmpty();
+    }
+
+    @Test
+    void shouldLoadAllPetsWithTypeOwnerAndVisits() {
+        List<Pet> pets = new ArrayList<>(this.petRepository.findAll());
+
+        assertThat(pets).hasSize(13);
+        assertThat(this.dataSource.getStatements()).isEqualTo(4);
+        Pet max = pets.stream().filter(pet -> pet.getId() == 8).findFirst().orElseThrow();
+        assertThat(max.getType().getName()).isEqualTo("cat");
+        assertThat(max.getOwner().getFirstName()).isEqualTo("Jean");
+        assertThat(max.getVisits()).extracting(Visit::getDescription).containsExactly("neutered", "rabies shot");
+        assertThat(pets).filteredOn(pet -> pet.getId() == 1).singleElement()
+            .satisfies(leo -> assertThat(leo.getVisits()).isEmpty());
+    }
+
+    @Test
+    void shouldFindPetsByIdsWithTypeOwnerAndVisits() {
+        List<Pet> pets = this.petRepository.findByIds(List.of(8, 999, 1));
+
+        assertThat(this.dataSource.getStatements()).isEqualTo(4);
+        assertThat(pets).extracting(Pet::getId).containsExactlyInAnyOrder(1, 8);
+        Pet max = pets.stream().filter(pet -> pet.getId() == 8).findFirst().orElseThrow();
+        assertThat(max.getType().getName()).isEqualTo("cat");
+        assertThat(max.getOwner().getFirstName()).isEqualTo("Jean");
+        assertThat(max.getVisits()).extracting(Visit::getDescription).containsExactly("neutered", "rabies shot");
+    }
+
+    @Test
+    void shouldDeletePetWithVisitsSetBased() {
+        Pet max = this.petRepository.findById(8);
+        this.dataSource.reset();
+
+        this.petRepository.delete(max);
+
+        assertThat(this.dataSource.getStatements()).isEqualTo(2);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(this.database);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM visits WHERE pet_id = 8", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM visits", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFailForUnknownPet() {
+        assertThatThrownBy(() -> this.petRepository.findById(999)).isInstanceOf(ObjectRetrievalFailureException.class);
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.mapper.ProtoMapper;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.ProtoPets;
+import org.springframework.samples.petclinic.protobuf.ProtoVisits;
+import org.springframework.samples.petclinic.repository.ProtoListRepository;
+import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the direct <code>ResultSet</code> encoder produces the same messages as the entity based path.
+ */
+@SpringBootTest
+@ActiveProfiles({"jdbc", "hsqldb"})
+class JdbcProtoListRepositoryImplTests {
+
+    @Autowired
+    private ProtoListRepository protoListRepository;
+
+    @Autowired
+    private ClinicService clinicService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldEncodeOwnersLikeEntityPath() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.protoListRepository.writeOwners(out, false);
+
+        ProtoOwners.Builder expected = ProtoOwners.newBuilder();
+        for (Owner owner : this.clinicService.findAllOwners()) {
+            expected.addOwners(ProtoMapper.toProtoOwner(owner));
+        }
+        assertThat(ProtoOwners.parseFrom(out.toByteArray())).isEqualTo(expected.build());
+    }
+
+    @Test
+    void shouldEncodeDelimitedOwners() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.protoListRepository.writeOwners(out, true);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        List<ProtoOwner> owners = new ArrayList<>();
+        ProtoOwner owner;
+        while ((owner = ProtoOwner.parseDelimitedFrom(in)) != null) {
+            owners.add(owner);
+        }
+        assertThat(owners).hasSize(this.clinicService.findAllOwners().size());
+        assertThat(owners.get(0)).isEqualTo(ProtoMapper.toProtoOwner(this.clinicService.findOwnerById(owners.get(0).getId())));
+    }
+
+    @Test
+    void shouldEncodePetsWithVisits() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.protoListRepository.writePets(out, false);
+
+        ProtoPets pets = ProtoPets.parseFrom(out.toByteArray());
+        assertThat(pets.getPetsCount()).isEqualTo(this.clinicService.findAllPets().size());
+        for (ProtoPet pet : pets.getPetsList()) {
+            assertThat(pet).isEqualTo(ProtoMapper.toProtoPet(this.clinicService.findPetById(pet.getId())));
+        }
+    }
+
+    @Test
+    void shouldEncodeVisitsLikeEntityPath() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.protoListRepository.writeVisits(out, false);
+
+        ProtoVisits visits = ProtoVisits.parseFrom(out.toByteArray());
+        assertThat(visits.getVisitsCount()).isEqualTo(this.clinicService.findAllVisits().size());
+        for (Visit visit : this.clinicService.findAllVisits()) {
+            assertThat(visits.getVisitsList()).contains(ProtoMapper.toProtoVisit(visit));
+        }
+    }
+
+    @Test
+    void shouldFindPetsAndVisits() {
+        assertThat(this.protoListRepository.hasPets()).isTrue();
+        assertThat(this.protoListRepository.hasVisits()).isTrue();
+    }
+
+    @Test
+    @Transactional
+    void shouldFindNoVisitsInEmptyTable() {
+        this.jdbcTemplate.update("DELETE FROM visits");
+
+        assertThat(this.protoListRepository.hasVisits()).isFalse();
+        assertThat(this.protoListRepository.hasPets()).isTrue();
+    }
+
+}
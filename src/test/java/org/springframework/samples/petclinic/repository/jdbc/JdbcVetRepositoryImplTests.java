@@ -0,0 +1,122 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.repository.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.ObjectRetrievalFailureException;
+import org.springframework.samples.petclinic.model.Specialty;
+import org.springframework.samples.petclinic.model.Vet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that {@link JdbcVetRepositoryImpl} reads vets together with their specialties in one statement.
+ */
+class JdbcVetRepositoryImplTests {
+
+    private EmbeddedDatabase database;
+
+    private StatementCountingDataSource dataSource;
+
+    private JdbcVetRepositoryImpl vetRepository;
+
+    @BeforeEach
+    void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.HSQL)
+            .addScripts("classpath:db/hsqldb/initDB.sql", "classpath:db/hsqldb/populateDB.sql")
+            .build();
+        this.dataSource = new StatementCountingDataSource(this.database);
+        this.vetRepository = new JdbcVetRepositoryImpl(this.dataSource, new JdbcTemplate(this.dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Test
+    void shouldLoadAllVetsInOneStatement() {
+        List<Vet> vets = new ArrayList<>(this.vetRepository.findAll());
+        assertThat(vets).hasSize(6);
+        assertThat(this.dataSource.getStatements()).isEqualTo(1);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(this.database);
+        for (int i = 0; i < 100; i++) {
+            jdbcTemplate.update("INSERT INTO vets VALUES (?, 'Vet', ?)", 100 + i, "Zimmer" + i);
+            jdbcTemplate.update("INSERT INTO vet_specialties VALUES (?, ?)", 100 + i, i % 3 + 1);
+        }
+        this.dataSource.reset();
+
+        vets = new ArrayList<>(this.vetRepository.findAll());
+        assertThat(vets).hasSize(106);
+        assertThat(this.dataSource.getStatements()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAttachSpecialtiesAndKeepOrder() {
+        List<Vet> vets = new ArrayList<>(this.vetRepository.findAll());
+        assertThat(vets).extracting(Vet::getLastName)
+            .containsExactly("Carter", "Douglas", "Jenkins", "Leary", "Ortega", "Stevens");
+
+        Vet douglas = vets.get(1);
+        assertThat(douglas.getSpecialties()).extracting(Specialty::getName).containsExactly("dentistry", "surgery");
+        assertThat(vets.get(0).getNrOfSpecialties()).isZero();
+        // Ortega and Douglas share the surgery specialty instance
+        assertThat(vets.get(4).getSpecialties().get(0)).isSameAs(douglas.getSpecialties().get(1));
+    }
+
+    @Test
+    void shouldFindVetByIdInOneStatement() {
+        Vet vet = this.vetRepository.findById(3);
+        assertThat(vet.getFirstName()).isEqualTo("Linda");
+        assertThat(vet.getSpecialties()).extracting(Specialty::getName).containsExactly("dentistry", "surgery");
+        assertThat(this.dataSource.getStatements()).isEqualTo(1);
+
+        assertThatThrownBy(() -> this.vetRepository.findById(999)).isInstanceOf(ObjectRetrievalFailureException.class);
+    }
+
+    @Test
+    void shouldBatchInsertVetSpecialties() {
+        List<Specialty> specialties = new ArrayList<>(new JdbcSpecialtyRepositoryImpl(this.database).findAll());
+        Vet vet = new Vet();
+        vet.setFirstName("John");
+        vet.setLastName("Dolittle");
+        vet.setSpecialties(specialties);
+        this.vetRepository.save(vet);
+        this.dataSource.reset();
+
+        vet.setLastName("Doolittle");
+        this.vetRepository.save(vet);
+
+        // update, delete of the previous rows and one batch for the three specialties
+        assertThat(this.dataSource.getStatements()).isEqualTo(3);
+        assertThat(this.vetRepository.findById(vet.getId()).getSpecialties())
+            .extracting(Specialty::getName).containsExactly("dentistry", "radiology", "surgery");
+    }
+
+}
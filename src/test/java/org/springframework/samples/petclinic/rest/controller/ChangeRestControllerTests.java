@@ -0,0 +1,144 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.rest.controller;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.protobuf.ProtoChange;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository.Change;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository.Entity;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository.Head;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStreamHttpMessageConverter;
+import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.clinicService.ApplicationTestConfig;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for {@link ChangeRestController}
+ */
+@SpringBootTest
+@ContextConfiguration(classes = ApplicationTestConfig.class)
+@WebAppConfiguration
+class ChangeRestControllerTests {
+
+    @Autowired
+    private ChangeRestController changeRestController;
+
+    @MockBean
+    private ClinicService clinicService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void initChangeLog() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(this.changeRestController)
+            .setMessageConverters(new ProtobufStreamHttpMessageConverter())
+            .build();
+        given(this.clinicService.findChangeLogHead()).willReturn(new Head(12, 3));
+    }
+
+    @Test
+    void testListChangesSinceToken() throws Exception {
+        given(this.clinicService.findChanges(5, 12, ChangeFeed.PAGE_SIZE)).willReturn(List.of(
+            new Change(6, Entity.OWNER, 1, false),
+            new Change(9, Entity.PET, 4, false),
+            new Change(10, Entity.VISIT, 2, true),
+            // deleted after the head was read
+            new Change(12, Entity.OWNER, 7, false)));
+        Owner owner = new Owner();
+        owner.setId(1);
+        owner.setFirstName("George");
+        owner.setLastName("Franklin");
+        owner.setAddress("110 W. Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+        PetType dog = new PetType();
+        dog.setId(2);
+        dog.setName("dog");
+        Pet pet = new Pet();
+        pet.setId(4);
+        pet.setName("Jewel");
+        pet.setBirthDate(LocalDate.of(2010, 9, 7));
+        pet.setType(dog);
+        owner.addPet(pet);
+        Visit visit = new Visit();
+        visit.setId(3);
+        visit.setDate(LocalDate.of(2013, 1, 1));
+        visit.setDescription("rabies shot");
+        pet.addVisit(visit);
+        given(this.clinicService.findOwnersByIds(List.of(1, 7))).willReturn(List.of(owner));
+        given(this.clinicService.findPetsByIds(List.of(4))).willReturn(List.of(pet));
+
+        MvcResult result = this.mockMvc.perform(get("/changes?since=5"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ChangeFeed.CHANGE_TOKEN_HEADER, "12"))
+            .andReturn();
+
+        assertThat(result.getResponse().getContentType()).isEqualTo(ProtobufMediaTypes.PROTOBUF_DELIMITED.toString());
+        ByteArrayInputStream body = new ByteArrayInputStream(result.getResponse().getContentAsByteArray());
+        ProtoChange change = ProtoChange.parseDelimitedFrom(body);
+        assertThat(change.getOwner().getCity()).isEqualTo("Madison");
+        assertThat(change.getOwner().getPetsCount()).isZero();
+        change = ProtoChange.parseDelimitedFrom(body);
+        assertThat(change.getPet().getOwnerId()).isEqualTo(1);
+        assertThat(change.getPet().getType().getName()).isEqualTo("dog");
+        assertThat(change.getPet().getVisitsCount()).isZero();
+        assertThat(ProtoChange.parseDelimitedFrom(body).getDeletedVisitId()).isEqualTo(2);
+        assertThat(ProtoChange.parseDelimitedFrom(body)).isNull();
+    }
+
+    @Test
+    void testGetChangeTokenWithoutSince() throws Exception {
+        MvcResult result = this.mockMvc.perform(get("/changes"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ChangeFeed.CHANGE_TOKEN_HEADER, "12"))
+            .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void testListChangesSinceCompactedOrUnknownToken() throws Exception {
+        this.mockMvc.perform(get("/changes?since=2"))
+            .andExpect(status().isGone())
+            .andExpect(header().string(ChangeFeed.CHANGE_TOKEN_HEADER, "12"));
+        this.mockMvc.perform(get("/changes?since=13"))
+            .andExpect(status().isBadRequest());
+    }
+
+}
@@ -21,35 +21,68 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
 import org.springframework.samples.petclinic.mapper.OwnerMapper;
 import org.springframework.samples.petclinic.mapper.PetMapper;
 import org.springframework.samples.petclinic.mapper.VisitMapper;
 import org.springframework.samples.petclinic.model.Owner;
 import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.model.Visit;
+import org.springframework.samples.petclinic.protobuf.ProtoIds;
+import org.springframework.samples.petclinic.protobuf.ProtoImportError;
+import org.springframework.samples.petclinic.protobuf.ProtoImportRecord;
+import org.springframework.samples.petclinic.protobuf.ProtoImportResult;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwnerAdd;
+import org.springframework.samples.petclinic.protobuf.ProtoOwnerBatch;
+import org.springframework.samples.petclinic.protobuf.ProtoOwnerPage;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.ProtoPetType;
+import org.springframework.samples.petclinic.protobuf.ProtoPetVisit;
+import org.springframework.samples.petclinic.protobuf.ProtoVisit;
+import org.springframework.samples.petclinic.repository.OwnerRepository;
 import org.springframework.samples.petclinic.rest.advice.ExceptionControllerAdvice;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.PooledProtobufHttpMessageConverter;
+import org.springframework.samples.petclinic.rest.converter.ProtobufJsonHttpMessageConverter;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStreamHttpMessageConverter;
 import org.springframework.samples.petclinic.rest.dto.OwnerDto;
 import org.springframework.samples.petclinic.rest.dto.PetDto;
 import org.springframework.samples.petclinic.rest.dto.PetTypeDto;
 import org.springframework.samples.petclinic.rest.dto.VisitDto;
 import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.EncodedEntityCache;
 import org.springframework.samples.petclinic.service.clinicService.ApplicationTestConfig;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -76,6 +109,9 @@ class OwnerRestControllerTests {
     @Autowired
     private VisitMapper visitMapper;
 
+    @Autowired
+    private EncodedEntityCache encodedEntityCache;
+
     @MockBean
     private ClinicService clinicService;
 
@@ -89,6 +125,8 @@ class OwnerRestControllerTests {
 
     @BeforeEach
     void initOwners() {
+        // the owners of the mocked service change from test to test
+        this.encodedEntityCache.clear();
         this.mockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
             .setControllerAdvice(new ExceptionControllerAdvice())
             .build();
@@ -423,5 +461,426 @@ class OwnerRestControllerTests {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testListOwnersDelimitedStream() throws Exception {
+        given(this.clinicService.findOwnerPage(0, KeysetPage.STREAM_PAGE_SIZE))
+            .willReturn(List.of(createOwnerWithPet(1, "Rosy"), createOwnerWithPet(2, "Jewel")));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(get("/owners")
+                .accept(ProtobufMediaTypes.PROTOBUF_DELIMITED))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED))
+            .andReturn();
+
+        ByteArrayInputStream body = new ByteArrayInputStream(result.getResponse().getContentAsByteArray());
+        ProtoOwner first = ProtoOwner.parseDelimitedFrom(body);
+        ProtoOwner second = ProtoOwner.parseDelimitedFrom(body);
+        assertThat(first.getId()).isEqualTo(1);
+        assertThat(first.getPets(0).getName()).isEqualTo("Rosy");
+        assertThat(first.getPets(0).getVisitsCount()).isEqualTo(1);
+        assertThat(second.getId()).isEqualTo(2);
+        assertThat(ProtoOwner.parseDelimitedFrom(body)).isNull();
+    }
+
+    @Test
+    void testListOwnersSingleMessage() throws Exception {
+        given(this.clinicService.findAllOwners()).willReturn(List.of(createOwnerWithPet(1, "Rosy")));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(get("/owners")
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        ProtoOwners owners = ProtoOwners.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(owners.getOwnersCount()).isEqualTo(1);
+        assertThat(owners.getOwners(0).getPets(0).getType().getName()).isEqualTo("dog");
+    }
+
+    @Test
+    void testListOwnersAsJsonOnlyWhenRequested() throws Exception {
+        given(this.clinicService.findAllOwners()).willReturn(List.of(createOwnerWithPet(1, "Rosy")));
+        PooledProtobufHttpMessageConverter binary = new PooledProtobufHttpMessageConverter();
+        binary.setSupportedMediaTypes(List.of(ProtobufMediaTypes.PROTOBUF));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(binary, new ProtobufJsonHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        protoMockMvc.perform(get("/owners")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.owners[0].id").value(1))
+            .andExpect(jsonPath("$.owners[0].pets[0].name").value("Rosy"))
+            .andExpect(jsonPath("$.owners[0].pets[0].type.name").value("dog"));
+
+        MvcResult result = protoMockMvc.perform(get("/owners")
+                .accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ProtobufMediaTypes.PROTOBUF))
+            .andReturn();
+        assertThat(ProtoOwners.parseFrom(result.getResponse().getContentAsByteArray()).getOwnersCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetOwnerNotModified() throws Exception {
+        given(this.clinicService.findOwnerById(1)).willReturn(createOwnerWithPet(1, "Rosy"));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        String eTag = protoMockMvc.perform(get("/owners/1")
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        protoMockMvc.perform(get("/owners/1")
+                .accept(ProtobufMediaTypes.PROTOBUF)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().bytes(new byte[0]));
+        verify(this.clinicService).findOwnerById(1);
+
+        // a tag of another representation of the owner does not match
+        protoMockMvc.perform(get("/owners/1")
+                .accept(ProtobufMediaTypes.PROTOBUF_DELIMITED)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void testUpdateOwnerLeavesFoundOwnerUnchanged() throws Exception {
+        Owner found = createOwnerWithPet(1, "Rosy");
+        given(this.clinicService.findOwnerById(1)).willReturn(found);
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter())
+            .build();
+        ProtoOwnerAdd update = ProtoOwnerAdd.newBuilder().setFirstName("GeorgeI").setLastName("Franklin")
+            .setAddress("110 W. Liberty St.").setCity("Madison").setTelephone("6085551023").build();
+
+        protoMockMvc.perform(put("/owners/1")
+                .content(update.toByteArray()).contentType(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isNoContent());
+
+        // the found owner may be cached and shared, so the update is saved as a new instance
+        ArgumentCaptor<Owner> saved = ArgumentCaptor.forClass(Owner.class);
+        verify(this.clinicService).saveOwner(saved.capture());
+        assertThat(saved.getValue()).isNotSameAs(found);
+        assertThat(saved.getValue().getId()).isEqualTo(1);
+        assertThat(saved.getValue().getFirstName()).isEqualTo("GeorgeI");
+        assertThat(saved.getValue().getPets()).extracting(Pet::getName).containsExactly("Rosy");
+        assertThat(found.getFirstName()).isEqualTo("George");
+    }
+
+    @Test
+    void testGetOwnerFromEncodedCache() throws Exception {
+        given(this.clinicService.findOwnerById(1)).willReturn(createOwnerWithPet(1, "Rosy"));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        byte[] first = protoMockMvc.perform(get("/owners/1")
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ProtobufMediaTypes.PROTOBUF))
+            .andReturn().getResponse().getContentAsByteArray();
+        byte[] second = protoMockMvc.perform(get("/owners/1")
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(ProtoOwner.parseFrom(second).getPets(0).getName()).isEqualTo("Rosy");
+        verify(this.clinicService).findOwnerById(1);
+    }
+
+    @Test
+    void testGetOwnerNotFoundFromEncodedCache() throws Exception {
+        given(this.clinicService.findOwnerById(-1)).willReturn(null);
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        protoMockMvc.perform(get("/owners/-1")
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testListOwnersPage() throws Exception {
+        given(this.clinicService.findOwnerPage(1, 3))
+            .willReturn(List.of(createOwnerWithPet(2, "Rosy"), createOwnerWithPet(3, "Jewel"), createOwnerWithPet(4, "Iggy")));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(get("/owners?limit=2&after=1")
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        ProtoOwnerPage page = ProtoOwnerPage.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(page.getOwnersList()).extracting(ProtoOwner::getId).containsExactly(2, 3);
+        assertThat(page.getNextCursor()).isEqualTo(3);
+        // a page is also a valid unpaginated list
+        assertThat(ProtoOwners.parseFrom(result.getResponse().getContentAsByteArray()).getOwnersCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testListOwnersLastPageDelimited() throws Exception {
+        given(this.clinicService.findOwnerPage(0, KeysetPage.DEFAULT_LIMIT + 1))
+            .willReturn(List.of(createOwnerWithPet(1, "Rosy")));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(get("/owners?after=0")
+                .accept(ProtobufMediaTypes.PROTOBUF_DELIMITED))
+            .andExpect(status().isOk())
+            .andExpect(header().string(KeysetPage.NEXT_CURSOR_HEADER, "0"))
+            .andReturn();
+
+        ByteArrayInputStream body = new ByteArrayInputStream(result.getResponse().getContentAsByteArray());
+        assertThat(ProtoOwner.parseDelimitedFrom(body).getId()).isEqualTo(1);
+        assertThat(ProtoOwner.parseDelimitedFrom(body)).isNull();
+    }
+
+    @Test
+    void testListOwnersPageInvalidLimit() throws Exception {
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        protoMockMvc.perform(get("/owners?limit=0").accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isBadRequest());
+        protoMockMvc.perform(get("/owners?limit=" + (KeysetPage.MAX_LIMIT + 1)).accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetOwnerWithFields() throws Exception {
+        given(this.clinicService.findOwnerById(1, OwnerRepository.Fetch.PETS)).willReturn(createOwnerWithPet(1, "Rosy"));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(get("/owners/1?fields=id,last_name,pets.name")
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        ProtoOwner owner = ProtoOwner.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(owner.getId()).isEqualTo(1);
+        assertThat(owner.getLastName()).isEqualTo("Franklin");
+        assertThat(owner.getFirstName()).isEmpty();
+        assertThat(owner.getPetsList()).extracting(ProtoPet::getName).containsExactly("Rosy");
+        assertThat(owner.getPets(0).getId()).isZero();
+        assertThat(owner.getPets(0).getVisitsList()).isEmpty();
+        verify(this.clinicService, never()).findOwnerById(1);
+    }
+
+    @Test
+    void testGetOwnerWithFieldsNotModified() throws Exception {
+        given(this.clinicService.findOwnerById(1, OwnerRepository.Fetch.OWNER)).willReturn(createOwnerWithPet(1, "Rosy"));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter())
+            .build();
+
+        String eTag = protoMockMvc.perform(get("/owners/1?fields=id,last_name")
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        protoMockMvc.perform(get("/owners/1?fields=id,last_name")
+                .accept(ProtobufMediaTypes.PROTOBUF)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        // the same fields in another order and naming, among other tags
+        protoMockMvc.perform(get("/owners/1?fields=lastName,id")
+                .accept(ProtobufMediaTypes.PROTOBUF)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + eTag))
+            .andExpect(status().isNotModified());
+        verify(this.clinicService).findOwnerById(1, OwnerRepository.Fetch.OWNER);
+
+        protoMockMvc.perform(get("/owners/1?fields=id,first_name")
+                .accept(ProtobufMediaTypes.PROTOBUF)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void testListOwnersWithFieldsLoadsOwnersOnly() throws Exception {
+        given(this.clinicService.findAllOwners(OwnerRepository.Fetch.OWNER))
+            .willReturn(List.of(createOwnerWithPet(1, "Rosy"), createOwnerWithPet(2, "Jewel")));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(get("/owners?fields=id,lastName")
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        ProtoOwners protoOwners = ProtoOwners.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(protoOwners.getOwnersList()).extracting(ProtoOwner::getId).containsExactly(1, 2);
+        assertThat(protoOwners.getOwnersList()).allSatisfy(owner -> {
+            assertThat(owner.getLastName()).isEqualTo("Franklin");
+            assertThat(owner.getCity()).isEmpty();
+            assertThat(owner.getPetsList()).isEmpty();
+        });
+        verify(this.clinicService, never()).findAllOwners();
+    }
+
+    @Test
+    void testListOwnersWithUnknownField() throws Exception {
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        protoMockMvc.perform(get("/owners?fields=id,pets.nickname").accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isBadRequest());
+        protoMockMvc.perform(get("/owners/1?fields=last_name.first").accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testListOwnersV2() throws Exception {
+        given(this.clinicService.findAllOwners())
+            .willReturn(List.of(createOwnerWithPet(1, "Rosy"), createOwnerWithPet(2, "Jewel")));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(get("/owners")
+                .accept(ProtobufMediaTypes.PROTOBUF_V2))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertThat(MediaType.parseMediaType(result.getResponse().getContentType()).getParameter("version")).isEqualTo("2");
+        org.springframework.samples.petclinic.protobuf.v2.ProtoOwners protoOwners =
+            org.springframework.samples.petclinic.protobuf.v2.ProtoOwners.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(protoOwners.getPetTypesCount()).isEqualTo(1);
+        assertThat(protoOwners.getPetTypes(0).getName()).isEqualTo("dog");
+        assertThat(protoOwners.getOwnersList()).allSatisfy(owner -> {
+            assertThat(owner.getPets(0).getTypeId()).isEqualTo(2);
+            assertThat(LocalDate.ofEpochDay(owner.getPets(0).getBirthDate())).isEqualTo(LocalDate.now());
+        });
+
+        // v1 stays the default
+        result = protoMockMvc.perform(get("/owners").accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn();
+        assertThat(ProtoOwners.parseFrom(result.getResponse().getContentAsByteArray()).getOwners(0).getPets(0).getType().getName())
+            .isEqualTo("dog");
+    }
+
+    @Test
+    void testBatchGetOwnersInRequestOrder() throws Exception {
+        given(this.clinicService.findOwnersByIds(List.of(2, 7, 1)))
+            .willReturn(List.of(createOwnerWithPet(1, "Rosy"), createOwnerWithPet(2, "Jewel")));
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(post("/owners:batchGet")
+                .content(ProtoIds.newBuilder().addIds(2).addIds(7).addIds(1).build().toByteArray())
+                .contentType(ProtobufMediaTypes.PROTOBUF)
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        ProtoOwnerBatch batch = ProtoOwnerBatch.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(batch.getOwnersList()).extracting(ProtoOwner::getId).containsExactly(2, 1);
+        assertThat(batch.getOwners(0).getPets(0).getName()).isEqualTo("Jewel");
+        assertThat(batch.getMissingIdsList()).containsExactly(7);
+
+        protoMockMvc.perform(post("/owners:batchGet")
+                .content(ProtoIds.getDefaultInstance().toByteArray())
+                .contentType(ProtobufMediaTypes.PROTOBUF)
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testImportOwnersReportsFailedRecords() throws Exception {
+        PetType dog = new PetType();
+        dog.setId(2);
+        dog.setName("dog");
+        given(this.clinicService.findPetTypes()).willReturn(List.of(dog));
+        // the database rejects one visit, which fails the batch holding it
+        willAnswer(invocation -> {
+            List<Visit> visits = invocation.getArgument(2);
+            if (visits.stream().anyMatch(visit -> visit.getDescription().equals("rejected"))) {
+                throw new DataIntegrityViolationException("rejected");
+            }
+            return null;
+        }).given(this.clinicService).importAll(anyList(), anyList(), anyList());
+        ProtoPet pet = ProtoPet.newBuilder().setName("Rosy").setBirthDate("2015-03-01")
+            .setType(ProtoPetType.newBuilder().setId(2))
+            .addVisits(ProtoPetVisit.newBuilder().setDate("2023-06-15").setDescription("checkup"))
+            .build();
+        ProtoOwner owner = ProtoOwner.newBuilder().setFirstName("George").setLastName("Franklin")
+            .setAddress("110 W. Liberty St.").setCity("Madison").setTelephone("6085551023").addPets(pet).build();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ProtoImportRecord.newBuilder().setOwner(owner).build().writeDelimitedTo(body);
+        ProtoImportRecord.newBuilder().setOwner(owner.toBuilder().clearTelephone()).build().writeDelimitedTo(body);
+        ProtoImportRecord.newBuilder().setPet(pet.toBuilder().setOwnerId(6).setType(ProtoPetType.newBuilder().setId(9)))
+            .build().writeDelimitedTo(body);
+        ProtoImportRecord.newBuilder().setVisit(ProtoVisit.newBuilder().setPetId(7).setDescription("rejected"))
+            .build().writeDelimitedTo(body);
+        ProtoImportRecord.newBuilder().setVisit(ProtoVisit.newBuilder().setPetId(7).setDescription("checkup"))
+            .build().writeDelimitedTo(body);
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(ownerRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(post("/owners:import")
+                .content(body.toByteArray())
+                .contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED)
+                .accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        ProtoImportResult importResult = ProtoImportResult.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(importResult.getRecords()).isEqualTo(5);
+        assertThat(importResult.getImported()).isEqualTo(2);
+        assertThat(importResult.getFailed()).isEqualTo(3);
+        assertThat(importResult.getErrorsList()).extracting(ProtoImportError::getIndex).containsExactly(1, 2, 3);
+        assertThat(importResult.getErrors(0).getMessage()).isEqualTo("telephone is required");
+        assertThat(importResult.getErrors(1).getMessage()).isEqualTo("Unknown pet type 9");
+        assertThat(importResult.getErrors(2).getMessage()).isEqualTo("rejected");
+    }
+
+    private Owner createOwnerWithPet(int id, String petName) {
+        Owner owner = new Owner();
+        owner.setId(id);
+        owner.setFirstName("George");
+        owner.setLastName("Franklin");
+        owner.setAddress("110 W. Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+        PetType petType = new PetType();
+        petType.setId(2);
+        petType.setName("dog");
+        Pet pet = new Pet();
+        pet.setId(id);
+        pet.setName(petName);
+        pet.setBirthDate(LocalDate.now());
+        pet.setType(petType);
+        owner.addPet(pet);
+        Visit visit = new Visit();
+        visit.setId(id);
+        visit.setDescription("rabies shot");
+        pet.addVisit(visit);
+        return owner;
+    }
 
 }
@@ -23,23 +23,34 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
 import org.springframework.samples.petclinic.mapper.PetTypeMapper;
 import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.samples.petclinic.protobuf.ProtoPetTypes;
 import org.springframework.samples.petclinic.rest.advice.ExceptionControllerAdvice;
 import org.springframework.samples.petclinic.rest.controller.PetTypeRestController;
+import org.springframework.samples.petclinic.rest.converter.ProtobufJsonHttpMessageConverter;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStreamHttpMessageConverter;
 import org.springframework.samples.petclinic.rest.dto.PetTypeDto;
 import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.ReferenceDataCache;
+import org.springframework.samples.petclinic.service.ReferenceDataCache.Region;
 import org.springframework.samples.petclinic.service.clinicService.ApplicationTestConfig;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -60,6 +71,9 @@ class PetTypeRestControllerTests {
     @Autowired
     private PetTypeMapper petTypeMapper;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @MockBean
     private ClinicService clinicService;
 
@@ -262,4 +276,44 @@ class PetTypeRestControllerTests {
         	.andExpect(status().isNotFound());
     }
 
+    @Test
+    void testListPetTypesServedFromCache() throws Exception {
+        this.referenceDataCache.invalidate(Region.PET_TYPES);
+        given(this.clinicService.findAllPetTypes()).willReturn(petTypes);
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(petTypeRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        MvcResult first = protoMockMvc.perform(get("/pettypes").accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ProtobufMediaTypes.PROTOBUF))
+            .andReturn();
+        MvcResult second = protoMockMvc.perform(get("/pettypes").accept(ProtobufMediaTypes.PROTOBUF))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        verify(this.clinicService, times(1)).findAllPetTypes();
+        byte[] body = first.getResponse().getContentAsByteArray();
+        assertThat(second.getResponse().getContentAsByteArray()).isEqualTo(body);
+        assertThat(first.getResponse().getContentLength()).isEqualTo(body.length);
+        ProtoPetTypes protoPetTypes = ProtoPetTypes.parseFrom(body);
+        assertThat(protoPetTypes.getPetTypesCount()).isEqualTo(4);
+        assertThat(protoPetTypes.getPetTypes(3).getName()).isEqualTo("snake");
+    }
+
+    @Test
+    void testListPetTypesAsJson() throws Exception {
+        this.referenceDataCache.invalidate(Region.PET_TYPES);
+        given(this.clinicService.findAllPetTypes()).willReturn(petTypes);
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(petTypeRestController)
+            .setMessageConverters(new ProtobufJsonHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        protoMockMvc.perform(get("/pettypes").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.petTypes[0].id").value(1))
+            .andExpect(jsonPath("$.petTypes[3].name").value("snake"));
+    }
+
 }
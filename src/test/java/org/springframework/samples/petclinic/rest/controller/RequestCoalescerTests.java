@@ -0,0 +1,184 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for {@link RequestCoalescer}
+ */
+class RequestCoalescerTests {
+
+    private static final ProtoOwner OWNER = ProtoOwner.newBuilder().setId(1).setLastName("Franklin").build();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @Test
+    void shouldShareOneReadBetweenConcurrentRequests() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(this.registry, Duration.ofSeconds(10));
+        Supplier<ProtoOwner> read = blockingRead(() -> OWNER);
+
+        List<Request> requests = start(coalescer, "v1", read, 4);
+        this.release.countDown();
+
+        for (Request request : requests) {
+            request.thread.join(10_000);
+            assertThat(request.failure.get()).isNull();
+            assertThat(bytes(request.body.get())).isEqualTo(OWNER.toByteArray());
+        }
+        assertThat(this.reads).hasValue(1);
+        assertThat(count("leader", "success")).isEqualTo(1);
+        assertThat(count("follower", "success")).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotShareReadsOfDifferentKeys() {
+        RequestCoalescer coalescer = new RequestCoalescer(this.registry, Duration.ofSeconds(10));
+
+        coalescer.execute("/owners", "v1", () -> OWNER);
+        coalescer.execute("/owners", "v2", () -> OWNER);
+        coalescer.execute("/owners", "v1", () -> OWNER);
+
+        assertThat(count("leader", "success")).isEqualTo(3);
+        assertThat(count("follower", "success")).isZero();
+    }
+
+    @Test
+    void shouldPropagateFailureToAllWaiters() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(this.registry, Duration.ofSeconds(10));
+        IllegalStateException failure = new IllegalStateException("database down");
+        Supplier<ProtoOwner> read = blockingRead(() -> {
+            throw failure;
+        });
+
+        List<Request> requests = start(coalescer, "v1", read, 3);
+        this.release.countDown();
+
+        for (Request request : requests) {
+            request.thread.join(10_000);
+            assertThat(request.failure.get()).isSameAs(failure);
+        }
+        assertThat(count("leader", "error")).isEqualTo(1);
+        assertThat(count("follower", "error")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGiveUpWaitingAfterTimeout() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(this.registry, Duration.ofMillis(50));
+        Supplier<ProtoOwner> read = blockingRead(() -> OWNER);
+
+        List<Request> requests = start(coalescer, "v1", read, 1);
+        try {
+            assertThatThrownBy(() -> coalescer.execute("/owners", "v1", read))
+                .isInstanceOf(RequestCoalescer.WaitTimeoutException.class);
+        } finally {
+            this.release.countDown();
+        }
+
+        requests.get(0).thread.join(10_000);
+        assertThat(requests.get(0).body.get()).isNotNull();
+        assertThat(count("follower", "timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareEmptyResult() {
+        RequestCoalescer coalescer = new RequestCoalescer(this.registry, Duration.ofSeconds(10));
+
+        assertThat(coalescer.execute("/vets", "v1", () -> null)).isNull();
+    }
+
+    private Supplier<ProtoOwner> blockingRead(Supplier<ProtoOwner> result) {
+        return () -> {
+            this.reads.incrementAndGet();
+            try {
+                this.release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    /**
+     * Start the leader, wait until it reads, then start the followers and wait until they wait.
+     */
+    private List<Request> start(RequestCoalescer coalescer, String key, Supplier<ProtoOwner> read, int count)
+        throws InterruptedException {
+        List<Request> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Request request = new Request(coalescer, key, read);
+            requests.add(request);
+            request.thread.start();
+            while (i == 0 ? this.reads.get() == 0 : request.thread.getState() != Thread.State.TIMED_WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        return requests;
+    }
+
+    private double count(String role, String outcome) {
+        return this.registry.counter("petclinic.coalescing.requests",
+            "endpoint", "/owners", "role", role, "outcome", outcome).count();
+    }
+
+    private static byte[] bytes(ProtobufStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stream.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static final class Request {
+
+        final AtomicReference<ProtobufStream> body = new AtomicReference<>();
+
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        final Thread thread;
+
+        Request(RequestCoalescer coalescer, String key, Supplier<ProtoOwner> read) {
+            this.thread = new Thread(() -> {
+                try {
+                    this.body.set(coalescer.execute("/owners", key, read));
+                } catch (RuntimeException ex) {
+                    this.failure.set(ex);
+                }
+            });
+        }
+
+    }
+
+}
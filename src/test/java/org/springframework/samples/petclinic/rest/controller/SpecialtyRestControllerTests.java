@@ -27,7 +27,11 @@ import org.springframework.samples.petclinic.mapper.SpecialtyMapper;
 import org.springframework.samples.petclinic.model.Specialty;
 import org.springframework.samples.petclinic.rest.advice.ExceptionControllerAdvice;
 import org.springframework.samples.petclinic.rest.controller.SpecialtyRestController;
+import org.springframework.samples.petclinic.rest.converter.ProtobufJsonHttpMessageConverter;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStreamHttpMessageConverter;
 import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.ReferenceDataCache;
+import org.springframework.samples.petclinic.service.ReferenceDataCache.Region;
 import org.springframework.samples.petclinic.service.clinicService.ApplicationTestConfig;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
@@ -58,6 +62,9 @@ class SpecialtyRestControllerTests {
     @Autowired
     private SpecialtyMapper specialtyMapper;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
 	@MockBean
     private ClinicService clinicService;
 
@@ -216,4 +223,19 @@ class SpecialtyRestControllerTests {
     		.content(newSpecialtyAsJSON).accept(MediaType.APPLICATION_JSON_VALUE).contentType(MediaType.APPLICATION_JSON_VALUE))
         	.andExpect(status().isNotFound());
     }
+
+    @Test
+    void testListSpecialtiesAsJson() throws Exception {
+        this.referenceDataCache.invalidate(Region.SPECIALTIES);
+        given(this.clinicService.findAllSpecialties()).willReturn(specialties);
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(specialtyRestController)
+            .setMessageConverters(new ProtobufJsonHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        protoMockMvc.perform(get("/specialties").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.specialties[0].name").value("radiology"))
+            .andExpect(jsonPath("$.specialties[2].id").value(3));
+    }
 }
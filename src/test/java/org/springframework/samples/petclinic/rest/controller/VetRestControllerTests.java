@@ -23,22 +23,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
 import org.springframework.samples.petclinic.mapper.VetMapper;
 import org.springframework.samples.petclinic.model.Vet;
+import org.springframework.samples.petclinic.protobuf.ProtoVet;
 import org.springframework.samples.petclinic.rest.advice.ExceptionControllerAdvice;
 import org.springframework.samples.petclinic.rest.controller.VetRestController;
+import org.springframework.samples.petclinic.rest.converter.ProtobufMediaTypes;
+import org.springframework.samples.petclinic.rest.converter.ProtobufStreamHttpMessageConverter;
 import org.springframework.samples.petclinic.service.ClinicService;
 import org.springframework.samples.petclinic.service.clinicService.ApplicationTestConfig;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -137,6 +146,41 @@ class VetRestControllerTests {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testListVetsDelimitedStream() throws Exception {
+        given(this.clinicService.findVetPage(0, KeysetPage.STREAM_PAGE_SIZE)).willReturn(vets);
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(vetRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        MvcResult result = protoMockMvc.perform(get("/vets")
+                .accept(ProtobufMediaTypes.PROTOBUF_DELIMITED))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ProtobufMediaTypes.PROTOBUF_DELIMITED))
+            .andReturn();
+
+        ByteArrayInputStream body = new ByteArrayInputStream(result.getResponse().getContentAsByteArray());
+        List<Integer> ids = new ArrayList<>();
+        ProtoVet vet;
+        while ((vet = ProtoVet.parseDelimitedFrom(body)) != null) {
+            ids.add(vet.getId());
+        }
+        assertThat(ids).containsExactly(1, 2, 3);
+        verify(this.clinicService, never()).findAllVets();
+    }
+
+    @Test
+    void testListVetsDelimitedStreamNotFound() throws Exception {
+        given(this.clinicService.findVetPage(0, KeysetPage.STREAM_PAGE_SIZE)).willReturn(new ArrayList<>());
+        MockMvc protoMockMvc = MockMvcBuilders.standaloneSetup(vetRestController)
+            .setMessageConverters(new ProtobufHttpMessageConverter(), new ProtobufStreamHttpMessageConverter())
+            .build();
+
+        protoMockMvc.perform(get("/vets")
+                .accept(ProtobufMediaTypes.PROTOBUF_DELIMITED))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     @WithMockUser(roles="VET_ADMIN")
     void testCreateVetSuccess() throws Exception {
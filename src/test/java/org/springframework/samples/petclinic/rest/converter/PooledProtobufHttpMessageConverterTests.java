@@ -0,0 +1,117 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.converter;
+
+import com.google.protobuf.ExtensionRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwnerAdd;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledProtobufHttpMessageConverterTests {
+
+    private final PooledProtobufHttpMessageConverter converter = new PooledProtobufHttpMessageConverter();
+
+    @Test
+    void shouldWriteSmallAndLargeMessagesWithContentLength() throws Exception {
+        ProtoOwner small = owner(1);
+        ProtoOwner large = owner(500);
+        assertThat(large.getSerializedSize()).isGreaterThan(PooledProtobufHttpMessageConverter.BUFFER_SIZE);
+
+        for (ProtoOwner owner : new ProtoOwner[]{small, large, small}) {
+            MockHttpOutputMessage output = new MockHttpOutputMessage();
+            this.converter.write(owner, ProtobufMediaTypes.PROTOBUF, output);
+
+            assertThat(output.getBodyAsBytes()).isEqualTo(owner.toByteArray());
+            assertThat(output.getHeaders().getContentLength()).isEqualTo(owner.getSerializedSize());
+            assertThat(output.getHeaders().getFirst(ProtobufHttpMessageConverter.X_PROTOBUF_MESSAGE_HEADER))
+                .isEqualTo("org.springframework.samples.petclinic.protobuf.ProtoOwner");
+        }
+    }
+
+    @Test
+    void shouldReadMessagesOfKnownAndUnknownLength() throws Exception {
+        for (ProtoOwner owner : new ProtoOwner[]{owner(1), owner(500)}) {
+            MockHttpInputMessage sized = new MockHttpInputMessage(owner.toByteArray());
+            sized.getHeaders().setContentType(ProtobufMediaTypes.PROTOBUF);
+            sized.getHeaders().setContentLength(owner.getSerializedSize());
+            assertThat(this.converter.read(ProtoOwner.class, sized)).isEqualTo(owner);
+
+            MockHttpInputMessage chunked = new MockHttpInputMessage(owner.toByteArray());
+            chunked.getHeaders().setContentType(ProtobufMediaTypes.PROTOBUF);
+            assertThat(this.converter.read(ProtoOwner.class, chunked)).isEqualTo(owner);
+        }
+    }
+
+    @Test
+    void shouldRejectMessagesOverTheSizeLimit() {
+        PooledProtobufHttpMessageConverter limited =
+            new PooledProtobufHttpMessageConverter(ExtensionRegistry.newInstance(), 1024);
+        byte[] bytes = owner(100).toByteArray();
+
+        MockHttpInputMessage sized = new MockHttpInputMessage(bytes);
+        sized.getHeaders().setContentType(ProtobufMediaTypes.PROTOBUF);
+        sized.getHeaders().setContentLength(bytes.length);
+        assertThatThrownBy(() -> limited.read(ProtoOwner.class, sized))
+            .isInstanceOf(HttpMessageNotReadableException.class);
+
+        MockHttpInputMessage chunked = new MockHttpInputMessage(bytes);
+        chunked.getHeaders().setContentType(ProtobufMediaTypes.PROTOBUF);
+        assertThatThrownBy(() -> limited.read(ProtoOwner.class, chunked))
+            .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    @Test
+    void shouldRejectTruncatedMessages() {
+        byte[] bytes = ProtoOwnerAdd.newBuilder().setFirstName("George").setLastName("Franklin").build().toByteArray();
+        MockHttpInputMessage input = new MockHttpInputMessage(bytes);
+        input.getHeaders().setContentType(ProtobufMediaTypes.PROTOBUF);
+        input.getHeaders().setContentLength(bytes.length + 10);
+
+        assertThatThrownBy(() -> this.converter.read(ProtoOwnerAdd.class, input))
+            .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    @Test
+    void shouldLeaveOtherFormatsToTheSuperclass() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        this.converter.write(owner(1), MediaType.APPLICATION_JSON, output);
+        MockHttpOutputMessage expected = new MockHttpOutputMessage();
+        new ProtobufHttpMessageConverter().write(owner(1), MediaType.APPLICATION_JSON, expected);
+
+        assertThat(output.getBodyAsBytes()).isEqualTo(expected.getBodyAsBytes());
+        assertThat(output.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(-1);
+    }
+
+    private static ProtoOwner owner(int pets) {
+        ProtoOwner.Builder owner = ProtoOwner.newBuilder().setId(1).setFirstName("George").setLastName("Franklin")
+            .setAddress("110 W. Liberty St.").setCity("Madison").setTelephone("6085551023");
+        for (int i = 0; i < pets; i++) {
+            owner.addPets(ProtoPet.newBuilder().setId(i).setName("Pet " + i).setBirthDate("2015-03-01").setOwnerId(1));
+        }
+        return owner.build();
+    }
+
+}
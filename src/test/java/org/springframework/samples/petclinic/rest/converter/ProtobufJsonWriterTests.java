@@ -0,0 +1,140 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.samples.petclinic.protobuf.ProtoIds;
+import org.springframework.samples.petclinic.protobuf.ProtoImportRecord;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.protobuf.ProtoPetType;
+import org.springframework.samples.petclinic.protobuf.ProtoPetVisit;
+import org.springframework.samples.petclinic.protobuf.ProtoVisit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProtobufJsonWriterTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void shouldWriteNestedAndRepeatedMessagesUnderTheirJsonNames() throws Exception {
+        ProtoPetType cat = ProtoPetType.newBuilder().setId(1).setName("cat").build();
+        ProtoOwner owner = ProtoOwner.newBuilder().setId(6).setFirstName("Jean").setLastName("Coleman")
+            .setAddress("105 N. Lake St.").setCity("Monona").setTelephone("6085552654")
+            .addPets(ProtoPet.newBuilder().setId(8).setName("Max").setBirthDate("2012-09-04").setType(cat)
+                .setOwnerId(6)
+                .addVisits(ProtoPetVisit.newBuilder().setId(3).setDate("2013-01-03").setDescription("neutered"))
+                .addVisits(ProtoPetVisit.newBuilder().setId(2).setDate("2013-01-02").setDescription("rabies shot")))
+            .addPets(ProtoPet.newBuilder().setId(7).setName("Samantha").setType(cat).setOwnerId(6))
+            .build();
+
+        assertThat(this.mapper.readTree(ProtobufJsonWriter.toJson(owner))).isEqualTo(this.mapper.readTree("""
+            {"id":6,"firstName":"Jean","lastName":"Coleman","address":"105 N. Lake St.","city":"Monona",
+             "telephone":"6085552654","pets":[
+              {"id":8,"name":"Max","birthDate":"2012-09-04","type":{"id":1,"name":"cat"},"ownerId":6,"visits":[
+                {"id":3,"date":"2013-01-03","description":"neutered"},
+                {"id":2,"date":"2013-01-02","description":"rabies shot"}]},
+              {"id":7,"name":"Samantha","type":{"id":1,"name":"cat"},"ownerId":6}]}
+            """));
+    }
+
+    @Test
+    void shouldOmitDefaultValues() {
+        assertThat(ProtobufJsonWriter.toJson(ProtoOwner.getDefaultInstance())).isEqualTo("{}");
+        assertThat(ProtobufJsonWriter.toJson(ProtoOwner.newBuilder().setId(0).setFirstName("").build()))
+            .isEqualTo("{}");
+        assertThat(ProtobufJsonWriter.toJson(ProtoIds.getDefaultInstance())).isEqualTo("{}");
+    }
+
+    @Test
+    void shouldEscapeStringsAndKeepUnicode() throws Exception {
+        String name = "O\"Brien \\ Ünal 猫 🐈\n\t\u0001";
+        ProtoOwner owner = ProtoOwner.newBuilder().setLastName(name).build();
+
+        String json = ProtobufJsonWriter.toJson(owner);
+
+        assertThat(json).contains("\\\"", "\\\\", "\\n", "\\t", "\\u0001", "Ünal 猫 🐈");
+        assertThat(this.mapper.readTree(json).get("lastName").asText()).isEqualTo(name);
+    }
+
+    @Test
+    void shouldWritePackedRepeatedScalarsAsArrays() throws Exception {
+        ProtoIds ids = ProtoIds.newBuilder().addIds(1).addIds(10).addIds(0).addIds(300).addIds(-2)
+            .addIds(Integer.MAX_VALUE).addIds(Integer.MIN_VALUE).build();
+
+        assertThat(ProtobufJsonWriter.toJson(ids)).isEqualTo("{\"ids\":[1,10,0,300,-2,2147483647,-2147483648]}");
+    }
+
+    @Test
+    void shouldWriteTheSetFieldOfAOneof() throws Exception {
+        ProtoImportRecord record = ProtoImportRecord.newBuilder()
+            .setVisit(ProtoVisit.newBuilder().setDate("2013-01-01").setDescription("rabies shot").setPetId(7))
+            .build();
+
+        assertThat(this.mapper.readTree(ProtobufJsonWriter.toJson(record))).isEqualTo(this.mapper.readTree(
+            "{\"visit\":{\"date\":\"2013-01-01\",\"description\":\"rabies shot\",\"petId\":7}}"));
+    }
+
+    @Test
+    void shouldQuoteLongsAndNonFiniteNumbersAndEncodeBytesAndEnums() {
+        assertThat(ProtobufJsonWriter.toJson(Timestamp.newBuilder().setSeconds(-1_700_000_000_000L).setNanos(5).build()))
+            .isEqualTo("{\"seconds\":\"-1700000000000\",\"nanos\":5}");
+        assertThat(ProtobufJsonWriter.toJson(DoubleValue.of(1.5))).isEqualTo("{\"value\":1.5}");
+        assertThat(ProtobufJsonWriter.toJson(DoubleValue.of(Double.NaN))).isEqualTo("{\"value\":\"NaN\"}");
+        assertThat(ProtobufJsonWriter.toJson(BytesValue.of(ByteString.copyFromUtf8("cat"))))
+            .isEqualTo("{\"value\":\"Y2F0\"}");
+        assertThat(ProtobufJsonWriter.toJson(FieldDescriptorProto.newBuilder().setName("id").setNumber(1)
+            .setType(FieldDescriptorProto.Type.TYPE_INT32).setProto3Optional(true).build()))
+            .isEqualTo("{\"name\":\"id\",\"number\":1,\"type\":\"TYPE_INT32\",\"proto3Optional\":true}");
+    }
+
+    @Test
+    void shouldBeWrittenByTheConverterForJsonOnly() throws Exception {
+        ProtobufJsonHttpMessageConverter converter = new ProtobufJsonHttpMessageConverter();
+        ProtoOwner owner = ProtoOwner.newBuilder().setId(1).setFirstName("George").build();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(owner, MediaType.APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsString()).isEqualTo("{\"id\":1,\"firstName\":\"George\"}");
+        assertThat(output.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(converter.canWrite(ProtoOwner.class, ProtobufMediaTypes.PROTOBUF)).isFalse();
+        assertThat(converter.canRead(ProtoOwner.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void shouldPreferJsonOnlyWhenAskedForExplicitly() {
+        assertThat(ProtobufMediaTypes.isJsonRequested("application/json")).isTrue();
+        assertThat(ProtobufMediaTypes.isJsonRequested("application/problem+json")).isTrue();
+        assertThat(ProtobufMediaTypes.isJsonRequested("application/x-protobuf;q=0.5, application/json")).isTrue();
+        assertThat(ProtobufMediaTypes.isJsonRequested("application/x-protobuf, application/json")).isFalse();
+        assertThat(ProtobufMediaTypes.isJsonRequested("*/*")).isFalse();
+        assertThat(ProtobufMediaTypes.isJsonRequested("application/*")).isFalse();
+        assertThat(ProtobufMediaTypes.isJsonRequested(null)).isFalse();
+        assertThat(ProtobufMediaTypes.isJsonRequested("not a media type")).isFalse();
+    }
+
+}
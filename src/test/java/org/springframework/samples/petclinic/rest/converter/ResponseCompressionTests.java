@@ -0,0 +1,207 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.rest.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.samples.petclinic.protobuf.ProtoOwner;
+import org.springframework.samples.petclinic.protobuf.ProtoOwners;
+import org.springframework.samples.petclinic.protobuf.ProtoPet;
+import org.springframework.samples.petclinic.rest.converter.ResponseCompression.ContentCoding;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCompressionTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final ResponseCompression compression =
+        new ResponseCompression(this.registry, 1024, Map.of("/vets", 1 << 20));
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldNegotiateByQualityPreferringLz4() {
+        assertThat(ContentCoding.negotiate("gzip, deflate, br")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("gzip, lz4")).isEqualTo(ContentCoding.LZ4);
+        assertThat(ContentCoding.negotiate("lz4;q=0.5, gzip")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("*")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("gzip;q=0, *")).isNull();
+        assertThat(ContentCoding.negotiate("identity")).isNull();
+        assertThat(ContentCoding.negotiate(null)).isNull();
+    }
+
+    @Test
+    void shouldCompressWithLz4() throws Exception {
+        byte[] owners = owners(2000);
+        byte[] random = new byte[100_000];
+        new Random(42).nextBytes(random);
+
+        for (byte[] payload : new byte[][]{owners, random, Arrays.copyOf(owners, 1030)}) {
+            MockHttpServletResponse response = write("/owners", "lz4", payload);
+
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("lz4");
+            assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH)).isNull();
+            byte[] body = response.getContentAsByteArray();
+            // magic number, independent blocks without checksums, 64 KB blocks
+            assertThat(Arrays.copyOf(body, 6)).containsExactly(0x04, 0x22, 0x4D, 0x18, 0x60, 0x40);
+            assertThat(decodeLz4Frame(body)).isEqualTo(payload);
+        }
+        assertThat(write("/owners", "lz4", owners).getContentAsByteArray().length).isLessThan(owners.length / 3);
+    }
+
+    @Test
+    void shouldCompressWithGzipReusingDeflaters() throws Exception {
+        byte[] owners = owners(2000);
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = write("/owners", "gzip", owners);
+
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            byte[] body = response.getContentAsByteArray();
+            assertThat(body.length).isLessThan(owners.length / 3);
+            assertThat(new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes()).isEqualTo(owners);
+        }
+    }
+
+    @Test
+    void shouldWeakenEntityTagsOfCompressedBodies() throws Exception {
+        byte[] owners = owners(2000);
+
+        setRequest("/owners", "gzip");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        response.getHeaders().setETag("\"1.2.3\"");
+        try (OutputStream body = this.compression.encode(response, owners.length)) {
+            body.write(owners);
+        }
+        response.flush();
+
+        assertThat(servletResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"1.2.3\"");
+    }
+
+    @Test
+    void shouldRecordBytesAndTimePerEndpointAndEncoding() throws Exception {
+        byte[] owners = owners(2000);
+        MockHttpServletResponse response = write("/owners", "lz4", owners);
+
+        assertThat(this.registry.get("petclinic.compression.input").tags("uri", "/owners", "encoding", "lz4")
+            .counter().count()).isEqualTo(owners.length);
+        assertThat(this.registry.get("petclinic.compression.output").tags("uri", "/owners", "encoding", "lz4")
+            .counter().count()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(this.registry.get("petclinic.compression.time").tags("uri", "/owners", "encoding", "lz4")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSendSmallBodiesAndUnacceptedCodingsAsTheyAre() throws Exception {
+        byte[] owners = owners(2000);
+        byte[] small = Arrays.copyOf(owners, 1000);
+
+        MockHttpServletResponse response = write("/owners", "lz4", small);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.VARY)).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(small);
+
+        response = write("/vets", "lz4", owners);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(this.registry.get("petclinic.compression.skipped").tag("uri", "/vets").counter().count())
+            .isEqualTo(1);
+
+        response = write("/owners", null, owners);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentAsByteArray()).isEqualTo(owners);
+    }
+
+    @Test
+    void shouldBeAppliedByTheProtobufConverter() throws Exception {
+        PooledProtobufHttpMessageConverter converter = new PooledProtobufHttpMessageConverter();
+        converter.setResponseCompression(this.compression);
+        ProtoOwners owners = ProtoOwners.parseFrom(owners(100));
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        setRequest("/owners", "lz4");
+
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        converter.write(owners, ProtobufMediaTypes.PROTOBUF, response);
+        response.flush();
+
+        assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_LENGTH)).isNull();
+        assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("lz4");
+        assertThat(ProtoOwners.parseFrom(decodeLz4Frame(servletResponse.getContentAsByteArray()))).isEqualTo(owners);
+    }
+
+    private MockHttpServletResponse write(String uri, String acceptEncoding, byte[] payload) throws Exception {
+        setRequest(uri, acceptEncoding);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        response.getHeaders().setContentLength(payload.length);
+        try (OutputStream body = this.compression.encode(response, payload.length)) {
+            // in pieces, as the converters write
+            for (int offset = 0; offset < payload.length; offset += 5000) {
+                body.write(payload, offset, Math.min(5000, payload.length - offset));
+            }
+        }
+        response.flush();
+        return servletResponse;
+    }
+
+    private static void setRequest(String uri, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, uri);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static byte[] owners(int count) {
+        ProtoOwners.Builder owners = ProtoOwners.newBuilder();
+        for (int i = 1; i <= count; i++) {
+            owners.addOwners(ProtoOwner.newBuilder().setId(i).setFirstName("George " + i).setLastName("Franklin")
+                .setAddress(i + " W. Liberty St.").setCity("Madison").setTelephone("60855" + (10000 + i))
+                .addPets(ProtoPet.newBuilder().setId(i).setName("Leo").setBirthDate("2010-09-07").setOwnerId(i)));
+        }
+        return owners.build().toByteArray();
+    }
+
+    private static byte[] decodeLz4Frame(byte[] frame) throws IOException {
+        try (LZ4FrameInputStream in = new LZ4FrameInputStream(new ByteArrayInputStream(frame))) {
+            return in.readAllBytes();
+        }
+    }
+
+}
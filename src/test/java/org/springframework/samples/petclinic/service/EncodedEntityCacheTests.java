@@ -0,0 +1,205 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.model.PetType;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link EncodedEntityCache}
+ */
+class EncodedEntityCacheTests {
+
+    private static final Function<Owner, byte[]> OWNER_ENCODER =
+        owner -> owner.getLastName().getBytes(StandardCharsets.UTF_8);
+
+    private static final Function<Pet, byte[]> PET_ENCODER =
+        pet -> pet.getName().getBytes(StandardCharsets.UTF_8);
+
+    private final EncodedEntityCache cache = new EncodedEntityCache(DataSize.ofKilobytes(1));
+
+    private final Map<Integer, Owner> owners = new HashMap<>();
+
+    private final Map<Integer, Pet> pets = new HashMap<>();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldLoadOnlyOnMiss() {
+        addOwner(1, "Franklin", 1, 1);
+
+        assertThat(getOwner(1)).isEqualTo("Franklin");
+        assertThat(getOwner(1)).isEqualTo("Franklin");
+        assertThat(getOwner(2)).isNull();
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    void shouldRemovePetAndItsOwnerOnlyWhenPetChanged() {
+        addOwner(1, "Franklin", 1, 1);
+        addOwner(2, "Davis", 2, 1);
+        getOwner(1);
+        getOwner(2);
+        getPet(1);
+        getPet(2);
+
+        // a new visit of pet 1 is reported as a change of the pet
+        this.cache.entryChanged(ClinicServiceImpl.PETS, 1);
+        this.loads.set(0);
+        getOwner(1);
+        getOwner(2);
+        getPet(1);
+        getPet(2);
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    void shouldRemoveOwnerButNotItsPetsWhenOwnerChanged() {
+        addOwner(1, "Franklin", 1, 1);
+        getOwner(1);
+        getPet(1);
+
+        this.cache.entryChanged(ClinicServiceImpl.OWNERS, 1);
+        this.loads.set(0);
+        getOwner(1);
+        getPet(1);
+
+        assertThat(this.loads).hasValue(1);
+    }
+
+    @Test
+    void shouldRemoveEntriesOfChangedPetTypeOnly() {
+        addOwner(1, "Franklin", 1, 1);
+        addOwner(2, "Davis", 2, 2);
+        getOwner(1);
+        getOwner(2);
+        getPet(1);
+        getPet(2);
+
+        this.cache.petTypeChanged(2);
+        this.loads.set(0);
+        getOwner(1);
+        getOwner(2);
+        getPet(1);
+        getPet(2);
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    void shouldIgnoreChangesOfOtherCaches() {
+        addOwner(1, "Franklin", 1, 1);
+        getOwner(1);
+
+        this.cache.entryChanged(ClinicServiceImpl.VETS, 1);
+        this.loads.set(0);
+        getOwner(1);
+
+        assertThat(this.loads).hasValue(0);
+    }
+
+    @Test
+    void shouldNotStoreValueLoadedBeforeChange() {
+        addOwner(1, "Franklin", 1, 1);
+
+        this.cache.getOwner(1, id -> {
+            this.loads.incrementAndGet();
+            // a concurrent write of the pet while the owner is loaded
+            this.cache.entryChanged(ClinicServiceImpl.PETS, 1);
+            return this.owners.get(id);
+        }, OWNER_ENCODER);
+        getOwner(1);
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    void shouldStayWithinMaximumSize() {
+        EncodedEntityCache small = new EncodedEntityCache(DataSize.ofBytes(100));
+        Owner first = owner(1, "a".repeat(60), 1, 1);
+        Owner second = owner(2, "b".repeat(60), 2, 1);
+
+        small.getOwner(1, id -> first, OWNER_ENCODER);
+        small.getOwner(2, id -> second, OWNER_ENCODER);
+        small.getOwner(1, id -> load(first), OWNER_ENCODER);
+        small.getOwner(2, id -> load(second), OWNER_ENCODER);
+
+        assertThat(this.loads.get()).isPositive();
+    }
+
+    @Test
+    void shouldRemoveAllEntriesWhenCleared() {
+        addOwner(1, "Franklin", 1, 1);
+        getOwner(1);
+        getPet(1);
+
+        this.cache.clear();
+        this.loads.set(0);
+        getOwner(1);
+        getPet(1);
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    private String getOwner(int ownerId) {
+        byte[] bytes = this.cache.getOwner(ownerId, id -> load(this.owners.get(id)), OWNER_ENCODER);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private String getPet(int petId) {
+        byte[] bytes = this.cache.getPet(petId, id -> load(this.pets.get(id)), PET_ENCODER);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private <T> T load(T entity) {
+        this.loads.incrementAndGet();
+        return entity;
+    }
+
+    private void addOwner(int ownerId, String lastName, int petId, int petTypeId) {
+        Owner owner = owner(ownerId, lastName, petId, petTypeId);
+        this.owners.put(ownerId, owner);
+        this.pets.put(petId, owner.getPets().get(0));
+    }
+
+    private static Owner owner(int ownerId, String lastName, int petId, int petTypeId) {
+        PetType petType = new PetType();
+        petType.setId(petTypeId);
+        petType.setName("type" + petTypeId);
+        Pet pet = new Pet();
+        pet.setId(petId);
+        pet.setName("pet" + petId);
+        pet.setType(petType);
+        Owner owner = new Owner();
+        owner.setId(ownerId);
+        owner.setLastName(lastName);
+        owner.addPet(pet);
+        return owner;
+    }
+
+}
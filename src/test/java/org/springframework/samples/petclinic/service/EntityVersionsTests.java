@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link EntityVersions}
+ */
+class EntityVersionsTests {
+
+    private final EntityVersions versions = new EntityVersions();
+
+    @Test
+    void shouldChangeVersionOfChangedEntryOnly() {
+        String owner1 = this.versions.ownerVersion(1);
+        String owner2 = this.versions.ownerVersion(2);
+        String vets = this.versions.vetsVersion();
+
+        this.versions.entryChanged(ClinicServiceImpl.OWNERS, 1);
+
+        assertThat(this.versions.ownerVersion(1)).isNotEqualTo(owner1);
+        assertThat(this.versions.ownerVersion(2)).isEqualTo(owner2);
+        assertThat(this.versions.vetsVersion()).isEqualTo(vets);
+    }
+
+    @Test
+    void shouldChangeAllVersionsOfClearedCache() {
+        String owner1 = this.versions.ownerVersion(1);
+        String owner2 = this.versions.ownerVersion(2);
+        String petTypes = this.versions.petTypesVersion();
+
+        this.versions.cacheChanged(ClinicServiceImpl.OWNERS);
+
+        assertThat(this.versions.ownerVersion(1)).isNotEqualTo(owner1);
+        assertThat(this.versions.ownerVersion(2)).isNotEqualTo(owner2);
+        assertThat(this.versions.petTypesVersion()).isEqualTo(petTypes);
+    }
+
+    @Test
+    void shouldChangeOwnersVersionWithAnyOwner() {
+        String owners = this.versions.ownersVersion();
+
+        this.versions.entryChanged(ClinicServiceImpl.OWNERS, 1);
+        String afterEntry = this.versions.ownersVersion();
+        this.versions.listChanged(ClinicServiceImpl.OWNERS);
+        String afterList = this.versions.ownersVersion();
+        this.versions.entryChanged(ClinicServiceImpl.VETS, "all");
+
+        assertThat(afterEntry).isNotEqualTo(owners);
+        assertThat(afterList).isNotEqualTo(afterEntry);
+        assertThat(this.versions.ownersVersion()).isEqualTo(afterList);
+    }
+
+    @Test
+    void shouldNotShareVersionsBetweenInstances() {
+        assertThat(new EntityVersions().vetsVersion()).isNotEqualTo(this.versions.vetsVersion());
+    }
+
+    @Test
+    void shouldChangeVersionAgainWhenTransactionCompleted() {
+        String version;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.versions.entryChanged(ClinicServiceImpl.VETS, "all");
+            // another reader still sees the uncommitted state under this version
+            version = this.versions.vetsVersion();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(this.versions.vetsVersion()).isNotEqualTo(version);
+    }
+
+}
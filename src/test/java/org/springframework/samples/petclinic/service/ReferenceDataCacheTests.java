@@ -0,0 +1,91 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.service.ReferenceDataCache.Region;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link ReferenceDataCache}
+ */
+class ReferenceDataCacheTests {
+
+    private final ReferenceDataCache cache = new ReferenceDataCache();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load() {
+        return "value-" + this.loads.incrementAndGet();
+    }
+
+    @Test
+    void shouldLoadOnceUntilInvalidated() {
+        assertThat(this.cache.get(Region.PET_TYPES, this::load)).isEqualTo("value-1");
+        assertThat(this.cache.get(Region.PET_TYPES, this::load)).isEqualTo("value-1");
+
+        this.cache.invalidate(Region.PET_TYPES);
+
+        assertThat(this.cache.get(Region.PET_TYPES, this::load)).isEqualTo("value-2");
+        assertThat(this.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepRegionsApart() {
+        this.cache.get(Region.PET_TYPES, this::load);
+        this.cache.get(Region.SPECIALTIES, this::load);
+
+        this.cache.invalidate(Region.SPECIALTIES);
+
+        assertThat(this.cache.get(Region.PET_TYPES, this::load)).isEqualTo("value-1");
+        assertThat(this.cache.get(Region.SPECIALTIES, this::load)).isEqualTo("value-3");
+    }
+
+    @Test
+    void shouldCacheMissingValue() {
+        assertThat(this.cache.<String>get(Region.PET_TYPES, () -> {
+            this.loads.incrementAndGet();
+            return null;
+        })).isNull();
+        assertThat(this.cache.get(Region.PET_TYPES, this::load)).isNull();
+        assertThat(this.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropValuesLoadedBeforeTransactionCompleted() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.cache.invalidate(Region.PET_TYPES);
+            // another reader still sees the uncommitted state and caches it
+            this.cache.get(Region.PET_TYPES, this::load);
+            assertThat(this.cache.get(Region.PET_TYPES, this::load)).isEqualTo("value-1");
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(this.cache.get(Region.PET_TYPES, this::load)).isEqualTo("value-2");
+    }
+
+}
@@ -15,14 +15,27 @@
  */
 package org.springframework.samples.petclinic.service.clinicService;
 
+import jakarta.persistence.Persistence;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.samples.petclinic.model.*;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository.Change;
+import org.springframework.samples.petclinic.repository.ChangeLogRepository.Entity;
+import org.springframework.samples.petclinic.repository.OwnerRepository;
+import org.springframework.samples.petclinic.repository.jdbc.JdbcChangeLogRepositoryImpl;
 import org.springframework.samples.petclinic.service.ClinicService;
+import org.springframework.samples.petclinic.service.EntityVersions;
+import org.springframework.samples.petclinic.service.ReferenceDataCache;
+import org.springframework.samples.petclinic.service.ReferenceDataCache.Region;
 import org.springframework.samples.petclinic.util.EntityUtils;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
@@ -30,6 +43,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * <p> Base class for {@link ClinicService} integration tests. </p> <p> Subclasses should specify Spring context
@@ -56,6 +70,18 @@ abstract class AbstractClinicServiceTests {
     @Autowired
     protected ClinicService clinicService;
 
+    @Autowired
+    protected ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    protected EntityVersions entityVersions;
+
+    @Autowired
+    protected CacheManager cacheManager;
+
+    @Autowired
+    protected DataSource dataSource;
+
     @Test
     void shouldFindOwnersByLastName() {
         Collection<Owner> owners = this.clinicService.findOwnerByLastName("Davis");
@@ -411,6 +437,18 @@ abstract class AbstractClinicServiceTests {
         assertThat(petType).isNull();
     }
 
+    @Test
+    @Transactional
+    void shouldInvalidateCachedPetTypesOnWrite() {
+        this.referenceDataCache.get(Region.PET_TYPES, () -> "cached");
+        PetType petType = this.clinicService.findPetTypeById(1);
+        this.clinicService.savePetType(petType);
+        assertThat(this.referenceDataCache.get(Region.PET_TYPES, () -> "saved")).isEqualTo("saved");
+
+        this.clinicService.deletePetType(petType);
+        assertThat(this.referenceDataCache.get(Region.PET_TYPES, () -> "deleted")).isEqualTo("deleted");
+    }
+
     @Test
     void shouldFindSpecialtyById(){
     	Specialty specialty = this.clinicService.findSpecialtyById(1);
@@ -473,6 +511,19 @@ abstract class AbstractClinicServiceTests {
         assertThat(specialty).isNull();
     }
 
+    @Test
+    @Transactional
+    void shouldInvalidateCachedSpecialtiesOnWrite() {
+        this.referenceDataCache.get(Region.SPECIALTIES, () -> "cached");
+        Specialty specialty = new Specialty();
+        specialty.setName("test");
+        this.clinicService.saveSpecialty(specialty);
+        assertThat(this.referenceDataCache.get(Region.SPECIALTIES, () -> "saved")).isEqualTo("saved");
+
+        this.clinicService.deleteSpecialty(specialty);
+        assertThat(this.referenceDataCache.get(Region.SPECIALTIES, () -> "deleted")).isEqualTo("deleted");
+    }
+
     @Test
     @Transactional
     void shouldFindSpecialtiesByNameIn() {
@@ -506,4 +557,288 @@ abstract class AbstractClinicServiceTests {
         PetType petType = this.clinicService.findPetTypeByName("cat");
         assertThat(petType.getId()).isEqualTo(1);
     }
+
+    @Test
+    void shouldServeLookupsFromCache() {
+        assertThat(this.clinicService.findOwnerById(1)).isSameAs(this.clinicService.findOwnerById(1));
+        assertThat(this.clinicService.findPetById(1)).isSameAs(this.clinicService.findPetById(1));
+        assertThat(this.clinicService.findVetById(1)).isSameAs(this.clinicService.findVetById(1));
+        assertThat(this.clinicService.findAllVets()).isSameAs(this.clinicService.findVets());
+        assertThat(this.clinicService.findPetTypeByName("cat")).isSameAs(this.clinicService.findPetTypeByName("cat"));
+        assertThat(this.clinicService.findOwnerById(-1)).isNull();
+        assertThat(isCached("owners", -1)).isFalse();
+    }
+
+    @Test
+    @Transactional
+    void shouldEvictPetAndItsOwnerWhenVisitSaved() {
+        Pet pet7 = this.clinicService.findPetById(7);
+        this.clinicService.findOwnerById(6);
+        this.clinicService.findOwnerById(1);
+
+        Visit visit = new Visit();
+        visit.setDescription("cache test");
+        visit.setDate(LocalDate.now());
+        visit.setPet(pet7);
+        this.clinicService.saveVisit(visit);
+
+        assertThat(isCached("pets", 7)).isFalse();
+        assertThat(isCached("owners", 6)).isFalse();
+        assertThat(isCached("owners", 1)).isTrue();
+    }
+
+    @Test
+    @Transactional
+    void shouldEvictPreviousOwnerWhenPetMoved() {
+        this.clinicService.findOwnerById(6);
+        this.clinicService.findOwnerById(2);
+        Pet pet7 = this.clinicService.findPetById(7);
+
+        pet7.setOwner(this.clinicService.findOwnerById(1));
+        this.clinicService.savePet(pet7);
+
+        assertThat(isCached("pets", 7)).isFalse();
+        assertThat(isCached("owners", 6)).isFalse();
+        assertThat(isCached("owners", 1)).isFalse();
+        assertThat(isCached("owners", 2)).isTrue();
+    }
+
+    @Test
+    @Transactional
+    void shouldEvictVetAndVetListWhenVetSaved() {
+        Vet vet = this.clinicService.findVetById(3);
+        this.clinicService.findVetById(2);
+        this.clinicService.findAllVets();
+
+        vet.setLastName("Cached");
+        this.clinicService.saveVet(vet);
+
+        assertThat(isCached("vets", 3)).isFalse();
+        assertThat(isCached("vets", "all")).isFalse();
+        assertThat(isCached("vets", 2)).isTrue();
+    }
+
+    @Test
+    @Transactional
+    void shouldClearOwnersAndPetsWhenPetTypeSaved() {
+        this.clinicService.findOwnerById(1);
+        this.clinicService.findPetById(1);
+        PetType cat = this.clinicService.findPetTypeById(1);
+
+        this.clinicService.savePetType(cat);
+
+        assertThat(isCached("petTypes", 1)).isFalse();
+        assertThat(isCached("owners", 1)).isFalse();
+        assertThat(isCached("pets", 1)).isFalse();
+    }
+
+    @Test
+    void shouldFindOwnerPagesInIdOrder() {
+        List<Owner> first = this.clinicService.findOwnerPage(0, 4);
+        assertThat(first).extracting(Owner::getId).containsExactly(1, 2, 3, 4);
+        List<Owner> next = this.clinicService.findOwnerPage(4, 4);
+        assertThat(next).extracting(Owner::getId).containsExactly(5, 6, 7, 8);
+        Owner jean = next.get(1);
+        assertThat(jean.getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+        assertThat(jean.getPet("Samantha").getVisits()).hasSize(2);
+        assertThat(this.clinicService.findOwnerPage(Integer.MAX_VALUE - 1, 4)).isEmpty();
+    }
+
+    @Test
+    void shouldFindPetPagesInIdOrder() {
+        List<Pet> page = this.clinicService.findPetPage(6, 2);
+        assertThat(page).extracting(Pet::getId).containsExactly(7, 8);
+        assertThat(page.get(0).getOwner().getId()).isEqualTo(6);
+        assertThat(page.get(0).getType().getName()).isEqualTo("cat");
+        assertThat(page.get(0).getVisits()).hasSize(2);
+    }
+
+    @Test
+    void shouldFindVisitAndVetPagesInIdOrder() {
+        List<Visit> visits = this.clinicService.findVisitPage(1, 2);
+        assertThat(visits).extracting(Visit::getId).containsExactly(2, 3);
+        assertThat(visits.get(0).getPet().getId()).isEqualTo(8);
+
+        List<Vet> vets = this.clinicService.findVetPage(2, 2);
+        assertThat(vets).extracting(Vet::getId).containsExactly(3, 4);
+        assertThat(vets.get(0).getSpecialties()).hasSize(2);
+    }
+
+    @Test
+    void shouldLoadOwnersOnlyToRequestedDepth() {
+        // a cached owner is complete and would be served instead
+        this.cacheManager.getCache("owners").clear();
+        Owner owner = this.clinicService.findOwnerById(6, OwnerRepository.Fetch.OWNER);
+        assertThat(owner.getLastName()).isEqualTo("Coleman");
+        assertThat(isLoaded(owner, "pets") && !owner.getPets().isEmpty()).isFalse();
+
+        owner = this.clinicService.findOwnerById(6, OwnerRepository.Fetch.PETS);
+        assertThat(owner.getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+        assertThat(owner.getPets()).allSatisfy(pet -> {
+            assertThat(pet.getType().getName()).isEqualTo("cat");
+            assertThat(isLoaded(pet, "visits") && !pet.getVisits().isEmpty()).isFalse();
+        });
+        assertThat(isCached("owners", 6)).isFalse();
+
+        Collection<Owner> owners = this.clinicService.findAllOwners(OwnerRepository.Fetch.PETS_AND_VISITS);
+        Owner jean = EntityUtils.getById(owners, Owner.class, 6);
+        assertThat(jean.getPet("Samantha").getVisits()).hasSize(2);
+        assertThat(this.clinicService.findOwnerPage(0, 3, OwnerRepository.Fetch.OWNER))
+            .extracting(Owner::getId).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Transactional
+    void shouldImportAllAndEvictTheOwnersAndPetsTheyExtend() {
+        PetType cat = EntityUtils.getById(this.clinicService.findPetTypes(), PetType.class, 1);
+        assertThat(this.clinicService.findOwnerById(6).getPets()).hasSize(2);
+        assertThat(this.clinicService.findOwnerById(1).getPets()).hasSize(1);
+        assertThat(this.clinicService.findPetById(1).getVisits()).isEmpty();
+
+        Owner owner = new Owner();
+        owner.setFirstName("Sam");
+        owner.setLastName("Schultz");
+        owner.setAddress("4, Evans Street");
+        owner.setCity("Wollongong");
+        owner.setTelephone("4444444444");
+        Pet bowser = new Pet();
+        bowser.setName("bowser");
+        bowser.setBirthDate(LocalDate.now());
+        bowser.setType(cat);
+        bowser.setOwner(owner);
+        Owner jean = new Owner();
+        jean.setId(6);
+        Pet mulligan = new Pet();
+        mulligan.setName("Mulligan");
+        mulligan.setBirthDate(LocalDate.now());
+        mulligan.setType(cat);
+        mulligan.setOwner(jean);
+        Pet leo = new Pet();
+        leo.setId(1);
+        Visit visit = new Visit();
+        visit.setDescription("imported");
+        visit.setPet(leo);
+
+        this.clinicService.importAll(List.of(owner), List.of(bowser, mulligan), List.of(visit));
+
+        assertThat(owner.getId()).isNotNull();
+        assertThat(this.clinicService.findOwnerById(owner.getId()).getPets()).extracting(Pet::getName)
+            .containsExactly("bowser");
+        // JPA would answer owner 6 and pet 1 from the persistence context of the test transaction
+        assertThat(isCached("owners", 6)).isFalse();
+        assertThat(isCached("pets", 1)).isFalse();
+        assertThat(isCached("owners", 1)).isFalse();
+        assertThat(mulligan.getId()).isNotNull();
+        assertThat(visit.getId()).isNotNull();
+    }
+
+    @Test
+    void shouldFindOwnersAndPetsByIds() {
+        List<Owner> owners = this.clinicService.findOwnersByIds(List.of(6, 999, 1, 6));
+        assertThat(owners).extracting(Owner::getId).containsExactlyInAnyOrder(1, 6);
+        Owner jean = EntityUtils.getById(owners, Owner.class, 6);
+        assertThat(jean.getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+        assertThat(jean.getPet("Samantha").getVisits()).hasSize(2);
+
+        List<Pet> pets = this.clinicService.findPetsByIds(List.of(8, 999, 1));
+        assertThat(pets).extracting(Pet::getId).containsExactlyInAnyOrder(1, 8);
+        Pet max = EntityUtils.getById(pets, Pet.class, 8);
+        assertThat(max.getType().getName()).isEqualTo("cat");
+        assertThat(max.getOwner().getLastName()).isEqualTo("Coleman");
+        assertThat(max.getVisits()).hasSize(2);
+    }
+
+    @Test
+    @Transactional
+    void shouldChangeVersionsOfWhatWritesChange() {
+        String jean = this.entityVersions.ownerVersion(6);
+        String vets = this.entityVersions.vetsVersion();
+        String petTypes = this.entityVersions.petTypesVersion();
+
+        Visit visit = new Visit();
+        visit.setDescription("versioned");
+        visit.setPet(this.clinicService.findPetById(7));
+        this.clinicService.saveVisit(visit);
+
+        assertThat(this.entityVersions.ownerVersion(6)).isNotEqualTo(jean);
+        assertThat(this.entityVersions.vetsVersion()).isEqualTo(vets);
+
+        Vet vet = this.clinicService.findVetById(1);
+        vet.setLastName("Versioned");
+        this.clinicService.saveVet(vet);
+
+        assertThat(this.entityVersions.vetsVersion()).isNotEqualTo(vets);
+        assertThat(this.entityVersions.petTypesVersion()).isEqualTo(petTypes);
+    }
+
+    @Test
+    @Transactional
+    void shouldLogLatestChangePerEntity() {
+        long token = this.clinicService.findChangeLogHead().token();
+
+        Owner owner = this.clinicService.findOwnerById(1);
+        owner.setCity("Monona");
+        this.clinicService.saveOwner(owner);
+        Visit visit = this.clinicService.findVisitById(1);
+        this.clinicService.deleteVisit(visit);
+        owner.setCity("Madison");
+        this.clinicService.saveOwner(owner);
+
+        ChangeLogRepository.Head head = this.clinicService.findChangeLogHead();
+        List<Change> changes = this.clinicService.findChanges(token, head.token(), 10);
+        assertThat(changes).extracting(Change::entity, Change::entityId, Change::deleted).containsExactly(
+            tuple(Entity.VISIT, 1, true),
+            tuple(Entity.OWNER, 1, false));
+        assertThat(changes.get(1).token()).isGreaterThan(changes.get(0).token()).isEqualTo(head.token());
+        assertThat(this.clinicService.findChanges(token, head.token(), 1)).hasSize(1);
+        assertThat(this.clinicService.findChanges(head.token(), Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void shouldHoldBackChangesYoungerThanCommitLag() {
+        ChangeLogRepository lagging = new JdbcChangeLogRepositoryImpl(this.dataSource, Duration.ofHours(1));
+        long token = this.clinicService.findChangeLogHead().token();
+
+        lagging.append(List.of(Change.upserted(Entity.OWNER, 1)));
+
+        // the tests read without a lag, and see the change at once
+        List<Change> changes = this.clinicService.findChanges(token, Long.MAX_VALUE, 10);
+        assertThat(changes).extracting(Change::entity).containsExactly(Entity.OWNER);
+        assertThat(lagging.findHead().token()).isLessThan(changes.get(0).token());
+        assertThat(lagging.findChanges(token, Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void shouldCompactChangeLog() {
+        PetType petType = this.clinicService.findPetTypeById(1);
+        this.clinicService.savePetType(petType);
+        long token = this.clinicService.findChangeLogHead().token();
+
+        assertThat(this.clinicService.compactChangeLog(Instant.now().minusSeconds(3600))).isLessThan(token);
+        assertThat(this.clinicService.findChanges(token - 1, token, 10)).hasSize(1);
+
+        assertThat(this.clinicService.compactChangeLog(Instant.now().plusSeconds(3600))).isEqualTo(token);
+        assertThat(this.clinicService.findChangeLogHead()).isEqualTo(new ChangeLogRepository.Head(token, token));
+        assertThat(this.clinicService.findChanges(0, token, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldFindVisitsByIds() {
+        List<Visit> visits = this.clinicService.findVisitsByIds(List.of(2, 999, 1));
+        assertThat(visits).extracting(Visit::getId).containsExactlyInAnyOrder(1, 2);
+        assertThat(EntityUtils.getById(visits, Visit.class, 2).getPet().getId()).isEqualTo(8);
+    }
+
+    /**
+     * JPA leaves associations outside the fetch graph uninitialized, JDBC leaves them empty.
+     */
+    private static boolean isLoaded(Object entity, String attribute) {
+        return Persistence.getPersistenceUtil().isLoaded(entity, attribute);
+    }
+
+    private boolean isCached(String cacheName, Object key) {
+        return this.cacheManager.getCache(cacheName).get(key) != null;
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.service.clinicService;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.samples.petclinic.model.Owner;
+import org.springframework.samples.petclinic.model.Pet;
+import org.springframework.samples.petclinic.repository.OwnerRepository;
+import org.springframework.samples.petclinic.repository.OwnerRepository.Fetch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the JPA profiles limit owner pages in SQL when the page fetches pets and visits. Subclasses run with
+ * <code>hibernate.query.fail_on_pagination_over_collection_fetch</code>, so a page that Hibernate would cut in memory
+ * after loading every owner fails instead of logging HHH90003004.
+ */
+abstract class AbstractOwnerPageTests {
+
+    static final String FAIL_ON_IN_MEMORY_PAGING =
+        "spring.jpa.properties.hibernate.query.fail_on_pagination_over_collection_fetch=true";
+
+    @Autowired
+    protected OwnerRepository ownerRepository;
+
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldSelectPageOfIdsBeforeFetchingPetsAndVisits() {
+        long queries = this.statistics.getQueryExecutionCount();
+
+        List<Owner> page = this.ownerRepository.findPage(5, 2, Fetch.PETS_AND_VISITS);
+
+        assertThat(page).extracting(Owner::getId).containsExactly(6, 7);
+        assertThat(page.get(0).getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+        assertThat(page.get(0).getPets().get(1).getVisits()).hasSize(2);
+        // one query for the ids of the page, one for the owners of those ids with their pets and visits
+        assertThat(this.statistics.getQueryExecutionCount() - queries).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPageOwnersWithPets() {
+        assertThat(this.ownerRepository.findPage(0, 3, Fetch.PETS)).extracting(Owner::getId).containsExactly(1, 2, 3);
+        assertThat(this.ownerRepository.findPage(10, 3, Fetch.PETS)).isEmpty();
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.service.clinicService;
+
+import java.util.Set;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.samples.petclinic.model.Vet;
+import org.springframework.samples.petclinic.repository.PetTypeRepository;
+import org.springframework.samples.petclinic.repository.SpecialtyRepository;
+import org.springframework.samples.petclinic.repository.VetRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the reference data of the JPA profiles is served from the Hibernate second-level cache: once
+ * loaded, repeated lookups of pet types, specialties and vets issue no SQL. The repositories are called directly,
+ * behind the service-level cache of {@link org.springframework.samples.petclinic.service.ClinicServiceImpl}.
+ */
+abstract class AbstractSecondLevelCacheTests {
+
+    @Autowired
+    protected PetTypeRepository petTypeRepository;
+
+    @Autowired
+    protected SpecialtyRepository specialtyRepository;
+
+    @Autowired
+    protected VetRepository vetRepository;
+
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldLookUpPetTypesWithoutSql() {
+        assertNoSqlOnceLoaded(() -> {
+            assertThat(this.petTypeRepository.findById(2).getName()).isEqualTo("dog");
+            assertThat(this.petTypeRepository.findByName("cat").getId()).isEqualTo(1);
+            assertThat(this.petTypeRepository.findAll()).isNotEmpty();
+        });
+    }
+
+    @Test
+    void shouldLookUpSpecialtiesWithoutSql() {
+        assertNoSqlOnceLoaded(() -> {
+            assertThat(this.specialtyRepository.findById(1).getName()).isEqualTo("radiology");
+            assertThat(this.specialtyRepository.findSpecialtiesByNameIn(Set.of("surgery", "dentistry"))).hasSize(2);
+            assertThat(this.specialtyRepository.findAll()).isNotEmpty();
+        });
+    }
+
+    @Test
+    void shouldLookUpVetsWithTheirSpecialtiesWithoutSql() {
+        assertNoSqlOnceLoaded(() -> {
+            assertThat(this.vetRepository.findAll()).isNotEmpty();
+            Vet linda = this.vetRepository.findById(3);
+            assertThat(linda.getSpecialties()).hasSize(2);
+        });
+    }
+
+    @Test
+    void shouldPublishCacheMetrics() {
+        this.petTypeRepository.findById(1);
+        this.petTypeRepository.findById(1);
+
+        assertThat(this.meterRegistry.get("cache.gets").tags("cache", "petTypes", "result", "hit")
+            .functionCounter().count()).isPositive();
+    }
+
+    private void assertNoSqlOnceLoaded(Runnable lookups) {
+        lookups.run();
+        long statements = this.statistics.getPrepareStatementCount();
+
+        lookups.run();
+        lookups.run();
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.service.clinicService;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Owner page test using the spring-data-jpa profile.
+ *
+ * @see AbstractOwnerPageTests
+ */
+@SpringBootTest(properties = AbstractOwnerPageTests.FAIL_ON_IN_MEMORY_PAGING)
+@ActiveProfiles({"spring-data-jpa", "hsqldb"})
+class OwnerPageSpringDataJpaTests extends AbstractOwnerPageTests {
+
+}
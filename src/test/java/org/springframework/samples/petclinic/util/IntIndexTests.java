@@ -0,0 +1,72 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.util;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectRetrievalFailureException;
+import org.springframework.samples.petclinic.model.PetType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for {@link IntIndex}
+ */
+class IntIndexTests {
+
+    @Test
+    void shouldFindValuesAcrossResizes() {
+        IntIndex<String> index = new IntIndex<>(0);
+        for (int key = -500; key < 5000; key += 3) {
+            assertThat(index.put(key, "v" + key)).isNull();
+        }
+
+        assertThat(index.size()).isEqualTo(1834);
+        for (int key = -500; key < 5000; key += 3) {
+            assertThat(index.get(key)).isEqualTo("v" + key);
+            assertThat(index.get(key + 1)).isNull();
+        }
+    }
+
+    @Test
+    void shouldReplaceExistingValue() {
+        IntIndex<String> index = new IntIndex<>(4);
+        index.put(7, "first");
+
+        assertThat(index.put(7, "second")).isEqualTo("first");
+        assertThat(index.get(7)).isEqualTo("second");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIndexEntitiesById() {
+        PetType cat = new PetType();
+        cat.setId(1);
+        cat.setName("cat");
+        PetType dog = new PetType();
+        dog.setId(2);
+        dog.setName("dog");
+
+        IntIndex<PetType> index = IntIndex.byId(List.of(cat, dog));
+
+        assertThat(index.getRequired(2, PetType.class)).isSameAs(dog);
+        assertThatThrownBy(() -> index.getRequired(3, PetType.class))
+            .isInstanceOf(ObjectRetrievalFailureException.class);
+    }
+
+}